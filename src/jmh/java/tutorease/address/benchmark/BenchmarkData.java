@@ -0,0 +1,94 @@
+package tutorease.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import tutorease.address.commons.util.DateTimeUtil;
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.TutorEase;
+import tutorease.address.model.lesson.EndDateTime;
+import tutorease.address.model.lesson.Fee;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.StartDateTime;
+import tutorease.address.model.person.Address;
+import tutorease.address.model.person.Email;
+import tutorease.address.model.person.Guardian;
+import tutorease.address.model.person.Name;
+import tutorease.address.model.person.Person;
+import tutorease.address.model.person.Phone;
+import tutorease.address.model.person.Role;
+import tutorease.address.model.person.Student;
+import tutorease.address.model.tag.Tag;
+
+/**
+ * Creates the data used by the benchmarks. The same data is created on every run, so results can be compared.
+ */
+public class BenchmarkData {
+    public static final int STUDENT_COUNT = 100;
+    public static final LocalDateTime FIRST_LESSON_START = LocalDateTime.of(2024, 1, 1, 8, 0);
+
+    /**
+     * Returns an address book with {@code STUDENT_COUNT} students.
+     */
+    public static TutorEase createTutorEase() {
+        TutorEase tutorEase = new TutorEase();
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            tutorEase.addPerson(createStudent(i));
+        }
+        return tutorEase;
+    }
+
+    /**
+     * Returns the student with the given {@code index}.
+     */
+    public static Person createStudent(int index) {
+        return createStudent(index, new HashSet<>());
+    }
+
+    /**
+     * Returns the student with the given {@code index} and {@code tags}.
+     */
+    public static Person createStudent(int index, Set<Tag> tags) {
+        return new Student(new Name("Student " + index), new Phone(String.format("9%07d", index)),
+                new Email("student" + index + "@example.com"), new Address(index + " Example Street"),
+                new Role(Role.STUDENT), tags);
+    }
+
+    /**
+     * Returns the guardian with the given {@code index}.
+     */
+    public static Person createGuardian(int index) {
+        return new Guardian(new Name("Guardian " + index), new Phone(String.format("8%07d", index)),
+                new Email("guardian" + index + "@example.com"), new Address(index + " Example Street"),
+                new Role(Role.GUARDIAN), new HashSet<>());
+    }
+
+    /**
+     * Returns {@code count} one-hour lessons for the students in {@code tutorEase}, sorted by start time.
+     * Lessons start two hours apart, so there is a free hour after each lesson.
+     */
+    public static List<Lesson> createLessons(TutorEase tutorEase, int count) {
+        List<Lesson> lessons = new ArrayList<>(count);
+        for (int slot = 0; slot < count; slot++) {
+            Person student = tutorEase.getPersonList().get(slot % tutorEase.getPersonList().size());
+            lessons.add(createLesson(student, FIRST_LESSON_START.plusHours(2L * slot)));
+        }
+        return lessons;
+    }
+
+    /**
+     * Returns a one-hour lesson for {@code student} starting at {@code start}.
+     */
+    public static Lesson createLesson(Person student, LocalDateTime start) {
+        try {
+            return new Lesson(student.getId(), new Fee("50"),
+                    StartDateTime.createStartDateTime(DateTimeUtil.dateTimeToString(start)),
+                    EndDateTime.createEndDateTime(DateTimeUtil.dateTimeToString(start.plusHours(1))));
+        } catch (ParseException e) {
+            throw new IllegalStateException("Benchmark lesson is invalid", e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package tutorease.address.commons.util;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import tutorease.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures validating, parsing and formatting date times.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DateTimeUtilBenchmark {
+
+    private String dateTimeString = "15-06-2024 14:30";
+    private LocalDateTime dateTime = LocalDateTime.of(2024, 6, 15, 14, 30);
+
+    @Benchmark
+    public String checkValidDateTime() throws ParseException {
+        DateTimeUtil.checkValidDateTime(dateTimeString);
+        return dateTimeString;
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTime() throws ParseException {
+        return DateTimeUtil.parseDateTime(dateTimeString);
+    }
+
+    @Benchmark
+    public String dateTimeToString() {
+        return DateTimeUtil.dateTimeToString(dateTime);
+    }
+}
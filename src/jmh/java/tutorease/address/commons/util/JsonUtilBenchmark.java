@@ -0,0 +1,73 @@
+package tutorease.address.commons.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+import tutorease.address.benchmark.BenchmarkData;
+import tutorease.address.commons.exceptions.DataLoadingException;
+import tutorease.address.commons.exceptions.IllegalValueException;
+import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.TutorEase;
+import tutorease.address.storage.JsonSerializableLessonSchedule;
+
+/**
+ * Measures saving a lesson schedule to a JSON file and reading it back, both as a whole object and as a stream of
+ * lessons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class JsonUtilBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int lessonCount;
+
+    private TutorEase tutorEase;
+    private LessonSchedule lessonSchedule;
+    private Path filePath;
+
+    /**
+     * Creates a schedule of {@code lessonCount} lessons.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tutorEase = BenchmarkData.createTutorEase();
+        lessonSchedule = new LessonSchedule();
+        lessonSchedule.setLessons(BenchmarkData.createLessons(tutorEase, lessonCount));
+        filePath = Files.createTempFile("lessonSchedule", ".json");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    @Benchmark
+    public JsonSerializableLessonSchedule saveAndReadObject() throws IOException, DataLoadingException {
+        JsonUtil.saveJsonFile(new JsonSerializableLessonSchedule(lessonSchedule), filePath);
+        return JsonUtil.readJsonFile(filePath, JsonSerializableLessonSchedule.class).get();
+    }
+
+    @Benchmark
+    public LessonSchedule saveAndReadStream() throws IOException, IllegalValueException {
+        JsonUtil.saveJsonFile(filePath, generator -> JsonSerializableLessonSchedule.write(generator, lessonSchedule));
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return JsonSerializableLessonSchedule.read(parser, tutorEase);
+        }
+    }
+}
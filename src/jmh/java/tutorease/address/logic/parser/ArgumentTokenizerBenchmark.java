@@ -0,0 +1,62 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_FEE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures splitting the arguments of typical commands by their prefixes, both with a tokenizer built for each call
+ * and with one that is kept, as the command parsers do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ArgumentTokenizerBenchmark {
+
+    private String contactArgs = " n/John Doe p/98765432 e/johnd@example.com a/311, Clementi Ave 2, #02-25"
+            + " r/Student t/friends t/owesMoney";
+    private String lessonArgs = " sid/1 f/50 d/15-06-2024 14:30 h/2";
+
+    private ArgumentTokenizer contactTokenizer = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_ROLE, PREFIX_TAG);
+    private ArgumentTokenizer lessonTokenizer = new ArgumentTokenizer(PREFIX_STUDENT_ID, PREFIX_FEE,
+            PREFIX_START_DATE, PREFIX_DURATION);
+
+    @Benchmark
+    public ArgumentMultimap tokenizeContact() {
+        return ArgumentTokenizer.tokenize(contactArgs, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_ROLE, PREFIX_TAG);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeLesson() {
+        return ArgumentTokenizer.tokenize(lessonArgs, PREFIX_STUDENT_ID, PREFIX_FEE, PREFIX_START_DATE,
+                PREFIX_DURATION);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeContactWithKeptTokenizer() {
+        return contactTokenizer.tokenizeArguments(contactArgs);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeLessonWithKeptTokenizer() {
+        return lessonTokenizer.tokenizeArguments(lessonArgs);
+    }
+}
@@ -0,0 +1,67 @@
+package tutorease.address.model;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tutorease.address.benchmark.BenchmarkData;
+import tutorease.address.model.person.Person;
+
+/**
+ * Measures finding the children of a guardian from the guardian links of a {@code TutorEase}, and by checking
+ * every person for a link.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class GuardianLinksBenchmark {
+    private static final int STUDENTS_PER_GUARDIAN = 2;
+
+    @Param({"1000", "10000"})
+    public int studentCount;
+
+    private TutorEase tutorEase;
+    private Person guardian;
+
+    /**
+     * Links each of {@code studentCount} students to one of half as many guardians.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        tutorEase = new TutorEase();
+        int guardianCount = studentCount / STUDENTS_PER_GUARDIAN;
+        Person[] guardians = new Person[guardianCount];
+        for (int i = 0; i < guardianCount; i++) {
+            guardians[i] = BenchmarkData.createGuardian(i);
+            tutorEase.addPerson(guardians[i]);
+        }
+        for (int i = 0; i < studentCount; i++) {
+            Person student = BenchmarkData.createStudent(i);
+            tutorEase.addPerson(student);
+            tutorEase.linkGuardian(student, guardians[i % guardianCount]);
+        }
+        guardian = guardians[guardianCount / 2];
+    }
+
+    @Benchmark
+    public Set<Person> findFromLinks() {
+        return tutorEase.getLinkedPersons(List.of(guardian));
+    }
+
+    @Benchmark
+    public long findByScan() {
+        return tutorEase.getPersonList().stream()
+                .filter(person -> person.isStudent() && tutorEase.isLinked(person, guardian))
+                .count();
+    }
+}
@@ -0,0 +1,90 @@
+package tutorease.address.model;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tutorease.address.benchmark.BenchmarkData;
+import tutorease.address.model.lesson.FreeSlot;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.lesson.LessonRangeList;
+import tutorease.address.model.lesson.WorkingHours;
+
+/**
+ * Measures finding free slots, the lessons of a week and the totals of a month in the middle of a
+ * {@code LessonSchedule} spanning several years.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class LessonScheduleBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int lessonCount;
+
+    private LessonSchedule lessonSchedule;
+    private LessonRangeList lessonRangeList;
+    private LocalDateTime middle;
+    private WorkingHours workingHours;
+
+    /**
+     * Fills the schedule with {@code lessonCount} lessons, two hours apart.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        TutorEase tutorEase = BenchmarkData.createTutorEase();
+        List<Lesson> lessons = BenchmarkData.createLessons(tutorEase, lessonCount);
+        lessonSchedule = new LessonSchedule();
+        lessonSchedule.setLessons(lessons);
+        middle = lessons.get(lessonCount / 2).getStartDateTime().getDateTime();
+        workingHours = new WorkingHours("09:00-18:00");
+        lessonRangeList = new LessonRangeList(lessonSchedule.getLessonList());
+    }
+
+    /**
+     * Finds the first ten free hours from the middle of the schedule.
+     */
+    @Benchmark
+    public List<FreeSlot> firstFreeSlots() {
+        return lessonSchedule.findFreeSlots(middle, middle.plusYears(1), 60, workingHours, 10);
+    }
+
+    /**
+     * Looks for free slots longer than any gap over a month, so every lesson in the month is walked.
+     */
+    @Benchmark
+    public List<FreeSlot> noFreeSlotsInMonth() {
+        return lessonSchedule.findFreeSlots(middle, middle.plusMonths(1), 90, workingHours, 10);
+    }
+
+    /**
+     * Shows the lessons of a week in the middle of the schedule, as {@code lesson find} does for a date range.
+     */
+    @Benchmark
+    public int lessonsInWeek() {
+        lessonRangeList.setRange(LessonDateRange.between(middle, middle.plusWeeks(1)));
+        int size = lessonRangeList.size();
+        lessonRangeList.setRange(LessonDateRange.ALL);
+        return size;
+    }
+
+    /**
+     * Reads the totals of the month in the middle of the schedule, which are kept as lessons are added.
+     */
+    @Benchmark
+    public LessonTotals monthTotals() {
+        return lessonSchedule.getStatistics().getTotals(YearMonth.from(middle));
+    }
+}
@@ -0,0 +1,70 @@
+package tutorease.address.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tutorease.address.benchmark.BenchmarkData;
+import tutorease.address.model.person.Person;
+import tutorease.address.model.tag.Tag;
+import tutorease.address.model.tag.TagFilter;
+
+/**
+ * Measures finding the persons with a tag out of two others and a third tag, from the bitsets of a {@code TagIndex}
+ * and by testing every person.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class TagIndexBenchmark {
+    private static final int TAG_COUNT = 200;
+    private static final int TAGS_PER_PERSON = 3;
+
+    @Param({"1000", "10000"})
+    public int personCount;
+
+    private TagIndex tagIndex;
+    private List<Person> persons;
+    private TagFilter filter;
+
+    /**
+     * Gives each of {@code personCount} students three of {@code TAG_COUNT} tags.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        tagIndex = new TagIndex();
+        persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            Set<Tag> tags = new HashSet<>();
+            for (int j = 0; j < TAGS_PER_PERSON; j++) {
+                tags.add(new Tag("tag" + ((i * 7 + j * 31) % TAG_COUNT)));
+            }
+            Person person = BenchmarkData.createStudent(i, tags);
+            persons.add(person);
+            tagIndex.add(person);
+        }
+        filter = new TagFilter(List.of(Set.of(new Tag("tag1"), new Tag("tag2")), Set.of(new Tag("tag32"))));
+    }
+
+    @Benchmark
+    public Set<Person> findFromIndex() {
+        return tagIndex.find(filter);
+    }
+
+    @Benchmark
+    public long findByScan() {
+        return persons.stream().filter(filter).count();
+    }
+}
@@ -0,0 +1,85 @@
+package tutorease.address.model.lesson;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tutorease.address.benchmark.BenchmarkData;
+import tutorease.address.model.TutorEase;
+
+/**
+ * Measures adding lessons to, finding lessons in and loading lessons into a {@code UniqueLessonList} of different
+ * sizes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class UniqueLessonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int lessonCount;
+
+    private UniqueLessonList lessons;
+    private Lesson existingLesson;
+    private Lesson newLesson;
+    private List<Lesson> shuffledLessons;
+
+    /**
+     * Fills the list with {@code lessonCount} lessons.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        TutorEase tutorEase = BenchmarkData.createTutorEase();
+        List<Lesson> lessonList = BenchmarkData.createLessons(tutorEase, lessonCount);
+        lessons = new UniqueLessonList();
+        lessons.setLessons(lessonList);
+        shuffledLessons = new ArrayList<>(lessonList);
+        Collections.shuffle(shuffledLessons, new Random(0));
+
+        existingLesson = lessonList.get(lessonCount / 2);
+        // Fits in the free hour after the lesson in the middle of the list
+        newLesson = BenchmarkData.createLesson(tutorEase.getPersonById(existingLesson.getStudentId()),
+                existingLesson.getEndDateTime().getDateTime());
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return lessons.contains(existingLesson);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return lessons.contains(newLesson);
+    }
+
+    /**
+     * Adds a lesson in the middle of the list, and removes it again so every call starts from the same list.
+     */
+    @Benchmark
+    public UniqueLessonList addAndRemove() {
+        lessons.add(newLesson);
+        lessons.remove(newLesson);
+        return lessons;
+    }
+
+    /**
+     * Replaces the list with the same lessons in a random order, as when the lesson schedule is loaded.
+     */
+    @Benchmark
+    public UniqueLessonList setLessons() {
+        lessons.setLessons(shuffledLessons);
+        return lessons;
+    }
+}
@@ -0,0 +1,67 @@
+package tutorease.address.model.person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import tutorease.address.benchmark.BenchmarkData;
+import tutorease.address.model.person.SearchTerm.Field;
+
+/**
+ * Measures finding contacts by a prefix of their email and by a misspelt word of their address, from the token index
+ * of a {@code UniquePersonList} and by testing every person.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class PersonSearchBenchmark {
+
+    @Param({"1000", "10000"})
+    public int personCount;
+
+    private UniquePersonList persons;
+    private PersonSearchPredicate prefixSearch;
+    private PersonSearchPredicate fuzzySearch;
+
+    /**
+     * Fills the list with {@code personCount} students.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Person> students = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            students.add(BenchmarkData.createStudent(i));
+        }
+        persons = new UniquePersonList();
+        persons.setPersons(students);
+        prefixSearch = new PersonSearchPredicate(List.of(SearchTerm.of(Field.EMAIL, "student12*")));
+        fuzzySearch = new PersonSearchPredicate(List.of(SearchTerm.of(Field.ADDRESS, "exmaple~"),
+                SearchTerm.of(Field.ADDRESS, "123")));
+    }
+
+    @Benchmark
+    public Set<Person> prefixFromIndex() {
+        return persons.findPersons(prefixSearch);
+    }
+
+    @Benchmark
+    public long prefixByScan() {
+        return persons.asUnmodifiableObservableList().stream().filter(prefixSearch).count();
+    }
+
+    @Benchmark
+    public Set<Person> fuzzyFromIndex() {
+        return persons.findPersons(fuzzySearch);
+    }
+}
@@ -0,0 +1,53 @@
+package tutorease.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import tutorease.address.model.tag.Tag;
+
+/**
+ * Measures validating the fields of a person, as done for every person loaded from the data file or added by a
+ * command.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class PersonValidationBenchmark {
+
+    private String name = "Alex Yeoh (Jr) 12";
+    private String phone = "87438807";
+    private String email = "alexyeoh@example.com";
+    private String address = "Blk 30 Geylang Street 29, #06-40";
+    private String tagName = "friends";
+
+    @Benchmark
+    public boolean isValidName() {
+        return Name.hasNoSlash(name) && Name.isValidName(name);
+    }
+
+    @Benchmark
+    public boolean isValidPhone() {
+        return Phone.isValidPhone(phone);
+    }
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return Email.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean isValidAddress() {
+        return Address.isValidAddress(address);
+    }
+
+    @Benchmark
+    public boolean isValidTagName() {
+        return Tag.isValidTagName(tagName);
+    }
+}
@@ -0,0 +1,71 @@
+package tutorease.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import tutorease.address.benchmark.BenchmarkData;
+import tutorease.address.commons.exceptions.DataLoadingException;
+import tutorease.address.commons.exceptions.IllegalValueException;
+import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.ReadOnlyLessonSchedule;
+import tutorease.address.model.TutorEase;
+
+/**
+ * Measures loading lesson schedules of different sizes, both from their JSON-friendly form and from a file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class JsonSerializableLessonScheduleBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int lessonCount;
+
+    private TutorEase tutorEase;
+    private JsonSerializableLessonSchedule serializableLessonSchedule;
+    private JsonLessonScheduleStorage storage;
+    private Path filePath;
+
+    /**
+     * Creates a schedule of {@code lessonCount} lessons and saves it to a temporary file.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        tutorEase = BenchmarkData.createTutorEase();
+        LessonSchedule lessonSchedule = new LessonSchedule();
+        lessonSchedule.setLessons(BenchmarkData.createLessons(tutorEase, lessonCount));
+        serializableLessonSchedule = new JsonSerializableLessonSchedule(lessonSchedule);
+
+        filePath = Files.createTempFile("lessonSchedule", ".json");
+        storage = new JsonLessonScheduleStorage(filePath);
+        storage.saveLessonSchedule(lessonSchedule);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+    @Benchmark
+    public LessonSchedule toModelType() throws IllegalValueException {
+        return serializableLessonSchedule.toModelType(tutorEase);
+    }
+
+    @Benchmark
+    public ReadOnlyLessonSchedule readLessonSchedule() throws DataLoadingException {
+        return storage.readLessonSchedule(tutorEase).get();
+    }
+}
@@ -0,0 +1,230 @@
+package tutorease.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.Config;
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.exceptions.DataLoadingException;
+import tutorease.address.commons.util.ConfigUtil;
+import tutorease.address.commons.util.StringUtil;
+import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.Model;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.ReadOnlyLessonSchedule;
+import tutorease.address.model.ReadOnlyTutorEase;
+import tutorease.address.model.ReadOnlyUserPrefs;
+import tutorease.address.model.TutorEase;
+import tutorease.address.model.UserPrefs;
+import tutorease.address.model.util.SampleDataUtil;
+import tutorease.address.storage.JournalStorage;
+import tutorease.address.storage.JsonJournalStorage;
+import tutorease.address.storage.JsonLessonScheduleStorage;
+import tutorease.address.storage.JsonTutorEaseStorage;
+import tutorease.address.storage.LessonScheduleStorage;
+import tutorease.address.storage.Storage;
+import tutorease.address.storage.StorageManager;
+import tutorease.address.storage.TutorEaseStorage;
+import tutorease.address.storage.UserPrefsStorage;
+
+/**
+ * Sets up and shuts down the parts of the application that do not depend on the UI, so that they can be shared by
+ * {@code MainApp} and {@code BatchMain}.
+ */
+public class AppInitializer {
+
+    /** Name of the journal file, which is kept next to the address book data file. */
+    public static final String JOURNAL_FILE_NAME = "tutorease.journal";
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    private AppInitializer() {}
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns a {@code StorageManager} for the data files in {@code userPrefs}, with the journal kept next to the
+     * address book data file.
+     */
+    public static StorageManager initStorage(Config config, UserPrefsStorage userPrefsStorage, UserPrefs userPrefs) {
+        TutorEaseStorage tutorEaseStorage = new JsonTutorEaseStorage(userPrefs.getTutorEaseFilePath());
+        LessonScheduleStorage lessonScheduleStorage = new JsonLessonScheduleStorage(
+                userPrefs.getLessonScheduleFilePath());
+        JournalStorage journalStorage = new JsonJournalStorage(
+                userPrefs.getTutorEaseFilePath().resolveSibling(JOURNAL_FILE_NAME));
+        StorageManager storageManager = new StorageManager(tutorEaseStorage, userPrefsStorage,
+                lessonScheduleStorage, journalStorage);
+        if (config.isSaveInBackground()) {
+            storageManager.enableBackgroundSaving();
+        }
+        return storageManager;
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Changes saved in the journal since the data files were last written are then applied to the data read, even if
+     * the lesson schedule was not found. If they cannot be applied, the journal is moved to its backup file instead.
+     */
+    public static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getTutorEaseFilePath());
+
+        Optional<ReadOnlyTutorEase> tutorEaseOptional;
+
+        Optional<ReadOnlyLessonSchedule> lessonScheduleOptional;
+        ReadOnlyTutorEase initialData;
+
+        ReadOnlyLessonSchedule initialLessonSchedule;
+
+        try {
+            tutorEaseOptional = storage.readTutorEase();
+            if (!tutorEaseOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getTutorEaseFilePath()
+                        + " populated with a sample TutorEase.");
+            }
+            initialData = tutorEaseOptional.orElseGet(SampleDataUtil::getSampleTutorEase);
+            lessonScheduleOptional = storage.readLessonSchedule(initialData);
+            if (!lessonScheduleOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getLessonScheduleFilePath()
+                        + " populated with a sample LessonSchedule.");
+            }
+            initialLessonSchedule = lessonScheduleOptional.orElseGet(SampleDataUtil::getSampleLessonSchedule);
+            if (tutorEaseOptional.isPresent()) {
+                TutorEase replayedData = new TutorEase(initialData);
+                LessonSchedule replayedLessonSchedule = new LessonSchedule(initialLessonSchedule);
+                if (replayJournal(storage, replayedData, replayedLessonSchedule)) {
+                    initialData = replayedData;
+                    initialLessonSchedule = replayedLessonSchedule;
+                }
+            } else {
+                backUpJournal(storage);
+            }
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getTutorEaseFilePath() + " could not be loaded."
+                    + " Will be starting with an empty TutorEase.");
+            initialData = new TutorEase();
+            initialLessonSchedule = new LessonSchedule();
+            backUpJournal(storage);
+        }
+
+        return new ModelManager(initialData, userPrefs, initialLessonSchedule);
+    }
+
+    /**
+     * Applies the changes in {@code storage}'s journal to {@code tutorEase} and {@code lessonSchedule}.
+     * Returns false if the journal could not be applied, in which case the journal is moved to its backup file.
+     */
+    private static boolean replayJournal(Storage storage, TutorEase tutorEase, LessonSchedule lessonSchedule) {
+        try {
+            int appliedCount = storage.replayJournal(tutorEase, lessonSchedule);
+            logger.info("Applied " + appliedCount + " saved changes to the data files.");
+            return true;
+        } catch (DataLoadingException e) {
+            logger.warning("Journal could not be applied to the data files."
+                    + " Will be starting with the data files only.");
+            return false;
+        }
+    }
+
+    /**
+     * Moves {@code storage}'s journal to its backup file, as the data files it was saved against could not be read.
+     */
+    private static void backUpJournal(Storage storage) {
+        try {
+            storage.backUpJournal();
+        } catch (IOException e) {
+            // The journal is moved again before the data files are next rewritten
+            logger.warning("Failed to move journal to its backup file : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Saves the user prefs and the data in {@code model}, and waits until everything has been written to the disk.
+     */
+    public static void saveOnExit(Storage storage, Model model) {
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.compactJournal(model.getTutorEase(), model.getLessonSchedule());
+        } catch (IOException e) {
+            logger.severe("Failed to save data files " + StringUtil.getDetails(e));
+        }
+        storage.flush();
+        LogsCenter.flush();
+    }
+}
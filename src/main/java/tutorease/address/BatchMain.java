@@ -0,0 +1,137 @@
+package tutorease.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.Config;
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.logic.BatchRunner;
+import tutorease.address.logic.Logic;
+import tutorease.address.logic.LogicManager;
+import tutorease.address.logic.commands.exceptions.CommandException;
+import tutorease.address.model.Model;
+import tutorease.address.model.UserPrefs;
+import tutorease.address.storage.JsonUserPrefsStorage;
+import tutorease.address.storage.Storage;
+import tutorease.address.storage.UserPrefsStorage;
+
+/**
+ * Runs a script of commands on the saved data without starting the UI.
+ * The script is read from the file given as the last argument, or from standard input if there is none or it is
+ * {@code -}. The data is saved once at the end, or also at the checkpoints given by {@code --checkpoint=N}.
+ */
+public class BatchMain {
+    public static final String BATCH_FLAG = "--batch";
+    public static final String CONFIG_OPTION = "--config=";
+    public static final String CHECKPOINT_OPTION = "--checkpoint=";
+    public static final String STOP_ON_ERROR_OPTION = "--stop-on-error";
+    public static final String STANDARD_INPUT = "-";
+
+    public static final String MESSAGE_USAGE = "Usage: " + BATCH_FLAG + " [" + CONFIG_OPTION + "CONFIG_FILE] ["
+            + CHECKPOINT_OPTION + "COMMANDS] [" + STOP_ON_ERROR_OPTION + "] [SCRIPT_FILE]";
+
+    /** Exit status when every command succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** Exit status when some commands failed. */
+    public static final int EXIT_COMMANDS_FAILED = 1;
+    /** Exit status when the arguments are invalid, or the script could not be read or the data saved. */
+    public static final int EXIT_ERROR = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+
+    private Path configPath;
+    private Path scriptPath;
+    private int checkpointInterval;
+    private boolean isStoppingOnError;
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.in, System.out, System.err));
+    }
+
+    /**
+     * Runs the script given by {@code args} and returns the exit status.
+     */
+    public static int run(String[] args, InputStream standardInput, PrintStream output, PrintStream errorOutput) {
+        BatchMain batchMain = new BatchMain();
+        try {
+            batchMain.parseArguments(args);
+        } catch (IllegalArgumentException e) {
+            errorOutput.println(e.getMessage());
+            errorOutput.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+        return batchMain.runScript(standardInput, output, errorOutput);
+    }
+
+    private void parseArguments(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith(CONFIG_OPTION)) {
+                configPath = Paths.get(arg.substring(CONFIG_OPTION.length()));
+            } else if (arg.startsWith(CHECKPOINT_OPTION)) {
+                checkpointInterval = parseCheckpointInterval(arg.substring(CHECKPOINT_OPTION.length()));
+            } else if (arg.equals(STOP_ON_ERROR_OPTION)) {
+                isStoppingOnError = true;
+            } else if (scriptPath == null && (arg.equals(STANDARD_INPUT) || !arg.startsWith("-"))) {
+                scriptPath = arg.equals(STANDARD_INPUT) ? null : Paths.get(arg);
+            } else {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+        }
+    }
+
+    private static int parseCheckpointInterval(String value) {
+        try {
+            int interval = Integer.parseInt(value);
+            if (interval > 0) {
+                return interval;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Checkpoint interval should be a positive number: " + value);
+    }
+
+    private int runScript(InputStream standardInput, PrintStream output, PrintStream errorOutput) {
+        logger.info("=============================[ Running TutorEase script ]===========================");
+        Config config = AppInitializer.initConfig(configPath);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = AppInitializer.initStorage(config, userPrefsStorage, userPrefs);
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        Logic logic = new LogicManager(model, storage);
+        logic.getLoadWarning().ifPresent(errorOutput::println);
+        BatchRunner batchRunner = new BatchRunner(logic, checkpointInterval, isStoppingOnError);
+
+        try (BufferedReader script = openScript(standardInput)) {
+            batchRunner.run(script, errorOutput);
+        } catch (IOException e) {
+            errorOutput.println("Could not read script: " + e.getMessage());
+            return EXIT_ERROR;
+        } catch (CommandException e) {
+            errorOutput.println(e.getMessage());
+            return EXIT_ERROR;
+        } finally {
+            AppInitializer.saveOnExit(storage, model);
+        }
+
+        output.println(batchRunner.getSummary());
+        return batchRunner.getFailedCount() == 0 ? EXIT_SUCCESS : EXIT_COMMANDS_FAILED;
+    }
+
+    private BufferedReader openScript(InputStream standardInput) throws IOException {
+        if (scriptPath == null) {
+            return new BufferedReader(new InputStreamReader(standardInput, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8);
+    }
+}
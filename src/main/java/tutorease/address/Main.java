@@ -1,5 +1,6 @@
 package tutorease.address;
 
+import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -34,6 +35,12 @@ public class Main {
         // the user (if looking at the log output) that the said warning appearing in the log
         // can be ignored.
 
+        // Scripts are run without starting JavaFX at all
+        if (args.length > 0 && args[0].equals(BatchMain.BATCH_FLAG)) {
+            BatchMain.main(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
     }
@@ -1,8 +1,6 @@
 package tutorease.address;
 
-import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -10,27 +8,12 @@ import javafx.stage.Stage;
 import tutorease.address.commons.core.Config;
 import tutorease.address.commons.core.LogsCenter;
 import tutorease.address.commons.core.Version;
-import tutorease.address.commons.exceptions.DataLoadingException;
-import tutorease.address.commons.util.ConfigUtil;
-import tutorease.address.commons.util.StringUtil;
 import tutorease.address.logic.Logic;
 import tutorease.address.logic.LogicManager;
-import tutorease.address.model.LessonSchedule;
 import tutorease.address.model.Model;
-import tutorease.address.model.ModelManager;
-import tutorease.address.model.ReadOnlyLessonSchedule;
-import tutorease.address.model.ReadOnlyTutorEase;
-import tutorease.address.model.ReadOnlyUserPrefs;
-import tutorease.address.model.TutorEase;
 import tutorease.address.model.UserPrefs;
-import tutorease.address.model.util.SampleDataUtil;
-import tutorease.address.storage.JsonLessonScheduleStorage;
-import tutorease.address.storage.JsonTutorEaseStorage;
 import tutorease.address.storage.JsonUserPrefsStorage;
-import tutorease.address.storage.LessonScheduleStorage;
 import tutorease.address.storage.Storage;
-import tutorease.address.storage.StorageManager;
-import tutorease.address.storage.TutorEaseStorage;
 import tutorease.address.storage.UserPrefsStorage;
 import tutorease.address.ui.Ui;
 import tutorease.address.ui.UiManager;
@@ -61,129 +44,35 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TutorEaseStorage tutorEaseStorage = new JsonTutorEaseStorage(userPrefs.getTutorEaseFilePath());
-        LessonScheduleStorage lessonScheduleStorage = new JsonLessonScheduleStorage(
-                userPrefs.getLessonScheduleFilePath());
-        storage = new StorageManager(tutorEaseStorage, userPrefsStorage, lessonScheduleStorage);
+        storage = AppInitializer.initStorage(config, userPrefsStorage, userPrefs);
 
-        model = initModelManager(storage, userPrefs);
+        model = AppInitializer.initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
     }
 
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getTutorEaseFilePath());
-
-        Optional<ReadOnlyTutorEase> tutorEaseOptional;
-
-        Optional<ReadOnlyLessonSchedule> lessonScheduleOptional;
-        ReadOnlyTutorEase initialData;
-
-        ReadOnlyLessonSchedule initialLessonSchedule;
-
-        try {
-            tutorEaseOptional = storage.readTutorEase();
-            if (!tutorEaseOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getTutorEaseFilePath()
-                        + " populated with a sample TutorEase.");
-            }
-            initialData = tutorEaseOptional.orElseGet(SampleDataUtil::getSampleTutorEase);
-            lessonScheduleOptional = storage.readLessonSchedule(initialData);
-            if (!lessonScheduleOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getLessonScheduleFilePath()
-                        + " populated with a sample LessonSchedule.");
-            }
-            initialLessonSchedule = lessonScheduleOptional.orElseGet(SampleDataUtil::getSampleLessonSchedule);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getTutorEaseFilePath() + " could not be loaded."
-                    + " Will be starting with an empty TutorEase.");
-            initialData = new TutorEase();
-            initialLessonSchedule = new LessonSchedule();
-        }
-
-        return new ModelManager(initialData, userPrefs, initialLessonSchedule);
-    }
-
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
     /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
+     * Returns a {@code Config} using the file at {@code configFilePath}.
+     *
+     * @see AppInitializer#initConfig(Path)
      */
     protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+        return AppInitializer.initConfig(configFilePath);
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path.
+     *
+     * @see AppInitializer#initPrefs(UserPrefsStorage)
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        return AppInitializer.initPrefs(storage);
     }
 
     @Override
@@ -195,10 +84,6 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping TutorEase ] =============================");
-        try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
-        }
+        AppInitializer.saveOnExit(storage, model);
     }
 }
@@ -0,0 +1,223 @@
+package tutorease.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Passes log records on to other handlers from a single background thread, so that logging a message never waits for
+ * the console or a log file.
+ * Records are kept in a bounded ring buffer that many threads can add to without locking. When the buffer is full,
+ * records are either dropped or the logging thread waits for space, depending on the {@link OverflowPolicy}. Records
+ * at {@code WARNING} or above are never dropped.
+ * The message of a record is formatted with its parameters on the logging thread, so that parameters that are
+ * changed after the call are logged as they were at the call.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record that is logged while the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drops the record, unless it is at {@code WARNING} or above. The number of dropped records is logged once
+         * there is space again.
+         */
+        DROP,
+        /** Waits until the background thread has made space for the record. */
+        BLOCK
+    }
+
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FULL_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final Formatter MESSAGE_FORMATTER = new SimpleFormatter();
+
+    private final List<Handler> targets;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicReferenceArray<LogRecord> buffer;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread drainer;
+    // Only written by the drainer thread
+    private volatile long drained;
+    private volatile long published;
+    private volatile boolean isDrainerWaiting;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that passes records on to {@code targets}.
+     *
+     * @param targets The handlers that publish the records.
+     * @param capacity The number of records the buffer holds. Rounded up to a power of two.
+     * @param overflowPolicy What to do with records logged while the buffer is full.
+     */
+    AsyncLogHandler(List<Handler> targets, int capacity, OverflowPolicy overflowPolicy) {
+        requireNonNull(targets);
+        requireNonNull(overflowPolicy);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.targets = List.copyOf(targets);
+        this.overflowPolicy = overflowPolicy;
+        int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        buffer = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+
+        drainer = new Thread(this::drain, "TutorEase-log-writer");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    List<Handler> getTargets() {
+        return targets;
+    }
+
+    OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // The caller is looked up from the stack of the logging thread, so it has to be done before handing over
+        record.getSourceClassName();
+        formatMessage(record);
+
+        while (!offer(record)) {
+            if (overflowPolicy == OverflowPolicy.DROP && record.getLevel().intValue() < Level.WARNING.intValue()) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(FULL_WAIT_NANOS);
+        }
+        if (isDrainerWaiting) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    /**
+     * Replaces the message of {@code record} with the message formatted with its parameters, and clears the
+     * parameters, as they may be changed by the logging thread while the record waits in the buffer.
+     */
+    private static void formatMessage(LogRecord record) {
+        Object[] parameters = record.getParameters();
+        if (parameters == null || parameters.length == 0) {
+            return;
+        }
+        record.setMessage(MESSAGE_FORMATTER.formatMessage(record));
+        record.setParameters(null);
+    }
+
+    /**
+     * Claims the next free slot of the buffer and stores {@code record} in it.
+     * Returns false if the buffer is full.
+     */
+    private boolean offer(LogRecord record) {
+        while (true) {
+            long slot = claimed.get();
+            if (slot - drained >= buffer.length()) {
+                return false;
+            }
+            if (claimed.compareAndSet(slot, slot + 1)) {
+                buffer.set((int) slot & mask, record);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Waits until every record logged so far has been published, then flushes the target handlers.
+     */
+    @Override
+    public void flush() {
+        long target = claimed.get();
+        while (published < target && drainer.isAlive()) {
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(FULL_WAIT_NANOS);
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Publishes the records logged so far, then stops the background thread and closes the target handlers.
+     */
+    @Override
+    public void close() {
+        flush();
+        isClosed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    private void drain() {
+        long next = 0;
+        while (true) {
+            int index = (int) next & mask;
+            LogRecord record = buffer.get(index);
+            if (record == null) {
+                // A slot that has been claimed but not filled yet also reads as empty
+                if (isClosed && next == claimed.get()) {
+                    return;
+                }
+                waitForRecords(next);
+                continue;
+            }
+
+            buffer.set(index, null);
+            drained = ++next;
+            publishToTargets(record);
+            published = next;
+            reportDroppedRecords();
+        }
+    }
+
+    private void waitForRecords(long next) {
+        isDrainerWaiting = true;
+        if (buffer.get((int) next & mask) == null && !isClosed) {
+            LockSupport.parkNanos(IDLE_WAIT_NANOS);
+        }
+        isDrainerWaiting = false;
+    }
+
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Log handler failed to publish a record", e, 0);
+            }
+        }
+    }
+
+    private void reportDroppedRecords() {
+        if (droppedCount.get() == 0) {
+            return;
+        }
+        long count = droppedCount.getAndSet(0);
+        LogRecord record = new LogRecord(Level.WARNING, "Dropped " + count + " log records as the buffer was full");
+        record.setSourceClassName(AsyncLogHandler.class.getName());
+        publishToTargets(record);
+    }
+}
@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean saveInBackground = true;
+    private boolean logInBackground = true;
+    private AsyncLogHandler.OverflowPolicy logOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,40 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if data should be saved by a background thread, so that commands do not wait for the disk.
+     */
+    public boolean isSaveInBackground() {
+        return saveInBackground;
+    }
+
+    public void setSaveInBackground(boolean saveInBackground) {
+        this.saveInBackground = saveInBackground;
+    }
+
+    /**
+     * Returns true if log messages should be written out by a background thread, so that commands do not wait for the
+     * console or the log file.
+     */
+    public boolean isLogInBackground() {
+        return logInBackground;
+    }
+
+    public void setLogInBackground(boolean logInBackground) {
+        this.logInBackground = logInBackground;
+    }
+
+    /**
+     * Returns what is done with log messages that are logged faster than the background thread can write them out.
+     */
+    public AsyncLogHandler.OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(AsyncLogHandler.OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +84,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && saveInBackground == otherConfig.saveInBackground
+                && logInBackground == otherConfig.logInBackground
+                && logOverflowPolicy == otherConfig.logOverflowPolicy;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, saveInBackground, logInBackground, logOverflowPolicy);
     }
 
     @Override
@@ -60,6 +100,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("saveInBackground", saveInBackground)
+                .add("logInBackground", logInBackground)
+                .add("logOverflowPolicy", logOverflowPolicy)
                 .toString();
     }
 
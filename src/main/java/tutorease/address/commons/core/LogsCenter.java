@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -16,14 +18,21 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages that are logged often, such as those logged whenever a model object is created, should be given to the
+ *   logger as a pattern with a parameter or as a message supplier, so they are only built if they are going to be
+ *   logged. They are logged directly on the logger so that the source of each record is the calling class.<br>
+ * If enabled in the {@link Config}, messages are written to the console and the file by a background thread instead
+ *   of the thread that logged them.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "tutorease.log";
+    private static final int ASYNC_BUFFER_CAPACITY = 1024;
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncLogHandler asyncHandler; // null if messages are written by the thread that logged them
 
     // This static block ensures essential loggers are created early
     static {
@@ -40,6 +49,35 @@ public class LogsCenter {
         logger.info("Log level will be set as: " + currentLogLevel);
         // set the level of the baseLogger which will be inherited by other loggers
         baseLogger.setLevel(currentLogLevel);
+        if (config.isLogInBackground()) {
+            setAsyncLogging(config.getLogOverflowPolicy());
+        }
+    }
+
+    /**
+     * Moves the handlers of the {@code baseLogger} behind an {@code AsyncLogHandler}, so that they are written to by
+     * a background thread. Does nothing if this has been done already.
+     */
+    private static synchronized void setAsyncLogging(AsyncLogHandler.OverflowPolicy overflowPolicy) {
+        if (asyncHandler != null) {
+            return;
+        }
+        List<Handler> handlers = List.of(baseLogger.getHandlers());
+        removeHandlers(baseLogger);
+        asyncHandler = new AsyncLogHandler(handlers, ASYNC_BUFFER_CAPACITY, overflowPolicy);
+        asyncHandler.setLevel(Level.ALL);
+        baseLogger.addHandler(asyncHandler);
+        logger.info("Logging in the background, with overflow policy: " + overflowPolicy);
+    }
+
+    /**
+     * Waits until every message logged so far has been written out. Should be called before the app exits, as
+     * messages are otherwise lost if they are logged in the background.
+     */
+    public static void flush() {
+        for (Handler handler : baseLogger.getHandlers()) {
+            handler.flush();
+        }
     }
 
     /**
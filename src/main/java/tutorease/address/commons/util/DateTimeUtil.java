@@ -1,5 +1,7 @@
 package tutorease.address.commons.util;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
@@ -11,8 +13,10 @@ import tutorease.address.logic.parser.exceptions.ParseException;
 public class DateTimeUtil {
 
     public static final String DATETIME_FORMAT = "dd-MM-yyyy HH:mm";
+    public static final String DATE_FORMAT = "dd-MM-yyyy";
     public static final String INVALID_DATETIME_FORMAT_MESSAGE = "%s date time must be in the format of "
             + DATETIME_FORMAT;
+    public static final String INVALID_DATE_FORMAT_MESSAGE = "%s date must be in the format of " + DATE_FORMAT;
     public static final String INVALID_DATETIME_FIELD_MESSAGE = "%s should be an integer";
     public static final String INVALID_DAY_MESSAGE = "Invalid Day: %d. "
             + "dd must be between 1 and %d for your given month and year";
@@ -21,8 +25,18 @@ public class DateTimeUtil {
     public static final String INVALID_HOUR_MESSAGE = "Invalid Hour: %d. HH must be between 0 and 23";
     public static final String INVALID_MINUTE_MESSAGE = "Invalid Minute: %d. mm must be between 0 and 59";
 
-    private static DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATETIME_FORMAT);
+    // Positions of the fields in a date time of DATETIME_FORMAT
+    private static final int DAY_START = 0;
+    private static final int MONTH_START = 3;
+    private static final int YEAR_START = 6;
+    private static final int HOUR_START = 11;
+    private static final int MINUTE_START = 14;
+    // Years that take exactly the four digits of yyyy, so that they can be formatted by hand
+    private static final int MIN_FIXED_WIDTH_YEAR = 0;
+    private static final int MAX_FIXED_WIDTH_YEAR = 9999;
 
+    private static DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATETIME_FORMAT);
+    private static DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(DATE_FORMAT);
 
     /**
      * Checks if a given string is a valid date time.
@@ -31,44 +45,88 @@ public class DateTimeUtil {
      */
     public static void checkValidDateTime(String dateTime) throws ParseException {
         String trimmedStartDateTime = dateTime.trim();
-        String regex = "\\d{2}-\\d{2}-\\d{4}\\s\\d{2}:\\d{2}";
-        if (!trimmedStartDateTime.matches(regex)) {
+        if (!hasDateTimeFormat(trimmedStartDateTime)) {
             throw new ParseException(String.format(INVALID_DATETIME_FORMAT_MESSAGE, dateTime));
         }
 
-        try {
-            validateDateTime(trimmedStartDateTime);
-        } catch (ParseException specificFieldException) {
-            throw specificFieldException;
+        validateDateTime(trimmedStartDateTime);
+    }
+
+    /**
+     * Checks if the fields of a given date time are within the ranges allowed for a date time string, so that it can
+     * be checked without formatting it first.
+     *
+     * @param dateTime The date time to be checked.
+     */
+    public static void checkValidDateTime(LocalDateTime dateTime) throws ParseException {
+        // The other fields of a LocalDateTime are always within their ranges
+        checkValidYear(dateTime.getYear());
+    }
+
+    /**
+     * Checks if a given string is a valid date of {@link #DATE_FORMAT}.
+     *
+     * @param date The date to be checked.
+     */
+    public static void checkValidDate(String date) throws ParseException {
+        String trimmedDate = date.trim();
+        if (!hasDateFormat(trimmedDate, DATE_FORMAT.length())) {
+            throw new ParseException(String.format(INVALID_DATE_FORMAT_MESSAGE, date));
         }
+
+        validateDate(trimmedDate);
     }
 
-    private static void validateDateTime(String trimmedStartDateTime) throws ParseException {
-        String[] dateTimeParts = trimmedStartDateTime.split(" ");
-        assert dateTimeParts.length == 2;
+    /**
+     * Returns true if {@code dateTime} has the digits and separators of {@link #DATETIME_FORMAT}, which may be
+     * separated by any whitespace between the date and the time, like {@code \d{2}-\d{2}-\d{4}\s\d{2}:\d{2}}.
+     */
+    private static boolean hasDateTimeFormat(String dateTime) {
+        return hasDateFormat(dateTime, DATETIME_FORMAT.length())
+                && ValidationUtil.isWhitespace(dateTime.charAt(HOUR_START - 1))
+                && ValidationUtil.isDigits(dateTime, HOUR_START, HOUR_START + 2)
+                && dateTime.charAt(MINUTE_START - 1) == ':'
+                && ValidationUtil.isDigits(dateTime, MINUTE_START, MINUTE_START + 2);
+    }
 
-        String[] dateParts = dateTimeParts[0].split("-");
-        String[] timeParts = dateTimeParts[1].split(":");
-        assert dateParts.length == 3;
-        assert timeParts.length == 2;
+    /**
+     * Returns true if {@code text} has {@code length} characters and starts with the digits and separators of
+     * {@link #DATE_FORMAT}, like {@code \d{2}-\d{2}-\d{4}}.
+     */
+    private static boolean hasDateFormat(String text, int length) {
+        return text.length() == length
+                && ValidationUtil.isDigits(text, DAY_START, DAY_START + 2)
+                && text.charAt(MONTH_START - 1) == '-'
+                && ValidationUtil.isDigits(text, MONTH_START, MONTH_START + 2)
+                && text.charAt(YEAR_START - 1) == '-'
+                && ValidationUtil.isDigits(text, YEAR_START, YEAR_START + 4);
+    }
 
-        int day = NumbersUtil.parseInt(dateParts[0], String.format(INVALID_DATETIME_FIELD_MESSAGE, dateParts[0]));
-        int month = NumbersUtil.parseInt(dateParts[1], String.format(INVALID_DATETIME_FIELD_MESSAGE, dateParts[1]));
-        int year = NumbersUtil.parseInt(dateParts[2], String.format(INVALID_DATETIME_FIELD_MESSAGE, dateParts[2]));
-        int hour = NumbersUtil.parseInt(timeParts[0], String.format(INVALID_DATETIME_FIELD_MESSAGE, timeParts[0]));
-        int minute = NumbersUtil.parseInt(timeParts[1], String.format(INVALID_DATETIME_FIELD_MESSAGE, timeParts[1]));
+    /**
+     * Checks the fields of {@code dateTime}, which has already been checked by {@link #hasDateTimeFormat(String)}.
+     */
+    private static void validateDateTime(String dateTime) throws ParseException {
+        int hour = ValidationUtil.parseDigits(dateTime, HOUR_START, HOUR_START + 2);
+        int minute = ValidationUtil.parseDigits(dateTime, MINUTE_START, MINUTE_START + 2);
 
-        try {
-            checkValidYear(year);
-            checkValidMonth(month);
-            YearMonth yearMonth = YearMonth.of(year, month);
-            int maxDay = yearMonth.lengthOfMonth();
-            checkValidDay(day, maxDay);
-            checkValidHour(hour);
-            checkValidMinute(minute);
-        } catch (ParseException e) {
-            throw e;
-        }
+        validateDate(dateTime);
+        checkValidHour(hour);
+        checkValidMinute(minute);
+    }
+
+    /**
+     * Checks the date fields at the start of {@code date}, which has already been checked by
+     * {@link #hasDateFormat(String, int)}.
+     */
+    private static void validateDate(String date) throws ParseException {
+        int day = ValidationUtil.parseDigits(date, DAY_START, DAY_START + 2);
+        int month = ValidationUtil.parseDigits(date, MONTH_START, MONTH_START + 2);
+        int year = ValidationUtil.parseDigits(date, YEAR_START, YEAR_START + 4);
+
+        checkValidYear(year);
+        checkValidMonth(month);
+        int maxDay = YearMonth.of(year, month).lengthOfMonth();
+        checkValidDay(day, maxDay);
     }
 
     private static void checkValidYear(int year) throws ParseException {
@@ -103,27 +161,105 @@ public class DateTimeUtil {
 
     /**
      * Parses a string into a LocalDateTime object.
+     * The fields are read straight from their fixed positions in {@link #DATETIME_FORMAT}.
      *
      * @param dateTime The string representing the date and time.
      * @return The LocalDateTime object.
      * @throws ParseException If the string is invalid.
      */
     public static LocalDateTime parseDateTime(String dateTime) throws ParseException {
+        if (!hasDateTimeFormat(dateTime) || dateTime.charAt(HOUR_START - 1) != ' ') {
+            throw new ParseException(INVALID_DATETIME_FORMAT_MESSAGE);
+        }
+
         try {
-            return LocalDateTime.parse(dateTime, formatter);
-        } catch (Exception e) {
+            return LocalDateTime.of(ValidationUtil.parseDigits(dateTime, YEAR_START, YEAR_START + 4),
+                    ValidationUtil.parseDigits(dateTime, MONTH_START, MONTH_START + 2),
+                    ValidationUtil.parseDigits(dateTime, DAY_START, DAY_START + 2),
+                    ValidationUtil.parseDigits(dateTime, HOUR_START, HOUR_START + 2),
+                    ValidationUtil.parseDigits(dateTime, MINUTE_START, MINUTE_START + 2));
+        } catch (DateTimeException e) {
             throw new ParseException(INVALID_DATETIME_FORMAT_MESSAGE);
         }
     }
 
+    /**
+     * Parses a string of {@link #DATE_FORMAT} into a LocalDate object.
+     *
+     * @param date The string representing the date.
+     * @return The LocalDate object.
+     * @throws ParseException If the string is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        if (!hasDateFormat(date, DATE_FORMAT.length())) {
+            throw new ParseException(String.format(INVALID_DATE_FORMAT_MESSAGE, date));
+        }
+
+        try {
+            return LocalDate.of(ValidationUtil.parseDigits(date, YEAR_START, YEAR_START + 4),
+                    ValidationUtil.parseDigits(date, MONTH_START, MONTH_START + 2),
+                    ValidationUtil.parseDigits(date, DAY_START, DAY_START + 2));
+        } catch (DateTimeException e) {
+            throw new ParseException(String.format(INVALID_DATE_FORMAT_MESSAGE, date));
+        }
+    }
+
     /**
      * Converts a LocalDateTime object into a string.
+     * The digits are written straight into their fixed positions in {@link #DATETIME_FORMAT}.
      *
      * @param dateTime The LocalDateTime object.
      * @return The string representing the date and time.
      */
     public static String dateTimeToString(LocalDateTime dateTime) {
-        return dateTime.format(formatter);
+        int year = dateTime.getYear();
+        if (year < MIN_FIXED_WIDTH_YEAR || year > MAX_FIXED_WIDTH_YEAR) {
+            // The formatter adds a sign to such years
+            return dateTime.format(formatter);
+        }
+
+        char[] chars = new char[DATETIME_FORMAT.length()];
+        writeDate(chars, dateTime.toLocalDate());
+        chars[HOUR_START - 1] = ' ';
+        writeDigits(chars, HOUR_START, 2, dateTime.getHour());
+        chars[MINUTE_START - 1] = ':';
+        writeDigits(chars, MINUTE_START, 2, dateTime.getMinute());
+        return new String(chars);
+    }
+
+    /**
+     * Converts a LocalDate object into a string of {@link #DATE_FORMAT}.
+     *
+     * @param date The LocalDate object.
+     * @return The string representing the date.
+     */
+    public static String dateToString(LocalDate date) {
+        int year = date.getYear();
+        if (year < MIN_FIXED_WIDTH_YEAR || year > MAX_FIXED_WIDTH_YEAR) {
+            return date.format(dateFormatter);
+        }
+
+        char[] chars = new char[DATE_FORMAT.length()];
+        writeDate(chars, date);
+        return new String(chars);
+    }
+
+    private static void writeDate(char[] chars, LocalDate date) {
+        writeDigits(chars, DAY_START, 2, date.getDayOfMonth());
+        chars[MONTH_START - 1] = '-';
+        writeDigits(chars, MONTH_START, 2, date.getMonthValue());
+        chars[YEAR_START - 1] = '-';
+        writeDigits(chars, YEAR_START, 4, date.getYear());
+    }
+
+    /**
+     * Writes the last {@code width} digits of {@code value} into {@code chars} from {@code start}, padded with zeros.
+     */
+    private static void writeDigits(char[] chars, int start, int width, int value) {
+        for (int i = start + width - 1; i >= start; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
     }
 
     /**
@@ -132,6 +268,6 @@ public class DateTimeUtil {
      * @return The current date and time as a string.
      */
     public static String dateTimeNowString() {
-        return LocalDateTime.now().format(formatter);
+        return dateTimeToString(LocalDateTime.now());
     }
 }
@@ -1,10 +1,20 @@
 package tutorease.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -12,6 +22,16 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Writes the content of a file to a stream, a piece at a time.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -72,12 +92,86 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Opens a buffered stream that reads the file from the start.
+     * Assumes file exists
+     */
+    public static InputStream openForReading(Path file) throws IOException {
+        return new BufferedInputStream(Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ)),
+                BUFFER_SIZE);
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The string is first written to a temporary file next to {@code file}, which is synced to the disk and then
+     * renamed over {@code file}, so that a crash while writing never leaves a partly written file behind.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file through a buffer, so the content never has to be
+     * held in memory as a whole.
+     * Will create the file if it does not exist yet, and replaces it the same way as
+     * {@link #writeToFile(Path, String)}. If the content cannot be written, the temporary file is deleted and
+     * {@code file} is left as it was.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        boolean isWritten = false;
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE);
+                contentWriter.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            isWritten = true;
+        } finally {
+            if (!isWritten) {
+                deleteTempFile(tempFile);
+            }
+        }
+    }
+
+    /**
+     * Deletes the temporary file of a write that failed. A failure to delete it is ignored, so that the error of the
+     * write is the one that is reported.
+     */
+    private static void deleteTempFile(Path tempFile) {
+        try {
+            Files.deleteIfExists(tempFile);
+        } catch (IOException e) {
+            // the next write to the same file truncates it anyway
+        }
+    }
+
+    /**
+     * Adds given string to the end of a file and syncs the file to the disk.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        writeAndSync(file, content, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static void writeAndSync(Path file, String content, StandardOpenOption... options) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
     }
 
 }
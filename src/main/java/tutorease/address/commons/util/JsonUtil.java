@@ -3,6 +3,7 @@ package tutorease.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,7 +12,11 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -39,6 +44,18 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // Writes the records of a streamed file without flushing the file after every record
+    private static ObjectMapper streamingObjectMapper = objectMapper.copy()
+            .configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false);
+
+    /**
+     * Writes a JSON document to a {@code JsonGenerator}, a value at a time.
+     */
+    @FunctionalInterface
+    public interface JsonWriter {
+        void writeTo(JsonGenerator generator) throws IOException;
+    }
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -91,6 +108,59 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Saves the JSON document written by {@code jsonWriter} to the specified file as it is written, so that only the
+     * value being written has to be held in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * Values written with {@link JsonGenerator#writeObject(Object)} are serialized the same way as by
+     * {@link #saveJsonFile(Object, Path)}.
+     * @param filePath cannot be null
+     * @param jsonWriter cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void saveJsonFile(Path filePath, JsonWriter jsonWriter) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonWriter);
+
+        FileUtil.writeToFile(filePath, out -> {
+            JsonGenerator generator = streamingObjectMapper.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.useDefaultPrettyPrinter();
+            jsonWriter.writeTo(generator);
+            generator.close();
+        });
+    }
+
+    /**
+     * Returns a parser that reads the given JSON file a token at a time.
+     * Values read with {@link JsonParser#readValueAs(Class)} are deserialized the same way as by
+     * {@link #readJsonFile(Path, Class)}. The caller is responsible for closing the parser.
+     *
+     * @param filePath cannot be null. The file has to exist.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        InputStream in = FileUtil.openForReading(filePath);
+        try {
+            return streamingObjectMapper.getFactory().createParser(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Moves {@code parser} to its next token and checks that it is {@code expectedToken}.
+     *
+     * @throws JsonParseException if the next token is a different one.
+     */
+    public static void requireNextToken(JsonParser parser, JsonToken expectedToken) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != expectedToken) {
+            throw new JsonParseException(parser, "Expected " + expectedToken + " but found " + token);
+        }
+    }
 
     /**
      * Converts a given string representation of a JSON data to instance of a class
@@ -111,6 +181,17 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, for files that
+     * hold one JSON object per line.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string without line breaks
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -21,7 +21,7 @@ public class NumbersUtil {
      * @throws ParseException If the string cannot be parsed into an integer.
      */
     public static int parseInt(String value, String message) throws ParseException {
-        logger.log(Level.INFO, "Parsing integer from string: " + value);
+        logger.log(Level.FINE, "Parsing integer from string: {0}", value);
         int parsedValue;
         try {
             parsedValue = Integer.parseInt(value.trim());
@@ -41,7 +41,7 @@ public class NumbersUtil {
      * @throws ParseException If the string cannot be parsed into a double.
      */
     public static double parseDouble(String value, String message) throws ParseException {
-        logger.log(Level.INFO, "Parsing double from string: " + value);
+        logger.log(Level.FINE, "Parsing double from string: {0}", value);
         double parsedValue;
         try {
             parsedValue = Double.parseDouble(value.trim());
@@ -0,0 +1,80 @@
+package tutorease.address.commons.util;
+
+/**
+ * Contains character checks for validating simple formats without regular expressions.
+ * Each check matches the same characters as the regular expression class named in its description.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, like {@code \p{Alnum}}.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code test} is not empty and only contains ASCII letters and digits, like {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII digit, like {@code \d}.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is a whitespace character, like {@code \s}.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code test} only contains ASCII digits, and has at least {@code minLength} of them, like
+     * {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        if (test.length() < minLength) {
+            return false;
+        }
+        return isDigits(test, 0, test.length());
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} to {@code end}, exclusive, are all ASCII
+     * digits.
+     */
+    public static boolean isDigits(String test, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number represented by the ASCII digits of {@code digits} from {@code start} to {@code end},
+     * exclusive, which should have been checked with {@link #isDigits(String, int, int)}.
+     */
+    public static int parseDigits(String digits, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (digits.charAt(i) - '0');
+        }
+        return value;
+    }
+}
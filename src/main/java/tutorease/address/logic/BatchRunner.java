@@ -0,0 +1,115 @@
+package tutorease.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.logic.commands.CommandResult;
+import tutorease.address.logic.commands.exceptions.CommandException;
+import tutorease.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs a script of commands through {@code Logic}, one command per line.
+ * Blank lines and lines starting with {@link #COMMENT_PREFIX} are skipped, and an {@code exit} command ends the
+ * script. The changes made by the commands are saved at the end, and also after every {@code checkpointInterval}
+ * commands if it is positive, instead of after each command.
+ */
+public class BatchRunner {
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %d: %s";
+    public static final String MESSAGE_SUMMARY = "Ran %d commands: %d succeeded, %d failed.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Logic logic;
+    private final int checkpointInterval;
+    private final boolean isStoppingOnError;
+    private int executedCount;
+    private int failedCount;
+
+    /**
+     * Creates a {@code BatchRunner} that runs commands through {@code logic}.
+     *
+     * @param checkpointInterval The number of commands after which changes are saved, or 0 to only save at the end.
+     * @param isStoppingOnError Whether the script ends at the first command that fails.
+     */
+    public BatchRunner(Logic logic, int checkpointInterval, boolean isStoppingOnError) {
+        requireNonNull(logic);
+        if (checkpointInterval < 0) {
+            throw new IllegalArgumentException("Checkpoint interval must not be negative: " + checkpointInterval);
+        }
+        this.logic = logic;
+        this.checkpointInterval = checkpointInterval;
+        this.isStoppingOnError = isStoppingOnError;
+    }
+
+    public int getExecutedCount() {
+        return executedCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Runs the commands read from {@code script}, and prints the error message of each command that fails to
+     * {@code errorOutput}. The changes made are saved before returning, even if the script could not be read.
+     *
+     * @throws IOException if the script could not be read.
+     * @throws CommandException if the changes could not be saved.
+     */
+    public void run(BufferedReader script, PrintStream errorOutput) throws IOException, CommandException {
+        requireNonNull(script);
+        requireNonNull(errorOutput);
+        logic.setSavingDeferred(true);
+        try {
+            runCommands(script, errorOutput);
+        } finally {
+            // The commands that ran before the script could not be read any further are saved as well
+            logic.setSavingDeferred(false);
+            logic.saveChanges();
+        }
+        logger.info(getSummary());
+    }
+
+    private void runCommands(BufferedReader script, PrintStream errorOutput) throws IOException, CommandException {
+        int lineNumber = 0;
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            executedCount++;
+            try {
+                CommandResult result = logic.execute(commandText);
+                if (result.isExit()) {
+                    return;
+                }
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+                errorOutput.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+                if (isStoppingOnError) {
+                    return;
+                }
+            }
+
+            if (checkpointInterval > 0 && executedCount % checkpointInterval == 0) {
+                logic.saveChanges();
+            }
+        }
+    }
+
+    /**
+     * Returns a summary of the commands that have been run.
+     */
+    public String getSummary() {
+        return String.format(MESSAGE_SUMMARY, executedCount, executedCount - failedCount, failedCount);
+    }
+}
@@ -1,6 +1,8 @@
 package tutorease.address.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import tutorease.address.commons.core.GuiSettings;
@@ -24,6 +26,23 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets whether the changes made by commands are kept in memory instead of being saved after each command.
+     * Changes kept in memory are saved by {@link #saveChanges()}.
+     */
+    void setSavingDeferred(boolean isSavingDeferred);
+
+    /**
+     * Returns the number of changes that have been kept in memory and not saved yet.
+     */
+    int getUnsavedChangeCount();
+
+    /**
+     * Saves the changes that have been kept in memory while saving was deferred.
+     * @throws CommandException If an error occurs while saving.
+     */
+    void saveChanges() throws CommandException;
+
     /**
      * Returns the TutorEase.
      *
@@ -34,6 +53,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the person with {@code id}, or null if there is none.
+     *
+     * @see tutorease.address.model.Model#getPersonById(long)
+     */
+    Person getPersonById(long id);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -51,4 +77,15 @@ public interface Logic {
 
     /** Returns an unmodifiable view of the filtered list of lessons */
     ObservableList<Lesson> getFilteredLessonList();
+
+    /**
+     * Sets the handler that is given an error message for each save that failed after its command had returned.
+     * It may be called from any thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Returns a warning for the user about saved changes that could not be applied when the data was loaded, if any.
+     */
+    Optional<String> getLoadWarning();
 }
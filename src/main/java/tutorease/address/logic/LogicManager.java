@@ -3,6 +3,10 @@ package tutorease.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -14,6 +18,7 @@ import tutorease.address.logic.commands.exceptions.CommandException;
 import tutorease.address.logic.parser.TutorEaseParser;
 import tutorease.address.logic.parser.exceptions.ParseException;
 import tutorease.address.model.Model;
+import tutorease.address.model.ModelMutation;
 import tutorease.address.model.ReadOnlyTutorEase;
 import tutorease.address.model.lesson.Lesson;
 import tutorease.address.model.person.Person;
@@ -28,11 +33,16 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String JOURNAL_BACKUP_WARNING_FORMAT = "Some changes saved before TutorEase last closed "
+            + "could not be applied to the data files. They have been kept in %s";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final TutorEaseParser tutorEaseParser;
+    private final List<ModelMutation> unsavedMutations = new ArrayList<>();
+    private boolean isSavingDeferred;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -51,16 +61,63 @@ public class LogicManager implements Logic {
         Command command = tutorEaseParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        List<ModelMutation> mutations = model.takeMutations();
+        if (mutations.isEmpty()) {
+            // Commands that only read the data have nothing to save
+            return commandResult;
+        }
+        if (isSavingDeferred) {
+            unsavedMutations.addAll(mutations);
+            return commandResult;
+        }
+
+        save(mutations);
+        return commandResult;
+    }
+
+    @Override
+    public void setSavingDeferred(boolean isSavingDeferred) {
+        this.isSavingDeferred = isSavingDeferred;
+    }
+
+    @Override
+    public int getUnsavedChangeCount() {
+        return unsavedMutations.size();
+    }
+
+    @Override
+    public void saveChanges() throws CommandException {
+        if (unsavedMutations.isEmpty()) {
+            return;
+        }
+        // The changes are kept if saving fails, so that saving can be tried again
+        save(unsavedMutations);
+        unsavedMutations.clear();
+    }
+
+    private void save(List<ModelMutation> mutations) throws CommandException {
         try {
-            storage.saveTutorEase(model.getTutorEase());
-            storage.saveLessonSchedule(model.getLessonSchedule());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveChanges(mutations, model.getTutorEase(), model.getLessonSchedule());
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
+    }
 
-        return commandResult;
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        storage.setSaveErrorHandler(e -> saveErrorHandler.accept(getSaveErrorMessage(e)));
+    }
+
+    @Override
+    public Optional<String> getLoadWarning() {
+        return storage.getJournalBackupFilePath().map(path -> String.format(JOURNAL_BACKUP_WARNING_FORMAT, path));
+    }
+
+    private static String getSaveErrorMessage(IOException e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
     }
 
     @Override
@@ -73,6 +130,11 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public Person getPersonById(long id) {
+        return model.getPersonById(id);
+    }
+
     @Override
     public Path getTutorEaseFilePath() {
         return model.getTutorEaseFilePath();
@@ -1,10 +1,14 @@
 package tutorease.address.logic;
 
+import static tutorease.address.commons.util.DateTimeUtil.dateToString;
+
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import tutorease.address.logic.parser.Prefix;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonSeries;
 import tutorease.address.model.person.Person;
 
 /**
@@ -54,4 +58,25 @@ public class Messages {
         person.getTags().forEach(builder::append);
         return builder.toString();
     }
+
+    /**
+     * Formats the {@code lesson} of {@code student} for display to the user.
+     */
+    public static String format(Lesson lesson, Person student) {
+        return "Student: " + student.getName()
+                + "; Fee: " + lesson.getFee()
+                + "; Start: " + lesson.getStartDateTime()
+                + "; End: " + lesson.getEndDateTime();
+    }
+
+    /**
+     * Formats the {@code series} of {@code student} for display to the user.
+     */
+    public static String format(LessonSeries series, Person student) {
+        return "Student: " + student.getName()
+                + "; Fee: " + series.getFee()
+                + "; Start: " + series.getStartDateTime()
+                + "; End: " + series.getEndDateTime()
+                + "; Every " + series.getPeriodWeeks() + " week(s) until " + dateToString(series.getUntilDate());
+    }
 }
@@ -81,19 +81,14 @@ public class AddLessonCommand extends LessonCommand {
         logger.log(Level.INFO, "Executing AddLessonCommand");
         requireNonNull(model);
 
-        // Validate and get student
-        ObservableList<Person> personList = model.getFilteredPersonList();
-        validateStudentId(personList);
-        Person student = personList.get(studentId.getValue());
-        assert student != null : "Student cannot be null";
-        validateStudentRole(student);
+        Person student = getStudent(model.getFilteredPersonList(), studentId);
 
         // Validate and add lesson
-        Lesson lesson = new Lesson(student, fee, this.startDateTime, this.endDateTime);
+        Lesson lesson = new Lesson(student.getId(), fee, this.startDateTime, this.endDateTime);
         validateModelHasLesson(model, lesson);
         model.addLesson(lesson);
 
-        String formattedString = String.format(MESSAGE_SUCCESS, lesson);
+        String formattedString = String.format(MESSAGE_SUCCESS, Messages.format(lesson, student));
         logger.log(Level.INFO, formattedString);
         return new CommandResult(formattedString);
     }
@@ -109,6 +104,19 @@ public class AddLessonCommand extends LessonCommand {
         }
     }
 
+    /**
+     * Returns the student at {@code studentId} in {@code personList}.
+     *
+     * @throws CommandException If there is no person at {@code studentId}, or the person is not a student.
+     */
+    static Person getStudent(ObservableList<Person> personList, StudentId studentId) throws CommandException {
+        validateStudentId(personList, studentId);
+        Person student = personList.get(studentId.getValue());
+        assert student != null : "Student cannot be null";
+        validateStudentRole(student);
+        return student;
+    }
+
     private static void validateStudentRole(Person student) throws CommandException {
         assert student != null : "Student cannot be null";
         requireNonNull(student);
@@ -121,7 +129,8 @@ public class AddLessonCommand extends LessonCommand {
         assert student.isStudent() : "Person must be a student";
     }
 
-    private void validateStudentId(ObservableList<Person> personList) throws CommandException {
+    private static void validateStudentId(ObservableList<Person> personList, StudentId studentId)
+            throws CommandException {
         assert personList != null : "Person list cannot be null";
         requireNonNull(personList);
 
@@ -0,0 +1,134 @@
+package tutorease.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_FEE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_PERIOD_WEEKS;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_UNTIL_DATE;
+
+import java.time.LocalDate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.util.ToStringBuilder;
+import tutorease.address.logic.Messages;
+import tutorease.address.logic.commands.exceptions.CommandException;
+import tutorease.address.model.Model;
+import tutorease.address.model.lesson.EndDateTime;
+import tutorease.address.model.lesson.Fee;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.StartDateTime;
+import tutorease.address.model.lesson.StudentId;
+import tutorease.address.model.person.Person;
+
+/**
+ * Adds a lesson that repeats every few weeks until a given date to the lesson list.
+ */
+public class AddLessonSeriesCommand extends LessonCommand {
+    public static final String COMMAND_WORD = "repeat";
+
+    public static final String MESSAGE_USAGE = LessonCommand.COMMAND_WORD
+            + " " + COMMAND_WORD + ": Adds a lesson that repeats every few weeks until the given date.\n"
+            + "Parameters: "
+            + PREFIX_STUDENT_ID + "STUDENTID "
+            + PREFIX_FEE + "PRICEPERHOUR "
+            + PREFIX_START_DATE + "STARTDATETIME "
+            + PREFIX_DURATION + "DURATION "
+            + PREFIX_PERIOD_WEEKS + "WEEKS "
+            + PREFIX_UNTIL_DATE + "UNTILDATE\n"
+            + "Example: " + LessonCommand.COMMAND_WORD + " " + COMMAND_WORD + " "
+            + PREFIX_STUDENT_ID + "1 "
+            + PREFIX_FEE + "10 "
+            + PREFIX_START_DATE + "06-01-2025 16:00 "
+            + PREFIX_DURATION + "1.5 "
+            + PREFIX_PERIOD_WEEKS + "1 "
+            + PREFIX_UNTIL_DATE + "31-03-2025\n";
+
+    public static final String MESSAGE_SUCCESS = "New recurring lesson added: %1$s.";
+    public static final String MESSAGE_OVERLAP_LESSON = "This recurring lesson overlaps with another lesson.";
+    private static Logger logger = LogsCenter.getLogger(AddLessonSeriesCommand.class);
+    private final StudentId studentId;
+    private final Fee fee;
+    private final StartDateTime startDateTime;
+    private final EndDateTime endDateTime;
+    private final int periodWeeks;
+    private final LocalDate untilDate;
+
+    /**
+     * Creates an AddLessonSeriesCommand to add a series of lessons with the given rule.
+     *
+     * @param studentId The student ID of the student to add the lessons to.
+     * @param fee The fee per hour of the lessons.
+     * @param startDateTime The start date time of the first lesson.
+     * @param endDateTime The end date time of the first lesson.
+     * @param periodWeeks The number of weeks from one lesson to the next.
+     * @param untilDate The last date a lesson can start on.
+     */
+    public AddLessonSeriesCommand(StudentId studentId, Fee fee, StartDateTime startDateTime, EndDateTime endDateTime,
+                                  int periodWeeks, LocalDate untilDate) {
+        requireAllNonNull(studentId, fee, startDateTime, endDateTime, untilDate);
+
+        this.studentId = studentId;
+        this.fee = fee;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.periodWeeks = periodWeeks;
+        this.untilDate = untilDate;
+        logger.log(Level.INFO, this.toString());
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.log(Level.INFO, "Executing AddLessonSeriesCommand");
+        requireNonNull(model);
+
+        Person student = AddLessonCommand.getStudent(model.getFilteredPersonList(), studentId);
+        LessonSeries series =
+                new LessonSeries(student.getId(), fee, startDateTime, endDateTime, periodWeeks, untilDate);
+        if (model.hasLessonSeries(series)) {
+            logger.log(Level.WARNING, MESSAGE_OVERLAP_LESSON);
+            throw new CommandException(MESSAGE_OVERLAP_LESSON);
+        }
+        model.addLessonSeries(series);
+
+        String formattedString = String.format(MESSAGE_SUCCESS, Messages.format(series, student));
+        logger.log(Level.INFO, formattedString);
+        return new CommandResult(formattedString);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddLessonSeriesCommand)) {
+            return false;
+        }
+
+        AddLessonSeriesCommand otherCommand = (AddLessonSeriesCommand) other;
+        return studentId.equals(otherCommand.studentId)
+                && fee.equals(otherCommand.fee)
+                && startDateTime.equals(otherCommand.startDateTime)
+                && endDateTime.equals(otherCommand.endDateTime)
+                && periodWeeks == otherCommand.periodWeeks
+                && untilDate.equals(otherCommand.untilDate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentId", studentId)
+                .add("fee", fee)
+                .add("startDateTime", startDateTime)
+                .add("endDateTime", endDateTime)
+                .add("periodWeeks", periodWeeks)
+                .add("untilDate", untilDate)
+                .toString();
+    }
+}
@@ -7,6 +7,7 @@ import java.util.logging.Logger;
 
 import tutorease.address.commons.core.LogsCenter;
 import tutorease.address.commons.core.index.Index;
+import tutorease.address.logic.Messages;
 import tutorease.address.logic.commands.exceptions.CommandException;
 import tutorease.address.model.Model;
 import tutorease.address.model.lesson.Lesson;
@@ -23,11 +24,16 @@ public class DeleteLessonCommand extends LessonCommand {
             + "index.Index{zeroBasedIndex=%d}}";
 
     public static final String MESSAGE_USAGE = LessonCommand.COMMAND_WORD
-            + " " + COMMAND_WORD + ": Deletes a lesson from the lesson list.\n"
+            + " " + COMMAND_WORD + ": Deletes a lesson from the lesson list. "
+            + "A recurring lesson is deleted with " + LessonCommand.COMMAND_WORD + " "
+            + DeleteLessonSeriesCommand.COMMAND_WORD + ".\n"
             + "Parameters: INDEX (must be a positive integer)\n"
             + "Example: " + LessonCommand.COMMAND_WORD + " " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_SUCCESS = "Lesson removed successfully: %1$s";
+    public static final String MESSAGE_RECURRING_LESSON = "The lesson at this index is a recurring lesson. "
+            + "Use " + LessonCommand.COMMAND_WORD + " " + DeleteLessonSeriesCommand.COMMAND_WORD
+            + " INDEX to delete it with all of its lessons";
     public static final String MESSAGE_INVALID_INDEX = "The lesson index provided is invalid. "
             + "Please key in an index that is on the lesson panel";
 
@@ -61,9 +67,16 @@ public class DeleteLessonCommand extends LessonCommand {
 
         assert listIndex < model.getFilteredLessonListSize() : "listIndex cannot be out of range";
         Lesson lesson = model.getFilteredLesson(listIndex);
+        if (lesson.isOccurrence()) {
+            logger.log(Level.WARNING, "Lesson at target index is recurring: {0}", targetIndex.getZeroBased());
+            throw new CommandException(MESSAGE_RECURRING_LESSON);
+        }
+
         model.deleteLesson(lesson);
-        logger.log(Level.INFO, String.format(MESSAGE_SUCCESS, lesson));
-        return new CommandResult(String.format(MESSAGE_SUCCESS, lesson));
+        String formattedString = String.format(MESSAGE_SUCCESS,
+                Messages.format(lesson, model.getPersonById(lesson.getStudentId())));
+        logger.log(Level.INFO, formattedString);
+        return new CommandResult(formattedString);
     }
 
     @Override
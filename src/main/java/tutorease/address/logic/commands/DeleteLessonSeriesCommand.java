@@ -0,0 +1,94 @@
+package tutorease.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.commons.util.ToStringBuilder;
+import tutorease.address.logic.Messages;
+import tutorease.address.logic.commands.exceptions.CommandException;
+import tutorease.address.model.Model;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonOccurrence;
+import tutorease.address.model.lesson.LessonSeries;
+
+/**
+ * Deletes a recurring lesson, with all of its lessons, from the lesson list.
+ */
+public class DeleteLessonSeriesCommand extends LessonCommand {
+
+    public static final String COMMAND_WORD = "deleterepeat";
+
+    public static final String MESSAGE_USAGE = LessonCommand.COMMAND_WORD
+            + " " + COMMAND_WORD + ": Deletes a recurring lesson and all of its lessons from the lesson list.\n"
+            + "Parameters: INDEX (must be a positive integer, and the index of a lesson of the recurring lesson)\n"
+            + "Example: " + LessonCommand.COMMAND_WORD + " " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_SUCCESS = "Recurring lesson removed successfully: %1$s";
+    public static final String MESSAGE_NOT_RECURRING_LESSON = "The lesson at this index is not a recurring lesson. "
+            + "Use " + LessonCommand.COMMAND_WORD + " " + DeleteLessonCommand.COMMAND_WORD + " INDEX to delete it";
+
+    private static final Logger logger = LogsCenter.getLogger(DeleteLessonSeriesCommand.class);
+    private final Index targetIndex;
+
+    /**
+     * Creates a DeleteLessonSeriesCommand to delete the recurring lesson of the lesson at a specified index.
+     *
+     * @param targetIndex The index of a lesson of the recurring lesson to be deleted. Must not be null.
+     */
+    public DeleteLessonSeriesCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.log(Level.INFO, "Executing DeleteLessonSeriesCommand");
+        requireNonNull(model);
+
+        int listIndex = targetIndex.getZeroBased();
+
+        if (listIndex >= model.getFilteredLessonListSize()) {
+            logger.log(Level.WARNING, "Invalid target index: {0}", targetIndex.getZeroBased());
+            throw new CommandException(DeleteLessonCommand.MESSAGE_INVALID_INDEX);
+        }
+
+        Lesson lesson = model.getFilteredLesson(listIndex);
+        if (!lesson.isOccurrence()) {
+            logger.log(Level.WARNING, "Lesson at target index is not recurring: {0}", targetIndex.getZeroBased());
+            throw new CommandException(MESSAGE_NOT_RECURRING_LESSON);
+        }
+
+        LessonSeries series = ((LessonOccurrence) lesson).getSeries();
+        model.deleteLessonSeries(series);
+        String formattedString = String.format(MESSAGE_SUCCESS,
+                Messages.format(series, model.getPersonById(series.getStudentId())));
+        logger.log(Level.INFO, formattedString);
+        return new CommandResult(formattedString);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DeleteLessonSeriesCommand)) {
+            return false;
+        }
+
+        DeleteLessonSeriesCommand otherCommand = (DeleteLessonSeriesCommand) other;
+        return targetIndex.equals(otherCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .toString();
+    }
+}
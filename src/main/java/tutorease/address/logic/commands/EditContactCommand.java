@@ -134,10 +134,12 @@ public class EditContactCommand extends ContactCommand {
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
 
         if (role.getRoleString().equals(Role.STUDENT)) {
-            return new Student(updatedName, updatedPhone, updatedEmail, updatedAddress, role, updatedTags);
+            return new Student(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress, role,
+                    updatedTags);
         }
         if (role.getRoleString().equals(Role.GUARDIAN)) {
-            return new Guardian(updatedName, updatedPhone, updatedEmail, updatedAddress, role, updatedTags);
+            return new Guardian(personToEdit.getId(), updatedName, updatedPhone, updatedEmail, updatedAddress, role,
+                    updatedTags);
         }
 
         throw new CommandException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
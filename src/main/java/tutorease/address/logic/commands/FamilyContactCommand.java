@@ -0,0 +1,79 @@
+package tutorease.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.commons.util.ToStringBuilder;
+import tutorease.address.logic.Messages;
+import tutorease.address.logic.commands.exceptions.CommandException;
+import tutorease.address.model.Model;
+import tutorease.address.model.person.Person;
+
+/**
+ * Lists a contact together with the contacts linked to it: the guardians of a student, or the children of a guardian.
+ */
+public class FamilyContactCommand extends ContactCommand {
+    public static final String COMMAND_WORD = "family";
+
+    public static final String MESSAGE_USAGE = ContactCommand.COMMAND_WORD + " " + COMMAND_WORD
+            + ": Lists the contact identified by the index number in the displayed contact list, "
+            + "together with its linked guardians or children.\n"
+            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Example: " + ContactCommand.COMMAND_WORD + " " + COMMAND_WORD + " 1";
+
+    private static Logger logger = LogsCenter.getLogger(FamilyContactCommand.class);
+
+    private final Index targetIndex;
+
+    /**
+     * Creates a FamilyContactCommand to list the contact at {@code targetIndex} and its linked contacts.
+     */
+    public FamilyContactCommand(Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.log(Level.INFO, "Executing FamilyContactCommand");
+        requireNonNull(model);
+
+        Person person = LinkContactCommand.getPerson(model.getFilteredPersonList(), targetIndex);
+        // the family is looked up from the guardian links, so the list is filtered without checking every link
+        Set<Person> family = model.getLinkedPersons(List.of(person));
+        family.add(person);
+        model.updateFilteredPersonList(family::contains);
+
+        logger.log(Level.INFO, "Number of contacts in family: {0}", family.size());
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FamilyContactCommand)) {
+            return false;
+        }
+
+        FamilyContactCommand otherCommand = (FamilyContactCommand) other;
+        return targetIndex.equals(otherCommand.targetIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targetIndex", targetIndex)
+                .toString();
+    }
+}
@@ -1,7 +1,13 @@
 package tutorease.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -9,10 +15,13 @@ import tutorease.address.commons.core.LogsCenter;
 import tutorease.address.commons.util.ToStringBuilder;
 import tutorease.address.logic.Messages;
 import tutorease.address.model.Model;
-import tutorease.address.model.person.NameContainsKeywordsPredicate;
+import tutorease.address.model.person.Person;
+import tutorease.address.model.person.PersonSearchPredicate;
+import tutorease.address.model.person.SearchTerm;
+import tutorease.address.model.tag.TagFilter;
 
 /**
- * Finds all persons whose name is contained in the keyword.
+ * Finds all persons with a name, email or address matching any of the keywords, and with the tags asked for.
  */
 public class FindContactCommand extends ContactCommand {
     public static final String COMMAND_WORD = "find";
@@ -22,29 +31,55 @@ public class FindContactCommand extends ContactCommand {
     public static final String MESSAGE_USAGE = ContactCommand.COMMAND_WORD + COMMAND_WORD
             + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + ContactCommand.COMMAND_WORD + " " + COMMAND_WORD + " alice bob charlie";
+            + "End a keyword with " + SearchTerm.PREFIX_MARKER + " to match words starting with it, or with "
+            + SearchTerm.FUZZY_MARKER + " to allow a few typing mistakes. Keywords after "
+            + PREFIX_NAME + ", " + PREFIX_EMAIL + " or " + PREFIX_ADDRESS + " only search that field.\n"
+            + "Persons must also have one of the tags after each " + PREFIX_TAG + ", so tags given together are "
+            + "alternatives and separate " + PREFIX_TAG + " are all required.\n"
+            + "Parameters: [KEYWORD]... "
+            + "[" + PREFIX_NAME + "KEYWORDS]... "
+            + "[" + PREFIX_EMAIL + "KEYWORDS]... "
+            + "[" + PREFIX_ADDRESS + "KEYWORDS]... "
+            + "[" + PREFIX_TAG + "TAGS]...\n"
+            + "Example: " + ContactCommand.COMMAND_WORD + " " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + ContactCommand.COMMAND_WORD + " " + COMMAND_WORD + " al* " + PREFIX_TAG + "friends\n"
+            + "Example: " + ContactCommand.COMMAND_WORD + " " + COMMAND_WORD + " "
+            + PREFIX_TAG + "math physics " + PREFIX_TAG + "sec3";
 
     private static final Logger logger = LogsCenter.getLogger(FindContactCommand.class);
 
-    private final NameContainsKeywordsPredicate predicate;
+    private final PersonSearchPredicate predicate;
+    private final TagFilter tagFilter;
 
     /**
-     * Creates a FindContactCommand to find contacts whose names match the specified keywords.
+     * Creates a FindContactCommand to find contacts matching the specified search terms.
      *
-     * @param predicate The predicate used to filter the list of contacts by matching names with keywords.
+     * @param predicate The predicate with the search terms the contacts are matched against.
      */
-    public FindContactCommand(NameContainsKeywordsPredicate predicate) {
+    public FindContactCommand(PersonSearchPredicate predicate) {
+        this(predicate, TagFilter.NONE);
+    }
+
+    /**
+     * Creates a FindContactCommand to find contacts matching the specified search terms and tags.
+     *
+     * @param predicate The predicate with the search terms the contacts are matched against. If it has no terms,
+     *     only the tags are matched.
+     * @param tagFilter The tags the contacts must have.
+     */
+    public FindContactCommand(PersonSearchPredicate predicate, TagFilter tagFilter) {
+        requireAllNonNull(predicate, tagFilter);
         this.predicate = predicate;
+        this.tagFilter = tagFilter;
     }
 
     @Override
     public CommandResult execute(Model model) {
-        logger.info("Executing FindContactCommand with predicate: " + predicate);
+        logger.info("Executing FindContactCommand with predicate: " + predicate + " and tags: " + tagFilter);
 
         requireNonNull(model);
         assert predicate != null;
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListToSearch(() -> findMatches(model));
         int foundContacts = model.getFilteredPersonList().size();
         logger.log(Level.INFO, "Number of contacts found: {0}", foundContacts);
         if (foundContacts == 0) {
@@ -56,6 +91,21 @@ public class FindContactCommand extends ContactCommand {
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns the persons in {@code model} matching the search terms and tags. They are looked up from the indexes, so
+     * the list is filtered without tokenizing every person.
+     */
+    private Set<Person> findMatches(Model model) {
+        if (tagFilter.isEmpty()) {
+            return model.findPersons(predicate);
+        }
+        Set<Person> matches = model.findPersons(tagFilter);
+        if (!predicate.getTerms().isEmpty()) {
+            matches.retainAll(model.findPersons(predicate));
+        }
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,13 +118,15 @@ public class FindContactCommand extends ContactCommand {
         }
 
         FindContactCommand otherFindContactCommand = (FindContactCommand) other;
-        return predicate.equals(otherFindContactCommand.predicate);
+        return predicate.equals(otherFindContactCommand.predicate)
+                && tagFilter.equals(otherFindContactCommand.tagFilter);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("tagFilter", tagFilter)
                 .toString();
     }
 }
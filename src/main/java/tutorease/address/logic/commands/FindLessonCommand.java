@@ -1,55 +1,163 @@
 package tutorease.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_GUARDIAN_ID;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_UNTIL_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_WHEN;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.core.index.Index;
 import tutorease.address.commons.util.ToStringBuilder;
 import tutorease.address.logic.Messages;
+import tutorease.address.logic.commands.exceptions.CommandException;
 import tutorease.address.model.Model;
-import tutorease.address.model.lesson.LessonContainsNamesPredicate;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.person.Person;
+import tutorease.address.model.tag.TagFilter;
 
 /**
- * Finds and lists all lessons in address book whose student's name contains any of the argument keywords.
- * Keyword matching is case-insensitive.
+ * Finds and lists all lessons in address book whose student's name contains any of the argument keywords, within an
+ * optional date range and for students with the given tags or of the given guardian. Keyword matching is
+ * case-insensitive.
  */
 public class FindLessonCommand extends LessonCommand {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String WHEN_TODAY = "today";
+    public static final String WHEN_WEEK = "week";
+    public static final String WHEN_UPCOMING = "upcoming";
+
     public static final String MESSAGE_USAGE = LessonCommand.COMMAND_WORD + " " + COMMAND_WORD
             + ": Finds all lessons whose students' names "
-            + "match the specified names (case-insensitive) and displays them in the lesson panel. \n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + LessonCommand.COMMAND_WORD + " " + COMMAND_WORD + " alice bob charlie";
+            + "match the specified names (case-insensitive) and displays them in the lesson panel. "
+            + "The lessons can also be limited to those starting from one date to another, inclusive, "
+            + "or to those " + WHEN_TODAY + ", this " + WHEN_WEEK + " or " + WHEN_UPCOMING + ". "
+            + "Students must also have one of the tags after each " + PREFIX_TAG + ", "
+            + "and be linked to the guardian at the index after " + PREFIX_GUARDIAN_ID + " if given. "
+            + "At least one name, date, tag or guardian must be given.\n"
+            + "Parameters: [KEYWORD]... "
+            + "[" + PREFIX_START_DATE + "STARTDATE [" + PREFIX_UNTIL_DATE + "ENDDATE]] "
+            + "[" + PREFIX_WHEN + WHEN_TODAY + "|" + WHEN_WEEK + "|" + WHEN_UPCOMING + "] "
+            + "[" + PREFIX_TAG + "TAGS]... "
+            + "[" + PREFIX_GUARDIAN_ID + "GUARDIAN_INDEX]\n"
+            + "Example: " + LessonCommand.COMMAND_WORD + " " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + LessonCommand.COMMAND_WORD + " " + COMMAND_WORD + " alice "
+            + PREFIX_START_DATE + "01-01-2025 " + PREFIX_UNTIL_DATE + "31-01-2025\n"
+            + "Example: " + LessonCommand.COMMAND_WORD + " " + COMMAND_WORD + " " + PREFIX_WHEN + WHEN_WEEK + " "
+            + PREFIX_TAG + "math physics\n"
+            + "Example: " + LessonCommand.COMMAND_WORD + " " + COMMAND_WORD + " " + PREFIX_GUARDIAN_ID + "2";
+
+    public static final String MESSAGE_NO_LESSONS_IN_RANGE = "No lessons found in the given dates.";
 
     // Get the logger specific to FindLessonCommand
     private static final Logger logger = LogsCenter.getLogger(FindLessonCommand.class);
 
-    private final LessonContainsNamesPredicate predicate;
+    private final Predicate<Person> predicate;
+    private final LessonDateRange range;
+    private final TagFilter tagFilter;
+    private final Index guardianIndex;
 
     /**
      * Creates a FindLessonCommand to find lessons for which student names match the specified keywords.
      *
-     * @param predicate The predicate used to filter the list of lessons by matching student names with keywords.
+     * @param predicate The predicate used to find the students whose lessons are listed, by matching their names with
+     *                  keywords.
      */
-    public FindLessonCommand(LessonContainsNamesPredicate predicate) {
+    public FindLessonCommand(Predicate<Person> predicate) {
+        this(predicate, LessonDateRange.ALL);
+    }
+
+    /**
+     * Creates a FindLessonCommand to find lessons within {@code range} of students that match {@code predicate}.
+     *
+     * @param predicate The predicate used to find the students whose lessons within the range are listed.
+     * @param range The date range of the lessons to find, which is found without checking every lesson.
+     */
+    public FindLessonCommand(Predicate<Person> predicate, LessonDateRange range) {
+        this(predicate, range, TagFilter.NONE);
+    }
+
+    /**
+     * Creates a FindLessonCommand to find lessons within {@code range} of students that match {@code predicate} and
+     * pass {@code tagFilter}.
+     *
+     * @param predicate The predicate used to find the students whose lessons within the range are listed.
+     * @param range The date range of the lessons to find, which is found without checking every lesson.
+     * @param tagFilter The tags the students of the lessons must have, which are looked up from the tag index.
+     */
+    public FindLessonCommand(Predicate<Person> predicate, LessonDateRange range, TagFilter tagFilter) {
+        this(predicate, range, tagFilter, null);
+    }
+
+    /**
+     * Creates a FindLessonCommand to find lessons within {@code range} of students that match {@code predicate} and
+     * pass {@code tagFilter}, and are linked to the guardian at {@code guardianIndex}.
+     *
+     * @param predicate The predicate used to find the students whose lessons within the range are listed.
+     * @param range The date range of the lessons to find, which is found without checking every lesson.
+     * @param tagFilter The tags the students of the lessons must have, which are looked up from the tag index.
+     * @param guardianIndex The index of the guardian in the displayed contact list, whose children are looked up
+     *                      from the guardian links, or null to find lessons of any student.
+     */
+    public FindLessonCommand(Predicate<Person> predicate, LessonDateRange range, TagFilter tagFilter,
+                             Index guardianIndex) {
+        requireAllNonNull(predicate, range, tagFilter);
         this.predicate = predicate;
+        this.range = range;
+        this.tagFilter = tagFilter;
+        this.guardianIndex = guardianIndex;
     }
 
     @Override
-    public CommandResult execute(Model model) {
+    public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
         // Log the start of the command execution at INFO level
-        logger.info("Executing FindLessonCommand with predicate: " + predicate);
-
-        model.updateFilteredLessonList(predicate);
+        logger.info("Executing FindLessonCommand with predicate: " + predicate + ", range: " + range
+                + ", tags: " + tagFilter + " and guardian: " + guardianIndex);
+
+        // Lessons refer to their students by ID, so the students asked for are found first
+        Predicate<Person> studentPredicate = predicate;
+        Collection<Person> candidates = model.getTutorEase().getPersonList();
+        if (guardianIndex != null) {
+            // Look the guardian up before changing the lesson list, so an invalid index leaves it as it was
+            Person guardian = LinkContactCommand.getGuardian(model.getFilteredPersonList(), guardianIndex);
+            Set<Person> children = model.getLinkedPersons(List.of(guardian));
+            studentPredicate = studentPredicate.and(children::contains);
+            candidates = children;
+        }
+        if (!tagFilter.isEmpty()) {
+            Set<Person> students = model.findPersons(tagFilter);
+            studentPredicate = studentPredicate.and(students::contains);
+            candidates = students.size() < candidates.size() ? students : candidates;
+        }
+        Predicate<Lesson> lessonPredicate = Model.PREDICATE_SHOW_ALL_LESSONS;
+        if (studentPredicate != Model.PREDICATE_SHOW_ALL_PERSONS) {
+            Set<Long> studentIds = candidates.stream().filter(studentPredicate).map(Person::getId)
+                    .collect(Collectors.toSet());
+            lessonPredicate = lesson -> studentIds.contains(lesson.getStudentId());
+        }
+        model.updateLessonDateRange(range);
+        model.updateFilteredLessonList(lessonPredicate);
         if (model.filteredLessonListIsEmpty()) {
             // Log that no lessons are found at INFO level
             logger.info("No lessons found for the given predicate.");
-            return new CommandResult(Messages.MESSAGE_NO_LESSONS_FOUND);
+            return new CommandResult(lessonPredicate == Model.PREDICATE_SHOW_ALL_LESSONS
+                    ? MESSAGE_NO_LESSONS_IN_RANGE
+                    : Messages.MESSAGE_NO_LESSONS_FOUND);
         }
 
         assert !model.filteredLessonListIsEmpty() : "filteredLessonList should not be empty";
@@ -73,13 +181,19 @@ public class FindLessonCommand extends LessonCommand {
         }
 
         FindLessonCommand otherFindLessonCommand = (FindLessonCommand) other;
-        return predicate.equals(otherFindLessonCommand.predicate);
+        return predicate.equals(otherFindLessonCommand.predicate)
+                && range.equals(otherFindLessonCommand.range)
+                && tagFilter.equals(otherFindLessonCommand.tagFilter)
+                && Objects.equals(guardianIndex, otherFindLessonCommand.guardianIndex);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("range", range)
+                .add("tagFilter", tagFilter)
+                .add("guardianIndex", guardianIndex)
                 .toString();
     }
 }
@@ -0,0 +1,123 @@
+package tutorease.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_UNTIL_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_WORKING_HOURS;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.util.ToStringBuilder;
+import tutorease.address.model.Model;
+import tutorease.address.model.lesson.FreeSlot;
+import tutorease.address.model.lesson.WorkingHours;
+
+/**
+ * Lists the free slots in the lesson schedule between two dates in which a lesson of a given length can be added.
+ */
+public class FreeLessonCommand extends LessonCommand {
+    public static final String COMMAND_WORD = "free";
+    public static final int DEFAULT_COUNT = 10;
+
+    public static final String MESSAGE_USAGE = LessonCommand.COMMAND_WORD
+            + " " + COMMAND_WORD + ": Lists the free slots from the start date to the end date, inclusive, "
+            + "that are at least the given number of hours long.\n"
+            + "Parameters: "
+            + PREFIX_START_DATE + "STARTDATE "
+            + PREFIX_UNTIL_DATE + "ENDDATE "
+            + PREFIX_DURATION + "DURATION "
+            + "[" + PREFIX_WORKING_HOURS + "HH:mm-HH:mm] "
+            + "[" + PREFIX_COUNT + "COUNT (default " + DEFAULT_COUNT + ")]\n"
+            + "Example: " + LessonCommand.COMMAND_WORD + " " + COMMAND_WORD + " "
+            + PREFIX_START_DATE + "06-01-2025 "
+            + PREFIX_UNTIL_DATE + "10-01-2025 "
+            + PREFIX_DURATION + "1.5 "
+            + PREFIX_WORKING_HOURS + "09:00-18:00 "
+            + PREFIX_COUNT + "3";
+
+    public static final String MESSAGE_SUCCESS = "%1$d free slot(s) found:";
+    public static final String MESSAGE_NO_FREE_SLOTS = "No free slots found.";
+    private static Logger logger = LogsCenter.getLogger(FreeLessonCommand.class);
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int minMinutes;
+    private final WorkingHours workingHours;
+    private final int count;
+
+    /**
+     * Creates a FreeLessonCommand to list free slots.
+     *
+     * @param startDate The first date to search.
+     * @param endDate The last date to search.
+     * @param minMinutes The minimum length of a free slot, in minutes.
+     * @param workingHours The hours of each day in which free slots can be.
+     * @param count The maximum number of free slots to list.
+     */
+    public FreeLessonCommand(LocalDate startDate, LocalDate endDate, int minMinutes, WorkingHours workingHours,
+                             int count) {
+        requireAllNonNull(startDate, endDate, workingHours);
+
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.minMinutes = minMinutes;
+        this.workingHours = workingHours;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        logger.log(Level.INFO, "Executing FreeLessonCommand");
+        requireNonNull(model);
+
+        List<FreeSlot> freeSlots = model.findFreeSlots(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(),
+                minMinutes, workingHours, count);
+        if (freeSlots.isEmpty()) {
+            logger.log(Level.INFO, MESSAGE_NO_FREE_SLOTS);
+            return new CommandResult(MESSAGE_NO_FREE_SLOTS);
+        }
+
+        StringBuilder feedback = new StringBuilder(String.format(MESSAGE_SUCCESS, freeSlots.size()));
+        for (int i = 0; i < freeSlots.size(); i++) {
+            feedback.append('\n').append(i + 1).append(". ").append(freeSlots.get(i));
+        }
+        logger.log(Level.INFO, "Found " + freeSlots.size() + " free slots");
+        return new CommandResult(feedback.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeLessonCommand)) {
+            return false;
+        }
+
+        FreeLessonCommand otherCommand = (FreeLessonCommand) other;
+        return startDate.equals(otherCommand.startDate)
+                && endDate.equals(otherCommand.endDate)
+                && minMinutes == otherCommand.minMinutes
+                && workingHours.equals(otherCommand.workingHours)
+                && count == otherCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("startDate", startDate)
+                .add("endDate", endDate)
+                .add("minMinutes", minMinutes)
+                .add("workingHours", workingHours)
+                .add("count", count)
+                .toString();
+    }
+}
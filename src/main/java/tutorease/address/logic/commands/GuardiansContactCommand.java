@@ -0,0 +1,100 @@
+package tutorease.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_UNTIL_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_WHEN;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.util.ToStringBuilder;
+import tutorease.address.logic.Messages;
+import tutorease.address.model.Model;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.person.Person;
+
+/**
+ * Lists the guardians of all students with lessons within an optional date range.
+ * The lessons in the range are also shown in the lesson panel.
+ */
+public class GuardiansContactCommand extends ContactCommand {
+    public static final String COMMAND_WORD = "guardians";
+
+    public static final String MESSAGE_USAGE = ContactCommand.COMMAND_WORD + " " + COMMAND_WORD
+            + ": Lists the guardians of all students with lessons, optionally only those with lessons "
+            + "from one date to another, inclusive, or " + FindLessonCommand.WHEN_TODAY + ", this "
+            + FindLessonCommand.WHEN_WEEK + " or " + FindLessonCommand.WHEN_UPCOMING + ".\n"
+            + "Parameters: "
+            + "[" + PREFIX_START_DATE + "STARTDATE [" + PREFIX_UNTIL_DATE + "ENDDATE]] "
+            + "[" + PREFIX_WHEN + FindLessonCommand.WHEN_TODAY + "|" + FindLessonCommand.WHEN_WEEK + "|"
+            + FindLessonCommand.WHEN_UPCOMING + "]\n"
+            + "Example: " + ContactCommand.COMMAND_WORD + " " + COMMAND_WORD + " "
+            + PREFIX_WHEN + FindLessonCommand.WHEN_WEEK;
+
+    public static final String MESSAGE_NO_GUARDIANS_FOUND = "No guardians found for students with lessons "
+            + "in the given dates.";
+
+    private static Logger logger = LogsCenter.getLogger(GuardiansContactCommand.class);
+
+    private final LessonDateRange range;
+
+    /**
+     * Creates a GuardiansContactCommand to list the guardians of students with lessons within {@code range}.
+     *
+     * @param range The date range of the lessons, which is found without checking every lesson.
+     */
+    public GuardiansContactCommand(LessonDateRange range) {
+        requireNonNull(range);
+        this.range = range;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        logger.log(Level.INFO, "Executing GuardiansContactCommand with range: " + range);
+        requireNonNull(model);
+
+        model.updateLessonDateRange(range);
+        model.updateFilteredLessonList(Model.PREDICATE_SHOW_ALL_LESSONS);
+        Set<Person> students = new HashSet<>();
+        for (Lesson lesson : model.getFilteredLessonList()) {
+            students.add(model.getPersonById(lesson.getStudentId()));
+        }
+        // the guardians are looked up from the guardian links of the students, not by checking every contact
+        Set<Person> guardians = model.getLinkedPersons(students);
+        model.updateFilteredPersonList(guardians::contains);
+
+        int foundContacts = model.getFilteredPersonList().size();
+        logger.log(Level.INFO, "Number of guardians found: {0}", foundContacts);
+        if (foundContacts == 0) {
+            return new CommandResult(MESSAGE_NO_GUARDIANS_FOUND);
+        }
+        return new CommandResult(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, foundContacts));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GuardiansContactCommand)) {
+            return false;
+        }
+
+        GuardiansContactCommand otherCommand = (GuardiansContactCommand) other;
+        return range.equals(otherCommand.range);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("range", range)
+                .toString();
+    }
+}
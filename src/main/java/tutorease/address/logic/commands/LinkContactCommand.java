@@ -0,0 +1,135 @@
+package tutorease.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_GUARDIAN_ID;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.commons.util.ToStringBuilder;
+import tutorease.address.logic.Messages;
+import tutorease.address.logic.commands.exceptions.CommandException;
+import tutorease.address.model.Model;
+import tutorease.address.model.person.Person;
+
+/**
+ * Links a student to a guardian, both identified by their index in the displayed contact list.
+ */
+public class LinkContactCommand extends ContactCommand {
+    public static final String COMMAND_WORD = "link";
+
+    public static final String MESSAGE_USAGE = ContactCommand.COMMAND_WORD + " " + COMMAND_WORD
+            + ": Links the student to the guardian, identified by their index numbers "
+            + "in the displayed contact list.\n"
+            + "Parameters: "
+            + PREFIX_STUDENT_ID + "STUDENT_INDEX "
+            + PREFIX_GUARDIAN_ID + "GUARDIAN_INDEX\n"
+            + "Example: " + ContactCommand.COMMAND_WORD + " " + COMMAND_WORD + " "
+            + PREFIX_STUDENT_ID + "1 " + PREFIX_GUARDIAN_ID + "2";
+
+    public static final String MESSAGE_SUCCESS = "Linked %1$s to guardian %2$s.";
+    public static final String MESSAGE_ALREADY_LINKED = "This student is already linked to this guardian.";
+    public static final String MESSAGE_NOT_STUDENT = "The contact given by " + PREFIX_STUDENT_ID
+            + " must be a student.";
+    public static final String MESSAGE_NOT_GUARDIAN = "The contact given by " + PREFIX_GUARDIAN_ID
+            + " must be a guardian.";
+
+    private static Logger logger = LogsCenter.getLogger(LinkContactCommand.class);
+
+    private final Index studentIndex;
+    private final Index guardianIndex;
+
+    /**
+     * Creates a LinkContactCommand to link the student at {@code studentIndex} to the guardian at
+     * {@code guardianIndex}.
+     */
+    public LinkContactCommand(Index studentIndex, Index guardianIndex) {
+        requireAllNonNull(studentIndex, guardianIndex);
+        this.studentIndex = studentIndex;
+        this.guardianIndex = guardianIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.log(Level.INFO, "Executing LinkContactCommand");
+        requireNonNull(model);
+
+        Person student = getStudent(model.getFilteredPersonList(), studentIndex);
+        Person guardian = getGuardian(model.getFilteredPersonList(), guardianIndex);
+        if (model.isLinked(student, guardian)) {
+            logger.log(Level.WARNING, MESSAGE_ALREADY_LINKED);
+            throw new CommandException(MESSAGE_ALREADY_LINKED);
+        }
+        model.linkGuardian(student, guardian);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, student.getName(), guardian.getName()));
+    }
+
+    /**
+     * Returns the student at {@code index} in {@code personList}.
+     *
+     * @throws CommandException If there is no person at {@code index}, or the person is not a student.
+     */
+    static Person getStudent(List<Person> personList, Index index) throws CommandException {
+        Person person = getPerson(personList, index);
+        if (!person.isStudent()) {
+            throw new CommandException(MESSAGE_NOT_STUDENT);
+        }
+        return person;
+    }
+
+    /**
+     * Returns the guardian at {@code index} in {@code personList}.
+     *
+     * @throws CommandException If there is no person at {@code index}, or the person is not a guardian.
+     */
+    static Person getGuardian(List<Person> personList, Index index) throws CommandException {
+        Person person = getPerson(personList, index);
+        if (!person.isGuardian()) {
+            throw new CommandException(MESSAGE_NOT_GUARDIAN);
+        }
+        return person;
+    }
+
+    /**
+     * Returns the person at {@code index} in {@code personList}.
+     *
+     * @throws CommandException If there is no person at {@code index}.
+     */
+    static Person getPerson(List<Person> personList, Index index) throws CommandException {
+        if (index.getZeroBased() >= personList.size()) {
+            logger.log(Level.WARNING, "Invalid person index: {0}", index.getZeroBased());
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        return personList.get(index.getZeroBased());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LinkContactCommand)) {
+            return false;
+        }
+
+        LinkContactCommand otherCommand = (LinkContactCommand) other;
+        return studentIndex.equals(otherCommand.studentIndex)
+                && guardianIndex.equals(otherCommand.guardianIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentIndex", studentIndex)
+                .add("guardianIndex", guardianIndex)
+                .toString();
+    }
+}
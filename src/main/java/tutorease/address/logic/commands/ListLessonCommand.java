@@ -9,6 +9,7 @@ import java.util.logging.Logger;
 import tutorease.address.commons.core.LogsCenter;
 import tutorease.address.logic.commands.exceptions.CommandException;
 import tutorease.address.model.Model;
+import tutorease.address.model.lesson.LessonDateRange;
 
 /**
  * Lists all lessons in the lesson list.
@@ -22,6 +23,7 @@ public class ListLessonCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         logger.log(Level.INFO, "Executing ListLessonCommand");
         requireNonNull(model);
+        model.updateLessonDateRange(LessonDateRange.ALL);
         model.updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
         return getCommandResult(model);
     }
@@ -0,0 +1,136 @@
+package tutorease.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_MONTH;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.YearMonth;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.util.ToStringBuilder;
+import tutorease.address.logic.commands.exceptions.CommandException;
+import tutorease.address.model.LessonStatistics;
+import tutorease.address.model.Model;
+import tutorease.address.model.lesson.StudentId;
+import tutorease.address.model.person.Person;
+import tutorease.address.model.tag.Tag;
+import tutorease.address.model.tag.TagFilter;
+
+/**
+ * Shows the number of lessons, hours taught and fees earned over all lessons, and for a month, a student or a tag.
+ * The totals are kept up to date by the model, so they are read without going through the lessons.
+ */
+public class StatsCommand extends Command {
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the number of lessons, hours taught and fees "
+            + "earned over all lessons, and for the given month, student or tag. "
+            + "The current month is shown if no month, student or tag is given.\n"
+            + "Parameters: "
+            + "[" + PREFIX_MONTH + "MM-yyyy] "
+            + "[" + PREFIX_STUDENT_ID + "STUDENTID] "
+            + "[" + PREFIX_TAG + "TAG]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_MONTH + "10-2024 "
+            + PREFIX_STUDENT_ID + "1";
+
+    public static final String MESSAGE_SUCCESS = "Lesson statistics:\nAll lessons: %1$s";
+    public static final String MESSAGE_MONTH = "\n%1$s: %2$s";
+    public static final String MESSAGE_STUDENT = "\nStudent %1$s: %2$s";
+    public static final String MESSAGE_TAG = "\nTag [%1$s]: %2$s";
+    private static Logger logger = LogsCenter.getLogger(StatsCommand.class);
+    private final Optional<YearMonth> month;
+    private final Optional<StudentId> studentId;
+    private final Optional<Tag> tag;
+
+    /**
+     * Creates a StatsCommand that shows the overall totals and the totals of the current month.
+     */
+    public StatsCommand() {
+        this(Optional.empty(), Optional.empty(), Optional.empty());
+    }
+
+    /**
+     * Creates a StatsCommand that shows the overall totals, and the totals for each of the given month, student and
+     * tag.
+     *
+     * @param month The month to show the totals of, if any.
+     * @param studentId The student in the displayed contact list to show the totals of, if any.
+     * @param tag The tag whose students' totals are shown, if any.
+     */
+    public StatsCommand(Optional<YearMonth> month, Optional<StudentId> studentId, Optional<Tag> tag) {
+        requireAllNonNull(month, studentId, tag);
+        this.month = month;
+        this.studentId = studentId;
+        this.tag = tag;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.log(Level.INFO, "Executing StatsCommand");
+        requireNonNull(model);
+
+        LessonStatistics statistics = model.getLessonStatistics();
+        StringBuilder result = new StringBuilder(String.format(MESSAGE_SUCCESS, statistics.getTotals()));
+
+        Optional<YearMonth> shownMonth = month;
+        if (month.isEmpty() && studentId.isEmpty() && tag.isEmpty()) {
+            shownMonth = Optional.of(YearMonth.now());
+        }
+        if (shownMonth.isPresent()) {
+            result.append(String.format(MESSAGE_MONTH, formatMonth(shownMonth.get()),
+                    statistics.getTotals(shownMonth.get())));
+        }
+        if (studentId.isPresent()) {
+            Person student = AddLessonCommand.getStudent(model.getFilteredPersonList(), studentId.get());
+            result.append(String.format(MESSAGE_STUDENT, student.getName(), statistics.getTotals(student)));
+        }
+        if (tag.isPresent()) {
+            // the totals of a tag are added up from the students with the tag, found from the tag index
+            Set<Person> students = model.findPersons(new TagFilter(List.of(Set.of(tag.get()))));
+            result.append(String.format(MESSAGE_TAG, tag.get().tagName, statistics.getTotals(students)));
+        }
+
+        logger.log(Level.INFO, result.toString());
+        return new CommandResult(result.toString());
+    }
+
+    private static String formatMonth(YearMonth month) {
+        return month.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH) + " " + month.getYear();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherCommand = (StatsCommand) other;
+        return month.equals(otherCommand.month)
+                && studentId.equals(otherCommand.studentId)
+                && tag.equals(otherCommand.tag);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("month", month)
+                .add("studentId", studentId)
+                .add("tag", tag)
+                .toString();
+    }
+}
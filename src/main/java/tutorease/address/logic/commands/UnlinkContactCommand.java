@@ -0,0 +1,90 @@
+package tutorease.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_GUARDIAN_ID;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.commons.util.ToStringBuilder;
+import tutorease.address.logic.commands.exceptions.CommandException;
+import tutorease.address.model.Model;
+import tutorease.address.model.person.Person;
+
+/**
+ * Removes the link between a student and a guardian, both identified by their index in the displayed contact list.
+ */
+public class UnlinkContactCommand extends ContactCommand {
+    public static final String COMMAND_WORD = "unlink";
+
+    public static final String MESSAGE_USAGE = ContactCommand.COMMAND_WORD + " " + COMMAND_WORD
+            + ": Removes the link between the student and the guardian, identified by their index numbers "
+            + "in the displayed contact list.\n"
+            + "Parameters: "
+            + PREFIX_STUDENT_ID + "STUDENT_INDEX "
+            + PREFIX_GUARDIAN_ID + "GUARDIAN_INDEX\n"
+            + "Example: " + ContactCommand.COMMAND_WORD + " " + COMMAND_WORD + " "
+            + PREFIX_STUDENT_ID + "1 " + PREFIX_GUARDIAN_ID + "2";
+
+    public static final String MESSAGE_SUCCESS = "Unlinked %1$s from guardian %2$s.";
+    public static final String MESSAGE_NOT_LINKED = "This student is not linked to this guardian.";
+
+    private static Logger logger = LogsCenter.getLogger(UnlinkContactCommand.class);
+
+    private final Index studentIndex;
+    private final Index guardianIndex;
+
+    /**
+     * Creates an UnlinkContactCommand to unlink the student at {@code studentIndex} from the guardian at
+     * {@code guardianIndex}.
+     */
+    public UnlinkContactCommand(Index studentIndex, Index guardianIndex) {
+        requireAllNonNull(studentIndex, guardianIndex);
+        this.studentIndex = studentIndex;
+        this.guardianIndex = guardianIndex;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        logger.log(Level.INFO, "Executing UnlinkContactCommand");
+        requireNonNull(model);
+
+        Person student = LinkContactCommand.getStudent(model.getFilteredPersonList(), studentIndex);
+        Person guardian = LinkContactCommand.getGuardian(model.getFilteredPersonList(), guardianIndex);
+        if (!model.isLinked(student, guardian)) {
+            logger.log(Level.WARNING, MESSAGE_NOT_LINKED);
+            throw new CommandException(MESSAGE_NOT_LINKED);
+        }
+        model.unlinkGuardian(student, guardian);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, student.getName(), guardian.getName()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UnlinkContactCommand)) {
+            return false;
+        }
+
+        UnlinkContactCommand otherCommand = (UnlinkContactCommand) other;
+        return studentIndex.equals(otherCommand.studentIndex)
+                && guardianIndex.equals(otherCommand.guardianIndex);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentIndex", studentIndex)
+                .add("guardianIndex", guardianIndex)
+                .toString();
+    }
+}
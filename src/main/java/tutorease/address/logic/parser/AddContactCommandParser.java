@@ -31,6 +31,9 @@ import tutorease.address.model.tag.Tag;
 public class AddContactCommandParser implements Parser<AddContactCommand> {
 
     private static Logger logger = LogsCenter.getLogger(AddContactCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE,
+            PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_ROLE, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
@@ -62,9 +65,7 @@ public class AddContactCommandParser implements Parser<AddContactCommand> {
     }
 
     private static ArgumentMultimap getArgumentMultimap(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
-                        PREFIX_ROLE, PREFIX_TAG);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         validatePrefixesPresent(argMultimap, AddContactCommand.MESSAGE_USAGE, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL,
                 PREFIX_ADDRESS, PREFIX_ROLE);
@@ -22,12 +22,14 @@ import tutorease.address.model.lesson.StudentId;
  */
 public class AddLessonCommandParser implements Parser<AddLessonCommand> {
     private static Logger logger = LogsCenter.getLogger(AddLessonCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_STUDENT_ID, PREFIX_FEE,
+            PREFIX_START_DATE, PREFIX_DURATION);
+
     @Override
     public AddLessonCommand parse(String args) throws ParseException {
         logger.log(Level.INFO, "Parsing AddLessonCommand with args: " + args);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_STUDENT_ID, PREFIX_FEE,
-                PREFIX_START_DATE, PREFIX_DURATION);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
         validatePrefixesPresent(argMultimap, AddLessonCommand.MESSAGE_USAGE, PREFIX_STUDENT_ID, PREFIX_FEE,
                 PREFIX_START_DATE, PREFIX_DURATION);
 
@@ -0,0 +1,56 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_FEE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_PERIOD_WEEKS;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_UNTIL_DATE;
+import static tutorease.address.logic.parser.ParserUtil.validatePrefixesPresent;
+
+import java.time.LocalDate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.logic.commands.AddLessonSeriesCommand;
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.lesson.EndDateTime;
+import tutorease.address.model.lesson.Fee;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.StartDateTime;
+import tutorease.address.model.lesson.StudentId;
+
+/**
+ * Parses input arguments and creates a new AddLessonSeriesCommand object
+ */
+public class AddLessonSeriesCommandParser implements Parser<AddLessonSeriesCommand> {
+    private static Logger logger = LogsCenter.getLogger(AddLessonSeriesCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_STUDENT_ID, PREFIX_FEE,
+            PREFIX_START_DATE, PREFIX_DURATION, PREFIX_PERIOD_WEEKS, PREFIX_UNTIL_DATE);
+
+    @Override
+    public AddLessonSeriesCommand parse(String args) throws ParseException {
+        logger.log(Level.INFO, "Parsing AddLessonSeriesCommand with args: " + args);
+
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
+        validatePrefixesPresent(argMultimap, AddLessonSeriesCommand.MESSAGE_USAGE, PREFIX_STUDENT_ID, PREFIX_FEE,
+                PREFIX_START_DATE, PREFIX_DURATION, PREFIX_PERIOD_WEEKS, PREFIX_UNTIL_DATE);
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_STUDENT_ID, PREFIX_FEE, PREFIX_START_DATE, PREFIX_DURATION,
+                PREFIX_PERIOD_WEEKS, PREFIX_UNTIL_DATE);
+
+        StudentId studentId = ParserUtil.parseStudentId(argMultimap.getValue(PREFIX_STUDENT_ID).get());
+        Fee fee = ParserUtil.parseFee(argMultimap.getValue(PREFIX_FEE).get());
+        StartDateTime startDateTime = ParserUtil.parseStartDateTime(argMultimap.getValue(PREFIX_START_DATE).get());
+        EndDateTime endDateTime = ParserUtil.parseEndDateTime(startDateTime,
+                argMultimap.getValue(PREFIX_DURATION).get());
+        int periodWeeks = ParserUtil.parsePeriodWeeks(argMultimap.getValue(PREFIX_PERIOD_WEEKS).get());
+        LocalDate untilDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_UNTIL_DATE).get());
+        if (!LessonSeries.isValidUntilDate(startDateTime, endDateTime, periodWeeks, untilDate)) {
+            throw new ParseException(LessonSeries.UNTIL_DATE_MESSAGE_CONSTRAINTS);
+        }
+
+        return new AddLessonSeriesCommand(studentId, fee, startDateTime, endDateTime, periodWeeks, untilDate);
+    }
+}
@@ -1,9 +1,8 @@
 package tutorease.address.logic.parser;
 
-import java.util.ArrayList;
+import static java.util.Objects.requireNonNull;
+
 import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -12,9 +11,40 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  * in the above example.<br>
+ * Prefixes are matched case-insensitively, and only where there is a whitespace before them.
+ * <p>
+ * The prefixes are kept in a trie that is built when the tokenizer is created, so that all of them are found in one
+ * pass over the arguments string. Parsers that tokenize with the same prefixes each time should keep a tokenizer
+ * instead of calling {@link #tokenize(String, Prefix...)}.
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+
+    private final TrieNode root = new TrieNode();
+
+    /**
+     * Creates a tokenizer that recognizes only the given prefixes. Empty prefixes are ignored.
+     */
+    public ArgumentTokenizer(Prefix... prefixes) {
+        for (Prefix prefix : prefixes) {
+            requireNonNull(prefix);
+            String prefixString = prefix.getPrefix();
+            if (prefixString.isEmpty()) {
+                continue;
+            }
+
+            TrieNode node = root;
+            for (int i = 0; i < prefixString.length(); i++) {
+                node = node.getOrAddChild(Character.toLowerCase(prefixString.charAt(i)));
+            }
+            if (node.prefix == null) {
+                // The first of several prefixes that only differ in case is the one recognized
+                node.prefix = prefix;
+            }
+        }
+    }
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,127 +54,100 @@ public class ArgumentTokenizer {
      * @return ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString.toLowerCase(), prefixes);
-        return extractArguments(argsString, positions);
+        return new ArgumentTokenizer(prefixes).tokenizeArguments(argsString);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps the prefixes of this
+     * tokenizer to their respective argument values.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        String lowerCaseArgsString = argsString.toLowerCase();
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(lowerCaseArgsString, prefix,
-                        prefix.getPrefix().toLowerCase()).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix, String prefixString) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefixString, 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefixString, prefixPosition
-                    + prefixString.length());
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     * <p>
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
      * @return ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    public ArgumentMultimap tokenizeArguments(String argsString) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+
+        // A prefix can only start right after a whitespace, so positions after other characters are skipped
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
+            TrieNode match = findLongestMatch(argsString, i);
+            if (match == null) {
+                continue;
+            }
+
+            argMultimap.put(currentPrefix, argsString.substring(valueStart, i).trim());
+            currentPrefix = match.prefix;
+            valueStart = i + match.depth;
+            i = valueStart - 1;
         }
+        argMultimap.put(currentPrefix, argsString.substring(valueStart).trim());
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the node of the longest prefix that starts at {@code start} in {@code argsString}, or null if there is
+     * no such prefix.
      */
-    private static String extractArgumentValue(String argsString,
-                                               PrefixPosition currentPrefixPosition,
-                                               PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private TrieNode findLongestMatch(String argsString, int start) {
+        TrieNode match = null;
+        TrieNode node = root;
+        for (int i = start; i < argsString.length(); i++) {
+            node = node.getChild(Character.toLowerCase(argsString.charAt(i)));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                match = node;
+            }
+        }
+        return match;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Represents a node of the prefix trie, reached by the lower case characters of a prefix so far.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
+    private static class TrieNode {
+        private final int depth;
+        private char[] labels = new char[0];
+        private TrieNode[] children = new TrieNode[0];
+        private Prefix prefix;
+
+        TrieNode() {
+            this(0);
+        }
 
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+        private TrieNode(int depth) {
+            this.depth = depth;
         }
 
-        int getStartPosition() {
-            return startPosition;
+        TrieNode getChild(char label) {
+            // Prefixes are short and few, so a linear search is faster than hashing
+            for (int i = 0; i < labels.length; i++) {
+                if (labels[i] == label) {
+                    return children[i];
+                }
+            }
+            return null;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        TrieNode getOrAddChild(char label) {
+            TrieNode child = getChild(label);
+            if (child != null) {
+                return child;
+            }
+
+            child = new TrieNode(depth + 1);
+            int count = labels.length;
+            labels = Arrays.copyOf(labels, count + 1);
+            children = Arrays.copyOf(children, count + 1);
+            labels[count] = label;
+            children[count] = child;
+            return child;
         }
     }
 
@@ -17,6 +17,13 @@ public class CliSyntax {
     public static final Prefix PREFIX_START_DATE = new Prefix("d/");
     public static final Prefix PREFIX_DURATION = new Prefix("h/");
     public static final Prefix PREFIX_ROLE = new Prefix("r/");
+    public static final Prefix PREFIX_PERIOD_WEEKS = new Prefix("w/");
+    public static final Prefix PREFIX_UNTIL_DATE = new Prefix("u/");
+    public static final Prefix PREFIX_WORKING_HOURS = new Prefix("wh/");
+    public static final Prefix PREFIX_COUNT = new Prefix("c/");
+    public static final Prefix PREFIX_WHEN = new Prefix("when/");
+    public static final Prefix PREFIX_MONTH = new Prefix("m/");
+    public static final Prefix PREFIX_GUARDIAN_ID = new Prefix("gid/");
     public static final Prefix UPPERCASE_PREFIX_NAME = new Prefix("N/");
     public static final Prefix UPPERCASE_PREFIX_EMAIL = new Prefix("E/");
 }
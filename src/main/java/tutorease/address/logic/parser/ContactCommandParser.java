@@ -14,9 +14,13 @@ import tutorease.address.logic.commands.Command;
 import tutorease.address.logic.commands.ContactCommand;
 import tutorease.address.logic.commands.DeleteContactCommand;
 import tutorease.address.logic.commands.EditContactCommand;
+import tutorease.address.logic.commands.FamilyContactCommand;
 import tutorease.address.logic.commands.FindContactCommand;
+import tutorease.address.logic.commands.GuardiansContactCommand;
 import tutorease.address.logic.commands.HelpCommand;
+import tutorease.address.logic.commands.LinkContactCommand;
 import tutorease.address.logic.commands.ListContactCommand;
+import tutorease.address.logic.commands.UnlinkContactCommand;
 import tutorease.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -49,6 +53,14 @@ public class ContactCommandParser implements Parser<Command> {
             return new FindContactCommandParser().parse(subArguments);
         case EditContactCommand.COMMAND_WORD:
             return new EditContactCommandParser().parse(subArguments);
+        case LinkContactCommand.COMMAND_WORD:
+            return new LinkContactCommandParser().parse(subArguments);
+        case UnlinkContactCommand.COMMAND_WORD:
+            return new UnlinkContactCommandParser().parse(subArguments);
+        case FamilyContactCommand.COMMAND_WORD:
+            return new FamilyContactCommandParser().parse(subArguments);
+        case GuardiansContactCommand.COMMAND_WORD:
+            return new GuardiansContactCommandParser().parse(subArguments);
         // Future sub-commands like add, edit can be handled here
         default:
             logger.log(Level.INFO, "This user input caused a ParseException: "
@@ -0,0 +1,37 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.logic.commands.DeleteLessonSeriesCommand;
+import tutorease.address.logic.parser.exceptions.ParseException;
+
+
+/**
+ * Parses input arguments and creates a new DeleteLessonSeriesCommand object.
+ */
+public class DeleteLessonSeriesCommandParser implements Parser<DeleteLessonSeriesCommand> {
+
+    private static Logger logger = LogsCenter.getLogger(DeleteLessonSeriesCommandParser.class);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the DeleteLessonSeriesCommand
+     * and returns a DeleteLessonSeriesCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public DeleteLessonSeriesCommand parse(String args) throws ParseException {
+        try {
+            logger.log(Level.INFO, "Parsing DeleteLessonSeriesCommand with args: " + args);
+            Index index = ParserUtil.parseIndex(args.trim());
+            return new DeleteLessonSeriesCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteLessonSeriesCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
+
@@ -28,6 +28,8 @@ import tutorease.address.model.tag.Tag;
  */
 public class EditContactCommandParser implements Parser<EditContactCommand> {
     private static Logger logger = LogsCenter.getLogger(AddContactCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_NAME, PREFIX_PHONE,
+            PREFIX_EMAIL, PREFIX_ROLE, PREFIX_ADDRESS, PREFIX_TAG);
 
     /**
      * Parses the given {@code String} of arguments in the context of the EditCommand
@@ -38,9 +40,7 @@ public class EditContactCommandParser implements Parser<EditContactCommand> {
     public EditContactCommand parse(String args) throws ParseException {
         logger.log(Level.INFO, "Parsing EditContactCommand with args: " + args);
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ROLE,
-                        PREFIX_ADDRESS, PREFIX_TAG);
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
 
         Index index;
 
@@ -0,0 +1,29 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.logic.commands.FamilyContactCommand;
+import tutorease.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FamilyContactCommand object.
+ */
+public class FamilyContactCommandParser implements Parser<FamilyContactCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FamilyContactCommand
+     * and returns a FamilyContactCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public FamilyContactCommand parse(String args) throws ParseException {
+        try {
+            Index index = ParserUtil.parseIndex(args.trim());
+            return new FamilyContactCommand(index);
+        } catch (ParseException pe) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FamilyContactCommand.MESSAGE_USAGE), pe);
+        }
+    }
+}
@@ -1,20 +1,35 @@
 package tutorease.address.logic.parser;
 
 import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import tutorease.address.logic.commands.FindContactCommand;
 import tutorease.address.logic.parser.exceptions.ParseException;
 import tutorease.address.model.person.NameContainsKeywordsPredicate;
+import tutorease.address.model.person.PersonSearchPredicate;
+import tutorease.address.model.person.SearchTerm;
+import tutorease.address.model.person.SearchTerm.Field;
+import tutorease.address.model.tag.TagFilter;
 
 /**
  * Parses input arguments and creates a new FindContactCommand object
  */
 public class FindContactCommandParser implements Parser<FindContactCommand> {
+    private static final ArgumentTokenizer TOKENIZER =
+            new ArgumentTokenizer(PREFIX_NAME, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindContactCommand
      * and returns a FindCommand object for execution.
+     * Keywords before any prefix search names, keywords after a prefix search the field of that prefix, and the
+     * tags after each {@code t/} are alternatives of which a contact must have one.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
@@ -25,8 +40,37 @@ public class FindContactCommandParser implements Parser<FindContactCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
         }
 
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        // the tokenizer only finds prefixes after a space, and the arguments may start with one
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(" " + trimmedArgs);
+        if (argMultimap.isMissingAllPrefix()) {
+            String[] nameKeywords = trimmedArgs.split("\\s+");
+            return new FindContactCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        }
 
-        return new FindContactCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        List<SearchTerm> terms = new ArrayList<>();
+        addTerms(terms, Field.NAME, argMultimap.getPreamble());
+        addTerms(terms, Field.NAME, argMultimap.getAllValues(PREFIX_NAME));
+        addTerms(terms, Field.EMAIL, argMultimap.getAllValues(PREFIX_EMAIL));
+        addTerms(terms, Field.ADDRESS, argMultimap.getAllValues(PREFIX_ADDRESS));
+        TagFilter tagFilter = ParserUtil.parseTagFilter(argMultimap.getAllValues(PREFIX_TAG));
+        if (terms.isEmpty() && tagFilter.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindContactCommand.MESSAGE_USAGE));
+        }
+        return new FindContactCommand(new PersonSearchPredicate(terms), tagFilter);
+    }
+
+    private static void addTerms(List<SearchTerm> terms, Field field, List<String> values) {
+        for (String value : values) {
+            addTerms(terms, field, value);
+        }
+    }
+
+    private static void addTerms(List<SearchTerm> terms, Field field, String value) {
+        for (String word : value.trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                terms.add(SearchTerm.of(field, word));
+            }
+        }
     }
 }
@@ -1,21 +1,45 @@
 package tutorease.address.logic.parser;
 
 import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_GUARDIAN_ID;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_UNTIL_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_WHEN;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.core.index.Index;
 import tutorease.address.logic.commands.FindLessonCommand;
 import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.Model;
 import tutorease.address.model.lesson.LessonContainsNamesPredicate;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.person.Person;
+import tutorease.address.model.tag.TagFilter;
 
 /**
  * Parses input arguments and creates a new FindLessonCommand object
  */
 public class FindLessonCommandParser implements Parser<FindLessonCommand> {
+    public static final String MESSAGE_END_BEFORE_START = "The end date must not be before the start date.";
+    public static final String MESSAGE_END_WITHOUT_START = "The end date can only be given with a start date.";
+    public static final String MESSAGE_WHEN_WITH_DATES = "Dates cannot be given together with "
+            + PREFIX_WHEN + ".";
+    public static final String MESSAGE_INVALID_WHEN = PREFIX_WHEN + " should be one of "
+            + FindLessonCommand.WHEN_TODAY + ", " + FindLessonCommand.WHEN_WEEK + " or "
+            + FindLessonCommand.WHEN_UPCOMING + ".";
     private static Logger logger = LogsCenter.getLogger(FindLessonCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_START_DATE, PREFIX_UNTIL_DATE,
+            PREFIX_WHEN, PREFIX_TAG, PREFIX_GUARDIAN_ID);
 
     /**
      * Parses the given {@code String} of arguments in the context of the FindLessonCommand
@@ -27,12 +51,87 @@ public class FindLessonCommandParser implements Parser<FindLessonCommand> {
         logger.log(Level.INFO, "Parsing FindLessonCommand with args: " + args);
 
         validateNull(args);
-        String trimmedArgs = args.trim();
-        isEmptyArgs(trimmedArgs);
-        String[] nameKeywords = trimmedArgs.split("\\s+");
+        // Prefixes are only recognised after a space, so one is added in case the arguments start with a prefix
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(" " + args);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START_DATE, PREFIX_UNTIL_DATE, PREFIX_WHEN, PREFIX_GUARDIAN_ID);
 
-        logger.log(Level.INFO, "Parsed FindLessonCommand with keywords: " + Arrays.toString(nameKeywords));
-        return new FindLessonCommand(new LessonContainsNamesPredicate(Arrays.asList(nameKeywords)));
+        String trimmedArgs = argMultimap.getPreamble().trim();
+        Optional<LessonDateRange> range = parseRange(argMultimap, LocalDate.now());
+        TagFilter tagFilter = ParserUtil.parseTagFilter(argMultimap.getAllValues(PREFIX_TAG));
+        Optional<String> guardianValue = argMultimap.getValue(PREFIX_GUARDIAN_ID);
+        Index guardianIndex = guardianValue.isPresent() ? ParserUtil.parseIndex(guardianValue.get()) : null;
+        if (range.isEmpty() && tagFilter.isEmpty() && guardianIndex == null) {
+            isEmptyArgs(trimmedArgs);
+        }
+
+        Predicate<Person> predicate = Model.PREDICATE_SHOW_ALL_PERSONS;
+        if (!trimmedArgs.isEmpty()) {
+            String[] nameKeywords = trimmedArgs.split("\\s+");
+            logger.log(Level.INFO, "Parsed FindLessonCommand with keywords: " + Arrays.toString(nameKeywords));
+            predicate = new LessonContainsNamesPredicate(Arrays.asList(nameKeywords));
+        }
+
+        return new FindLessonCommand(predicate, range.orElse(LessonDateRange.ALL), tagFilter, guardianIndex);
+    }
+
+    /**
+     * Returns the date range given by the dates or {@code when/} value in {@code argMultimap}, if any.
+     *
+     * @param today The date that relative ranges such as {@code today} are taken from.
+     * @throws ParseException If the dates are invalid or given together with a {@code when/} value.
+     */
+    static Optional<LessonDateRange> parseRange(ArgumentMultimap argMultimap, LocalDate today)
+            throws ParseException {
+        Optional<String> startValue = argMultimap.getValue(PREFIX_START_DATE);
+        Optional<String> endValue = argMultimap.getValue(PREFIX_UNTIL_DATE);
+        Optional<String> whenValue = argMultimap.getValue(PREFIX_WHEN);
+
+        if (whenValue.isPresent()) {
+            if (startValue.isPresent() || endValue.isPresent()) {
+                throw new ParseException(MESSAGE_WHEN_WITH_DATES);
+            }
+            return Optional.of(parseWhen(whenValue.get(), today));
+        }
+
+        if (startValue.isEmpty()) {
+            if (endValue.isPresent()) {
+                throw new ParseException(MESSAGE_END_WITHOUT_START);
+            }
+            return Optional.empty();
+        }
+
+        LocalDate startDate = ParserUtil.parseDate(startValue.get());
+        LocalDate endDate = endValue.isPresent() ? ParserUtil.parseDate(endValue.get()) : startDate;
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(MESSAGE_END_BEFORE_START);
+        }
+        return Optional.of(betweenDates(startDate, endDate));
+    }
+
+    /**
+     * Parses a {@code when/} value into the date range it stands for, relative to {@code today}.
+     *
+     * @throws ParseException If the value is not one of the accepted words.
+     */
+    static LessonDateRange parseWhen(String when, LocalDate today) throws ParseException {
+        switch (when.trim().toLowerCase()) {
+        case FindLessonCommand.WHEN_TODAY:
+            return betweenDates(today, today);
+        case FindLessonCommand.WHEN_WEEK:
+            LocalDate monday = today.minusDays(today.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+            return betweenDates(monday, monday.plusDays(6));
+        case FindLessonCommand.WHEN_UPCOMING:
+            return LessonDateRange.from(LocalDateTime.now());
+        default:
+            throw new ParseException(MESSAGE_INVALID_WHEN);
+        }
+    }
+
+    /**
+     * Returns the range of lessons starting from {@code startDate} to {@code endDate}, inclusive.
+     */
+    private static LessonDateRange betweenDates(LocalDate startDate, LocalDate endDate) {
+        return LessonDateRange.between(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
     }
 
     private static void isEmptyArgs(String trimmedArgs) throws ParseException {
@@ -54,4 +153,3 @@ public class FindLessonCommandParser implements Parser<FindLessonCommand> {
     }
 
 }
-
@@ -0,0 +1,62 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_UNTIL_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_WORKING_HOURS;
+import static tutorease.address.logic.parser.ParserUtil.validatePrefixesPresent;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.logic.commands.FreeLessonCommand;
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.lesson.WorkingHours;
+
+/**
+ * Parses input arguments and creates a new FreeLessonCommand object
+ */
+public class FreeLessonCommandParser implements Parser<FreeLessonCommand> {
+    public static final String MESSAGE_END_BEFORE_START = "The end date must not be before the start date.";
+    public static final String MESSAGE_DURATION_LONGER_THAN_WORKING_HOURS = "The duration must not be longer than "
+            + "the working hours.";
+    private static Logger logger = LogsCenter.getLogger(FreeLessonCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_START_DATE, PREFIX_UNTIL_DATE,
+            PREFIX_DURATION, PREFIX_WORKING_HOURS, PREFIX_COUNT);
+
+    @Override
+    public FreeLessonCommand parse(String args) throws ParseException {
+        logger.log(Level.INFO, "Parsing FreeLessonCommand with args: " + args);
+
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
+        validatePrefixesPresent(argMultimap, FreeLessonCommand.MESSAGE_USAGE, PREFIX_START_DATE, PREFIX_UNTIL_DATE,
+                PREFIX_DURATION);
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START_DATE, PREFIX_UNTIL_DATE, PREFIX_DURATION,
+                PREFIX_WORKING_HOURS, PREFIX_COUNT);
+
+        LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_START_DATE).get());
+        LocalDate endDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_UNTIL_DATE).get());
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(MESSAGE_END_BEFORE_START);
+        }
+
+        int minMinutes = ParserUtil.parseDurationMinutes(argMultimap.getValue(PREFIX_DURATION).get());
+        Optional<String> workingHoursValue = argMultimap.getValue(PREFIX_WORKING_HOURS);
+        WorkingHours workingHours = workingHoursValue.isPresent()
+                ? ParserUtil.parseWorkingHours(workingHoursValue.get())
+                : WorkingHours.ALL_DAY;
+        if (minMinutes > workingHours.getLengthMinutes()) {
+            throw new ParseException(MESSAGE_DURATION_LONGER_THAN_WORKING_HOURS);
+        }
+
+        Optional<String> countValue = argMultimap.getValue(PREFIX_COUNT);
+        int count = countValue.isPresent() ? ParserUtil.parseCount(countValue.get()) : FreeLessonCommand.DEFAULT_COUNT;
+
+        return new FreeLessonCommand(startDate, endDate, minMinutes, workingHours, count);
+    }
+}
@@ -0,0 +1,40 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_UNTIL_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_WHEN;
+
+import java.time.LocalDate;
+
+import tutorease.address.logic.commands.GuardiansContactCommand;
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.lesson.LessonDateRange;
+
+/**
+ * Parses input arguments and creates a new GuardiansContactCommand object.
+ */
+public class GuardiansContactCommandParser implements Parser<GuardiansContactCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_START_DATE, PREFIX_UNTIL_DATE,
+            PREFIX_WHEN);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GuardiansContactCommand
+     * and returns a GuardiansContactCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public GuardiansContactCommand parse(String args) throws ParseException {
+        // Prefixes are only recognised after a space, so one is added in case the arguments start with a prefix
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(" " + args);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    GuardiansContactCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_START_DATE, PREFIX_UNTIL_DATE, PREFIX_WHEN);
+
+        LessonDateRange range = FindLessonCommandParser.parseRange(argMultimap, LocalDate.now())
+                .orElse(LessonDateRange.ALL);
+        return new GuardiansContactCommand(range);
+    }
+}
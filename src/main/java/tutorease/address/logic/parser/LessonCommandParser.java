@@ -10,9 +10,12 @@ import java.util.regex.Pattern;
 
 import tutorease.address.commons.core.LogsCenter;
 import tutorease.address.logic.commands.AddLessonCommand;
+import tutorease.address.logic.commands.AddLessonSeriesCommand;
 import tutorease.address.logic.commands.Command;
 import tutorease.address.logic.commands.DeleteLessonCommand;
+import tutorease.address.logic.commands.DeleteLessonSeriesCommand;
 import tutorease.address.logic.commands.FindLessonCommand;
+import tutorease.address.logic.commands.FreeLessonCommand;
 import tutorease.address.logic.commands.HelpCommand;
 import tutorease.address.logic.commands.LessonCommand;
 import tutorease.address.logic.commands.ListLessonCommand;
@@ -43,8 +46,14 @@ public class LessonCommandParser implements Parser<Command> {
         switch (subCommand) {
         case AddLessonCommand.COMMAND_WORD:
             return new AddLessonCommandParser().parse(subArguments);
+        case AddLessonSeriesCommand.COMMAND_WORD:
+            return new AddLessonSeriesCommandParser().parse(subArguments);
         case DeleteLessonCommand.COMMAND_WORD:
             return new DeleteLessonCommandParser().parse(subArguments);
+        case DeleteLessonSeriesCommand.COMMAND_WORD:
+            return new DeleteLessonSeriesCommandParser().parse(subArguments);
+        case FreeLessonCommand.COMMAND_WORD:
+            return new FreeLessonCommandParser().parse(subArguments);
         case ListLessonCommand.COMMAND_WORD:
             return new ListLessonCommand();
         case FindLessonCommand.COMMAND_WORD:
@@ -0,0 +1,46 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_GUARDIAN_ID;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.logic.commands.LinkContactCommand;
+import tutorease.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new LinkContactCommand object.
+ */
+public class LinkContactCommandParser implements Parser<LinkContactCommand> {
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_STUDENT_ID, PREFIX_GUARDIAN_ID);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LinkContactCommand
+     * and returns a LinkContactCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public LinkContactCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = tokenizeStudentAndGuardian(args, LinkContactCommand.MESSAGE_USAGE);
+        Index studentIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_STUDENT_ID).get());
+        Index guardianIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_GUARDIAN_ID).get());
+        return new LinkContactCommand(studentIndex, guardianIndex);
+    }
+
+    /**
+     * Tokenizes arguments that give exactly one student index and one guardian index, and nothing else.
+     *
+     * @param messageUsage The usage of the command the arguments are for, shown if they are not in that form.
+     * @throws ParseException if either index is missing or repeated, or there are other arguments.
+     */
+    static ArgumentMultimap tokenizeStudentAndGuardian(String args, String messageUsage) throws ParseException {
+        // Prefixes are only recognised after a space, so one is added in case the arguments start with a prefix
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(" " + args);
+        if (argMultimap.getValue(PREFIX_STUDENT_ID).isEmpty() || argMultimap.getValue(PREFIX_GUARDIAN_ID).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_STUDENT_ID, PREFIX_GUARDIAN_ID);
+        return argMultimap;
+    }
+}
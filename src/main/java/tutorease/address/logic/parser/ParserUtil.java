@@ -1,31 +1,42 @@
 package tutorease.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.DateTimeUtil.checkValidDate;
 import static tutorease.address.commons.util.DateTimeUtil.checkValidDateTime;
 import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorease.address.logic.Messages.MISSING_PREFIX;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import tutorease.address.commons.core.LogsCenter;
 import tutorease.address.commons.core.index.Index;
+import tutorease.address.commons.util.DateTimeUtil;
+import tutorease.address.commons.util.NumbersUtil;
 import tutorease.address.commons.util.StringUtil;
+import tutorease.address.commons.util.ValidationUtil;
 import tutorease.address.logic.parser.exceptions.ParseException;
 import tutorease.address.model.lesson.EndDateTime;
 import tutorease.address.model.lesson.Fee;
+import tutorease.address.model.lesson.LessonSeries;
 import tutorease.address.model.lesson.StartDateTime;
 import tutorease.address.model.lesson.StudentId;
+import tutorease.address.model.lesson.WorkingHours;
 import tutorease.address.model.person.Address;
 import tutorease.address.model.person.Email;
 import tutorease.address.model.person.Name;
 import tutorease.address.model.person.Phone;
 import tutorease.address.model.person.Role;
 import tutorease.address.model.tag.Tag;
+import tutorease.address.model.tag.TagFilter;
 
 /**
  * Contains utility methods used for parsing strings in the various *Parser classes.
@@ -33,6 +44,9 @@ import tutorease.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_COUNT = "Count should be a positive whole number.";
+    public static final String MESSAGE_INVALID_MONTH = "Month should be in the format of MM-yyyy, with MM from 01 to "
+            + "12 and yyyy from 2000 to 2100.";
     private static Logger logger = LogsCenter.getLogger(ParserUtil.class);
 
     /**
@@ -154,6 +168,24 @@ public class ParserUtil {
         return tagSet;
     }
 
+    /**
+     * Parses the values of {@code t/} in a find command into a {@code TagFilter}. The tags in one value are
+     * alternatives, and every value must be met. Empty values are ignored.
+     *
+     * @throws ParseException if any of the tags is invalid.
+     */
+    public static TagFilter parseTagFilter(Collection<String> values) throws ParseException {
+        requireNonNull(values);
+        final List<Set<Tag>> groups = new ArrayList<>();
+        for (String value : values) {
+            String trimmedValue = value.trim();
+            if (!trimmedValue.isEmpty()) {
+                groups.add(parseTags(Arrays.asList(trimmedValue.split("\\s+"))));
+            }
+        }
+        return new TagFilter(groups);
+    }
+
     /**
      * Parses a {@code String studentId} into a {@code StudentId}.
      *
@@ -234,6 +266,109 @@ public class ParserUtil {
         return EndDateTime.createEndDateTime(startDateTime, hoursToAdd);
     }
 
+    /**
+     * Parses a {@code String periodWeeks} into the number of weeks between the lessons of a lesson series.
+     *
+     * @param periodWeeks The number of weeks to be parsed.
+     * @return The parsed number of weeks.
+     * @throws ParseException If the number of weeks is invalid.
+     */
+    public static int parsePeriodWeeks(String periodWeeks) throws ParseException {
+        requireNonNull(periodWeeks);
+        String trimmedPeriodWeeks = periodWeeks.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedPeriodWeeks)
+                || !LessonSeries.isValidPeriodWeeks(Integer.parseInt(trimmedPeriodWeeks))) {
+            logger.log(Level.WARNING, "Weeks between lessons is invalid: " + periodWeeks);
+            throw new ParseException(LessonSeries.PERIOD_MESSAGE_CONSTRAINTS);
+        }
+        return Integer.parseInt(trimmedPeriodWeeks);
+    }
+
+    /**
+     * Parses a {@code String date}, such as the last date of a lesson series, into a {@code LocalDate}.
+     *
+     * @param date The date to be parsed, in the format of {@link DateTimeUtil#DATE_FORMAT}.
+     * @return The parsed date.
+     * @throws ParseException If the date is invalid.
+     */
+    public static LocalDate parseDate(String date) throws ParseException {
+        requireNonNull(date);
+        checkValidDate(date);
+        return DateTimeUtil.parseDate(date.trim());
+    }
+
+    /**
+     * Parses a {@code String hours}, such as the length of a free slot, into a number of minutes.
+     *
+     * @param hours The number of hours to be parsed, which is valid as declared in
+     *              {@link EndDateTime#isValidHoursToAdd(String)}.
+     * @return The number of minutes.
+     * @throws ParseException If the number of hours is invalid.
+     */
+    public static int parseDurationMinutes(String hours) throws ParseException {
+        requireNonNull(hours);
+        if (!EndDateTime.isValidHoursToAdd(hours)) {
+            logger.log(Level.WARNING, "Hours is invalid: " + hours);
+            throw new ParseException(EndDateTime.HOURS_MESSAGE_CONSTRAINTS);
+        }
+        return (int) (NumbersUtil.parseDouble(hours, EndDateTime.HOURS_MESSAGE_CONSTRAINTS) * 60);
+    }
+
+    /**
+     * Parses a {@code String workingHours} into a {@code WorkingHours}.
+     *
+     * @param workingHours The working hours to be parsed.
+     * @return The parsed working hours.
+     * @throws ParseException If the working hours are invalid.
+     */
+    public static WorkingHours parseWorkingHours(String workingHours) throws ParseException {
+        requireNonNull(workingHours);
+        String trimmedWorkingHours = workingHours.trim();
+        if (!WorkingHours.isValidWorkingHours(trimmedWorkingHours)) {
+            throw new ParseException(WorkingHours.MESSAGE_CONSTRAINTS);
+        }
+        return new WorkingHours(trimmedWorkingHours);
+    }
+
+    /**
+     * Parses a {@code String count} into a positive number of results to show.
+     *
+     * @param count The count to be parsed.
+     * @return The parsed count.
+     * @throws ParseException If the count is not a positive whole number.
+     */
+    public static int parseCount(String count) throws ParseException {
+        requireNonNull(count);
+        String trimmedCount = count.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedCount)) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return Integer.parseInt(trimmedCount);
+    }
+
+    /**
+     * Parses a {@code String month} in the format {@code MM-yyyy} into a {@code YearMonth}.
+     *
+     * @param month The month to be parsed.
+     * @return The parsed month.
+     * @throws ParseException If the month is not in the format, or is outside the years accepted for dates.
+     */
+    public static YearMonth parseMonth(String month) throws ParseException {
+        requireNonNull(month);
+        String trimmedMonth = month.trim();
+        if (trimmedMonth.length() != 7 || trimmedMonth.charAt(2) != '-'
+                || !ValidationUtil.isDigits(trimmedMonth, 0, 2) || !ValidationUtil.isDigits(trimmedMonth, 3, 7)) {
+            throw new ParseException(MESSAGE_INVALID_MONTH);
+        }
+
+        int monthValue = ValidationUtil.parseDigits(trimmedMonth, 0, 2);
+        int year = ValidationUtil.parseDigits(trimmedMonth, 3, 7);
+        if (monthValue < 1 || monthValue > 12 || year < 2000 || year > 2100) {
+            throw new ParseException(MESSAGE_INVALID_MONTH);
+        }
+        return YearMonth.of(year, monthValue);
+    }
+
     /**
      * Validates that the prefixes are present in the {@code ArgumentMultimap}.
      *
@@ -0,0 +1,52 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_MONTH;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.time.YearMonth;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.logic.commands.StatsCommand;
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.lesson.StudentId;
+import tutorease.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+    private static Logger logger = LogsCenter.getLogger(StatsCommandParser.class);
+    private static final ArgumentTokenizer TOKENIZER = new ArgumentTokenizer(PREFIX_MONTH, PREFIX_STUDENT_ID,
+            PREFIX_TAG);
+
+    @Override
+    public StatsCommand parse(String args) throws ParseException {
+        logger.log(Level.INFO, "Parsing StatsCommand with args: " + args);
+
+        ArgumentMultimap argMultimap = TOKENIZER.tokenizeArguments(args);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MONTH, PREFIX_STUDENT_ID, PREFIX_TAG);
+
+        Optional<String> monthValue = argMultimap.getValue(PREFIX_MONTH);
+        Optional<YearMonth> month = monthValue.isPresent()
+                ? Optional.of(ParserUtil.parseMonth(monthValue.get()))
+                : Optional.empty();
+        Optional<String> studentIdValue = argMultimap.getValue(PREFIX_STUDENT_ID);
+        Optional<StudentId> studentId = studentIdValue.isPresent()
+                ? Optional.of(ParserUtil.parseStudentId(studentIdValue.get()))
+                : Optional.empty();
+        Optional<String> tagValue = argMultimap.getValue(PREFIX_TAG);
+        Optional<Tag> tag = tagValue.isPresent()
+                ? Optional.of(ParserUtil.parseTag(tagValue.get()))
+                : Optional.empty();
+
+        return new StatsCommand(month, studentId, tag);
+    }
+}
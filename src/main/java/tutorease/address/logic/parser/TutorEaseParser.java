@@ -14,6 +14,7 @@ import tutorease.address.logic.commands.ContactCommand;
 import tutorease.address.logic.commands.ExitCommand;
 import tutorease.address.logic.commands.HelpCommand;
 import tutorease.address.logic.commands.LessonCommand;
+import tutorease.address.logic.commands.StatsCommand;
 import tutorease.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -64,6 +65,9 @@ public class TutorEaseParser {
         case LessonCommand.COMMAND_WORD:
             return new LessonCommandParser().parse(arguments);
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommandParser().parse(arguments);
+
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
@@ -0,0 +1,28 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_GUARDIAN_ID;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_STUDENT_ID;
+
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.logic.commands.UnlinkContactCommand;
+import tutorease.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UnlinkContactCommand object.
+ */
+public class UnlinkContactCommandParser implements Parser<UnlinkContactCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UnlinkContactCommand
+     * and returns an UnlinkContactCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    public UnlinkContactCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = LinkContactCommandParser.tokenizeStudentAndGuardian(args,
+                UnlinkContactCommand.MESSAGE_USAGE);
+        Index studentIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_STUDENT_ID).get());
+        Index guardianIndex = ParserUtil.parseIndex(argMultimap.getValue(PREFIX_GUARDIAN_ID).get());
+        return new UnlinkContactCommand(studentIndex, guardianIndex);
+    }
+}
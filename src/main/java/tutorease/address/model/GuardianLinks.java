@@ -0,0 +1,124 @@
+package tutorease.address.model;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The links between students and their guardians, by person ID.
+ * <p>
+ * Each link is kept in two maps, from the student to its guardians and from the guardian to its students, so both
+ * directions are a hash lookup and a set of persons can be followed to the persons linked to them without going
+ * through the other links. Persons are referred to by ID, so links stay in place when a person is edited.
+ */
+class GuardianLinks {
+    private final Map<Long, Set<Long>> guardianIdsByStudentId = new HashMap<>();
+    private final Map<Long, Set<Long>> studentIdsByGuardianId = new HashMap<>();
+
+    /**
+     * Links the student with {@code studentId} to the guardian with {@code guardianId}.
+     *
+     * @return True if they were not linked before.
+     */
+    boolean link(long studentId, long guardianId) {
+        boolean isNew = guardianIdsByStudentId.computeIfAbsent(studentId, id -> new HashSet<>()).add(guardianId);
+        studentIdsByGuardianId.computeIfAbsent(guardianId, id -> new HashSet<>()).add(studentId);
+        return isNew;
+    }
+
+    /**
+     * Removes the link between the student with {@code studentId} and the guardian with {@code guardianId}.
+     *
+     * @return True if they were linked.
+     */
+    boolean unlink(long studentId, long guardianId) {
+        boolean isRemoved = removeFrom(guardianIdsByStudentId, studentId, guardianId);
+        removeFrom(studentIdsByGuardianId, guardianId, studentId);
+        return isRemoved;
+    }
+
+    /**
+     * Returns true if the student with {@code studentId} is linked to the guardian with {@code guardianId}.
+     */
+    boolean isLinked(long studentId, long guardianId) {
+        return getGuardianIds(studentId).contains(guardianId);
+    }
+
+    /**
+     * Returns the IDs of the guardians of the student with {@code studentId}.
+     */
+    Set<Long> getGuardianIds(long studentId) {
+        return Collections.unmodifiableSet(guardianIdsByStudentId.getOrDefault(studentId, Collections.emptySet()));
+    }
+
+    /**
+     * Returns the IDs of the persons linked to the person with {@code personId}, which are its guardians if it is a
+     * student and its students if it is a guardian.
+     */
+    Set<Long> getLinkedIds(long personId) {
+        Set<Long> guardianIds = guardianIdsByStudentId.get(personId);
+        if (guardianIds != null) {
+            return Collections.unmodifiableSet(guardianIds);
+        }
+        return Collections.unmodifiableSet(studentIdsByGuardianId.getOrDefault(personId, Collections.emptySet()));
+    }
+
+    /**
+     * Removes every link of the person with {@code personId}.
+     */
+    void removeAll(long personId) {
+        Set<Long> guardianIds = guardianIdsByStudentId.remove(personId);
+        if (guardianIds != null) {
+            for (long guardianId : guardianIds) {
+                removeFrom(studentIdsByGuardianId, guardianId, personId);
+            }
+        }
+        Set<Long> studentIds = studentIdsByGuardianId.remove(personId);
+        if (studentIds != null) {
+            for (long studentId : studentIds) {
+                removeFrom(guardianIdsByStudentId, studentId, personId);
+            }
+        }
+    }
+
+    /**
+     * Removes every link.
+     */
+    void clear() {
+        guardianIdsByStudentId.clear();
+        studentIdsByGuardianId.clear();
+    }
+
+    private static boolean removeFrom(Map<Long, Set<Long>> idsById, long id, long linkedId) {
+        Set<Long> linkedIds = idsById.get(id);
+        if (linkedIds == null || !linkedIds.remove(linkedId)) {
+            return false;
+        }
+        if (linkedIds.isEmpty()) {
+            idsById.remove(id);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GuardianLinks)) {
+            return false;
+        }
+
+        GuardianLinks otherLinks = (GuardianLinks) other;
+        return guardianIdsByStudentId.equals(otherLinks.guardianIdsByStudentId);
+    }
+
+    @Override
+    public int hashCode() {
+        return guardianIdsByStudentId.hashCode();
+    }
+}
@@ -1,28 +1,67 @@
 package tutorease.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.AppUtil.checkArgument;
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.model.lesson.DateTime;
+import tutorease.address.model.lesson.FreeSlot;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonSeries;
 import tutorease.address.model.lesson.UniqueLessonList;
+import tutorease.address.model.lesson.WorkingHours;
+import tutorease.address.model.lesson.exceptions.LessonNotInList;
+import tutorease.address.model.lesson.exceptions.OverlappingLessonException;
 import tutorease.address.model.person.Person;
 
 /**
  * Wraps all data at the lesson-schedule level.
  * Duplicates are not allowed (by .isOverlapping comparison).
+ * Keeps an index from each student's ID to their lessons, so that changes to a student only touch that student's
+ * lessons.
+ * Every change to the lessons increases the generation, which storage uses to tell which changes are already saved.
+ * Running totals of the lessons are kept in a {@code LessonStatistics}, which is updated along with every change.
+ * <p>
+ * Recurring lessons are kept as {@code LessonSeries} rules. Only the lessons of each series within the occurrence
+ * window are created and listed with the other lessons, while overlaps with the rest of a series are worked out from
+ * its rule.
  */
 public class LessonSchedule implements ReadOnlyLessonSchedule {
+    /** The number of days from the start of today for which the lessons of each series are listed by default. */
+    public static final int DEFAULT_OCCURRENCE_WINDOW_DAYS = 56;
+
     private static final Logger logger = LogsCenter.getLogger(LessonSchedule.class);
 
     private final UniqueLessonList lessons;
+    private final Map<Long, List<Lesson>> lessonsByStudent;
+    private final List<LessonSeries> lessonSeries;
+    private final LessonStatistics statistics;
+    private int occurrenceWindowStartMinute;
+    private int occurrenceWindowEndMinute;
+    private long generation;
 
     {
         lessons = new UniqueLessonList();
+        lessonsByStudent = new HashMap<>();
+        lessonSeries = new ArrayList<>();
+        statistics = new LessonStatistics();
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        occurrenceWindowStartMinute = DateTime.toEpochMinute(today);
+        occurrenceWindowEndMinute = DateTime.toEpochMinute(today.plusDays(DEFAULT_OCCURRENCE_WINDOW_DAYS));
     }
 
     public LessonSchedule() {
@@ -36,16 +75,21 @@ public class LessonSchedule implements ReadOnlyLessonSchedule {
     public LessonSchedule(ReadOnlyLessonSchedule toBeCopied) {
         this();
         resetData(toBeCopied);
+        generation = toBeCopied.getGeneration();
     }
 
     /**
-     * Sets the lessons in the lesson schedule.
+     * Sets the lessons in the lesson schedule, keeping the lesson series. Lessons of series in {@code lessons} are
+     * ignored, as they are created from the series.
      *
      * @param lessons The new list of lessons.
      */
     public void setLessons(List<Lesson> lessons) {
-        logger.log(Level.INFO, "Setting lessons in model");
-        this.lessons.setLessons(lessons);
+        logger.log(Level.FINE, "Setting lessons in model");
+        setAllLessons(lessons, lessonSeries);
+        rebuildLessonsByStudent();
+        statistics.resetData(this.lessons.asUnmodifiableObservableList(), lessonSeries);
+        generation++;
     }
 
     /**
@@ -62,7 +106,17 @@ public class LessonSchedule implements ReadOnlyLessonSchedule {
      * @return True if the lesson list contains the given lesson.
      */
     public boolean hasLesson(Lesson lesson) {
-        return lessons.contains(lesson);
+        return lessons.contains(lesson) || lessonSeries.stream().anyMatch(series -> series.isOverlapping(lesson));
+    }
+
+    /**
+     * Returns true if any lesson in the lesson schedule overlaps with any lesson of the given series.
+     *
+     * @param series The series to check for.
+     * @return True if the lesson schedule contains a lesson overlapping with the series.
+     */
+    public boolean hasLessonSeries(LessonSeries series) {
+        return lessons.hasOverlapWith(series) || lessonSeries.stream().anyMatch(series::isOverlapping);
     }
 
     /**
@@ -72,24 +126,119 @@ public class LessonSchedule implements ReadOnlyLessonSchedule {
      * @throws NullPointerException If the specified lesson is null.
      */
     public void addLesson(Lesson lesson) {
-        logger.log(Level.INFO, "Adding lesson to model: " + lesson);
+        logger.log(Level.FINE, "Adding lesson to model: {0}", lesson);
         requireNonNull(lesson);
+        Optional<LessonSeries> overlappingSeries = lessonSeries.stream()
+                .filter(series -> series.isOverlapping(lesson))
+                .findFirst();
+        if (overlappingSeries.isPresent()) {
+            throw new OverlappingLessonException(overlappingSeries.get(), lesson);
+        }
 
         lessons.add(lesson);
-        logger.log(Level.INFO, "Lesson added to model: " + lesson);
+        lessonsByStudent.computeIfAbsent(lesson.getStudentId(), id -> new ArrayList<>()).add(lesson);
+        statistics.add(lesson);
+        generation++;
+        logger.log(Level.FINE, "Lesson added to model: {0}", lesson);
+    }
+
+    /**
+     * Adds the specified series to the lesson schedule, and lists its lessons within the occurrence window.
+     *
+     * @param series The series to be added.
+     * @throws OverlappingLessonException If a lesson of the series overlaps with another lesson.
+     */
+    public void addLessonSeries(LessonSeries series) {
+        logger.log(Level.FINE, "Adding lesson series to model: {0}", series);
+        requireNonNull(series);
+        Lesson overlappingLesson = lessons.findOverlapWith(series);
+        if (overlappingLesson != null) {
+            throw new OverlappingLessonException(overlappingLesson, series);
+        }
+        Optional<LessonSeries> overlappingSeries = lessonSeries.stream().filter(series::isOverlapping).findFirst();
+        if (overlappingSeries.isPresent()) {
+            throw new OverlappingLessonException(overlappingSeries.get(), series);
+        }
+
+        for (Lesson occurrence : series.getOccurrences(occurrenceWindowStartMinute, occurrenceWindowEndMinute)) {
+            lessons.add(occurrence);
+        }
+        lessonSeries.add(series);
+        statistics.add(series);
+        generation++;
+        logger.log(Level.FINE, "Lesson series added to model: {0}", series);
+    }
+
+    /**
+     * Deletes the specified series and all of its lessons from the lesson schedule.
+     *
+     * @param series The series to be removed.
+     * @throws LessonNotInList If the series is not in the lesson schedule.
+     */
+    public void deleteLessonSeries(LessonSeries series) {
+        logger.log(Level.FINE, "Deleting lesson series from model: {0}", series);
+        requireNonNull(series);
+        if (!lessonSeries.contains(series)) {
+            throw new LessonNotInList();
+        }
+
+        lessons.removeAll(series.getOccurrences(occurrenceWindowStartMinute, occurrenceWindowEndMinute));
+        lessonSeries.remove(series);
+        statistics.remove(series);
+        generation++;
+        logger.log(Level.FINE, "Lesson series deleted from model: {0}", series);
     }
 
     /**
      * Deletes the specified lesson from the lesson list.
      *
-     * @param lesson The lesson to be removed. Must exist in the lesson list.
+     * @param lesson The lesson to be removed. Must exist in the lesson list, and must not be a lesson of a series.
+     * @throws IllegalArgumentException if the lesson is a lesson of a series, which is only listed from the series
+     *     and has to be deleted with {@link #deleteLessonSeries(LessonSeries)}.
      */
     public void deleteLesson(Lesson lesson) {
-        logger.log(Level.INFO, "Deleting lesson from model: " + lesson);
+        logger.log(Level.FINE, "Deleting lesson from model: {0}", lesson);
         requireNonNull(lesson);
+        checkArgument(!lesson.isOccurrence(), "A lesson of a series can only be deleted with its series");
 
         lessons.remove(lesson);
-        logger.log(Level.INFO, "Lesson deleted from model: " + lesson);
+        removeFromLessonsByStudent(lesson);
+        statistics.remove(lesson);
+        generation++;
+        logger.log(Level.FINE, "Lesson deleted from model: {0}", lesson);
+    }
+
+    /**
+     * Deletes all lessons and lesson series of the specified student from the lesson list.
+     *
+     * @param student The student whose lessons are to be removed.
+     */
+    public void deleteStudentLessons(Person student) {
+        logger.log(Level.FINE, "Deleting lessons of student from model: {0}", student);
+        requireNonNull(student);
+
+        List<Lesson> studentLessons = lessonsByStudent.remove(student.getId());
+        List<Lesson> lessonsToRemove = studentLessons == null ? new ArrayList<>() : new ArrayList<>(studentLessons);
+        for (Lesson lesson : lessonsToRemove) {
+            statistics.remove(lesson);
+        }
+        boolean isSeriesRemoved = false;
+        for (Iterator<LessonSeries> iterator = lessonSeries.iterator(); iterator.hasNext();) {
+            LessonSeries series = iterator.next();
+            if (series.getStudentId() == student.getId()) {
+                lessonsToRemove.addAll(series.getOccurrences(occurrenceWindowStartMinute, occurrenceWindowEndMinute));
+                iterator.remove();
+                statistics.remove(series);
+                isSeriesRemoved = true;
+            }
+        }
+        if (studentLessons == null && !isSeriesRemoved) {
+            return;
+        }
+
+        lessons.removeAll(lessonsToRemove);
+        generation++;
+        logger.log(Level.FINE, "Lessons of student deleted from model: {0}", studentLessons);
     }
 
     /**
@@ -115,7 +264,160 @@ public class LessonSchedule implements ReadOnlyLessonSchedule {
      * Replaces the contents of this lesson schedule with {@code newData}.
      */
     public void resetData(ReadOnlyLessonSchedule newData) {
-        lessons.setLessons(newData.getLessonList());
+        List<LessonSeries> newLessonSeries = new ArrayList<>(newData.getLessonSeriesList());
+        setAllLessons(newData.getLessonList(), newLessonSeries);
+        lessonSeries.clear();
+        lessonSeries.addAll(newLessonSeries);
+        rebuildLessonsByStudent();
+        statistics.resetData(lessons.asUnmodifiableObservableList(), lessonSeries);
+        generation++;
+    }
+
+    @Override
+    public List<LessonSeries> getLessonSeriesList() {
+        return Collections.unmodifiableList(lessonSeries);
+    }
+
+    /**
+     * Returns the running totals of the lessons in this lesson schedule.
+     */
+    public LessonStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Sets the period for which the lessons of each series are listed, from {@code start} and before {@code end}.
+     * This only changes which lessons are listed, so the generation stays the same.
+     */
+    public void setOccurrenceWindow(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        int startMinute = DateTime.toEpochMinute(start);
+        int endMinute = DateTime.toEpochMinute(end);
+        if (startMinute == occurrenceWindowStartMinute && endMinute == occurrenceWindowEndMinute) {
+            return;
+        }
+
+        occurrenceWindowStartMinute = startMinute;
+        occurrenceWindowEndMinute = endMinute;
+        setAllLessons(lessons.asUnmodifiableObservableList(), lessonSeries);
+    }
+
+    /**
+     * Sets the period for which the lessons of each series are listed back to the default, which is
+     * {@link #DEFAULT_OCCURRENCE_WINDOW_DAYS} days from the start of today.
+     */
+    public void resetOccurrenceWindow() {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        setOccurrenceWindow(today, today.plusDays(DEFAULT_OCCURRENCE_WINDOW_DAYS));
+    }
+
+    /**
+     * Replaces the listed lessons with the lessons in {@code singleLessons} that are not part of a series, together
+     * with the lessons of {@code series} within the occurrence window. The lessons are left unchanged if any overlap.
+     */
+    private void setAllLessons(List<Lesson> singleLessons, List<LessonSeries> series) {
+        List<Lesson> allLessons = new ArrayList<>(singleLessons.size());
+        for (Lesson lesson : singleLessons) {
+            if (!lesson.isOccurrence()) {
+                allLessons.add(lesson);
+            }
+        }
+        for (LessonSeries eachSeries : series) {
+            allLessons.addAll(eachSeries.getOccurrences(occurrenceWindowStartMinute, occurrenceWindowEndMinute));
+        }
+        lessons.setLessons(allLessons);
+    }
+
+    /**
+     * Returns up to {@code limit} free slots from {@code from} and before {@code to} that are at least
+     * {@code minMinutes} long and within {@code workingHours} on each day, in order.
+     * The lessons are walked once from the first lesson ending after {@code from}, found by binary search, together
+     * with the lessons of each series, found by division, so only the lessons up to the last slot are visited.
+     *
+     * @param from The start of the period to search.
+     * @param to The end of the period to search.
+     * @param minMinutes The minimum length of a free slot, in minutes.
+     * @param workingHours The hours of each day in which free slots can be.
+     * @param limit The maximum number of free slots to return.
+     * @return The free slots found, in order of start date time.
+     */
+    public List<FreeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, int minMinutes,
+                                        WorkingHours workingHours, int limit) {
+        requireAllNonNull(from, to, workingHours);
+        int fromMinute = DateTime.toEpochMinute(from);
+        int toMinute = DateTime.toEpochMinute(to);
+        List<FreeSlot> freeSlots = new ArrayList<>();
+
+        int lessonIndex = lessons.findFirstEndingAfter(fromMinute);
+        int cursor = fromMinute;
+        while (cursor < toMinute && freeSlots.size() < limit) {
+            // The earliest lesson that ends after the cursor, whether it is listed or part of a series
+            int busyStartMinute = toMinute;
+            int busyEndMinute = toMinute;
+            if (lessonIndex < lessons.size()) {
+                busyStartMinute = lessons.getStartMinute(lessonIndex);
+                busyEndMinute = lessons.getEndMinute(lessonIndex);
+            }
+            for (LessonSeries series : lessonSeries) {
+                int occurrenceIndex = series.findFirstOccurrenceEndingAfter(cursor);
+                if (occurrenceIndex == series.getOccurrenceCount()) {
+                    continue;
+                }
+                int occurrenceStartMinute = series.getOccurrenceStartMinute(occurrenceIndex);
+                if (occurrenceStartMinute < busyStartMinute) {
+                    busyStartMinute = occurrenceStartMinute;
+                    busyEndMinute = occurrenceStartMinute + series.getDurationMinutes();
+                }
+            }
+
+            addFreeSlots(freeSlots, cursor, Math.min(busyStartMinute, toMinute), minMinutes, workingHours, limit);
+            cursor = Math.max(cursor, busyEndMinute);
+            while (lessonIndex < lessons.size() && lessons.getEndMinute(lessonIndex) <= cursor) {
+                lessonIndex++;
+            }
+        }
+
+        logger.log(Level.FINE, "Found {0} free slots", freeSlots.size());
+        return freeSlots;
+    }
+
+    /**
+     * Adds the parts of the free time from {@code startMinute} to {@code endMinute} that are within
+     * {@code workingHours} and at least {@code minMinutes} long to {@code freeSlots}, until there are {@code limit}
+     * free slots.
+     */
+    private static void addFreeSlots(List<FreeSlot> freeSlots, int startMinute, int endMinute, int minMinutes,
+                                     WorkingHours workingHours, int limit) {
+        if (workingHours.isAllDay()) {
+            if (endMinute - startMinute >= minMinutes && endMinute > startMinute) {
+                freeSlots.add(new FreeSlot(startMinute, endMinute));
+            }
+            return;
+        }
+
+        int lastDay = Math.floorDiv(endMinute - 1, WorkingHours.MINUTES_PER_DAY);
+        for (int day = Math.floorDiv(startMinute, WorkingHours.MINUTES_PER_DAY);
+                day <= lastDay && freeSlots.size() < limit; day++) {
+            int dayMinute = day * WorkingHours.MINUTES_PER_DAY;
+            int slotStartMinute = Math.max(startMinute, dayMinute + workingHours.getStartMinute());
+            int slotEndMinute = Math.min(endMinute, dayMinute + workingHours.getEndMinute());
+            if (slotEndMinute - slotStartMinute >= minMinutes && slotEndMinute > slotStartMinute) {
+                freeSlots.add(new FreeSlot(slotStartMinute, slotEndMinute));
+            }
+        }
+    }
+
+    @Override
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Sets the generation of this lesson schedule. Used when loading saved data, so that the generation carries on
+     * from where it was when the data was saved.
+     */
+    public void setGeneration(long generation) {
+        this.generation = generation;
     }
     @Override
     public boolean equals(Object other) {
@@ -129,16 +431,93 @@ public class LessonSchedule implements ReadOnlyLessonSchedule {
         }
 
         LessonSchedule otherLessonSchedule = (LessonSchedule) other;
-        return lessons.equals(otherLessonSchedule.lessons);
+        return lessons.equals(otherLessonSchedule.lessons)
+                && lessonSeries.equals(otherLessonSchedule.lessonSeries);
     }
 
     /**
-     * Updates the person in all lessons in the list.
+     * Moves the lessons and lesson series of {@code target} to {@code editedPerson}.
+     * Lessons refer to their student by ID, so nothing is changed when the student keeps its ID, as it does when
+     * edited.
      *
      * @param target The person to be updated.
      * @param editedPerson The updated person.
      */
     public void updatePersonInLessons(Person target, Person editedPerson) {
-        this.lessons.updatePersonInLessons(target, editedPerson);
+        logger.log(Level.FINE, () -> "Updating person in lessons: " + target + " " + editedPerson);
+        long targetId = target.getId();
+        long editedId = editedPerson.getId();
+        if (targetId == editedId || !target.isStudent() || !editedPerson.isStudent()) {
+            return;
+        }
+
+        statistics.moveStudent(targetId, editedId);
+        boolean isSeriesUpdated = updateStudentIdInLessonSeries(targetId, editedId);
+        List<Lesson> studentLessons = lessonsByStudent.remove(targetId);
+        if (studentLessons == null) {
+            if (isSeriesUpdated) {
+                generation++;
+            }
+            return;
+        }
+
+        List<Lesson> updatedLessons = lessonsByStudent.computeIfAbsent(editedId, id -> new ArrayList<>());
+        for (Lesson lesson : studentLessons) {
+            Lesson updatedLesson = new Lesson(editedId, lesson.getFee(),
+                    lesson.getStartDateTime(), lesson.getEndDateTime());
+            lessons.setLesson(lesson, updatedLesson);
+            updatedLessons.add(updatedLesson);
+        }
+        generation++;
+        logger.log(Level.FINE, "Updated lessons: {0}", updatedLessons);
+    }
+
+    /**
+     * Moves the series of the student with {@code targetId} to the student with {@code editedId}, together with their
+     * listed lessons.
+     *
+     * @return True if any series was updated.
+     */
+    private boolean updateStudentIdInLessonSeries(long targetId, long editedId) {
+        boolean isUpdated = false;
+        for (int i = 0; i < lessonSeries.size(); i++) {
+            LessonSeries series = lessonSeries.get(i);
+            if (series.getStudentId() != targetId) {
+                continue;
+            }
+
+            LessonSeries updatedSeries = series.withStudentId(editedId);
+            List<Lesson> occurrences = series.getOccurrences(occurrenceWindowStartMinute, occurrenceWindowEndMinute);
+            List<Lesson> updatedOccurrences = updatedSeries.getOccurrences(occurrenceWindowStartMinute,
+                    occurrenceWindowEndMinute);
+            for (int j = 0; j < occurrences.size(); j++) {
+                lessons.setLesson(occurrences.get(j), updatedOccurrences.get(j));
+            }
+            lessonSeries.set(i, updatedSeries);
+            isUpdated = true;
+        }
+        return isUpdated;
+    }
+
+    private void removeFromLessonsByStudent(Lesson lesson) {
+        List<Lesson> studentLessons = lessonsByStudent.get(lesson.getStudentId());
+        if (studentLessons == null) {
+            return;
+        }
+
+        studentLessons.remove(lesson);
+        if (studentLessons.isEmpty()) {
+            lessonsByStudent.remove(lesson.getStudentId());
+        }
+    }
+
+    private void rebuildLessonsByStudent() {
+        lessonsByStudent.clear();
+        for (Lesson lesson : lessons) {
+            if (lesson.isOccurrence()) {
+                continue;
+            }
+            lessonsByStudent.computeIfAbsent(lesson.getStudentId(), id -> new ArrayList<>()).add(lesson);
+        }
     }
 }
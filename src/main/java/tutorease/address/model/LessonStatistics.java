@@ -0,0 +1,200 @@
+package tutorease.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.person.Person;
+
+/**
+ * Keeps running totals of the lessons in a {@code LessonSchedule} per calendar month and per student, together with
+ * the overall totals.
+ * The totals are changed as lessons are added and removed, so reading any of them does not look at the lessons.
+ * Each lesson counts towards the month it starts in. Every lesson of a series counts, not only the listed ones.
+ * Students are kept by ID, so editing a student does not change the totals. The totals of a group of students, such
+ * as those with a tag, are added up from the totals of each student.
+ */
+public class LessonStatistics {
+    private static final int LESSONS = 0;
+    private static final int MINUTES = 1;
+    private static final int FEE_MINUTES = 2;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final long[] totals = new long[3];
+    private final Map<Integer, long[]> totalsByMonth = new HashMap<>();
+    private final Map<Long, long[]> totalsByStudent = new HashMap<>();
+
+    /**
+     * Returns the totals over all lessons.
+     */
+    public LessonTotals getTotals() {
+        return toLessonTotals(totals);
+    }
+
+    /**
+     * Returns the totals over the lessons starting in {@code month}.
+     */
+    public LessonTotals getTotals(YearMonth month) {
+        requireNonNull(month);
+        return toLessonTotals(totalsByMonth.get(toMonthIndex(month.getYear(), month.getMonthValue())));
+    }
+
+    /**
+     * Returns the totals over the lessons of {@code student}.
+     */
+    public LessonTotals getTotals(Person student) {
+        requireNonNull(student);
+        return toLessonTotals(totalsByStudent.get(student.getId()));
+    }
+
+    /**
+     * Returns the totals over the lessons of all of {@code students}.
+     */
+    public LessonTotals getTotals(Collection<Person> students) {
+        requireNonNull(students);
+        long[] sums = new long[3];
+        for (Person student : students) {
+            long[] studentTotals = totalsByStudent.get(student.getId());
+            if (studentTotals != null) {
+                addTo(sums, studentTotals[LESSONS], studentTotals[MINUTES], studentTotals[FEE_MINUTES]);
+            }
+        }
+        return toLessonTotals(sums);
+    }
+
+    /**
+     * Adds {@code lesson} to the totals.
+     */
+    void add(Lesson lesson) {
+        requireNonNull(lesson);
+        int startMinute = lesson.getStartDateTime().getEpochMinute();
+        int minutes = lesson.getEndDateTime().getEpochMinute() - startMinute;
+        addToMonth(startMinute, 1, minutes, (long) minutes * lesson.getFee().getValue());
+        addToStudent(lesson.getStudentId(), 1, minutes, (long) minutes * lesson.getFee().getValue());
+    }
+
+    /**
+     * Adds every lesson of {@code series} to the totals.
+     */
+    void add(LessonSeries series) {
+        addSeries(series, 1);
+    }
+
+    /**
+     * Removes {@code lesson}, which must have been added, from the totals.
+     */
+    void remove(Lesson lesson) {
+        requireNonNull(lesson);
+        int startMinute = lesson.getStartDateTime().getEpochMinute();
+        int minutes = lesson.getEndDateTime().getEpochMinute() - startMinute;
+        addToMonth(startMinute, -1, -minutes, -(long) minutes * lesson.getFee().getValue());
+        addToStudent(lesson.getStudentId(), -1, -minutes, -(long) minutes * lesson.getFee().getValue());
+    }
+
+    /**
+     * Removes every lesson of {@code series}, which must have been added, from the totals.
+     */
+    void remove(LessonSeries series) {
+        addSeries(series, -1);
+    }
+
+    /**
+     * Moves the totals of the student with {@code fromStudentId} to the student with {@code toStudentId}.
+     */
+    void moveStudent(long fromStudentId, long toStudentId) {
+        long[] studentTotals = totalsByStudent.remove(fromStudentId);
+        if (studentTotals == null) {
+            return;
+        }
+
+        addToStudent(toStudentId, studentTotals[LESSONS], studentTotals[MINUTES], studentTotals[FEE_MINUTES]);
+    }
+
+    /**
+     * Replaces all totals with the totals of {@code singleLessons} and {@code series}. Lessons of series in
+     * {@code singleLessons} are skipped, as every lesson of each series is counted from the series.
+     */
+    void resetData(List<Lesson> singleLessons, List<LessonSeries> series) {
+        requireAllNonNull(singleLessons, series);
+        totals[LESSONS] = 0;
+        totals[MINUTES] = 0;
+        totals[FEE_MINUTES] = 0;
+        totalsByMonth.clear();
+        totalsByStudent.clear();
+
+        for (Lesson lesson : singleLessons) {
+            if (!lesson.isOccurrence()) {
+                add(lesson);
+            }
+        }
+        for (LessonSeries eachSeries : series) {
+            add(eachSeries);
+        }
+    }
+
+    /**
+     * Adds {@code sign} times every lesson of {@code series} to the totals. Only the month totals need each lesson,
+     * and lessons in the same month are added together.
+     */
+    private void addSeries(LessonSeries series, int sign) {
+        requireNonNull(series);
+        long minutes = series.getDurationMinutes();
+        long feeMinutes = minutes * series.getFee().getValue();
+        int count = series.getOccurrenceCount();
+
+        int index = 0;
+        while (index < count) {
+            int monthIndex = toMonthIndex(series.getOccurrenceStartMinute(index));
+            int runStart = index;
+            while (index < count && toMonthIndex(series.getOccurrenceStartMinute(index)) == monthIndex) {
+                index++;
+            }
+            int run = index - runStart;
+            addTo(totalsByMonth.computeIfAbsent(monthIndex, key -> new long[3]), sign * run, sign * run * minutes,
+                    sign * run * feeMinutes);
+        }
+
+        addTo(totals, sign * count, sign * count * minutes, sign * count * feeMinutes);
+        addToStudent(series.getStudentId(), sign * count, sign * count * minutes, sign * count * feeMinutes);
+    }
+
+    private void addToMonth(int startMinute, long lessons, long minutes, long feeMinutes) {
+        addTo(totals, lessons, minutes, feeMinutes);
+        addTo(totalsByMonth.computeIfAbsent(toMonthIndex(startMinute), key -> new long[3]), lessons, minutes,
+                feeMinutes);
+    }
+
+    private void addToStudent(long studentId, long lessons, long minutes, long feeMinutes) {
+        addTo(totalsByStudent.computeIfAbsent(studentId, key -> new long[3]), lessons, minutes, feeMinutes);
+    }
+
+    private static void addTo(long[] sums, long lessons, long minutes, long feeMinutes) {
+        sums[LESSONS] += lessons;
+        sums[MINUTES] += minutes;
+        sums[FEE_MINUTES] += feeMinutes;
+    }
+
+    private static LessonTotals toLessonTotals(long[] sums) {
+        if (sums == null) {
+            return LessonTotals.NONE;
+        }
+        return new LessonTotals(sums[LESSONS], sums[MINUTES], sums[FEE_MINUTES]);
+    }
+
+    private static int toMonthIndex(int epochMinute) {
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(epochMinute, MINUTES_PER_DAY));
+        return toMonthIndex(date.getYear(), date.getMonthValue());
+    }
+
+    private static int toMonthIndex(int year, int month) {
+        return year * 12 + month - 1;
+    }
+}
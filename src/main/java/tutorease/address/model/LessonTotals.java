@@ -0,0 +1,78 @@
+package tutorease.address.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Represents the number of lessons, the hours taught and the fees earned over a set of lessons.
+ * Guarantees: immutable.
+ */
+public class LessonTotals {
+    public static final LessonTotals NONE = new LessonTotals(0, 0, 0);
+
+    private static final BigDecimal MINUTES_PER_HOUR = BigDecimal.valueOf(60);
+
+    private final long lessonCount;
+    private final long minutes;
+    private final long feeMinutes;
+
+    /**
+     * Creates the totals of {@code lessonCount} lessons lasting {@code minutes} in all, where {@code feeMinutes} is
+     * the sum of the fee per hour times the minutes of each lesson.
+     */
+    public LessonTotals(long lessonCount, long minutes, long feeMinutes) {
+        this.lessonCount = lessonCount;
+        this.minutes = minutes;
+        this.feeMinutes = feeMinutes;
+    }
+
+    public long getLessonCount() {
+        return lessonCount;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    /**
+     * Returns the hours taught, rounded to two decimal places.
+     */
+    public BigDecimal getHours() {
+        return BigDecimal.valueOf(minutes).divide(MINUTES_PER_HOUR, 2, RoundingMode.HALF_UP).stripTrailingZeros();
+    }
+
+    /**
+     * Returns the fees earned, rounded to the nearest cent.
+     */
+    public BigDecimal getRevenue() {
+        return BigDecimal.valueOf(feeMinutes).divide(MINUTES_PER_HOUR, 2, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonTotals)) {
+            return false;
+        }
+
+        LessonTotals otherTotals = (LessonTotals) other;
+        return lessonCount == otherTotals.lessonCount
+                && minutes == otherTotals.minutes
+                && feeMinutes == otherTotals.feeMinutes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(31 * (31 * lessonCount + minutes) + feeMinutes);
+    }
+
+    @Override
+    public String toString() {
+        return lessonCount + " lesson(s), " + getHours().toPlainString() + " hour(s), $"
+                + getRevenue().toPlainString();
+    }
+}
@@ -1,12 +1,23 @@
 package tutorease.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javafx.collections.ObservableList;
 import tutorease.address.commons.core.GuiSettings;
+import tutorease.address.model.lesson.FreeSlot;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.WorkingHours;
 import tutorease.address.model.person.Person;
+import tutorease.address.model.person.PersonSearchPredicate;
+import tutorease.address.model.tag.TagFilter;
 
 /**
  * The API of the Model component.
@@ -96,6 +107,53 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons found by {@code search}.
+     * The search is run again whenever the persons change, until the filter is next updated, so that persons added or
+     * edited afterwards are shown if they are found.
+     * @throws NullPointerException if {@code search} is null.
+     */
+    void updateFilteredPersonListToSearch(Supplier<Set<Person>> search);
+
+    /**
+     * Returns the persons matching {@code predicate}, looked up from the words indexed by the address book instead of
+     * testing every person.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    Set<Person> findPersons(PersonSearchPredicate predicate);
+
+    /**
+     * Returns the persons passing {@code filter}, looked up from the tag index of the address book.
+     * @throws NullPointerException if {@code filter} is null.
+     */
+    Set<Person> findPersons(TagFilter filter);
+
+    /**
+     * Returns the person with {@code id} in the address book, or null if there is none.
+     */
+    Person getPersonById(long id);
+
+    /**
+     * Returns true if {@code student} is linked to {@code guardian} in the address book.
+     */
+    boolean isLinked(Person student, Person guardian);
+
+    /**
+     * Links {@code student} to {@code guardian}. Both must exist in the address book.
+     */
+    void linkGuardian(Person student, Person guardian);
+
+    /**
+     * Removes the link between {@code student} and {@code guardian}, which must exist.
+     */
+    void unlinkGuardian(Person student, Person guardian);
+
+    /**
+     * Returns the guardians of the students and the students of the guardians in {@code persons}, looked up from the
+     * links of each person.
+     */
+    Set<Person> getLinkedPersons(Collection<Person> persons);
+
     /**
      * Returns the lesson schedule.
      *
@@ -124,6 +182,14 @@ public interface Model {
      */
     void updateFilteredLessonList(Predicate<Lesson> predicate);
 
+    /**
+     * Shows only the lessons that start within {@code range} in the filtered lesson list. The filter of the list then
+     * only checks the lessons within the range.
+     *
+     * @param range The date range of the lessons to show.
+     */
+    void updateLessonDateRange(LessonDateRange range);
+
     /**
      * Returns true if the filtered lesson list is empty.
      *
@@ -160,6 +226,28 @@ public interface Model {
      */
     void deleteLesson(Lesson lesson);
 
+    /**
+     * Adds the given lesson series.
+     *
+     * @param series The lesson series to add.
+     */
+    void addLessonSeries(LessonSeries series);
+
+    /**
+     * Returns true if any lesson of {@code series} overlaps with a lesson in the lesson schedule.
+     *
+     * @param series The lesson series to check.
+     * @return A boolean indicating if the lesson series overlaps with the lesson schedule.
+     */
+    boolean hasLessonSeries(LessonSeries series);
+
+    /**
+     * Deletes the given lesson series and all of its lessons.
+     *
+     * @param series The lesson series to delete.
+     */
+    void deleteLessonSeries(LessonSeries series);
+
     /**
      * Returns lesson at the specified index.
      *
@@ -183,6 +271,13 @@ public interface Model {
      */
     int getLessonScheduleSize();
 
+    /**
+     * Returns the running totals of the lessons in the lesson schedule, per month, per student and per tag.
+     *
+     * @return The totals of the lessons.
+     */
+    LessonStatistics getLessonStatistics();
+
     /**
      * Returns size of filtered lesson list.
      *
@@ -196,4 +291,23 @@ public interface Model {
      * @param student The student whose lessons we are deleting.
      */
     void deleteStudentLesson(Person student);
+
+    /**
+     * Returns up to {@code limit} free slots in the lesson schedule from {@code from} and before {@code to}, in order.
+     *
+     * @param from The start of the period to search.
+     * @param to The end of the period to search.
+     * @param minMinutes The minimum length of a free slot, in minutes.
+     * @param workingHours The hours of each day in which free slots can be.
+     * @param limit The maximum number of free slots to return.
+     * @return The free slots found.
+     */
+    List<FreeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, int minMinutes, WorkingHours workingHours,
+                                 int limit);
+
+    /**
+     * Returns the changes made to the model since this method was last called, in the order they were made, and
+     * forgets them.
+     */
+    List<ModelMutation> takeMutations();
 }
@@ -4,15 +4,30 @@ import static java.util.Objects.requireNonNull;
 import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import tutorease.address.commons.core.GuiSettings;
 import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.model.ModelMutation.Type;
+import tutorease.address.model.lesson.DateTime;
+import tutorease.address.model.lesson.FreeSlot;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.lesson.LessonRangeList;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.WorkingHours;
 import tutorease.address.model.person.Person;
+import tutorease.address.model.person.PersonSearchPredicate;
+import tutorease.address.model.tag.TagFilter;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -24,7 +39,11 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final LessonSchedule lessonSchedule;
     private final FilteredList<Person> filteredPersons;
+    // The search the filtered person list shows, if any, which is run again whenever the persons change
+    private Supplier<Set<Person>> filteredPersonsSearch;
+    private final LessonRangeList lessonsInRange;
     private final FilteredList<Lesson> filteredLesson;
+    private final List<ModelMutation> mutations = new ArrayList<>();
 
     /**
      * Initializes a ModelManager with the given tutorEase and userPrefs.
@@ -40,7 +59,8 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         this.lessonSchedule = new LessonSchedule(lessonSchedule);
         filteredPersons = new FilteredList<>(this.tutorEase.getPersonList());
-        filteredLesson = new FilteredList<>(this.lessonSchedule.getLessonList());
+        lessonsInRange = new LessonRangeList(this.lessonSchedule.getLessonList());
+        filteredLesson = new FilteredList<>(lessonsInRange);
     }
 
     public ModelManager() {
@@ -87,6 +107,8 @@ public class ModelManager implements Model {
     @Override
     public void setTutorEase(ReadOnlyTutorEase tutorEase) {
         this.tutorEase.resetData(tutorEase);
+        recordMutation(Type.RESET_TUTOR_EASE, null, null, null);
+        refreshFilteredPersonsSearch();
     }
 
     @Override
@@ -114,12 +136,15 @@ public class ModelManager implements Model {
 
     @Override
     public void deletePerson(Person target) {
-        tutorEase.removePerson(target);
+        Person storedTarget = tutorEase.getStoredPerson(target);
+        tutorEase.removePerson(storedTarget);
+        recordMutation(Type.DELETE_PERSON, storedTarget, null, null);
     }
 
     @Override
     public void addPerson(Person person) {
         tutorEase.addPerson(person);
+        recordMutation(Type.ADD_PERSON, person, null, null);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -127,8 +152,12 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        tutorEase.setPerson(target, editedPerson);
-        lessonSchedule.updatePersonInLessons(target, editedPerson);
+        // lessons are found by the ID of the stored person, which an equivalent target may not share
+        Person storedTarget = tutorEase.getStoredPerson(target);
+        tutorEase.setPerson(storedTarget, editedPerson);
+        lessonSchedule.updatePersonInLessons(storedTarget, editedPerson);
+        recordMutation(Type.SET_PERSON, storedTarget, editedPerson, null);
+        refreshFilteredPersonsSearch();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -150,9 +179,72 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        filteredPersonsSearch = null;
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void updateFilteredPersonListToSearch(Supplier<Set<Person>> search) {
+        requireNonNull(search);
+        filteredPersonsSearch = search;
+        refreshFilteredPersonsSearch();
+    }
+
+    /**
+     * Runs the search shown by the filtered person list again, if there is one. The persons found are looked up from
+     * the indexes of the address book, which are only up to date once a change to the persons is complete.
+     */
+    private void refreshFilteredPersonsSearch() {
+        if (filteredPersonsSearch == null) {
+            return;
+        }
+        Set<Person> matches = filteredPersonsSearch.get();
+        filteredPersons.setPredicate(matches::contains);
+    }
+
+    @Override
+    public Set<Person> findPersons(PersonSearchPredicate predicate) {
+        requireNonNull(predicate);
+        return tutorEase.findPersons(predicate);
+    }
+
+    @Override
+    public Set<Person> findPersons(TagFilter filter) {
+        requireNonNull(filter);
+        return tutorEase.findPersons(filter);
+    }
+
+    @Override
+    public Person getPersonById(long id) {
+        return tutorEase.getPersonById(id);
+    }
+
+    @Override
+    public boolean isLinked(Person student, Person guardian) {
+        requireAllNonNull(student, guardian);
+        return tutorEase.isLinked(student, guardian);
+    }
+
+    @Override
+    public void linkGuardian(Person student, Person guardian) {
+        requireAllNonNull(student, guardian);
+        tutorEase.linkGuardian(student, guardian);
+        recordMutation(Type.LINK_GUARDIAN, student, guardian, null);
+    }
+
+    @Override
+    public void unlinkGuardian(Person student, Person guardian) {
+        requireAllNonNull(student, guardian);
+        tutorEase.unlinkGuardian(student, guardian);
+        recordMutation(Type.UNLINK_GUARDIAN, student, guardian, null);
+    }
+
+    @Override
+    public Set<Person> getLinkedPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        return tutorEase.getLinkedPersons(persons);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -181,6 +273,7 @@ public class ModelManager implements Model {
     @Override
     public void setLessonSchedule(ReadOnlyLessonSchedule lessonSchedule) {
         this.lessonSchedule.resetData(lessonSchedule);
+        recordMutation(Type.RESET_LESSON_SCHEDULE, null, null, null);
     }
 
     @Override
@@ -194,6 +287,19 @@ public class ModelManager implements Model {
         filteredLesson.setPredicate(predicate);
     }
 
+    @Override
+    public void updateLessonDateRange(LessonDateRange range) {
+        requireNonNull(range);
+        // Lessons of a series are only listed within the occurrence window, so it follows a bounded range
+        if (range.hasStart() && range.hasEnd()) {
+            lessonSchedule.setOccurrenceWindow(DateTime.fromEpochMinute(range.getStartMinute()),
+                    DateTime.fromEpochMinute(range.getEndMinute()));
+        } else {
+            lessonSchedule.resetOccurrenceWindow();
+        }
+        lessonsInRange.setRange(range);
+    }
+
     @Override
     public boolean filteredLessonListIsEmpty() {
         return filteredLesson.isEmpty();
@@ -203,6 +309,8 @@ public class ModelManager implements Model {
     public void addLesson(Lesson lesson) {
         requireNonNull(lesson);
         lessonSchedule.addLesson(lesson);
+        recordMutation(Type.ADD_LESSON, null, null, lesson);
+        updateLessonDateRange(LessonDateRange.ALL);
         updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
     }
 
@@ -210,6 +318,31 @@ public class ModelManager implements Model {
     public void deleteLesson(Lesson lesson) {
         requireNonNull(lesson);
         lessonSchedule.deleteLesson(lesson);
+        recordMutation(Type.DELETE_LESSON, null, null, lesson);
+    }
+
+    @Override
+    public void addLessonSeries(LessonSeries series) {
+        requireNonNull(series);
+        lessonSchedule.addLessonSeries(series);
+        mutations.add(new ModelMutation(Type.ADD_LESSON_SERIES, null, null, null, series,
+                tutorEase.getGeneration(), lessonSchedule.getGeneration()));
+        updateLessonDateRange(LessonDateRange.ALL);
+        updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
+    }
+
+    @Override
+    public boolean hasLessonSeries(LessonSeries series) {
+        requireNonNull(series);
+        return lessonSchedule.hasLessonSeries(series);
+    }
+
+    @Override
+    public void deleteLessonSeries(LessonSeries series) {
+        requireNonNull(series);
+        lessonSchedule.deleteLessonSeries(series);
+        mutations.add(new ModelMutation(Type.DELETE_LESSON_SERIES, null, null, null, series,
+                tutorEase.getGeneration(), lessonSchedule.getGeneration()));
     }
 
     @Override
@@ -233,6 +366,11 @@ public class ModelManager implements Model {
         return lessonSchedule.getSize();
     }
 
+    @Override
+    public LessonStatistics getLessonStatistics() {
+        return lessonSchedule.getStatistics();
+    }
+
     @Override
     public int getFilteredLessonListSize() {
         return filteredLesson.size();
@@ -240,14 +378,27 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteStudentLesson(Person student) {
-        int currentIndex = 0;
-        while (currentIndex < this.getLessonScheduleSize()) {
-            Lesson lesson = this.getLesson(currentIndex);
-            if (student.equals(lesson.getStudent())) {
-                this.deleteLesson(lesson);
-            } else {
-                currentIndex++;
-            }
-        }
+        lessonSchedule.deleteStudentLessons(student);
+        recordMutation(Type.DELETE_STUDENT_LESSONS, student, null, null);
+    }
+
+    @Override
+    public List<FreeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, int minMinutes,
+                                        WorkingHours workingHours, int limit) {
+        return lessonSchedule.findFreeSlots(from, to, minMinutes, workingHours, limit);
+    }
+
+    //=========== Mutations ================================================================================
+
+    @Override
+    public List<ModelMutation> takeMutations() {
+        List<ModelMutation> takenMutations = new ArrayList<>(mutations);
+        mutations.clear();
+        return takenMutations;
+    }
+
+    private void recordMutation(Type type, Person person, Person editedPerson, Lesson lesson) {
+        mutations.add(new ModelMutation(type, person, editedPerson, lesson,
+                tutorEase.getGeneration(), lessonSchedule.getGeneration()));
     }
 }
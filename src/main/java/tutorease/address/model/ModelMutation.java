@@ -0,0 +1,226 @@
+package tutorease.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import tutorease.address.commons.util.ToStringBuilder;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.person.Person;
+
+/**
+ * Represents a single change made to the model, together with the generations of the address book and the lesson
+ * schedule right after the change was made.
+ * Changes can be saved as they happen and applied again later to bring older saved data up to date.
+ */
+public class ModelMutation {
+
+    /**
+     * Kinds of changes that can be made to the model.
+     */
+    public enum Type {
+        ADD_PERSON, SET_PERSON, DELETE_PERSON, ADD_LESSON, DELETE_LESSON, DELETE_STUDENT_LESSONS,
+        ADD_LESSON_SERIES, DELETE_LESSON_SERIES, LINK_GUARDIAN, UNLINK_GUARDIAN, RESET_TUTOR_EASE,
+        RESET_LESSON_SCHEDULE
+    }
+
+    private final Type type;
+    private final Person person;
+    private final Person editedPerson;
+    private final Lesson lesson;
+    private final LessonSeries lessonSeries;
+    private final long tutorEaseGeneration;
+    private final long lessonScheduleGeneration;
+
+    /**
+     * Creates a {@code ModelMutation}. Only the person or lesson fields used by {@code type} need to be non-null.
+     *
+     * @param type The kind of change.
+     * @param person The person added, deleted or replaced, or the student whose lessons were deleted or who was linked
+     *     to or unlinked from a guardian.
+     * @param editedPerson The person that replaced {@code person}, or the guardian linked to or unlinked from it.
+     * @param lesson The lesson added or deleted.
+     * @param tutorEaseGeneration The generation of the address book after the change.
+     * @param lessonScheduleGeneration The generation of the lesson schedule after the change.
+     */
+    public ModelMutation(Type type, Person person, Person editedPerson, Lesson lesson,
+                         long tutorEaseGeneration, long lessonScheduleGeneration) {
+        this(type, person, editedPerson, lesson, null, tutorEaseGeneration, lessonScheduleGeneration);
+    }
+
+    /**
+     * Creates a {@code ModelMutation} that may also carry a lesson series. Only the person, lesson or lesson series
+     * fields used by {@code type} need to be non-null.
+     *
+     * @param lessonSeries The lesson series added or deleted.
+     */
+    public ModelMutation(Type type, Person person, Person editedPerson, Lesson lesson, LessonSeries lessonSeries,
+                         long tutorEaseGeneration, long lessonScheduleGeneration) {
+        requireNonNull(type);
+        this.type = type;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.lesson = lesson;
+        this.lessonSeries = lessonSeries;
+        this.tutorEaseGeneration = tutorEaseGeneration;
+        this.lessonScheduleGeneration = lessonScheduleGeneration;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Person getEditedPerson() {
+        return editedPerson;
+    }
+
+    public Lesson getLesson() {
+        return lesson;
+    }
+
+    public LessonSeries getLessonSeries() {
+        return lessonSeries;
+    }
+
+    public long getTutorEaseGeneration() {
+        return tutorEaseGeneration;
+    }
+
+    public long getLessonScheduleGeneration() {
+        return lessonScheduleGeneration;
+    }
+
+    /**
+     * Returns true if this change replaces the whole address book or lesson schedule, in which case it is cheaper to
+     * save the data again than to record the change.
+     */
+    public boolean isReset() {
+        return type == Type.RESET_TUTOR_EASE || type == Type.RESET_LESSON_SCHEDULE;
+    }
+
+    /**
+     * Applies this change to {@code tutorEase} and {@code lessonSchedule}.
+     * Each part of the change is only applied if the generation of the data it touches is older than the change, so a
+     * change that is already contained in the data is not applied twice.
+     *
+     * @throws IllegalStateException if this change is a reset, which carries no data to apply.
+     */
+    public void applyTo(TutorEase tutorEase, LessonSchedule lessonSchedule) {
+        requireNonNull(tutorEase);
+        requireNonNull(lessonSchedule);
+        boolean isNewToTutorEase = tutorEaseGeneration > tutorEase.getGeneration();
+        boolean isNewToLessonSchedule = lessonScheduleGeneration > lessonSchedule.getGeneration();
+
+        switch (type) {
+        case ADD_PERSON:
+            if (isNewToTutorEase) {
+                tutorEase.addPerson(person);
+            }
+            break;
+        case SET_PERSON:
+            if (isNewToTutorEase) {
+                tutorEase.setPerson(person, editedPerson);
+            }
+            if (isNewToLessonSchedule) {
+                lessonSchedule.updatePersonInLessons(person, editedPerson);
+            }
+            break;
+        case DELETE_PERSON:
+            if (isNewToTutorEase) {
+                tutorEase.removePerson(person);
+            }
+            break;
+        case ADD_LESSON:
+            if (isNewToLessonSchedule) {
+                lessonSchedule.addLesson(lesson);
+            }
+            break;
+        case DELETE_LESSON:
+            if (isNewToLessonSchedule) {
+                lessonSchedule.deleteLesson(lesson);
+            }
+            break;
+        case DELETE_STUDENT_LESSONS:
+            if (isNewToLessonSchedule) {
+                lessonSchedule.deleteStudentLessons(person);
+            }
+            break;
+        case ADD_LESSON_SERIES:
+            if (isNewToLessonSchedule) {
+                lessonSchedule.addLessonSeries(lessonSeries);
+            }
+            break;
+        case DELETE_LESSON_SERIES:
+            if (isNewToLessonSchedule) {
+                lessonSchedule.deleteLessonSeries(lessonSeries);
+            }
+            break;
+        case LINK_GUARDIAN:
+            if (isNewToTutorEase) {
+                tutorEase.linkGuardian(person, editedPerson);
+            }
+            break;
+        case UNLINK_GUARDIAN:
+            if (isNewToTutorEase) {
+                tutorEase.unlinkGuardian(person, editedPerson);
+            }
+            break;
+        case RESET_TUTOR_EASE:
+        case RESET_LESSON_SCHEDULE:
+            // A reset makes the storage rewrite the data files instead of saving the change, and resets are rejected
+            // when the saved changes are read, so a reset never has to be applied
+            throw new IllegalStateException("A reset of the model is saved by rewriting the data files, and cannot be "
+                    + "applied: " + type);
+        default:
+            throw new AssertionError("Unknown type of change: " + type);
+        }
+
+        tutorEase.setGeneration(Math.max(tutorEase.getGeneration(), tutorEaseGeneration));
+        lessonSchedule.setGeneration(Math.max(lessonSchedule.getGeneration(), lessonScheduleGeneration));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ModelMutation)) {
+            return false;
+        }
+
+        ModelMutation otherMutation = (ModelMutation) other;
+        return type == otherMutation.type
+                && Objects.equals(person, otherMutation.person)
+                && Objects.equals(editedPerson, otherMutation.editedPerson)
+                && Objects.equals(lesson, otherMutation.lesson)
+                && Objects.equals(lessonSeries, otherMutation.lessonSeries)
+                && tutorEaseGeneration == otherMutation.tutorEaseGeneration
+                && lessonScheduleGeneration == otherMutation.lessonScheduleGeneration;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, person, editedPerson, lesson, lessonSeries, tutorEaseGeneration,
+                lessonScheduleGeneration);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("person", person)
+                .add("editedPerson", editedPerson)
+                .add("lesson", lesson)
+                .add("lessonSeries", lessonSeries)
+                .add("tutorEaseGeneration", tutorEaseGeneration)
+                .add("lessonScheduleGeneration", lessonScheduleGeneration)
+                .toString();
+    }
+}
@@ -1,7 +1,10 @@
 package tutorease.address.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonSeries;
 /**
  * Gives an unmodifiable view of a lesson schedule.
  */
@@ -12,6 +15,11 @@ public interface ReadOnlyLessonSchedule {
      */
     ObservableList<Lesson> getLessonList();
 
+    /**
+     * Returns an unmodifiable view of the lesson series, whose lessons are only partly listed in the lesson schedule.
+     */
+    List<LessonSeries> getLessonSeriesList();
+
     /**
      * Returns the lesson at the specified index.
      *
@@ -20,4 +28,8 @@ public interface ReadOnlyLessonSchedule {
      */
     Lesson getLesson(int index);
 
+    /**
+     * Returns the generation of the lesson schedule, which increases every time the lessons are changed.
+     */
+    long getGeneration();
 }
@@ -1,5 +1,7 @@
 package tutorease.address.model;
 
+import java.util.Set;
+
 import javafx.collections.ObservableList;
 import tutorease.address.model.person.Person;
 
@@ -22,4 +24,25 @@ public interface ReadOnlyTutorEase {
      * @return The person with the specified name.
      */
     Person getPerson(String name);
+
+    /**
+     * Returns the person with the specified ID.
+     *
+     * @param id The ID of the person to retrieve.
+     * @return The person with the specified ID, or null if there is no such person.
+     */
+    Person getPersonById(long id);
+
+    /**
+     * Returns the IDs of the guardians linked to the student with the specified ID.
+     *
+     * @param studentId The ID of the student.
+     * @return The IDs of its guardians, which is empty if it has none or is not a student.
+     */
+    Set<Long> getGuardianIds(long studentId);
+
+    /**
+     * Returns the generation of the address book, which increases every time the persons are changed.
+     */
+    long getGeneration();
 }
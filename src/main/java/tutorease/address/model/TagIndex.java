@@ -0,0 +1,158 @@
+package tutorease.address.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import tutorease.address.model.person.Person;
+import tutorease.address.model.tag.Tag;
+import tutorease.address.model.tag.TagFilter;
+
+/**
+ * An index from tag names to the persons having them.
+ * <p>
+ * Every person is given an ordinal, and the persons with a tag are kept as a bitset over the ordinals, in a
+ * {@code long[]} holding 64 persons per element. A {@code TagFilter} is evaluated by OR-ing the bitsets of the tags
+ * in each group and AND-ing the groups, so a query over thousands of persons only takes a few hundred word
+ * operations per tag. The ordinals of removed persons are reused, so the bitsets stay as long as the largest number
+ * of persons held at once.
+ */
+class TagIndex {
+    private static final int WORD_SIZE = Long.SIZE;
+
+    private final Map<Long, Integer> ordinalsById = new HashMap<>();
+    private final List<Person> personsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private final Map<String, long[]> personsByTag = new HashMap<>();
+
+    /**
+     * Adds {@code person} and its tags to the index.
+     */
+    void add(Person person) {
+        int ordinal;
+        if (freeOrdinals.isEmpty()) {
+            ordinal = personsByOrdinal.size();
+            personsByOrdinal.add(person);
+        } else {
+            ordinal = freeOrdinals.pop();
+            personsByOrdinal.set(ordinal, person);
+        }
+        ordinalsById.put(person.getId(), ordinal);
+
+        for (Tag tag : person.getTags()) {
+            String key = toKey(tag);
+            long[] bits = personsByTag.get(key);
+            int word = ordinal / WORD_SIZE;
+            if (bits == null || bits.length <= word) {
+                bits = bits == null ? new long[word + 1] : Arrays.copyOf(bits, word + 1);
+                personsByTag.put(key, bits);
+            }
+            bits[word] |= 1L << (ordinal % WORD_SIZE);
+        }
+    }
+
+    /**
+     * Removes {@code person} and its tags from the index. Tags no other person has are dropped.
+     */
+    void remove(Person person) {
+        Integer ordinal = ordinalsById.remove(person.getId());
+        if (ordinal == null) {
+            return;
+        }
+        personsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+
+        for (Tag tag : person.getTags()) {
+            String key = toKey(tag);
+            long[] bits = personsByTag.get(key);
+            if (bits == null) {
+                continue;
+            }
+            bits[ordinal / WORD_SIZE] &= ~(1L << (ordinal % WORD_SIZE));
+            if (isEmpty(bits)) {
+                personsByTag.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        ordinalsById.clear();
+        personsByOrdinal.clear();
+        freeOrdinals.clear();
+        personsByTag.clear();
+    }
+
+    /**
+     * Returns the persons passing {@code filter}. A filter without groups is passed by every person.
+     */
+    Set<Person> find(TagFilter filter) {
+        long[] matches = null;
+        for (Set<Tag> group : filter.getGroups()) {
+            long[] groupMatches = new long[0];
+            for (Tag tag : group) {
+                groupMatches = or(groupMatches, personsByTag.get(toKey(tag)));
+            }
+            matches = matches == null ? groupMatches : and(matches, groupMatches);
+            if (isEmpty(matches)) {
+                return new HashSet<>();
+            }
+        }
+
+        if (matches == null) {
+            Set<Person> persons = new HashSet<>(personsByOrdinal);
+            persons.remove(null);
+            return persons;
+        }
+        Set<Person> persons = new HashSet<>();
+        for (int word = 0; word < matches.length; word++) {
+            long bits = matches[word];
+            while (bits != 0) {
+                persons.add(personsByOrdinal.get(word * WORD_SIZE + Long.numberOfTrailingZeros(bits)));
+                bits &= bits - 1;
+            }
+        }
+        return persons;
+    }
+
+    private static String toKey(Tag tag) {
+        return tag.tagName.toLowerCase(Locale.ROOT);
+    }
+
+    private static long[] or(long[] bits, long[] otherBits) {
+        if (otherBits == null) {
+            return bits;
+        }
+        long[] result = Arrays.copyOf(bits, Math.max(bits.length, otherBits.length));
+        for (int i = 0; i < otherBits.length; i++) {
+            result[i] |= otherBits[i];
+        }
+        return result;
+    }
+
+    private static long[] and(long[] bits, long[] otherBits) {
+        long[] result = new long[Math.min(bits.length, otherBits.length)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = bits[i] & otherBits[i];
+        }
+        return result;
+    }
+
+    private static boolean isEmpty(long[] bits) {
+        for (long word : bits) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,21 +1,38 @@
 package tutorease.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.AppUtil.checkArgument;
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import tutorease.address.commons.util.ToStringBuilder;
 import tutorease.address.model.person.Person;
+import tutorease.address.model.person.PersonSearchPredicate;
 import tutorease.address.model.person.UniquePersonList;
+import tutorease.address.model.tag.TagFilter;
 
 /**
  * Wraps all data at the address-book level.
  * Duplicates are not allowed (by .isSamePerson comparison).
+ * Persons can also be looked up by their ID, which other records such as lessons use to refer to them, and by their
+ * tags. Students can be linked to their guardians, and the links are kept in both directions.
+ * Every change to the persons increases the generation, which storage uses to tell which changes are already saved.
  */
 public class TutorEase implements ReadOnlyTutorEase {
+    public static final String MESSAGE_INVALID_LINK = "Only a student can be linked to a guardian.";
 
     private final UniquePersonList persons;
+    private final Map<Long, Person> personsById;
+    private final TagIndex tagIndex;
+    private final GuardianLinks guardianLinks;
+    private long generation;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,6 +43,9 @@ public class TutorEase implements ReadOnlyTutorEase {
      */
     {
         persons = new UniquePersonList();
+        personsById = new HashMap<>();
+        tagIndex = new TagIndex();
+        guardianLinks = new GuardianLinks();
     }
 
     public TutorEase() {}
@@ -36,25 +56,41 @@ public class TutorEase implements ReadOnlyTutorEase {
     public TutorEase(ReadOnlyTutorEase toBeCopied) {
         this();
         resetData(toBeCopied);
+        generation = toBeCopied.getGeneration();
     }
 
     // list overwrite operations
 
     /**
-     * Replaces the contents of the person list with {@code persons}.
+     * Replaces the contents of the person list with {@code persons}, and removes every link between them.
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+
+        personsById.clear();
+        tagIndex.clear();
+        guardianLinks.clear();
+        for (Person person : persons) {
+            personsById.put(person.getId(), person);
+            tagIndex.add(person);
+        }
+        generation++;
     }
 
     /**
-     * Resets the existing data of this {@code TutorEase} with {@code newData}.
+     * Resets the existing data of this {@code TutorEase} with {@code newData}, including the links between its
+     * students and guardians.
      */
     public void resetData(ReadOnlyTutorEase newData) {
         requireNonNull(newData);
 
         setPersons(newData.getPersonList());
+        for (Person person : newData.getPersonList()) {
+            for (long guardianId : newData.getGuardianIds(person.getId())) {
+                guardianLinks.link(person.getId(), guardianId);
+            }
+        }
     }
 
     // person-level operations
@@ -72,13 +108,7 @@ public class TutorEase implements ReadOnlyTutorEase {
      */
     public boolean hasSamePhone(Person person) {
         requireNonNull(person);
-
-        for (Person existingPerson : persons) {
-            if (existingPerson.hasSamePhone(person)) {
-                return true;
-            }
-        }
-        return false;
+        return persons.hasSamePhone(person);
     }
 
     /**
@@ -86,13 +116,7 @@ public class TutorEase implements ReadOnlyTutorEase {
      */
     public boolean hasSameEmail(Person person) {
         requireNonNull(person);
-
-        for (Person existingPerson : persons) {
-            if (existingPerson.hasSameEmail(person)) {
-                return true;
-            }
-        }
-        return false;
+        return persons.hasSameEmail(person);
     }
 
 
@@ -102,17 +126,39 @@ public class TutorEase implements ReadOnlyTutorEase {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        personsById.put(p.getId(), p);
+        tagIndex.add(p);
+        generation++;
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
+     * The links of {@code target} are kept unless {@code editedPerson} has another ID or role.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
+        // the indexes are keyed by the ID of the stored person, which an equivalent target may not share
+        Person storedTarget = persons.getStoredPerson(target);
 
-        persons.setPerson(target, editedPerson);
+        persons.setPerson(storedTarget, editedPerson);
+        personsById.remove(storedTarget.getId());
+        personsById.put(editedPerson.getId(), editedPerson);
+        tagIndex.remove(storedTarget);
+        tagIndex.add(editedPerson);
+        if (storedTarget.getId() != editedPerson.getId() || storedTarget.isStudent() != editedPerson.isStudent()) {
+            guardianLinks.removeAll(storedTarget.getId());
+        }
+        generation++;
+    }
+
+    /**
+     * Returns the person stored in the address book that is equivalent to {@code person}.
+     * {@code person} must exist in the address book.
+     */
+    public Person getStoredPerson(Person person) {
+        return persons.getStoredPerson(person);
     }
 
     /**
@@ -125,12 +171,98 @@ public class TutorEase implements ReadOnlyTutorEase {
         return persons.getPerson(name);
     }
 
+    @Override
+    public Person getPersonById(long id) {
+        return personsById.get(id);
+    }
+
     /**
-     * Removes {@code key} from this {@code TutorEase}.
+     * Returns the persons matching {@code predicate}, found from the words indexed by the person list.
+     */
+    public Set<Person> findPersons(PersonSearchPredicate predicate) {
+        return persons.findPersons(predicate);
+    }
+
+    /**
+     * Returns the persons passing {@code filter}, found from the tag index.
+     */
+    public Set<Person> findPersons(TagFilter filter) {
+        requireNonNull(filter);
+        return tagIndex.find(filter);
+    }
+
+    /**
+     * Removes {@code key} from this {@code TutorEase}, together with its links.
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
-        persons.remove(key);
+        // the indexes are keyed by the ID of the stored person, which an equivalent key may not share
+        Person storedKey = persons.getStoredPerson(key);
+        persons.remove(storedKey);
+        personsById.remove(storedKey.getId());
+        tagIndex.remove(storedKey);
+        guardianLinks.removeAll(storedKey.getId());
+        generation++;
+    }
+
+    /**
+     * Links {@code student} to {@code guardian}. Both must exist in the address book.
+     */
+    public void linkGuardian(Person student, Person guardian) {
+        requireAllNonNull(student, guardian);
+        checkArgument(student.isStudent() && guardian.isGuardian(), MESSAGE_INVALID_LINK);
+        guardianLinks.link(student.getId(), guardian.getId());
+        generation++;
+    }
+
+    /**
+     * Removes the link between {@code student} and {@code guardian}.
+     */
+    public void unlinkGuardian(Person student, Person guardian) {
+        requireAllNonNull(student, guardian);
+        guardianLinks.unlink(student.getId(), guardian.getId());
+        generation++;
+    }
+
+    /**
+     * Returns true if {@code student} is linked to {@code guardian}.
+     */
+    public boolean isLinked(Person student, Person guardian) {
+        requireAllNonNull(student, guardian);
+        return guardianLinks.isLinked(student.getId(), guardian.getId());
+    }
+
+    @Override
+    public Set<Long> getGuardianIds(long studentId) {
+        return guardianLinks.getGuardianIds(studentId);
+    }
+
+    /**
+     * Returns the persons linked to any of {@code persons}: the guardians of the students and the students of the
+     * guardians. Only the links of the given persons are followed.
+     */
+    public Set<Person> getLinkedPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        Set<Person> linkedPersons = new HashSet<>();
+        for (Person person : persons) {
+            for (long linkedId : guardianLinks.getLinkedIds(person.getId())) {
+                linkedPersons.add(personsById.get(linkedId));
+            }
+        }
+        return linkedPersons;
+    }
+
+    @Override
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Sets the generation of this {@code TutorEase}. Used when loading saved data, so that the generation carries on
+     * from where it was when the data was saved.
+     */
+    public void setGeneration(long generation) {
+        this.generation = generation;
     }
 
     //// util methods
@@ -159,7 +291,8 @@ public class TutorEase implements ReadOnlyTutorEase {
         }
 
         TutorEase otherTutorEase = (TutorEase) other;
-        return persons.equals(otherTutorEase.persons);
+        return persons.equals(otherTutorEase.persons)
+                && guardianLinks.equals(otherTutorEase.guardianLinks);
     }
 
     @Override
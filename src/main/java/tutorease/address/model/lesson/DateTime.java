@@ -5,6 +5,7 @@ import static tutorease.address.commons.util.DateTimeUtil.checkValidDateTime;
 import static tutorease.address.commons.util.DateTimeUtil.dateTimeToString;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -13,30 +14,57 @@ import tutorease.address.logic.parser.exceptions.ParseException;
 
 /**
  * Represents a DateTime in the address book.
+ * Only the minutes since the epoch are kept, as lessons are held for years and the date time is rarely needed; the
+ * {@code LocalDateTime} is built from them when asked for.
  */
 public class DateTime implements Comparable<DateTime> {
     private static Logger logger = LogsCenter.getLogger(DateTime.class);
-    private final LocalDateTime dateTime;
+    private final int epochMinute;
+    // Formatted when first needed, as lessons are rendered and saved far more often than they are created
+    private String formattedDateTime;
 
     /**
      * Constructs a {@code DateTime}.
      *
-     * @param dateTime A valid date and time.
+     * @param dateTime A valid date and time. Any seconds are dropped, as lesson times are always whole minutes.
      */
     public DateTime(LocalDateTime dateTime) throws ParseException {
-        logger.log(Level.INFO, "Creating DateTime object with date time: " + dateTime);
+        logger.log(Level.FINE, "Creating DateTime object with date time: {0}", dateTime);
         requireNonNull(dateTime);
-        checkValidDateTime(dateTimeToString(dateTime));
+        checkValidDateTime(dateTime);
 
-        this.dateTime = dateTime;
-        logger.log(Level.INFO, "Created DateTime object with date time: " + dateTime);
+        this.epochMinute = toEpochMinute(dateTime);
+        logger.log(Level.FINE, "Created DateTime object with date time: {0}", dateTime);
     }
 
     /**
      * Returns the date and time.
      */
     public LocalDateTime getDateTime() {
-        return dateTime;
+        return fromEpochMinute(epochMinute);
+    }
+
+    /**
+     * Returns the number of minutes from 1970-01-01T00:00 to this date time.
+     */
+    public int getEpochMinute() {
+        return epochMinute;
+    }
+
+    /**
+     * Returns the number of minutes from 1970-01-01T00:00 to {@code dateTime}, ignoring any seconds.
+     * Valid years are close enough to 1970 for the minutes since then to fit in an int.
+     */
+    public static int toEpochMinute(LocalDateTime dateTime) {
+        return (int) Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Returns the date and time {@code epochMinute} minutes from 1970-01-01T00:00, the reverse of
+     * {@link #toEpochMinute(LocalDateTime)}.
+     */
+    public static LocalDateTime fromEpochMinute(int epochMinute) {
+        return LocalDateTime.ofEpochSecond(epochMinute * 60L, 0, ZoneOffset.UTC);
     }
 
     /**
@@ -46,7 +74,7 @@ public class DateTime implements Comparable<DateTime> {
      * @return True if this date time is before the other.
      */
     public boolean isBefore(DateTime other) {
-        return this.dateTime.isBefore(other.getDateTime());
+        return epochMinute < other.epochMinute;
     }
 
     /**
@@ -56,12 +84,18 @@ public class DateTime implements Comparable<DateTime> {
      * @return True if this date time is after the other.
      */
     public boolean isAfter(DateTime other) {
-        return this.dateTime.isAfter(other.getDateTime());
+        return epochMinute > other.epochMinute;
     }
 
     @Override
     public String toString() {
-        return dateTimeToString(dateTime);
+        // A race only formats the same string twice, since strings are immutable
+        String formatted = formattedDateTime;
+        if (formatted == null) {
+            formatted = dateTimeToString(getDateTime());
+            formattedDateTime = formatted;
+        }
+        return formatted;
     }
 
     @Override
@@ -76,7 +110,12 @@ public class DateTime implements Comparable<DateTime> {
         }
 
         DateTime otherDateTime = (DateTime) other;
-        return dateTime.equals(otherDateTime.dateTime);
+        return epochMinute == otherDateTime.epochMinute;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(epochMinute);
     }
 
     /**
@@ -88,7 +127,7 @@ public class DateTime implements Comparable<DateTime> {
      */
     @Override
     public int compareTo(DateTime dateTime) {
-        return this.dateTime.compareTo(dateTime.dateTime);
+        return Integer.compare(epochMinute, dateTime.epochMinute);
     }
 
     /**
@@ -40,15 +40,15 @@ public class EndDateTime extends DateTime {
      * @throws ParseException If the hours to add is invalid.
      */
     public static EndDateTime createEndDateTime(StartDateTime startDateTime, String hoursToAdd) throws ParseException {
-        logger.log(Level.INFO, "Creating EndDateTime object with start date time: " + startDateTime
-                + " and hours to add: " + hoursToAdd);
+        logger.log(Level.FINE, () -> "Creating EndDateTime object from: " + startDateTime + " and hours to add: "
+                + hoursToAdd);
 
         requireNonNull(hoursToAdd);
         checkArgument(isValidHoursToAdd(hoursToAdd), HOURS_MESSAGE_CONSTRAINTS);
 
         double parsedHoursToAdd = NumbersUtil.parseDouble(hoursToAdd, HOURS_MESSAGE_CONSTRAINTS);
         LocalDateTime endDateTime = calculateEndDateTime(startDateTime, parsedHoursToAdd);
-        logger.log(Level.INFO, "Created EndDateTime: " + endDateTime);
+        logger.log(Level.FINE, "Created EndDateTime: {0}", endDateTime);
         return new EndDateTime(endDateTime);
     }
 
@@ -66,6 +66,18 @@ public class EndDateTime extends DateTime {
         return new EndDateTime(parseDateTime(dateTime));
     }
 
+    /**
+     * Creates an EndDateTime object from a given date and time, such as a later lesson of a recurring lesson.
+     *
+     * @param dateTime The end date and time.
+     * @return The EndDateTime object.
+     * @throws ParseException If the date and time is not within the valid years.
+     */
+    public static EndDateTime createFromDateTime(LocalDateTime dateTime) throws ParseException {
+        requireNonNull(dateTime);
+        return new EndDateTime(dateTime);
+    }
+
     /**
      * Returns true if a given string is a valid number of hours to add, 0 < hours <= 24.
      *
@@ -24,13 +24,13 @@ public class Fee {
      * @param value A valid fee amount.
      */
     public Fee(String value) throws ParseException {
-        logger.log(Level.INFO, "Creating Fee object with value: " + value);
+        logger.log(Level.FINE, "Creating Fee object with value: {0}", value);
         value = value.trim();
         requireNonNull(value);
         checkArgument(isValidFee(value), MESSAGE_CONSTRAINTS);
 
         this.value = NumbersUtil.parseInt(value, MESSAGE_CONSTRAINTS);
-        logger.log(Level.INFO, "Created Fee object with value: " + value);
+        logger.log(Level.FINE, "Created Fee object with value: {0}", value);
     }
 
     /**
@@ -40,7 +40,7 @@ public class Fee {
      * @return True if the fee amount is valid, false otherwise.
      */
     public static boolean isValidFee(String value) {
-        logger.log(Level.INFO, "Checking if fee is valid: " + value);
+        logger.log(Level.FINE, "Checking if fee is valid: {0}", value);
         try {
             int parsedValue = NumbersUtil.parseInt(value, MESSAGE_CONSTRAINTS);
             return parsedValue >= 0;
@@ -50,6 +50,13 @@ public class Fee {
         }
     }
 
+    /**
+     * Returns the fee per hour.
+     */
+    public int getValue() {
+        return value;
+    }
+
     /**
      * Returns the value string of the fee.
      *
@@ -74,4 +81,9 @@ public class Fee {
         Fee otherFee = (Fee) other;
         return value == otherFee.value;
     }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
 }
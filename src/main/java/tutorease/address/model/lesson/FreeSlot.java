@@ -0,0 +1,62 @@
+package tutorease.address.model.lesson;
+
+import static tutorease.address.commons.util.DateTimeUtil.dateTimeToString;
+
+/**
+ * Represents a period of time with no lessons in the lesson schedule, in which a lesson can be added.
+ * Guarantees: immutable; the start is before the end.
+ */
+public class FreeSlot {
+    private final int startMinute;
+    private final int endMinute;
+
+    /**
+     * Creates a free slot from {@code startMinute} to {@code endMinute}, both in minutes since the epoch.
+     */
+    public FreeSlot(int startMinute, int endMinute) {
+        assert startMinute < endMinute : "A free slot must start before it ends";
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+    }
+
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    /**
+     * Returns the length of the free slot in minutes.
+     */
+    public int getLengthMinutes() {
+        return endMinute - startMinute;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlot)) {
+            return false;
+        }
+
+        FreeSlot otherSlot = (FreeSlot) other;
+        return startMinute == otherSlot.startMinute && endMinute == otherSlot.endMinute;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * startMinute + endMinute;
+    }
+
+    @Override
+    public String toString() {
+        return dateTimeToString(DateTime.fromEpochMinute(startMinute)) + " to "
+                + dateTimeToString(DateTime.fromEpochMinute(endMinute));
+    }
+}
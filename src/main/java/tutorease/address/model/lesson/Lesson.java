@@ -2,19 +2,21 @@ package tutorease.address.model.lesson;
 
 import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import tutorease.address.commons.core.LogsCenter;
-import tutorease.address.model.person.Person;
 
 /**
  * Represents a Lesson in the address book.
+ * The student of the lesson is referred to by its ID, which stays the same when the student is edited, so the lesson
+ * does not change with the details of the student. The student is looked up from the address book when needed.
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Lesson implements Comparable<Lesson> {
     private static Logger logger = LogsCenter.getLogger(Lesson.class);
-    private Person student;
+    private final long studentId;
     private final Fee fee;
     private final StartDateTime startDateTime;
     private final EndDateTime endDateTime;
@@ -22,42 +24,60 @@ public class Lesson implements Comparable<Lesson> {
     /**
      * Creates a lesson object.
      *
-     * @param student       The student of the lesson.
+     * @param studentId     The ID of the student of the lesson.
      * @param fee           The fee of the lesson.
      * @param startDateTime The start date time of the lesson.
      * @param endDateTime   The end date time of the lesson.
      */
-    public Lesson(Person student, Fee fee, StartDateTime startDateTime, EndDateTime endDateTime) {
-        logger.log(Level.INFO, "Creating Lesson object with student: " + student
-                + " fee: " + fee + " start date time: " + startDateTime + " end date time: " + endDateTime);
-        requireAllNonNull(student, fee, startDateTime, endDateTime);
+    public Lesson(long studentId, Fee fee, StartDateTime startDateTime, EndDateTime endDateTime) {
+        logger.log(Level.FINE, () -> "Creating Lesson object with student ID: " + studentId + " start date time: "
+                + startDateTime);
+        requireAllNonNull(fee, startDateTime, endDateTime);
 
-        this.student = student;
+        this.studentId = studentId;
         this.fee = fee;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
-        logger.log(Level.INFO, "Created Lesson object: " + this);
+        logger.log(Level.FINE, "Created Lesson object: {0}", this);
     }
 
     /**
      * Checks if this lesson overlaps with another lesson.
+     * The check is symmetric, so a lesson that fully contains another lesson is also overlapping.
+     * Lessons that only touch (one ends when the other starts) do not overlap.
      *
      * @param other The other lesson to compare with.
      * @return true if the lessons overlap, false otherwise.
      */
     public boolean isOverlapping(Lesson other) {
-        return this.startDateTime.isBefore(other.endDateTime) && this.startDateTime.isAfter(other.startDateTime)
-                || this.endDateTime.isAfter(other.startDateTime) && this.endDateTime.isBefore(other.endDateTime)
-                || this.startDateTime.equals(other.startDateTime) || this.endDateTime.equals(other.endDateTime);
+        return isOverlapping(this.startDateTime.getEpochMinute(), this.endDateTime.getEpochMinute(),
+                other.startDateTime.getEpochMinute(), other.endDateTime.getEpochMinute());
     }
 
     /**
-     * Returns the student of the lesson.
+     * Returns true if a lesson from {@code startMinute} to {@code endMinute} overlaps with a lesson from
+     * {@code otherStartMinute} to {@code otherEndMinute}, by the same rules as {@link #isOverlapping(Lesson)}.
+     * The times are given in minutes since the epoch, as returned by {@link DateTime#getEpochMinute()}.
+     */
+    public static boolean isOverlapping(int startMinute, int endMinute, int otherStartMinute, int otherEndMinute) {
+        return startMinute < otherEndMinute && otherStartMinute < endMinute
+                || startMinute == otherStartMinute || endMinute == otherEndMinute;
+    }
+
+    /**
+     * Returns true if this lesson is one of the lessons of a {@code LessonSeries}, rather than a lesson of its own.
+     */
+    public boolean isOccurrence() {
+        return false;
+    }
+
+    /**
+     * Returns the ID of the student of the lesson, which stays the same when the student is edited.
      *
-     * @return The student of the lesson.
+     * @return The ID of the student of the lesson.
      */
-    public Person getStudent() {
-        return student;
+    public long getStudentId() {
+        return studentId;
     }
 
     /**
@@ -96,24 +116,6 @@ public class Lesson implements Comparable<Lesson> {
         return endDateTime.toString();
     }
 
-    /**
-     * Returns the name of the student of the lesson.
-     *
-     * @return The name of the student of the lesson.
-     */
-    public String getStudentName() {
-        return student.getName().fullName;
-    }
-
-    /**
-     * Returns the address of the student of the lesson.
-     *
-     * @return The address of the student of the lesson.
-     */
-    public String getAddress() {
-        return student.getAddressString();
-    }
-
     /**
      * Returns the fee of the lesson.
      *
@@ -144,8 +146,8 @@ public class Lesson implements Comparable<Lesson> {
     @Override
     public String toString() {
         final StringBuilder builder = new StringBuilder();
-        builder.append("Student: ")
-                .append(getStudent().getName())
+        builder.append("Student ID: ")
+                .append(studentId)
                 .append("; Fee: ")
                 .append(fee.toString())
                 .append("; Start: ")
@@ -166,12 +168,18 @@ public class Lesson implements Comparable<Lesson> {
         }
 
         Lesson otherLesson = (Lesson) other;
-        return student.equals(otherLesson.student)
+        return isOccurrence() == otherLesson.isOccurrence()
+                && studentId == otherLesson.studentId
                 && fee.equals(otherLesson.fee)
                 && startDateTime.equals(otherLesson.startDateTime)
                 && endDateTime.equals(otherLesson.endDateTime);
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, fee, startDateTime, endDateTime);
+    }
+
     /**
      * Compares this lesson with another lesson.
      *
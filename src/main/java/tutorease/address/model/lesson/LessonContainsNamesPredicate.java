@@ -5,11 +5,13 @@ import java.util.function.Predicate;
 
 import tutorease.address.commons.util.StringUtil;
 import tutorease.address.commons.util.ToStringBuilder;
+import tutorease.address.model.person.Person;
 
 /**
- * Tests that a {@code Lesson}'s student's {@code Name} matches any of the keywords given.
+ * Tests that the {@code Name} of the student of a {@code Lesson} matches any of the keywords given.
+ * Lessons refer to their student by ID, so the student is tested instead of the lesson.
  */
-public class LessonContainsNamesPredicate implements Predicate<Lesson> {
+public class LessonContainsNamesPredicate implements Predicate<Person> {
     private final List<String> keywords;
 
     public LessonContainsNamesPredicate(List<String> keywords) {
@@ -17,9 +19,9 @@ public class LessonContainsNamesPredicate implements Predicate<Lesson> {
     }
 
     @Override
-    public boolean test(Lesson lesson) {
+    public boolean test(Person student) {
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(lesson.getStudentName(), keyword));
+                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(student.getName().fullName, keyword));
     }
 
     @Override
@@ -0,0 +1,98 @@
+package tutorease.address.model.lesson;
+
+import static tutorease.address.commons.util.AppUtil.checkArgument;
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorease.address.commons.util.DateTimeUtil.dateTimeToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents the period in which lessons are shown, from a start date time and before an end date time.
+ * Either end may be open, such as for all upcoming lessons.
+ * Guarantees: immutable; the start is before the end.
+ */
+public class LessonDateRange {
+    public static final LessonDateRange ALL = new LessonDateRange(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    private final int startMinute;
+    private final int endMinute;
+
+    private LessonDateRange(int startMinute, int endMinute) {
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+    }
+
+    /**
+     * Returns the range of lessons starting from {@code start} and before {@code end}.
+     */
+    public static LessonDateRange between(LocalDateTime start, LocalDateTime end) {
+        requireAllNonNull(start, end);
+        checkArgument(start.isBefore(end), "The start of a date range must be before its end");
+        return new LessonDateRange(DateTime.toEpochMinute(start), DateTime.toEpochMinute(end));
+    }
+
+    /**
+     * Returns the range of lessons starting from {@code start}, with no end.
+     */
+    public static LessonDateRange from(LocalDateTime start) {
+        requireAllNonNull(start);
+        return new LessonDateRange(DateTime.toEpochMinute(start), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the start of the range in minutes since the epoch, which is {@code Integer.MIN_VALUE} if it has no
+     * start.
+     */
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    /**
+     * Returns the end of the range in minutes since the epoch, which is {@code Integer.MAX_VALUE} if it has no end.
+     */
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    public boolean hasStart() {
+        return startMinute != Integer.MIN_VALUE;
+    }
+
+    public boolean hasEnd() {
+        return endMinute != Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns true if a lesson starting at {@code lessonStartMinute}, in minutes since the epoch, is in this range.
+     */
+    public boolean contains(int lessonStartMinute) {
+        return lessonStartMinute >= startMinute && lessonStartMinute < endMinute;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonDateRange)) {
+            return false;
+        }
+
+        LessonDateRange otherRange = (LessonDateRange) other;
+        return startMinute == otherRange.startMinute && endMinute == otherRange.endMinute;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * startMinute + endMinute;
+    }
+
+    @Override
+    public String toString() {
+        String start = hasStart() ? dateTimeToString(DateTime.fromEpochMinute(startMinute)) : "any time";
+        String end = hasEnd() ? dateTimeToString(DateTime.fromEpochMinute(endMinute)) : "any time";
+        return start + " to " + end;
+    }
+}
@@ -0,0 +1,53 @@
+package tutorease.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents one lesson of a {@code LessonSeries}.
+ * It is created from the series when it is needed, and is not saved on its own.
+ */
+public class LessonOccurrence extends Lesson {
+    private final LessonSeries series;
+
+    /**
+     * Creates a lesson of {@code series} from {@code startDateTime} to {@code endDateTime}.
+     */
+    LessonOccurrence(LessonSeries series, StartDateTime startDateTime, EndDateTime endDateTime) {
+        super(requireNonNull(series).getStudentId(), series.getFee(), startDateTime, endDateTime);
+        this.series = series;
+    }
+
+    /**
+     * Returns the series this lesson belongs to.
+     */
+    public LessonSeries getSeries() {
+        return series;
+    }
+
+    @Override
+    public boolean isOccurrence() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonOccurrence)) {
+            return false;
+        }
+
+        LessonOccurrence otherOccurrence = (LessonOccurrence) other;
+        return super.equals(otherOccurrence) && series.equals(otherOccurrence.series);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), series);
+    }
+}
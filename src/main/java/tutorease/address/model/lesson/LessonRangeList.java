@@ -0,0 +1,162 @@
+package tutorease.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * A view of the lessons of a sorted lesson list that start within a {@code LessonDateRange}.
+ * The lessons in the range are always next to each other in the source list, so the view only keeps the indexes of
+ * the first and last of them, which are found by binary search whenever the range or the source list changes. Lessons
+ * outside the range are never visited.
+ * <p>
+ * While the range covers all lessons, changes to the source list are passed on as they are. Otherwise, any change
+ * to the source list is passed on as a replacement of the lessons in the range, which is only as large as the range.
+ */
+public class LessonRangeList extends TransformationList<Lesson, Lesson> {
+    private LessonDateRange range = LessonDateRange.ALL;
+    private int fromIndex;
+    private int toIndex;
+    // The lessons in the range, kept while the range is bounded so that they can be reported as removed
+    private List<Lesson> lessonsInRange;
+
+    /**
+     * Creates a view of all the lessons in {@code source}, which must be sorted by start date time.
+     */
+    public LessonRangeList(ObservableList<Lesson> source) {
+        super(source);
+        fromIndex = 0;
+        toIndex = source.size();
+    }
+
+    public LessonDateRange getRange() {
+        return range;
+    }
+
+    /**
+     * Shows only the lessons of the source list that start within {@code range}.
+     */
+    public void setRange(LessonDateRange range) {
+        requireNonNull(range);
+        if (range.equals(this.range)) {
+            return;
+        }
+
+        // The source list does not change here, so the old lessons can be viewed in place instead of copied
+        List<Lesson> removed = Collections.unmodifiableList(getSource().subList(fromIndex, toIndex));
+        this.range = range;
+        updateIndexes();
+        fireReplaced(removed);
+    }
+
+    private boolean isAll() {
+        return !range.hasStart() && !range.hasEnd();
+    }
+
+    private void updateIndexes() {
+        fromIndex = findFirstStartingFrom(range.getStartMinute());
+        toIndex = findFirstStartingFrom(range.getEndMinute());
+        lessonsInRange = isAll() ? null : new ArrayList<>(getSource().subList(fromIndex, toIndex));
+    }
+
+    /**
+     * Returns the index of the first lesson in the source list that starts at or after {@code minute}, or the size
+     * of the source list if there is no such lesson.
+     */
+    private int findFirstStartingFrom(int minute) {
+        List<? extends Lesson> source = getSource();
+        if (minute == Integer.MIN_VALUE) {
+            return 0;
+        }
+        if (minute == Integer.MAX_VALUE) {
+            return source.size();
+        }
+
+        int low = 0;
+        int high = source.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (source.get(mid).getStartDateTime().getEpochMinute() < minute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Reports that {@code removed} were replaced by all the lessons now in the range, unless both are empty.
+     */
+    private void fireReplaced(List<Lesson> removed) {
+        if (removed.isEmpty() && size() == 0) {
+            return;
+        }
+        beginChange();
+        nextReplace(0, size(), removed);
+        endChange();
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Lesson> change) {
+        if (!isAll()) {
+            List<Lesson> removed = lessonsInRange;
+            updateIndexes();
+            fireReplaced(removed);
+            return;
+        }
+
+        toIndex = getSource().size();
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                if (change.wasRemoved()) {
+                    nextRemove(change.getFrom(), change.getRemoved());
+                }
+                if (change.wasAdded()) {
+                    nextAdd(change.getFrom(), change.getTo());
+                }
+            }
+        }
+        endChange();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return fromIndex + index;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return index >= fromIndex && index < toIndex ? index - fromIndex : -1;
+    }
+
+    @Override
+    public Lesson get(int index) {
+        return getSource().get(getSourceIndex(index));
+    }
+
+    @Override
+    public int size() {
+        return toIndex - fromIndex;
+    }
+}
@@ -0,0 +1,340 @@
+package tutorease.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.AppUtil.checkArgument;
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
+import static tutorease.address.commons.util.DateTimeUtil.checkValidDateTime;
+import static tutorease.address.commons.util.DateTimeUtil.dateToString;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import tutorease.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Represents a lesson that repeats every few weeks until a given date, such as the weekly lesson of a student.
+ * Only the rule is kept: the first lesson, the number of weeks between lessons and the last date a lesson can be on.
+ * The lessons of the series are only created when they are needed, and overlaps with other lessons are worked out
+ * from the rule instead of by comparing every lesson of the series.
+ * Guarantees: details are present and not null, field values are validated, immutable.
+ */
+public class LessonSeries {
+    public static final int MAX_PERIOD_WEEKS = 52;
+    public static final String PERIOD_MESSAGE_CONSTRAINTS = "Weeks between lessons should be a whole number from 1 to "
+            + MAX_PERIOD_WEEKS + ".";
+    public static final String UNTIL_DATE_MESSAGE_CONSTRAINTS = "The last date of a recurring lesson must not be "
+            + "before its first lesson, and all of its lessons must end by the year 2100.";
+
+    private static final int MINUTES_PER_WEEK = 7 * 24 * 60;
+
+    private final long studentId;
+    private final Fee fee;
+    private final StartDateTime startDateTime;
+    private final EndDateTime endDateTime;
+    private final int periodWeeks;
+    private final LocalDate untilDate;
+
+    // The rule in minutes since the epoch, which the lessons of the series and overlaps are worked out from
+    private final int startMinute;
+    private final int durationMinutes;
+    private final int periodMinutes;
+    private final int occurrenceCount;
+
+    /**
+     * Creates a lesson series.
+     *
+     * @param studentId The ID of the student of the lessons.
+     * @param fee The fee of the lessons.
+     * @param startDateTime The start date time of the first lesson.
+     * @param endDateTime The end date time of the first lesson.
+     * @param periodWeeks The number of weeks from one lesson to the next. Must be valid.
+     * @param untilDate The last date a lesson can start on. Must be valid.
+     */
+    public LessonSeries(long studentId, Fee fee, StartDateTime startDateTime, EndDateTime endDateTime,
+                        int periodWeeks, LocalDate untilDate) {
+        requireAllNonNull(fee, startDateTime, endDateTime, untilDate);
+        checkArgument(isValidPeriodWeeks(periodWeeks), PERIOD_MESSAGE_CONSTRAINTS);
+        checkArgument(isValidUntilDate(startDateTime, endDateTime, periodWeeks, untilDate),
+                UNTIL_DATE_MESSAGE_CONSTRAINTS);
+
+        this.studentId = studentId;
+        this.fee = fee;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.periodWeeks = periodWeeks;
+        this.untilDate = untilDate;
+
+        startMinute = startDateTime.getEpochMinute();
+        durationMinutes = endDateTime.getEpochMinute() - startMinute;
+        periodMinutes = periodWeeks * MINUTES_PER_WEEK;
+        occurrenceCount = countOccurrences(startDateTime, periodWeeks, untilDate);
+    }
+
+    /**
+     * Returns true if {@code periodWeeks} is a valid number of weeks between lessons.
+     */
+    public static boolean isValidPeriodWeeks(int periodWeeks) {
+        return periodWeeks >= 1 && periodWeeks <= MAX_PERIOD_WEEKS;
+    }
+
+    /**
+     * Returns true if {@code untilDate} is a valid last date for a series of lessons from {@code startDateTime} to
+     * {@code endDateTime} every {@code periodWeeks} weeks, which must be valid.
+     */
+    public static boolean isValidUntilDate(StartDateTime startDateTime, EndDateTime endDateTime, int periodWeeks,
+                                           LocalDate untilDate) {
+        if (untilDate.isBefore(startDateTime.getDateTime().toLocalDate())) {
+            return false;
+        }
+
+        long lastOccurrenceWeeks = (long) (countOccurrences(startDateTime, periodWeeks, untilDate) - 1) * periodWeeks;
+        try {
+            checkValidDateTime(endDateTime.getDateTime().plusWeeks(lastOccurrenceWeeks));
+            return true;
+        } catch (ParseException e) {
+            return false;
+        }
+    }
+
+    private static int countOccurrences(StartDateTime startDateTime, int periodWeeks, LocalDate untilDate) {
+        long days = ChronoUnit.DAYS.between(startDateTime.getDateTime().toLocalDate(), untilDate);
+        return (int) (days / (7L * periodWeeks)) + 1;
+    }
+
+    public long getStudentId() {
+        return studentId;
+    }
+
+    public Fee getFee() {
+        return fee;
+    }
+
+    public StartDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public EndDateTime getEndDateTime() {
+        return endDateTime;
+    }
+
+    public int getPeriodWeeks() {
+        return periodWeeks;
+    }
+
+    public LocalDate getUntilDate() {
+        return untilDate;
+    }
+
+    public int getOccurrenceCount() {
+        return occurrenceCount;
+    }
+
+    /**
+     * Returns the start date time of the first lesson, in minutes since the epoch.
+     */
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    /**
+     * Returns the end date time of the last lesson, in minutes since the epoch.
+     */
+    public int getLastEndMinute() {
+        return getOccurrenceStartMinute(occurrenceCount - 1) + durationMinutes;
+    }
+
+    /**
+     * Returns the start date time of the lesson of this series at {@code index}, in minutes since the epoch.
+     */
+    public int getOccurrenceStartMinute(int index) {
+        return startMinute + index * periodMinutes;
+    }
+
+    /**
+     * Returns the length of each lesson of this series, in minutes.
+     */
+    public int getDurationMinutes() {
+        return durationMinutes;
+    }
+
+    /**
+     * Returns the index of the first lesson of this series that ends after {@code minute}, or the number of lessons
+     * if there is no such lesson. The index is found by division.
+     */
+    public int findFirstOccurrenceEndingAfter(int minute) {
+        int index = Math.max(0, Math.floorDiv(minute - durationMinutes - startMinute, periodMinutes) + 1);
+        return Math.min(index, occurrenceCount);
+    }
+
+    /**
+     * Returns a copy of this series for the student with {@code studentId} instead.
+     */
+    public LessonSeries withStudentId(long studentId) {
+        return new LessonSeries(studentId, fee, startDateTime, endDateTime, periodWeeks, untilDate);
+    }
+
+    /**
+     * Returns true if any lesson of this series overlaps with a lesson from {@code otherStartMinute} to
+     * {@code otherEndMinute}, by the rules of {@link Lesson#isOverlapping(Lesson)}.
+     * Only the lessons of this series starting from its duration before {@code otherStartMinute} up to
+     * {@code otherEndMinute} are checked, and they are found by division instead of a search.
+     *
+     * @param otherStartMinute The start date time of the other lesson, in minutes since the epoch.
+     * @param otherEndMinute The end date time of the other lesson, in minutes since the epoch.
+     * @return True if a lesson of this series overlaps with the other lesson.
+     */
+    public boolean isOverlapping(int otherStartMinute, int otherEndMinute) {
+        int first = Math.max(0, ceilDiv(otherStartMinute - durationMinutes - startMinute, periodMinutes));
+        int last = Math.min(occurrenceCount - 1, Math.floorDiv(otherEndMinute - startMinute, periodMinutes));
+        for (int i = first; i <= last; i++) {
+            int occurrenceStartMinute = getOccurrenceStartMinute(i);
+            if (Lesson.isOverlapping(occurrenceStartMinute, occurrenceStartMinute + durationMinutes,
+                    otherStartMinute, otherEndMinute)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if any lesson of this series overlaps with {@code lesson}.
+     */
+    public boolean isOverlapping(Lesson lesson) {
+        requireNonNull(lesson);
+        return isOverlapping(lesson.getStartDateTime().getEpochMinute(), lesson.getEndDateTime().getEpochMinute());
+    }
+
+    /**
+     * Returns true if any lesson of this series overlaps with any lesson of {@code other}.
+     * Most pairs of series, such as weekly lessons at different times of the week, are ruled out from their rules
+     * alone. Otherwise, each lesson of the series with the longer period that falls within the other series is
+     * checked against the other series, without creating any lessons.
+     *
+     * @param other The other series to check.
+     * @return True if a lesson of this series overlaps with a lesson of {@code other}.
+     */
+    public boolean isOverlapping(LessonSeries other) {
+        requireNonNull(other);
+        if (!canOccurrencesOverlap(other)) {
+            return false;
+        }
+
+        LessonSeries sparser = periodMinutes >= other.periodMinutes ? this : other;
+        LessonSeries denser = sparser == this ? other : this;
+        int first = Math.max(0, ceilDiv(denser.startMinute - sparser.durationMinutes - sparser.startMinute,
+                sparser.periodMinutes));
+        int last = Math.min(sparser.occurrenceCount - 1,
+                Math.floorDiv(denser.getLastEndMinute() - sparser.startMinute, sparser.periodMinutes));
+        for (int i = first; i <= last; i++) {
+            int occurrenceStartMinute = sparser.getOccurrenceStartMinute(i);
+            if (denser.isOverlapping(occurrenceStartMinute, occurrenceStartMinute + sparser.durationMinutes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns false if no lesson of this series can overlap with a lesson of {@code other}, however long the series
+     * run. The start of any lesson of {@code other} minus the start of any lesson of this series differs from that of
+     * the first lessons by a multiple of the greatest common divisor of the periods, so the lessons can only overlap if
+     * such a difference is one at which lessons overlap.
+     */
+    private boolean canOccurrencesOverlap(LessonSeries other) {
+        int divisor = gcd(periodMinutes, other.periodMinutes);
+        int difference = other.startMinute - startMinute;
+        // Lessons overlap when the difference is above -other.durationMinutes and below durationMinutes, or when they
+        // start or end at the same time
+        int lowestOverlappingDifference = 1 - other.durationMinutes;
+        int smallestPossibleDifference = lowestOverlappingDifference
+                + Math.floorMod(difference - lowestOverlappingDifference, divisor);
+        return smallestPossibleDifference < durationMinutes
+                || Math.floorMod(difference, divisor) == 0
+                || Math.floorMod(difference - (durationMinutes - other.durationMinutes), divisor) == 0;
+    }
+
+    /**
+     * Returns the lessons of this series that start from {@code from} and before {@code to}, in order of start date
+     * time. The lessons are created by this call.
+     */
+    public List<Lesson> getOccurrences(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return getOccurrences(DateTime.toEpochMinute(from), DateTime.toEpochMinute(to));
+    }
+
+    /**
+     * Returns the lessons of this series that start from {@code fromMinute} and before {@code toMinute}, both in
+     * minutes since the epoch, in order of start date time. The lessons are created by this call.
+     */
+    public List<Lesson> getOccurrences(int fromMinute, int toMinute) {
+        int first = Math.max(0, ceilDiv(fromMinute - startMinute, periodMinutes));
+        int last = Math.min(occurrenceCount - 1, ceilDiv(toMinute - startMinute, periodMinutes) - 1);
+        List<Lesson> occurrences = new ArrayList<>(Math.max(0, last - first + 1));
+        for (int i = first; i <= last; i++) {
+            occurrences.add(createOccurrence(i));
+        }
+        return occurrences;
+    }
+
+    private Lesson createOccurrence(int index) {
+        long weeks = (long) index * periodWeeks;
+        try {
+            return new LessonOccurrence(this,
+                    StartDateTime.createFromDateTime(startDateTime.getDateTime().plusWeeks(weeks)),
+                    EndDateTime.createFromDateTime(endDateTime.getDateTime().plusWeeks(weeks)));
+        } catch (ParseException e) {
+            throw new AssertionError("Lessons of a series are checked to end within the valid years", e);
+        }
+    }
+
+    private static int ceilDiv(int dividend, int divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+
+    private static int gcd(int a, int b) {
+        while (b != 0) {
+            int remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+        return a;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof LessonSeries)) {
+            return false;
+        }
+
+        LessonSeries otherSeries = (LessonSeries) other;
+        return studentId == otherSeries.studentId
+                && fee.equals(otherSeries.fee)
+                && startDateTime.equals(otherSeries.startDateTime)
+                && endDateTime.equals(otherSeries.endDateTime)
+                && periodWeeks == otherSeries.periodWeeks
+                && untilDate.equals(otherSeries.untilDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentId, fee, startDateTime, endDateTime, periodWeeks, untilDate);
+    }
+
+    @Override
+    public String toString() {
+        return "Student ID: " + studentId
+                + "; Fee: " + fee
+                + "; Start: " + startDateTime
+                + "; End: " + endDateTime
+                + "; Every " + periodWeeks + " week(s) until " + dateToString(untilDate);
+    }
+}
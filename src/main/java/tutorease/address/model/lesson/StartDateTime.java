@@ -32,12 +32,24 @@ public class StartDateTime extends DateTime {
      * @throws ParseException If the string is not a valid start date and time.
      */
     public static StartDateTime createStartDateTime(String dateTime) throws ParseException {
-        logger.log(Level.INFO, "Creating StartDateTime object with date time: " + dateTime);
+        logger.log(Level.FINE, "Creating StartDateTime object with date time: {0}", dateTime);
         dateTime = dateTime.trim();
         requireNonNull(dateTime);
 
         checkValidDateTime(dateTime);
-        logger.log(Level.INFO, "Created StartDateTime object with date time: " + dateTime);
+        logger.log(Level.FINE, "Created StartDateTime object with date time: {0}", dateTime);
         return new StartDateTime(parseDateTime(dateTime));
     }
+
+    /**
+     * Creates a StartDateTime object from a given date and time, such as a later lesson of a recurring lesson.
+     *
+     * @param dateTime The start date and time.
+     * @return A StartDateTime object.
+     * @throws ParseException If the date and time is not within the valid years.
+     */
+    public static StartDateTime createFromDateTime(LocalDateTime dateTime) throws ParseException {
+        requireNonNull(dateTime);
+        return new StartDateTime(dateTime);
+    }
 }
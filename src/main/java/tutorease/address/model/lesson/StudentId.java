@@ -25,13 +25,13 @@ public class StudentId {
      * @param value A valid student ID.
      */
     public StudentId(String value) throws ParseException {
-        logger.log(Level.INFO, "Creating StudentId object with value: " + value);
+        logger.log(Level.FINE, "Creating StudentId object with value: {0}", value);
         value = value.trim();
         requireNonNull(value);
         checkArgument(isValidStudentId(value), MESSAGE_CONSTRAINTS);
 
         this.value = NumbersUtil.parseInt(value, MESSAGE_CONSTRAINTS);
-        logger.log(Level.INFO, "Created StudentId object with value: " + value);
+        logger.log(Level.FINE, "Created StudentId object with value: {0}", value);
     }
 
     /**
@@ -41,7 +41,7 @@ public class StudentId {
      * @return True if the student ID is valid, false otherwise.
      */
     public static boolean isValidStudentId(String value) {
-        logger.log(Level.INFO, "Checking if student ID is valid: " + value);
+        logger.log(Level.FINE, "Checking if student ID is valid: {0}", value);
         try {
             int parsedValue = NumbersUtil.parseInt(value, MESSAGE_CONSTRAINTS);
             return parsedValue > 0;
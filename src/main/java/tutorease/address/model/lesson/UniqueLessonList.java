@@ -3,6 +3,10 @@ package tutorease.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.logging.Level;
@@ -14,8 +18,6 @@ import tutorease.address.commons.core.LogsCenter;
 import tutorease.address.model.lesson.exceptions.LessonIndexOutOfRange;
 import tutorease.address.model.lesson.exceptions.LessonNotInList;
 import tutorease.address.model.lesson.exceptions.OverlappingLessonException;
-import tutorease.address.model.person.Person;
-import tutorease.address.model.person.Student;
 
 // adapted from UniquePersonList
 
@@ -25,6 +27,16 @@ import tutorease.address.model.person.Student;
  * of lessons uses Lesson#isOverlapping(Lesson) for equality so as to ensure that the lesson being added or updated is
  * unique in terms of overlapping with other lessons in the UniqueLessonList.
  * <p>
+ * The list is always kept sorted by start date time. Since no two lessons in the list overlap, it is then also sorted
+ * by end date time, so the lesson just before a given start date time already has the latest end date time of all
+ * earlier lessons. Overlap checks, inserts and removals therefore locate their position with a binary search instead
+ * of scanning or re-sorting the whole list. Bulk replacement sorts the new lessons once and validates them in a single
+ * sweep instead of comparing every pair.
+ * <p>
+ * The start and end date time of each lesson are also kept as minutes since the epoch in arrays parallel to the list,
+ * so that the searches, sorts and overlap checks compare {@code int}s instead of going through the date time objects
+ * of each lesson. The lessons themselves are only read for display and storage.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Lesson#isOverlapping(Lesson)
@@ -32,9 +44,13 @@ import tutorease.address.model.person.Student;
 public class UniqueLessonList implements Iterable<Lesson> {
     // adapted from UniquePersonList
     private static Logger logger = LogsCenter.getLogger(UniqueLessonList.class);
+    private static final int INITIAL_CAPACITY = 16;
     private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // The epoch minutes of the start and end of the lesson at the same index of internalList
+    private int[] startMinutes = new int[INITIAL_CAPACITY];
+    private int[] endMinutes = new int[INITIAL_CAPACITY];
 
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
@@ -43,14 +59,46 @@ public class UniqueLessonList implements Iterable<Lesson> {
      * @return True if a lesson in the list overlaps with the given lesson, false otherwise.
      */
     public boolean contains(Lesson toCheck) {
-        logger.log(Level.INFO, "Checking if lesson is in list: " + toCheck);
+        logger.log(Level.FINE, "Checking if lesson is in list: {0}", toCheck);
         requireNonNull(toCheck);
 
-        boolean contains = internalList.stream().anyMatch(toCheck::isOverlapping);
-        logger.log(Level.INFO, "Lesson is in list: " + contains);
+        int startMinute = toCheck.getStartDateTime().getEpochMinute();
+        int endMinute = toCheck.getEndDateTime().getEpochMinute();
+        boolean contains = findOverlappingAround(findInsertionIndex(startMinute), startMinute, endMinute) != -1;
+        logger.log(Level.FINE, "Lesson is in list: {0}", contains);
         return contains;
     }
 
+    /**
+     * Returns true if any lesson in the list overlaps with any lesson of {@code series}.
+     * Only the lessons from the one before the first lesson of the series up to the end of its last lesson are checked,
+     * each against the rule of the series.
+     *
+     * @param series The series to check for overlap with the list.
+     * @return True if a lesson in the list overlaps with a lesson of the series, false otherwise.
+     */
+    public boolean hasOverlapWith(LessonSeries series) {
+        return findOverlapWith(series) != null;
+    }
+
+    /**
+     * Returns the first lesson in the list that overlaps with any lesson of {@code series}, or null if there is none.
+     *
+     * @see #hasOverlapWith(LessonSeries)
+     */
+    public Lesson findOverlapWith(LessonSeries series) {
+        requireNonNull(series);
+
+        int lastEndMinute = series.getLastEndMinute();
+        int index = Math.max(0, findInsertionIndex(series.getStartMinute()) - 1);
+        for (int i = index; i < internalList.size() && startMinutes[i] <= lastEndMinute; i++) {
+            if (series.isOverlapping(startMinutes[i], endMinutes[i])) {
+                return internalList.get(i);
+            }
+        }
+        return null;
+    }
+
     /**
      * Adds a lesson to the list. The lesson must not already exist in the list.
      *
@@ -59,18 +107,31 @@ public class UniqueLessonList implements Iterable<Lesson> {
      * @throws OverlappingLessonException If the lesson overlaps with an existing lesson in the list.
      */
     public void add(Lesson toAdd) {
-        logger.log(Level.INFO, "Adding lesson to list: " + toAdd);
+        logger.log(Level.FINE, "Adding lesson to list: {0}", toAdd);
         requireNonNull(toAdd);
 
         // check if lesson overlaps with any other lesson in the list
-        if (contains(toAdd)) {
+        int startMinute = toAdd.getStartDateTime().getEpochMinute();
+        int endMinute = toAdd.getEndDateTime().getEpochMinute();
+        int index = findInsertionIndex(startMinute);
+        int overlappingIndex = findOverlappingAround(index, startMinute, endMinute);
+        if (overlappingIndex != -1) {
             logger.log(Level.WARNING, "Lesson is overlapping with another lesson in the list: " + toAdd);
-            throw new OverlappingLessonException();
+            throw new OverlappingLessonException(internalList.get(overlappingIndex), toAdd);
         }
 
-        internalList.add(toAdd);
-        internalList.sort(Lesson::compareTo);
-        logger.log(Level.INFO, "Added lesson to list: " + toAdd);
+        // inserting at the sorted position keeps the list sorted without re-sorting it
+        int size = internalList.size();
+        if (size == startMinutes.length) {
+            startMinutes = Arrays.copyOf(startMinutes, size * 2);
+            endMinutes = Arrays.copyOf(endMinutes, size * 2);
+        }
+        System.arraycopy(startMinutes, index, startMinutes, index + 1, size - index);
+        System.arraycopy(endMinutes, index, endMinutes, index + 1, size - index);
+        startMinutes[index] = startMinute;
+        endMinutes[index] = endMinute;
+        internalList.add(index, toAdd);
+        logger.log(Level.FINE, "Added lesson to list: {0}", toAdd);
     }
 
     /**
@@ -80,18 +141,76 @@ public class UniqueLessonList implements Iterable<Lesson> {
      * @throws LessonNotInList If the lesson is not in the list.
      */
     public void remove(Lesson lesson) {
-        logger.log(Level.INFO, "Removing lesson from list: " + lesson);
+        logger.log(Level.FINE, "Removing lesson from list: {0}", lesson);
         requireNonNull(lesson);
 
-        boolean isLessonInList = contains(lesson);
-        if (isLessonInList) {
-            internalList.remove(lesson);
-            logger.log(Level.INFO, "Removed lesson from list: " + lesson);
+        int index = findIndex(lesson);
+        if (index != -1) {
+            int movedCount = internalList.size() - index - 1;
+            System.arraycopy(startMinutes, index + 1, startMinutes, index, movedCount);
+            System.arraycopy(endMinutes, index + 1, endMinutes, index, movedCount);
+            internalList.remove(index);
+            logger.log(Level.FINE, "Removed lesson from list: {0}", lesson);
         } else {
             throw new LessonNotInList();
         }
     }
 
+    /**
+     * Removes all of the specified lessons from the list in a single change to the list.
+     *
+     * @param lessonsToRemove The lessons to be removed.
+     * @throws LessonNotInList If any of the lessons is not in the list.
+     */
+    public void removeAll(Collection<Lesson> lessonsToRemove) {
+        logger.log(Level.FINE, "Removing lessons from list: {0}", lessonsToRemove);
+        requireAllNonNull(lessonsToRemove);
+
+        boolean[] isRemoved = new boolean[internalList.size()];
+        for (Lesson lesson : lessonsToRemove) {
+            int index = findIndex(lesson);
+            if (index == -1) {
+                throw new LessonNotInList();
+            }
+            isRemoved[index] = true;
+        }
+
+        int keptCount = 0;
+        for (int i = 0; i < isRemoved.length; i++) {
+            if (!isRemoved[i]) {
+                startMinutes[keptCount] = startMinutes[i];
+                endMinutes[keptCount] = endMinutes[i];
+                keptCount++;
+            }
+        }
+        internalList.removeAll(new HashSet<>(lessonsToRemove));
+        logger.log(Level.FINE, "Removed lessons from list: {0}", lessonsToRemove);
+    }
+
+    /**
+     * Replaces the lesson {@code target} in the list with {@code editedLesson}.
+     * {@code editedLesson} must take place at the same time as {@code target}, so the list stays sorted and free of
+     * overlaps without checking the other lessons.
+     *
+     * @param target The lesson to be replaced.
+     * @param editedLesson The lesson to replace {@code target} with.
+     * @throws LessonNotInList If {@code target} is not in the list.
+     */
+    public void setLesson(Lesson target, Lesson editedLesson) {
+        logger.log(Level.FINE, () -> "Setting lesson in list: " + target + " " + editedLesson);
+        requireAllNonNull(target, editedLesson);
+        assert target.getStartDateTime().equals(editedLesson.getStartDateTime())
+                && target.getEndDateTime().equals(editedLesson.getEndDateTime());
+
+        int index = findIndex(target);
+        if (index == -1) {
+            throw new LessonNotInList();
+        }
+
+        internalList.set(index, editedLesson);
+        logger.log(Level.FINE, "Set lesson in list: {0}", editedLesson);
+    }
+
     /**
      * Returns the lesson at the specified index in the list.
      *
@@ -101,10 +220,10 @@ public class UniqueLessonList implements Iterable<Lesson> {
      *                               size of the list).
      */
     public Lesson get(int index) {
-        logger.log(Level.INFO, "Getting lesson at index: " + index);
+        logger.log(Level.FINE, "Getting lesson at index: {0}", index);
         if (isValidIndex(index)) {
             Lesson lesson = internalList.get(index);
-            logger.log(Level.INFO, "Got lesson at index: " + index + " " + lesson);
+            logger.log(Level.FINE, () -> "Got lesson at index: " + index + " " + lesson);
             return lesson;
         } else {
             logger.log(Level.WARNING, "Index is out of range or invalid: " + index);
@@ -121,6 +240,44 @@ public class UniqueLessonList implements Iterable<Lesson> {
         return internalList.size();
     }
 
+    /**
+     * Returns the start date time of the lesson at {@code index}, in minutes since the epoch.
+     */
+    public int getStartMinute(int index) {
+        assert isValidIndex(index) : "index must be within the list";
+        return startMinutes[index];
+    }
+
+    /**
+     * Returns the end date time of the lesson at {@code index}, in minutes since the epoch.
+     */
+    public int getEndMinute(int index) {
+        assert isValidIndex(index) : "index must be within the list";
+        return endMinutes[index];
+    }
+
+    /**
+     * Returns the index of the first lesson that ends after {@code minute}, or the size of the list if there is no
+     * such lesson. Lessons in the list do not overlap, so they are sorted by end date time as well, and the index is
+     * found by binary search.
+     *
+     * @param minute The date time to search from, in minutes since the epoch.
+     * @return The index of the first lesson that ends after {@code minute}.
+     */
+    public int findFirstEndingAfter(int minute) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (endMinutes[mid] <= minute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     /**
      * Replaces the contents of the lesson list with the specified {@code lessons}.
      * {@code lessons} must not contain duplicate lessons.
@@ -130,29 +287,48 @@ public class UniqueLessonList implements Iterable<Lesson> {
      * @throws OverlappingLessonException If any lessons in the list overlap with each other.
      */
     public void setLessons(UniqueLessonList lessons) {
-        logger.log(Level.INFO, "Setting lessons in list: " + lessons);
+        logger.log(Level.FINE, "Setting lessons in list: {0}", lessons);
         requireNonNull(lessons);
 
+        startMinutes = Arrays.copyOf(lessons.startMinutes, Math.max(lessons.size(), INITIAL_CAPACITY));
+        endMinutes = Arrays.copyOf(lessons.endMinutes, Math.max(lessons.size(), INITIAL_CAPACITY));
         internalList.setAll(lessons.internalList);
-        logger.log(Level.INFO, "Set lessons in list: " + lessons);
+        logger.log(Level.FINE, "Set lessons in list: {0}", lessons);
     }
 
     /**
      * Replaces the contents of the lesson list with the specified {@code lessons}.
+     * The lessons are sorted by start date time once, checked for overlaps in a single sweep and then stored in one
+     * update of the list.
      *
      * @param lessons The list of lessons to replace the current list.
+     * @throws OverlappingLessonException If any lessons in the list overlap with each other. The exception records
+     *                                    every pair of overlapping lessons.
      */
     public void setLessons(List<Lesson> lessons) {
-        logger.log(Level.INFO, "Setting lessons in list: " + lessons);
+        logger.log(Level.FINE, "Setting lessons in list: {0}", lessons);
         requireAllNonNull(lessons);
 
-        if (!lessonsAreUnique(lessons)) {
-            logger.log(Level.WARNING, "Lessons are overlapping with each other: " + lessons);
-            throw new OverlappingLessonException();
+        int[] lessonStartMinutes = getStartMinutes(lessons);
+        int[] lessonEndMinutes = getEndMinutes(lessons);
+        int[] order = sortByTime(lessonStartMinutes, lessonEndMinutes);
+        List<String> overlappingPairs = findOverlappingPairs(lessons, order, lessonStartMinutes, lessonEndMinutes);
+        if (!overlappingPairs.isEmpty()) {
+            logger.log(Level.WARNING, "Lessons are overlapping with each other: " + overlappingPairs);
+            throw new OverlappingLessonException(overlappingPairs);
         }
 
-        internalList.setAll(lessons);
-        logger.log(Level.INFO, "Set lessons in list: " + lessons);
+        int capacity = Math.max(lessons.size(), INITIAL_CAPACITY);
+        startMinutes = new int[capacity];
+        endMinutes = new int[capacity];
+        List<Lesson> sortedLessons = new ArrayList<>(lessons.size());
+        for (int i = 0; i < order.length; i++) {
+            startMinutes[i] = lessonStartMinutes[order[i]];
+            endMinutes[i] = lessonEndMinutes[order[i]];
+            sortedLessons.add(lessons.get(order[i]));
+        }
+        internalList.setAll(sortedLessons);
+        logger.log(Level.FINE, "Set lessons in list: {0}", lessons);
     }
 
     /**
@@ -183,26 +359,186 @@ public class UniqueLessonList implements Iterable<Lesson> {
      * @return True if all lessons in the list do not overlap with any other, false if any two lessons overlap.
      */
     public boolean lessonsAreUnique(List<Lesson> lessons) {
-        logger.log(Level.INFO, "Checking if lessons are unique: " + lessons);
-
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                Lesson lessonOne = lessons.get(i);
-                Lesson lessonTwo = lessons.get(j);
-                if (lessonOne.isOverlapping(lessonTwo)) {
-                    logger.log(Level.WARNING, "Lessons are overlapping: " + lessonOne + " " + lessonTwo);
-                    return false;
+        logger.log(Level.FINE, "Checking if lessons are unique: {0}", lessons);
+
+        int[] lessonStartMinutes = getStartMinutes(lessons);
+        int[] lessonEndMinutes = getEndMinutes(lessons);
+        int[] order = sortByTime(lessonStartMinutes, lessonEndMinutes);
+        List<String> overlappingPairs = findOverlappingPairs(lessons, order, lessonStartMinutes, lessonEndMinutes);
+        if (!overlappingPairs.isEmpty()) {
+            logger.log(Level.WARNING, "Lessons are overlapping: " + overlappingPairs);
+            return false;
+        }
+
+        logger.log(Level.FINE, "Lessons are unique: {0}", lessons);
+        return true;
+    }
+
+    private static int[] getStartMinutes(List<Lesson> lessons) {
+        int[] minutes = new int[lessons.size()];
+        for (int i = 0; i < minutes.length; i++) {
+            minutes[i] = lessons.get(i).getStartDateTime().getEpochMinute();
+        }
+        return minutes;
+    }
+
+    private static int[] getEndMinutes(List<Lesson> lessons) {
+        int[] minutes = new int[lessons.size()];
+        for (int i = 0; i < minutes.length; i++) {
+            minutes[i] = lessons.get(i).getEndDateTime().getEpochMinute();
+        }
+        return minutes;
+    }
+
+    /**
+     * Returns the indices of the lessons with the given start and end minutes, in the order of
+     * {@link Lesson#compareTo(Lesson)}. Lessons at the same time keep their relative order, as with
+     * {@link List#sort(java.util.Comparator)}.
+     *
+     * @param starts The start minute of each lesson.
+     * @param ends The end minute of each lesson.
+     * @return The indices of the lessons sorted by start and then end minute.
+     */
+    private static int[] sortByTime(int[] starts, int[] ends) {
+        int[] order = new int[starts.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        // A bottom-up merge sort, which is stable and compares the minutes without boxing the indices
+        int[] merged = new int[order.length];
+        for (int width = 1; width < order.length; width *= 2) {
+            for (int low = 0; low < order.length; low += 2 * width) {
+                int mid = Math.min(low + width, order.length);
+                int high = Math.min(low + 2 * width, order.length);
+                int left = low;
+                int right = mid;
+                for (int i = low; i < high; i++) {
+                    boolean isLeftFirst = right >= high
+                            || left < mid && !isLater(order[left], order[right], starts, ends);
+                    merged[i] = isLeftFirst ? order[left++] : order[right++];
                 }
             }
+            int[] sorted = merged;
+            merged = order;
+            order = sorted;
         }
+        return order;
+    }
 
-        logger.log(Level.INFO, "Lessons are unique: " + lessons);
-        return true;
+    private static boolean isLater(int lesson, int otherLesson, int[] starts, int[] ends) {
+        if (starts[lesson] != starts[otherLesson]) {
+            return starts[lesson] > starts[otherLesson];
+        }
+        return ends[lesson] > ends[otherLesson];
+    }
+
+    /**
+     * Returns a description of every pair of overlapping lessons in {@code lessons}.
+     * Sweeps through the lessons in order of start date time while keeping the lessons that have not ended yet. Only
+     * those active lessons can overlap with the next lesson, so each lesson is compared against them instead of
+     * against every other lesson.
+     *
+     * @param lessons The lessons to check.
+     * @param order The indices of {@code lessons} sorted by start date time.
+     * @param starts The start minute of each lesson.
+     * @param ends The end minute of each lesson.
+     * @return The descriptions of each pair of overlapping lessons, or an empty list if there are none.
+     */
+    private static List<String> findOverlappingPairs(List<Lesson> lessons, int[] order, int[] starts, int[] ends) {
+        List<String> overlappingPairs = new ArrayList<>();
+        int[] activeLessons = new int[INITIAL_CAPACITY];
+        int activeCount = 0;
+
+        for (int lesson : order) {
+            // lessons ending exactly when this one starts stay active, as a zero-length lesson can share their end
+            int keptCount = 0;
+            for (int i = 0; i < activeCount; i++) {
+                int activeLesson = activeLessons[i];
+                if (ends[activeLesson] < starts[lesson]) {
+                    continue;
+                }
+                activeLessons[keptCount++] = activeLesson;
+                if (Lesson.isOverlapping(starts[activeLesson], ends[activeLesson], starts[lesson], ends[lesson])) {
+                    overlappingPairs.add(OverlappingLessonException.describePair(lessons.get(activeLesson),
+                            lessons.get(lesson)));
+                }
+            }
+
+            if (keptCount == activeLessons.length) {
+                activeLessons = Arrays.copyOf(activeLessons, keptCount * 2);
+            }
+            activeLessons[keptCount] = lesson;
+            activeCount = keptCount + 1;
+        }
+        return overlappingPairs;
+    }
+
+    /**
+     * Returns the index of the first lesson in the list that starts at or after {@code startMinute}, or the size of
+     * the list if there is no such lesson. This is also the index at which a lesson starting at {@code startMinute}
+     * should be inserted to keep the list sorted.
+     *
+     * @param startMinute The start date time to search for, in minutes since the epoch.
+     * @return The index of the first lesson that does not start before {@code startMinute}.
+     */
+    private int findInsertionIndex(int startMinute) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startMinutes[mid] < startMinute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of {@code lesson} in the list, or -1 if it is not in the list.
+     *
+     * @param lesson The lesson to search for.
+     * @return The index of {@code lesson} in the list, or -1 if it is not in the list.
+     */
+    private int findIndex(Lesson lesson) {
+        int index = findInsertionIndex(lesson.getStartDateTime().getEpochMinute());
+        boolean isLessonInList = index < internalList.size() && internalList.get(index).equals(lesson);
+        return isLessonInList ? index : -1;
+    }
+
+    /**
+     * Returns the index of a lesson in the list that overlaps with a lesson from {@code startMinute} to
+     * {@code endMinute}, or -1 if there is none, given that {@code index} is the position it would be inserted at.
+     * Only the lesson just before {@code index} and the lessons starting no later than {@code endMinute} can overlap
+     * with it, as lessons in the list are sorted and do not overlap with each other.
+     *
+     * @param index The insertion index of the lesson.
+     * @param startMinute The start date time of the lesson, in minutes since the epoch.
+     * @param endMinute The end date time of the lesson, in minutes since the epoch.
+     * @return The index of a lesson in the list that overlaps with the lesson, or -1 if there is none.
+     */
+    private int findOverlappingAround(int index, int startMinute, int endMinute) {
+        if (index > 0 && Lesson.isOverlapping(startMinutes[index - 1], endMinutes[index - 1], startMinute, endMinute)) {
+            return index - 1;
+        }
+
+        for (int i = index; i < internalList.size(); i++) {
+            if (startMinutes[i] > endMinute) {
+                return -1;
+            }
+            if (Lesson.isOverlapping(startMinutes[i], endMinutes[i], startMinute, endMinute)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     @Override
     public Iterator<Lesson> iterator() {
-        return internalList.iterator();
+        // Lessons cannot be removed through the iterator, as that would not update the minutes of the lessons
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -219,34 +555,4 @@ public class UniqueLessonList implements Iterable<Lesson> {
         UniqueLessonList otherUniqueLessonList = (UniqueLessonList) other;
         return internalList.equals(otherUniqueLessonList.internalList);
     }
-
-    /**
-     * Updates the person in all lessons in the list.
-     *
-     * @param target       The person to be updated.
-     * @param editedPerson The updated person.
-     */
-    public void updatePersonInLessons(Person target, Person editedPerson) {
-        logger.log(Level.INFO, "Updating person in lessons: " + target + " " + editedPerson);
-        if (target.isStudent() && editedPerson.isStudent()) {
-            assert target instanceof Student && editedPerson instanceof Student;
-            for (int i = 0; i < internalList.size(); i++) {
-                logger.log(Level.INFO, "Updating person in lesson: " + i);
-                updatePersonInLesson(target, editedPerson, i);
-            }
-        }
-    }
-
-    private void updatePersonInLesson(Person target, Person editedPerson, int i) {
-        logger.log(Level.INFO, "Updating person in lesson: " + target + " " + editedPerson + " " + i);
-        assert target.isStudent() && editedPerson.isStudent();
-        Lesson lesson = internalList.get(i);
-
-        if (lesson.getStudent().equals(target)) {
-            Lesson updatedLesson = new Lesson(editedPerson, lesson.getFee(),
-                    lesson.getStartDateTime(), lesson.getEndDateTime());
-            logger.log(Level.INFO, "Updated lesson: " + updatedLesson);
-            internalList.set(i, updatedLesson);
-        }
-    }
 }
@@ -0,0 +1,129 @@
+package tutorease.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.AppUtil.checkArgument;
+
+import tutorease.address.commons.util.ValidationUtil;
+
+/**
+ * Represents the hours of each day in which lessons can be held, such as {@code 09:00-18:00}.
+ * Guarantees: immutable; is valid as declared in {@link #isValidWorkingHours(String)}.
+ */
+public class WorkingHours {
+    public static final String MESSAGE_CONSTRAINTS = "Working hours should be in the format of HH:mm-HH:mm, "
+            + "with the start before the end on the same day, such as 09:00-18:00.";
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final WorkingHours ALL_DAY = new WorkingHours(0, MINUTES_PER_DAY);
+
+    // Positions of the fields in HH:mm-HH:mm
+    private static final int START_HOUR = 0;
+    private static final int START_MINUTE = 3;
+    private static final int END_HOUR = 6;
+    private static final int END_MINUTE = 9;
+    private static final int LENGTH = 11;
+
+    private final int startMinute;
+    private final int endMinute;
+
+    /**
+     * Constructs a {@code WorkingHours}.
+     *
+     * @param workingHours Valid working hours.
+     */
+    public WorkingHours(String workingHours) {
+        requireNonNull(workingHours);
+        String trimmedWorkingHours = workingHours.trim();
+        checkArgument(isValidWorkingHours(trimmedWorkingHours), MESSAGE_CONSTRAINTS);
+        this.startMinute = getMinuteOfDay(trimmedWorkingHours, START_HOUR, START_MINUTE);
+        this.endMinute = getMinuteOfDay(trimmedWorkingHours, END_HOUR, END_MINUTE);
+    }
+
+    private WorkingHours(int startMinute, int endMinute) {
+        this.startMinute = startMinute;
+        this.endMinute = endMinute;
+    }
+
+    /**
+     * Returns true if a given string is valid working hours.
+     * The end may be {@code 24:00}, for working hours that last until midnight.
+     */
+    public static boolean isValidWorkingHours(String test) {
+        if (test.length() != LENGTH
+                || !ValidationUtil.isDigits(test, START_HOUR, START_HOUR + 2) || test.charAt(START_MINUTE - 1) != ':'
+                || !ValidationUtil.isDigits(test, START_MINUTE, START_MINUTE + 2) || test.charAt(END_HOUR - 1) != '-'
+                || !ValidationUtil.isDigits(test, END_HOUR, END_HOUR + 2) || test.charAt(END_MINUTE - 1) != ':'
+                || !ValidationUtil.isDigits(test, END_MINUTE, END_MINUTE + 2)) {
+            return false;
+        }
+
+        int startMinute = getMinuteOfDay(test, START_HOUR, START_MINUTE);
+        int endMinute = getMinuteOfDay(test, END_HOUR, END_MINUTE);
+        return isValidTime(test, START_HOUR, START_MINUTE) && startMinute < MINUTES_PER_DAY
+                && isValidTime(test, END_HOUR, END_MINUTE) && endMinute <= MINUTES_PER_DAY
+                && startMinute < endMinute;
+    }
+
+    private static boolean isValidTime(String text, int hourStart, int minuteStart) {
+        return ValidationUtil.parseDigits(text, hourStart, hourStart + 2) <= 24
+                && ValidationUtil.parseDigits(text, minuteStart, minuteStart + 2) <= 59;
+    }
+
+    private static int getMinuteOfDay(String text, int hourStart, int minuteStart) {
+        return ValidationUtil.parseDigits(text, hourStart, hourStart + 2) * 60
+                + ValidationUtil.parseDigits(text, minuteStart, minuteStart + 2);
+    }
+
+    /**
+     * Returns the start of the working hours, in minutes from midnight.
+     */
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    /**
+     * Returns the end of the working hours, in minutes from midnight.
+     */
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    /**
+     * Returns the number of minutes in the working hours of a day.
+     */
+    public int getLengthMinutes() {
+        return endMinute - startMinute;
+    }
+
+    /**
+     * Returns true if the working hours cover the whole day.
+     */
+    public boolean isAllDay() {
+        return startMinute == 0 && endMinute == MINUTES_PER_DAY;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WorkingHours)) {
+            return false;
+        }
+
+        WorkingHours otherWorkingHours = (WorkingHours) other;
+        return startMinute == otherWorkingHours.startMinute && endMinute == otherWorkingHours.endMinute;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * startMinute + endMinute;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%02d:%02d-%02d:%02d", startMinute / 60, startMinute % 60, endMinute / 60,
+                endMinute % 60);
+    }
+}
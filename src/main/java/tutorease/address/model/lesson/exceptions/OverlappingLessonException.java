@@ -1,10 +1,49 @@
 package tutorease.address.model.lesson.exceptions;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Signals that the operation will result in overlapping lessons.
  */
 public class OverlappingLessonException extends RuntimeException {
+    private final List<String> overlappingPairs;
+
     public OverlappingLessonException() {
         super("Operation would result in overlapping lessons");
+        this.overlappingPairs = new ArrayList<>();
+    }
+
+    /**
+     * Creates an exception that records every pair of lessons found to be overlapping.
+     *
+     * @param overlappingPairs Descriptions of each pair of overlapping lessons.
+     */
+    public OverlappingLessonException(List<String> overlappingPairs) {
+        super("Operation would result in overlapping lessons: " + String.join(", ", overlappingPairs));
+        this.overlappingPairs = new ArrayList<>(overlappingPairs);
+    }
+
+    /**
+     * Creates an exception that records a single pair of overlapping lessons or series.
+     */
+    public OverlappingLessonException(Object lesson, Object otherLesson) {
+        this(List.of(describePair(lesson, otherLesson)));
+    }
+
+    /**
+     * Returns the description of a pair of overlapping lessons or series, as recorded by this exception.
+     */
+    public static String describePair(Object lesson, Object otherLesson) {
+        return "[" + lesson + "] and [" + otherLesson + "]";
+    }
+
+    /**
+     * Returns the descriptions of each pair of overlapping lessons, or an empty list if they were not recorded.
+     *
+     * @return The descriptions of each pair of overlapping lessons.
+     */
+    public List<String> getOverlappingPairs() {
+        return overlappingPairs;
     }
 }
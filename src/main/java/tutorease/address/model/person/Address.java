@@ -5,6 +5,7 @@ import static tutorease.address.commons.util.AppUtil.checkArgument;
 
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import tutorease.address.commons.core.LogsCenter;
 
@@ -21,6 +22,7 @@ public class Address {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     private static Logger logger = LogsCenter.getLogger(Address.class);
 
@@ -32,19 +34,19 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
-        logger.log(Level.INFO, "Creating Address object with address: " + address);
+        logger.log(Level.FINE, "Creating Address object with address: {0}", address);
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
-        logger.log(Level.INFO, "Created Address object with address: " + address);
+        logger.log(Level.FINE, "Created Address object with address: {0}", address);
     }
 
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        logger.log(Level.INFO, "Checking if address is valid: " + test);
-        return test.matches(VALIDATION_REGEX);
+        logger.log(Level.FINE, "Checking if address is valid: {0}", test);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
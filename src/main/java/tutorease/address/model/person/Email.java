@@ -3,8 +3,10 @@ package tutorease.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutorease.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.regex.Pattern;
 
 import tutorease.address.commons.core.LogsCenter;
 /**
@@ -35,6 +37,7 @@ public class Email {
     private static final String DOMAIN_LAST_PART_REGEX = "(" + DOMAIN_PART_REGEX + "){2,}$"; // At least two chars
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
     private static Logger logger = LogsCenter.getLogger(Email.class);
 
     public final String value;
@@ -46,19 +49,19 @@ public class Email {
      * @param email A valid email address.
      */
     public Email(String email) {
-        logger.log(Level.INFO, "Creating email object with value: " + email);
+        logger.log(Level.FINE, "Creating email object with value: {0}", email);
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
-        logger.log(Level.INFO, "Created email object with value: " + email);
+        logger.log(Level.FINE, "Created email object with value: {0}", email);
     }
 
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        logger.log(Level.INFO, "Checking if email is valid: " + test);
-        return test.matches(VALIDATION_REGEX);
+        logger.log(Level.FINE, "Checking if email is valid: {0}", test);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -83,7 +86,8 @@ public class Email {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // emails are compared ignoring case, so equal emails must also hash equally
+        return value.toLowerCase(Locale.ROOT).hashCode();
     }
 
 }
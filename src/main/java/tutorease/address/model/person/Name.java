@@ -3,10 +3,12 @@ package tutorease.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutorease.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Person's name in the address book.
@@ -36,12 +38,12 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
-        logger.log(Level.INFO, "Creating name object with value: " + name);
+        logger.log(Level.FINE, "Creating name object with value: {0}", name);
         requireNonNull(name);
         checkArgument(hasNoSlash(name), MESSAGE_CONSTRAINTS_NO_SLASHES);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
-        logger.log(Level.INFO, "Created name object with value: " + name);
+        logger.log(Level.FINE, "Created name object with value: {0}", name);
     }
 
     /**
@@ -51,7 +53,21 @@ public class Name {
      * @return true if the string matches the valid name format, false otherwise.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Checks the same characters as VALIDATION_REGEX without running it
+        if (test.isEmpty() || !isNameCharacter(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isNameCharacter(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNameCharacter(char c) {
+        return ValidationUtil.isAlphanumeric(c) || c == '(' || c == ')';
     }
 
     /**
@@ -61,7 +77,7 @@ public class Name {
      * @return true if the string does not contain slashes, false otherwise.
      */
     public static boolean hasNoSlash(String test) {
-        return test.matches(REGEX_NO_SLASHES);
+        return test.indexOf('/') == -1;
     }
 
 
@@ -87,7 +103,8 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // names are compared ignoring case, so equal names must also hash equally
+        return fullName.toLowerCase(Locale.ROOT).hashCode();
     }
 
 }
@@ -1,27 +1,27 @@
 package tutorease.address.model.person;
 
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import tutorease.address.commons.util.StringUtil;
 import tutorease.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Keywords can end in {@code *} to match the start of a word, or {@code ~} to allow a typing mistake or two.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate extends PersonSearchPredicate {
     private final List<String> keywords;
 
+    /**
+     * Creates a predicate matching persons whose names match any of {@code keywords}.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        super(keywords.stream()
+                .map(keyword -> SearchTerm.of(SearchTerm.Field.NAME, keyword))
+                .collect(Collectors.toList()));
         this.keywords = keywords;
     }
 
-    @Override
-    public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
-    }
-
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,11 +1,13 @@
 package tutorease.address.model.person;
 
+import static tutorease.address.commons.util.AppUtil.checkArgument;
 import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -16,9 +18,16 @@ import tutorease.address.model.tag.Tag;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ * Each person has a numeric ID that stays the same when the person is edited, so other records can refer to the person
+ * by ID. The ID is not part of the person's equality.
  */
 public abstract class Person {
+    public static final String MESSAGE_INVALID_ID = "Person ID must be a positive integer.";
     private static Logger logger = LogsCenter.getLogger(Person.class);
+    private static final AtomicLong nextId = new AtomicLong(1);
+
+    private final long id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -31,21 +40,37 @@ public abstract class Person {
 
     /**
      * Every field must be present and not null.
+     * The person is given a new ID.
      */
     public Person(Name name, Phone phone, Email email, Address address, Role role, Set<Tag> tags) {
-        logger.log(Level.INFO, "Creating Person object with name: " + name
-                + " phone: " + phone + " email: " + email + " address: " + address
-                + " role: " + role + " tags: " + tags);
+        this(nextId.getAndIncrement(), name, phone, email, address, role, tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * Used to keep the ID of an existing person, such as when a person is edited or loaded from storage.
+     *
+     * @param id The ID of the person. Must be positive.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Role role, Set<Tag> tags) {
+        logger.log(Level.FINE, () -> "Creating Person object with id: " + id + " name: " + name);
         requireAllNonNull(name, phone, email, address, role, tags);
+        checkArgument(id > 0, MESSAGE_INVALID_ID);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
         this.role = role;
         this.tags.addAll(tags);
-        logger.log(Level.INFO, "Created Person object with name: " + name
-                + " phone: " + phone + " email: " + email + " address: " + address
-                + " role: " + role + " tags: " + tags);
+        logger.log(Level.FINE, "Created Person object: {0}", this);
+
+        // new IDs must not clash with IDs of persons that were loaded from storage
+        nextId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    public long getId() {
+        return id;
     }
 
     public Name getName() {
@@ -130,27 +155,20 @@ public abstract class Person {
 
         // instanceof handles nulls
         if (!(other instanceof Person)) {
-            logger.log(Level.WARNING, "Person is not an instance of Person");
+            logger.log(Level.FINE, "Person is not an instance of Person");
             return false;
         }
 
         Person otherPerson = (Person) other;
-        boolean isNameEqual = name.equals(otherPerson.name);
-        boolean isPhoneEqual = phone.equals(otherPerson.phone);
-        boolean isEmailEqual = email.equals(otherPerson.email);
-        boolean isAddressEqual = address.equals(otherPerson.address);
-        boolean isTagsEqual = tags.equals(otherPerson.tags);
-        boolean isRoleEqual = role.equals(otherPerson.role);
-
-        logger.log(Level.INFO, "Comparing Person: " + this + " with " + otherPerson);
-        logger.log(Level.INFO, "Comparing name: " + isNameEqual
-                + " Comparing phone: " + isPhoneEqual
-                + " Comparing email: " + isEmailEqual
-                + " Comparing address: " + isAddressEqual
-                + " Comparing tags: " + isTagsEqual
-                + " Comparing role: " + isRoleEqual);
-
-        return isNameEqual && isPhoneEqual && isEmailEqual && isAddressEqual && isTagsEqual && isRoleEqual;
+        boolean isEqual = name.equals(otherPerson.name)
+                && phone.equals(otherPerson.phone)
+                && email.equals(otherPerson.email)
+                && address.equals(otherPerson.address)
+                && tags.equals(otherPerson.tags)
+                && role.equals(otherPerson.role);
+
+        logger.log(Level.FINE, () -> "Compared Person: " + this + " with " + otherPerson + ", equal: " + isEqual);
+        return isEqual;
     }
 
     @Override
@@ -0,0 +1,54 @@
+package tutorease.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import tutorease.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person} matches any of the search terms given.
+ * The persons matching the terms in an address book can also be found from its token index, without testing each
+ * person.
+ */
+public class PersonSearchPredicate implements Predicate<Person> {
+    private final List<SearchTerm> terms;
+
+    /**
+     * Creates a predicate matching persons who match any of {@code terms}.
+     */
+    public PersonSearchPredicate(List<SearchTerm> terms) {
+        requireNonNull(terms);
+        this.terms = terms;
+    }
+
+    public List<SearchTerm> getTerms() {
+        return terms;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return terms.stream().anyMatch(term -> term.matches(person));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // subclasses keep the keywords they were created from, so only predicates of the same class are equal
+        if (other == null || other.getClass() != getClass()) {
+            return false;
+        }
+
+        PersonSearchPredicate otherPredicate = (PersonSearchPredicate) other;
+        return terms.equals(otherPredicate.terms);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("terms", terms).toString();
+    }
+}
@@ -0,0 +1,176 @@
+package tutorease.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import tutorease.address.model.person.SearchTerm.Field;
+import tutorease.address.model.person.SearchTerm.MatchType;
+
+/**
+ * An inverted index from the tokens of the name, email, address and tags of persons to the persons having them.
+ * <p>
+ * The tokens of each field are kept sorted, so the tokens starting with a prefix are next to each other. Each token
+ * is also indexed by its bigrams, the pairs of adjacent characters with a marker at each end, so tokens a few typing
+ * mistakes away from a query share a bigram with it and can be found without going through every token. A search
+ * only visits the tokens it matches and the persons having them.
+ */
+class PersonTokenIndex {
+    private static final char TOKEN_BOUNDARY = '$';
+
+    private final Map<Field, TreeMap<String, Set<Person>>> personsByToken = new EnumMap<>(Field.class);
+    private final Map<Field, Map<String, Set<String>>> tokensByBigram = new EnumMap<>(Field.class);
+
+    PersonTokenIndex() {
+        for (Field field : Field.values()) {
+            personsByToken.put(field, new TreeMap<>());
+            tokensByBigram.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds the tokens of {@code person} to the index.
+     */
+    void add(Person person) {
+        for (Field field : Field.values()) {
+            TreeMap<String, Set<Person>> persons = personsByToken.get(field);
+            for (String token : SearchTerm.tokenize(person, field)) {
+                Set<Person> personsWithToken = persons.get(token);
+                if (personsWithToken == null) {
+                    personsWithToken = new HashSet<>();
+                    persons.put(token, personsWithToken);
+                    addBigrams(field, token);
+                }
+                personsWithToken.add(person);
+            }
+        }
+    }
+
+    /**
+     * Removes the tokens of {@code person} from the index. Tokens no other person has are dropped.
+     */
+    void remove(Person person) {
+        for (Field field : Field.values()) {
+            TreeMap<String, Set<Person>> persons = personsByToken.get(field);
+            for (String token : SearchTerm.tokenize(person, field)) {
+                Set<Person> personsWithToken = persons.get(token);
+                if (personsWithToken == null) {
+                    continue;
+                }
+                personsWithToken.remove(person);
+                if (personsWithToken.isEmpty()) {
+                    persons.remove(token);
+                    removeBigrams(field, token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every person from the index.
+     */
+    void clear() {
+        for (Field field : Field.values()) {
+            personsByToken.get(field).clear();
+            tokensByBigram.get(field).clear();
+        }
+    }
+
+    /**
+     * Returns the persons matching {@code term}, which are those having a matching token for every token of the term.
+     */
+    Set<Person> find(SearchTerm term) {
+        Set<Person> matches = null;
+        for (String token : term.getTokens()) {
+            Set<Person> tokenMatches = new HashSet<>();
+            for (String fieldToken : findTokens(term.getField(), token, term.getMatchType())) {
+                tokenMatches.addAll(personsByToken.get(term.getField()).get(fieldToken));
+            }
+            if (matches == null) {
+                matches = tokenMatches;
+            } else {
+                matches.retainAll(tokenMatches);
+            }
+            if (matches.isEmpty()) {
+                break;
+            }
+        }
+        return matches == null ? new HashSet<>() : matches;
+    }
+
+    /**
+     * Returns the tokens of {@code field} that match the query token {@code token} with {@code matchType}.
+     */
+    private Collection<String> findTokens(Field field, String token, MatchType matchType) {
+        TreeMap<String, Set<Person>> persons = personsByToken.get(field);
+        switch (matchType) {
+        case PREFIX:
+            return persons.subMap(token, true, token + Character.MAX_VALUE, false).keySet();
+        case FUZZY:
+            return findFuzzyTokens(field, token);
+        default:
+            return persons.containsKey(token) ? List.of(token) : Collections.emptyList();
+        }
+    }
+
+    /**
+     * Returns the tokens of {@code field} within the allowed typing mistakes of {@code token}. Each mistake changes
+     * at most two bigrams, and short tokens must match exactly, so every such token shares a bigram with
+     * {@code token} and only those tokens are checked.
+     */
+    private List<String> findFuzzyTokens(Field field, String token) {
+        int maxEdits = SearchTerm.getMaxEdits(token);
+        if (maxEdits == 0) {
+            return personsByToken.get(field).containsKey(token) ? List.of(token) : Collections.emptyList();
+        }
+
+        Map<String, Set<String>> tokens = tokensByBigram.get(field);
+        Set<String> checked = new HashSet<>();
+        List<String> matches = new ArrayList<>();
+        for (String bigram : getBigrams(token)) {
+            for (String candidate : tokens.getOrDefault(bigram, Collections.emptySet())) {
+                if (checked.add(candidate) && SearchTerm.isWithinEdits(token, candidate, maxEdits)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private void addBigrams(Field field, String token) {
+        Map<String, Set<String>> tokens = tokensByBigram.get(field);
+        for (String bigram : getBigrams(token)) {
+            tokens.computeIfAbsent(bigram, key -> new HashSet<>()).add(token);
+        }
+    }
+
+    private void removeBigrams(Field field, String token) {
+        Map<String, Set<String>> tokens = tokensByBigram.get(field);
+        for (String bigram : getBigrams(token)) {
+            Set<String> tokensWithBigram = tokens.get(bigram);
+            if (tokensWithBigram == null) {
+                continue;
+            }
+            tokensWithBigram.remove(token);
+            if (tokensWithBigram.isEmpty()) {
+                tokens.remove(bigram);
+            }
+        }
+    }
+
+    private static List<String> getBigrams(String token) {
+        String bounded = TOKEN_BOUNDARY + token + TOKEN_BOUNDARY;
+        List<String> bigrams = new ArrayList<>(bounded.length() - 1);
+        for (int i = 0; i + 2 <= bounded.length(); i++) {
+            bigrams.add(bounded.substring(i, i + 2));
+        }
+        return bigrams;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Person's phone number in the address book.
@@ -16,6 +17,7 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+    private static final int MIN_LENGTH = 3;
     private static Logger logger = LogsCenter.getLogger(Phone.class);
     public final String value;
 
@@ -25,18 +27,18 @@ public class Phone {
      * @param phone A valid phone number.
      */
     public Phone(String phone) {
-        logger.log(Level.INFO, "Creating phone object with value: " + phone);
+        logger.log(Level.FINE, "Creating phone object with value: {0}", phone);
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
         value = phone;
-        logger.log(Level.INFO, "Created phone object with value: " + phone);
+        logger.log(Level.FINE, "Created phone object with value: {0}", phone);
     }
 
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isDigits(test, MIN_LENGTH);
     }
 
     @Override
@@ -38,7 +38,7 @@ public class Role {
      * @param role A valid name, either GUARDIAN or STUDENT.
      */
     public static String createRole(String role) {
-        logger.log(Level.INFO, "Creating Role object with value: " + role);
+        logger.log(Level.FINE, "Creating Role object with value: {0}", role);
 
         requireNonNull(role);
         final String value;
@@ -49,7 +49,7 @@ public class Role {
         } else {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
-        logger.log(Level.INFO, "Created role object with value: " + role);
+        logger.log(Level.FINE, "Created role object with value: {0}", role);
         return value;
     }
 
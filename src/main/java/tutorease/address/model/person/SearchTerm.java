@@ -0,0 +1,226 @@
+package tutorease.address.model.person;
+
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import tutorease.address.commons.util.ValidationUtil;
+import tutorease.address.model.tag.Tag;
+
+/**
+ * Represents one word searched for in a field of a person, such as {@code al*} in the name.
+ * The word is split into lowercase tokens at every character that is not a letter or digit, in the same way as the
+ * fields are, and a person matches if every token of the word matches a token of the field.
+ * A word ending in {@value #PREFIX_MARKER} matches tokens starting with it, and a word ending in
+ * {@value #FUZZY_MARKER} matches tokens a few typing mistakes away from it.
+ * Guarantees: immutable.
+ */
+public class SearchTerm {
+    public static final char PREFIX_MARKER = '*';
+    public static final char FUZZY_MARKER = '~';
+
+    /**
+     * Fields of a person that can be searched.
+     */
+    public enum Field {
+        NAME, EMAIL, ADDRESS, TAG
+    }
+
+    /**
+     * Ways in which a token of the word can match a token of the field.
+     */
+    public enum MatchType {
+        EXACT, PREFIX, FUZZY
+    }
+
+    private final Field field;
+    private final List<String> tokens;
+    private final MatchType matchType;
+
+    private SearchTerm(Field field, List<String> tokens, MatchType matchType) {
+        this.field = field;
+        this.tokens = tokens;
+        this.matchType = matchType;
+    }
+
+    /**
+     * Returns the term searching for {@code word} in {@code field}, with the match type given by the last character
+     * of {@code word}. A word without letters or digits matches no person.
+     */
+    public static SearchTerm of(Field field, String word) {
+        requireAllNonNull(field, word);
+        String trimmedWord = word.trim();
+        MatchType matchType = MatchType.EXACT;
+        if (!trimmedWord.isEmpty() && trimmedWord.charAt(trimmedWord.length() - 1) == PREFIX_MARKER) {
+            matchType = MatchType.PREFIX;
+        } else if (!trimmedWord.isEmpty() && trimmedWord.charAt(trimmedWord.length() - 1) == FUZZY_MARKER) {
+            matchType = MatchType.FUZZY;
+        }
+        return new SearchTerm(field, Collections.unmodifiableList(tokenize(trimmedWord)), matchType);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public List<String> getTokens() {
+        return tokens;
+    }
+
+    public MatchType getMatchType() {
+        return matchType;
+    }
+
+    /**
+     * Returns true if {@code person} matches this term. The field is split into tokens on every call, so searches
+     * over many persons should use the tokens kept by {@code UniquePersonList} instead.
+     */
+    public boolean matches(Person person) {
+        if (tokens.isEmpty()) {
+            return false;
+        }
+        List<String> fieldTokens = tokenize(person, field);
+        for (String token : tokens) {
+            if (fieldTokens.stream().noneMatch(fieldToken -> matches(token, fieldToken, matchType))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code fieldToken} matches the query token {@code token} with {@code matchType}.
+     */
+    static boolean matches(String token, String fieldToken, MatchType matchType) {
+        switch (matchType) {
+        case PREFIX:
+            return fieldToken.startsWith(token);
+        case FUZZY:
+            return isWithinEdits(token, fieldToken, getMaxEdits(token));
+        default:
+            return fieldToken.equals(token);
+        }
+    }
+
+    /**
+     * Returns the number of typing mistakes allowed for a fuzzy search of {@code token}. Short tokens must match
+     * exactly, as one mistake would match too many unrelated tokens.
+     */
+    static int getMaxEdits(String token) {
+        if (token.length() < 3) {
+            return 0;
+        }
+        return token.length() < 6 ? 1 : 2;
+    }
+
+    /**
+     * Returns true if {@code a} can be changed into {@code b} by at most {@code maxEdits} insertions, deletions or
+     * substitutions of one character, or swaps of two adjacent characters. Stops as soon as every way of changing
+     * the start of {@code a} needs more.
+     */
+    static boolean isWithinEdits(String a, String b, int maxEdits) {
+        if (Math.abs(a.length() - b.length()) > maxEdits) {
+            return false;
+        }
+
+        int[] beforePrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    current[j] = Math.min(current[j], beforePrevious[j - 2] + 1);
+                }
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()] <= maxEdits;
+    }
+
+    /**
+     * Returns the lowercase tokens of {@code field} of {@code person}.
+     */
+    static List<String> tokenize(Person person, Field field) {
+        switch (field) {
+        case NAME:
+            return tokenize(person.getName().fullName);
+        case EMAIL:
+            return tokenize(person.getEmail().value);
+        case ADDRESS:
+            return tokenize(person.getAddress().value);
+        default:
+            List<String> tokens = new ArrayList<>();
+            for (Tag tag : person.getTags()) {
+                tokens.addAll(tokenize(tag.tagName));
+            }
+            return tokens;
+        }
+    }
+
+    /**
+     * Returns the lowercase runs of letters and digits in {@code text}, in order.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isTokenChar = i < text.length() && ValidationUtil.isAlphanumeric(text.charAt(i));
+            if (isTokenChar && start == -1) {
+                start = i;
+            } else if (!isTokenChar && start != -1) {
+                tokens.add(text.substring(start, i).toLowerCase());
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchTerm)) {
+            return false;
+        }
+
+        SearchTerm otherTerm = (SearchTerm) other;
+        return field == otherTerm.field
+                && tokens.equals(otherTerm.tokens)
+                && matchType == otherTerm.matchType;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * field.hashCode() + tokens.hashCode()) + matchType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        String word = String.join(" ", tokens);
+        if (matchType == MatchType.PREFIX) {
+            word += PREFIX_MARKER;
+        } else if (matchType == MatchType.FUZZY) {
+            word += FUZZY_MARKER;
+        }
+        return field.name().toLowerCase() + ":" + word;
+    }
+}
@@ -27,9 +27,16 @@ public class Student extends Person {
 
     public Student(Name name, Phone phone, Email email, Address address, Role role, Set<Tag> tags) {
         super(name, phone, email, address, role, tags);
-        logger.log(Level.INFO, "Creating Student object with name: " + name
-                + " phone: " + phone + " email: " + email + " address: " + address
-                + " role: " + role + " tags: " + tags);
+        logger.log(Level.FINE, "Creating Student object with name: {0}", name);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * Keeps the given ID, such as when an existing student is edited or loaded from storage.
+     */
+    public Student(long id, Name name, Phone phone, Email email, Address address, Role role, Set<Tag> tags) {
+        super(id, name, phone, email, address, role, tags);
+        logger.log(Level.FINE, () -> "Creating Student object with id: " + id + " name: " + name);
     }
 
     public Role getRole() {
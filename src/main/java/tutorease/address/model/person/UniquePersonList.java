@@ -3,8 +3,13 @@ package tutorease.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -21,6 +26,10 @@ import tutorease.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are also indexed by their name, phone and email, so that duplicate checks and lookups by these fields do not
+ * need to scan the list. The words of their names, emails, addresses and tags are kept in a {@code PersonTokenIndex}
+ * for searches. The indexes are kept consistent with the list by every operation that modifies it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -31,15 +40,19 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> personsByName = new HashMap<>();
+    private final Map<String, Integer> phoneCounts = new HashMap<>();
+    private final Map<String, Integer> emailCounts = new HashMap<>();
+    private final PersonTokenIndex tokenIndex = new PersonTokenIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
-        logger.log(Level.INFO, "Checking if person is in list: " + toCheck);
+        logger.log(Level.FINE, "Checking if person is in list: {0}", toCheck);
         requireNonNull(toCheck);
-        boolean contains = internalList.stream().anyMatch(toCheck::isSamePerson);
-        logger.log(Level.INFO, "Is person in list: " + contains);
+        boolean contains = personsByName.containsKey(nameKey(toCheck.getName()));
+        logger.log(Level.FINE, "Is person in list: {0}", contains);
         return contains;
     }
 
@@ -48,14 +61,15 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
-        logger.log(Level.INFO, "Adding person to list: " + toAdd);
+        logger.log(Level.FINE, "Adding person to list: {0}", toAdd);
         requireNonNull(toAdd);
         if (contains(toAdd)) {
             logger.log(Level.WARNING, "Person is already in list: " + toAdd);
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
-        logger.log(Level.INFO, "Added person to list: " + toAdd);
+        addToIndexes(toAdd);
+        logger.log(Level.FINE, "Added person to list: {0}", toAdd);
     }
 
     /**
@@ -64,7 +78,7 @@ public class UniquePersonList implements Iterable<Person> {
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
     public void setPerson(Person target, Person editedPerson) {
-        logger.log(Level.INFO, "Setting person in list: " + editedPerson);
+        logger.log(Level.FINE, "Setting person in list: {0}", editedPerson);
         requireAllNonNull(target, editedPerson);
 
         int index = internalList.indexOf(target);
@@ -77,8 +91,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        removeFromIndexes(internalList.get(index));
         internalList.set(index, editedPerson);
-        logger.log(Level.INFO, "Set person in list: " + editedPerson);
+        addToIndexes(editedPerson);
+        logger.log(Level.FINE, "Set person in list: {0}", editedPerson);
     }
 
     /**
@@ -86,17 +102,19 @@ public class UniquePersonList implements Iterable<Person> {
      * The person must exist in the list.
      */
     public void remove(Person toRemove) {
-        logger.log(Level.INFO, "Removing person from list: " + toRemove);
+        logger.log(Level.FINE, "Removing person from list: {0}", toRemove);
         requireNonNull(toRemove);
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
-        logger.log(Level.INFO, "Removed person from list: " + toRemove);
+        removeFromIndexes(toRemove);
+        logger.log(Level.FINE, "Removed person from list: {0}", toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -110,6 +128,22 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        rebuildIndexes();
+    }
+
+    /**
+     * Returns the person stored in the list that is equivalent to {@code person}.
+     * The stored person may have another ID than {@code person}, as equivalent persons are compared without their IDs.
+     *
+     * @throws PersonNotFoundException if no equivalent person is in the list.
+     */
+    public Person getStoredPerson(Person person) {
+        requireNonNull(person);
+        Person storedPerson = personsByName.get(nameKey(person.getName()));
+        if (storedPerson == null || !storedPerson.equals(person)) {
+            throw new PersonNotFoundException();
+        }
+        return storedPerson;
     }
 
     /**
@@ -117,12 +151,41 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns null if no such person exists.
      */
     public Person getPerson(String name) {
-        for (Person p : internalList) {
-            if (p.getName().fullName.equals(name)) {
-                return p;
-            }
+        requireNonNull(name);
+        Person person = personsByName.get(name.toLowerCase(Locale.ROOT));
+        // names are indexed ignoring case, but the lookup matches the exact name
+        if (person == null || !person.getName().fullName.equals(name)) {
+            return null;
+        }
+        return person;
+    }
+
+    /**
+     * Returns true if a person in the list has the same phone number as {@code person}.
+     */
+    public boolean hasSamePhone(Person person) {
+        requireNonNull(person);
+        return phoneCounts.containsKey(phoneKey(person.getPhone()));
+    }
+
+    /**
+     * Returns true if a person in the list has the same email as {@code person}.
+     */
+    public boolean hasSameEmail(Person person) {
+        requireNonNull(person);
+        return emailCounts.containsKey(emailKey(person.getEmail()));
+    }
+
+    /**
+     * Returns the persons in the list matching {@code predicate}, found from the token index.
+     */
+    public Set<Person> findPersons(PersonSearchPredicate predicate) {
+        requireNonNull(predicate);
+        Set<Person> matches = new HashSet<>();
+        for (SearchTerm term : predicate.getTerms()) {
+            matches.addAll(tokenIndex.find(term));
         }
-        return null;
+        return matches;
     }
 
     /**
@@ -162,15 +225,54 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void addToIndexes(Person person) {
+        personsByName.put(nameKey(person.getName()), person);
+        phoneCounts.merge(phoneKey(person.getPhone()), 1, Integer::sum);
+        emailCounts.merge(emailKey(person.getEmail()), 1, Integer::sum);
+        tokenIndex.add(person);
+    }
+
+    private void removeFromIndexes(Person person) {
+        personsByName.remove(nameKey(person.getName()));
+        // phones and emails are not guaranteed to be unique, so only drop the key once no person uses it
+        phoneCounts.computeIfPresent(phoneKey(person.getPhone()), (phone, count) -> count == 1 ? null : count - 1);
+        emailCounts.computeIfPresent(emailKey(person.getEmail()), (email, count) -> count == 1 ? null : count - 1);
+        tokenIndex.remove(person);
+    }
+
+    private void rebuildIndexes() {
+        personsByName.clear();
+        phoneCounts.clear();
+        emailCounts.clear();
+        tokenIndex.clear();
+        for (Person person : internalList) {
+            addToIndexes(person);
+        }
+    }
+
+    private static String nameKey(Name name) {
+        // names are compared ignoring case
+        return name.fullName.toLowerCase(Locale.ROOT);
+    }
+
+    private static String phoneKey(Phone phone) {
+        return phone.value;
+    }
+
+    private static String emailKey(Email email) {
+        // emails are compared ignoring case
+        return email.value.toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * Persons are identified by name, so the names seen so far are kept in a set instead of comparing every pair.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
+                return false;
             }
         }
         return true;
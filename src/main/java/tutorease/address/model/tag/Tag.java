@@ -3,6 +3,8 @@ package tutorease.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static tutorease.address.commons.util.AppUtil.checkArgument;
 
+import tutorease.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}.
@@ -29,7 +31,7 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumeric(test);
     }
 
     @Override
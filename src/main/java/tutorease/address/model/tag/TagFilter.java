@@ -0,0 +1,82 @@
+package tutorease.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import tutorease.address.commons.util.ToStringBuilder;
+import tutorease.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} has the tags asked for. The tags are given in groups: a person must have at least one
+ * tag of every group, so tags in the same group are alternatives and separate groups must all be met.
+ * Tag names are compared case-insensitively.
+ * Guarantees: immutable.
+ */
+public class TagFilter implements Predicate<Person> {
+    /** A filter without any groups, which every person passes. */
+    public static final TagFilter NONE = new TagFilter(Collections.emptyList());
+
+    private final List<Set<Tag>> groups;
+
+    /**
+     * Creates a filter passing persons with at least one tag of every group in {@code groups}.
+     */
+    public TagFilter(List<Set<Tag>> groups) {
+        requireNonNull(groups);
+        this.groups = List.copyOf(groups.stream().map(Set::copyOf).toList());
+    }
+
+    public List<Set<Tag>> getGroups() {
+        return groups;
+    }
+
+    /**
+     * Returns true if this filter has no groups, and so passes every person.
+     */
+    public boolean isEmpty() {
+        return groups.isEmpty();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Set<Tag> group : groups) {
+            if (group.stream().noneMatch(tag -> hasTag(person, tag))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasTag(Person person, Tag tag) {
+        return person.getTags().stream().anyMatch(personTag -> personTag.tagName.equalsIgnoreCase(tag.tagName));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagFilter)) {
+            return false;
+        }
+
+        TagFilter otherFilter = (TagFilter) other;
+        return groups.equals(otherFilter.groups);
+    }
+
+    @Override
+    public int hashCode() {
+        return groups.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("groups", groups).toString();
+    }
+}
@@ -0,0 +1,98 @@
+package tutorease.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.util.StringUtil;
+
+/**
+ * Runs writes to the disk one at a time on a single background thread, in the order they were submitted.
+ * A write that replaces the pending writes drops the ones that have not started yet, since it contains their data.
+ */
+class BackgroundWriter {
+
+    /**
+     * A write to the disk.
+     */
+    @FunctionalInterface
+    interface Write {
+        void run() throws IOException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundWriter.class);
+
+    private final Deque<Write> pendingWrites = new ArrayDeque<>();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "TutorEase-storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Consumer<IOException> errorHandler = e -> { };
+
+    /**
+     * Sets the handler that is told about writes that failed. It is called on the background thread.
+     */
+    void setErrorHandler(Consumer<IOException> errorHandler) {
+        requireNonNull(errorHandler);
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Queues {@code write} to run after the writes already submitted.
+     */
+    synchronized void submit(Write write) {
+        requireNonNull(write);
+        pendingWrites.addLast(write);
+        executor.execute(this::runPendingWrites);
+    }
+
+    /**
+     * Drops the writes that have not started yet and queues {@code write} in their place.
+     */
+    synchronized void submitReplacingPending(Write write) {
+        requireNonNull(write);
+        if (!pendingWrites.isEmpty()) {
+            logger.fine("Dropping " + pendingWrites.size() + " pending writes replaced by a newer write");
+            pendingWrites.clear();
+        }
+        submit(write);
+    }
+
+    /**
+     * Waits until every write submitted so far has finished.
+     */
+    void flush() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail.", e);
+        }
+    }
+
+    private synchronized Write pollPendingWrite() {
+        return pendingWrites.pollFirst();
+    }
+
+    private void runPendingWrites() {
+        Write write;
+        while ((write = pollPendingWrite()) != null) {
+            try {
+                write.run();
+            } catch (IOException e) {
+                logger.severe("Failed to save data in the background " + StringUtil.getDetails(e));
+                errorHandler.accept(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package tutorease.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import tutorease.address.commons.exceptions.DataLoadingException;
+import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.ModelMutation;
+import tutorease.address.model.TutorEase;
+
+/**
+ * Represents a storage for the journal of changes made to the model since the data files were last saved.
+ */
+public interface JournalStorage {
+
+    /**
+     * Returns the file path of the journal file.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Returns the number of entries in the journal.
+     */
+    int getJournalSize();
+
+    /**
+     * Adds {@code mutations} to the end of the journal, in order.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToJournal(List<ModelMutation> mutations) throws IOException;
+
+    /**
+     * Applies the changes in the journal that are not yet contained in {@code tutorEase} and {@code lessonSchedule}.
+     *
+     * @return The number of changes applied.
+     * @throws DataLoadingException if the journal could not be read or a change could not be applied.
+     */
+    int replayJournal(TutorEase tutorEase, LessonSchedule lessonSchedule) throws DataLoadingException;
+
+    /**
+     * Moves the entries of the journal to a backup file next to it without applying them, leaving the journal empty.
+     * Entries already in the backup file are kept.
+     *
+     * @return The backup file, or an empty {@code Optional} if the journal had no file to move.
+     * @throws IOException if there was any problem moving the file.
+     */
+    Optional<Path> backUpJournal() throws IOException;
+
+    /**
+     * Removes all entries from the journal.
+     *
+     * @throws IOException if there was any problem deleting the file.
+     */
+    void clearJournal() throws IOException;
+}
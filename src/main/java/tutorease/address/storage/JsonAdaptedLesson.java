@@ -1,7 +1,6 @@
 package tutorease.address.storage;
 
 import static java.util.Objects.requireNonNull;
-import static tutorease.address.commons.util.DateTimeUtil.dateTimeToString;
 import static tutorease.address.model.lesson.StartDateTime.START_IS_AFTER_END;
 import static tutorease.address.model.lesson.StudentId.INVALID_MESSAGE_CONSTRAINTS;
 
@@ -9,6 +8,7 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import tutorease.address.commons.core.LogsCenter;
@@ -27,32 +27,51 @@ public class JsonAdaptedLesson {
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Lesson's %s field is missing!";
     private static Logger logger = LogsCenter.getLogger(JsonAdaptedLesson.class);
 
+    // Only read from data saved before persons had IDs, as lessons are saved with the ID of their student
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final String student;
+    private final Long studentId;
     private final String fee;
     private final String startDateTime;
     private final String endDateTime;
 
     /**
      * Constructs a {@code JsonAdaptedLesson} with the given lesson details.
+     * The student is looked up by {@code studentId} if it is present, and by name otherwise.
      *
      * @param student Student's name.
+     * @param studentId Student's ID, or null for data saved before persons had IDs.
      * @param fee Fee of the lesson.
      * @param startDateTime Start date time of the lesson.
      * @param endDateTime End date time of the lesson.
      */
     @JsonCreator
     public JsonAdaptedLesson(@JsonProperty("student") String student,
+                             @JsonProperty("studentId") Long studentId,
                              @JsonProperty("fee") String fee,
                              @JsonProperty("startDateTime") String startDateTime,
                              @JsonProperty("endDateTime") String endDateTime) {
-        logger.log(Level.INFO, "Creating JsonAdaptedLesson with student: " + student + ", fee: " + fee
-                + ", startDateTime: " + startDateTime + ", endDateTime: " + endDateTime);
+        logger.log(Level.FINE, () -> "Creating JsonAdaptedLesson with studentId: " + studentId
+                + ", startDateTime: " + startDateTime);
 
         this.student = student;
+        this.studentId = studentId;
         this.fee = fee;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
-        logger.log(Level.INFO, "Created JsonAdaptedLesson with student");
+        logger.log(Level.FINE, "Created JsonAdaptedLesson with student");
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedLesson} with the given lesson details, referring to the student by name only.
+     *
+     * @param student Student's name.
+     * @param fee Fee of the lesson.
+     * @param startDateTime Start date time of the lesson.
+     * @param endDateTime End date time of the lesson.
+     */
+    public JsonAdaptedLesson(String student, String fee, String startDateTime, String endDateTime) {
+        this(student, null, fee, startDateTime, endDateTime);
     }
 
     /**
@@ -61,12 +80,13 @@ public class JsonAdaptedLesson {
      * @param source The lesson to be converted to JSON.
      */
     public JsonAdaptedLesson(Lesson source) {
-        logger.log(Level.INFO, "Creating JsonAdaptedLesson with lesson: " + source);
-        student = source.getStudentName();
+        logger.log(Level.FINE, "Creating JsonAdaptedLesson with lesson: {0}", source);
+        student = null;
+        studentId = source.getStudentId();
         fee = source.getFeeString();
-        startDateTime = dateTimeToString(source.getStartDateTime().getDateTime());
-        endDateTime = dateTimeToString(source.getEndDateTime().getDateTime());
-        logger.log(Level.INFO, "Created JsonAdaptedLesson with lesson");
+        startDateTime = source.getStartDateTime().toString();
+        endDateTime = source.getEndDateTime().toString();
+        logger.log(Level.FINE, "Created JsonAdaptedLesson with lesson");
     }
 
     /**
@@ -77,12 +97,11 @@ public class JsonAdaptedLesson {
      * @throws IllegalValueException If there were any data constraints violated.
      */
     public Lesson toModelType(ReadOnlyTutorEase addressBook) throws IllegalValueException {
-        logger.log(Level.INFO, "Converting JsonAdaptedLesson to model type");
+        logger.log(Level.FINE, "Converting JsonAdaptedLesson to model type");
         requireNonNull(addressBook);
 
-        // Validate not null and student exists
-        validateStudent(addressBook);
-        final Person studentPerson = addressBook.getPerson(student);
+        // Validate student is given and exists
+        final Person studentPerson = resolveStudent(addressBook);
 
         // Validate not null and fee is valid
         validateFee();
@@ -95,8 +114,8 @@ public class JsonAdaptedLesson {
         final EndDateTime endDateTime = EndDateTime.createEndDateTime(this.endDateTime);
 
         validateStartBeforeEnd(startDateTime, endDateTime);
-        Lesson lesson = new Lesson(studentPerson, fee, startDateTime, endDateTime);
-        logger.log(Level.INFO, "Converted JsonAdaptedLesson to model type: " + lesson);
+        Lesson lesson = new Lesson(studentPerson.getId(), fee, startDateTime, endDateTime);
+        logger.log(Level.FINE, "Converted JsonAdaptedLesson to model type: {0}", lesson);
         return lesson;
     }
 
@@ -115,14 +134,22 @@ public class JsonAdaptedLesson {
         isValidFee();
     }
 
-    private void validateStudent(ReadOnlyTutorEase addressBook) throws IllegalValueException {
-        validateStudentNotNull();
-        validateStudentExists(addressBook);
+    private Person resolveStudent(ReadOnlyTutorEase addressBook) throws IllegalValueException {
+        Person studentPerson;
+        if (studentId != null) {
+            studentPerson = addressBook.getPersonById(studentId);
+        } else {
+            validateStudentNotNull();
+            studentPerson = addressBook.getPerson(student);
+        }
+
+        validateStudentExists(studentPerson);
+        return studentPerson;
     }
 
     private static void validateStartBeforeEnd(StartDateTime startDateTime, EndDateTime endDateTime)
             throws IllegalValueException {
-        logger.log(Level.INFO, "Validating start date time is before end date time");
+        logger.log(Level.FINE, "Validating start date time is before end date time");
 
         if (startDateTime.isAfter(endDateTime)) {
             logger.log(Level.WARNING, START_IS_AFTER_END);
@@ -131,7 +158,7 @@ public class JsonAdaptedLesson {
     }
 
     private void isValidEndDateTime() throws IllegalValueException {
-        logger.log(Level.INFO, "Validating end date time");
+        logger.log(Level.FINE, "Validating end date time");
 
         if (!EndDateTime.isValidDateTime(endDateTime)) {
             logger.log(Level.WARNING, EndDateTime.END_DATE_MESSAGE_CONSTRAINTS);
@@ -140,7 +167,7 @@ public class JsonAdaptedLesson {
     }
 
     private void validateEndDateTimeNotNull() throws IllegalValueException {
-        logger.log(Level.INFO, "Validating end date time not null");
+        logger.log(Level.FINE, "Validating end date time not null");
 
         if (endDateTime == null) {
             String message = String.format(MISSING_FIELD_MESSAGE_FORMAT, "EndDateTime");
@@ -150,7 +177,7 @@ public class JsonAdaptedLesson {
     }
 
     private void isValidStartDateTime() throws IllegalValueException {
-        logger.log(Level.INFO, "Validating start date time");
+        logger.log(Level.FINE, "Validating start date time");
 
         if (!StartDateTime.isValidDateTime(startDateTime)) {
             logger.log(Level.WARNING, StartDateTime.START_DATE_MESSAGE_CONSTRAINTS);
@@ -159,7 +186,7 @@ public class JsonAdaptedLesson {
     }
 
     private void validateStartDateTimeNotNull() throws IllegalValueException {
-        logger.log(Level.INFO, "Validating start date time not null");
+        logger.log(Level.FINE, "Validating start date time not null");
 
         if (startDateTime == null) {
             String message = String.format(MISSING_FIELD_MESSAGE_FORMAT, StartDateTime.class.getSimpleName());
@@ -169,7 +196,7 @@ public class JsonAdaptedLesson {
     }
 
     private void isValidFee() throws IllegalValueException {
-        logger.log(Level.INFO, "Validating fee");
+        logger.log(Level.FINE, "Validating fee");
 
         if (!Fee.isValidFee(fee)) {
             logger.log(Level.WARNING, Fee.MESSAGE_CONSTRAINTS);
@@ -178,7 +205,7 @@ public class JsonAdaptedLesson {
     }
 
     private void validateFeeNotNull() throws IllegalValueException {
-        logger.log(Level.INFO, "Validating fee not null");
+        logger.log(Level.FINE, "Validating fee not null");
 
         if (fee == null) {
             String message = String.format(MISSING_FIELD_MESSAGE_FORMAT, Fee.class.getSimpleName());
@@ -187,17 +214,17 @@ public class JsonAdaptedLesson {
         }
     }
 
-    private void validateStudentExists(ReadOnlyTutorEase addressBook) throws IllegalValueException {
-        logger.log(Level.INFO, "Validating student exists");
+    private void validateStudentExists(Person studentPerson) throws IllegalValueException {
+        logger.log(Level.FINE, "Validating student exists");
 
-        if (addressBook.getPerson(student) == null) {
+        if (studentPerson == null) {
             logger.log(Level.WARNING, INVALID_MESSAGE_CONSTRAINTS);
             throw new IllegalValueException(INVALID_MESSAGE_CONSTRAINTS);
         }
     }
 
     private void validateStudentNotNull() throws IllegalValueException {
-        logger.log(Level.INFO, "Validating student not null");
+        logger.log(Level.FINE, "Validating student not null");
 
         if (student == null) {
             String message = String.format(MISSING_FIELD_MESSAGE_FORMAT, Person.class.getSimpleName());
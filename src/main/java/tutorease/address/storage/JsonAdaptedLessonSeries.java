@@ -0,0 +1,84 @@
+package tutorease.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tutorease.address.commons.exceptions.IllegalValueException;
+import tutorease.address.commons.util.DateTimeUtil;
+import tutorease.address.model.ReadOnlyTutorEase;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonSeries;
+
+/**
+ * JSON version of {@link LessonSeries}.
+ * Only the rule of the series is saved: its first lesson, the number of weeks between lessons and the last date.
+ */
+public class JsonAdaptedLessonSeries {
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Lesson series' %s field is missing!";
+
+    private final JsonAdaptedLesson firstLesson;
+    private final Integer periodWeeks;
+    private final String untilDate;
+
+    /**
+     * Constructs a {@code JsonAdaptedLessonSeries} with the given lesson series details.
+     */
+    @JsonCreator
+    public JsonAdaptedLessonSeries(@JsonProperty("firstLesson") JsonAdaptedLesson firstLesson,
+                                   @JsonProperty("periodWeeks") Integer periodWeeks,
+                                   @JsonProperty("untilDate") String untilDate) {
+        this.firstLesson = firstLesson;
+        this.periodWeeks = periodWeeks;
+        this.untilDate = untilDate;
+    }
+
+    /**
+     * Converts a given {@code LessonSeries} into this class for JSON.
+     */
+    public JsonAdaptedLessonSeries(LessonSeries source) {
+        requireNonNull(source);
+        firstLesson = new JsonAdaptedLesson(null, source.getStudentId(),
+                source.getFee().getValueString(), source.getStartDateTime().toString(),
+                source.getEndDateTime().toString());
+        periodWeeks = source.getPeriodWeeks();
+        untilDate = DateTimeUtil.dateToString(source.getUntilDate());
+    }
+
+    /**
+     * Converts this JSON object into the model's {@code LessonSeries} object.
+     *
+     * @param tutorEase The address book to get the student from.
+     * @throws IllegalValueException If there were any data constraints violated.
+     */
+    public LessonSeries toModelType(ReadOnlyTutorEase tutorEase) throws IllegalValueException {
+        requireNonNull(tutorEase);
+        if (firstLesson == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "firstLesson"));
+        }
+        final Lesson lesson = firstLesson.toModelType(tutorEase);
+
+        if (periodWeeks == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "periodWeeks"));
+        }
+        if (!LessonSeries.isValidPeriodWeeks(periodWeeks)) {
+            throw new IllegalValueException(LessonSeries.PERIOD_MESSAGE_CONSTRAINTS);
+        }
+
+        if (untilDate == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "untilDate"));
+        }
+        DateTimeUtil.checkValidDate(untilDate);
+        final LocalDate modelUntilDate = DateTimeUtil.parseDate(untilDate.trim());
+        if (!LessonSeries.isValidUntilDate(lesson.getStartDateTime(), lesson.getEndDateTime(), periodWeeks,
+                modelUntilDate)) {
+            throw new IllegalValueException(LessonSeries.UNTIL_DATE_MESSAGE_CONSTRAINTS);
+        }
+
+        return new LessonSeries(lesson.getStudentId(), lesson.getFee(), lesson.getStartDateTime(),
+                lesson.getEndDateTime(), periodWeeks, modelUntilDate);
+    }
+}
@@ -0,0 +1,133 @@
+package tutorease.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tutorease.address.commons.exceptions.IllegalValueException;
+import tutorease.address.model.ModelMutation;
+import tutorease.address.model.ModelMutation.Type;
+import tutorease.address.model.ReadOnlyLessonSchedule;
+import tutorease.address.model.ReadOnlyTutorEase;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link ModelMutation}, used for the entries of the journal.
+ * Persons are saved in full, while lessons and lesson series refer to their student by ID.
+ */
+class JsonAdaptedModelMutation {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Journal entry has an unknown type: %s";
+
+    private final String type;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedPerson editedPerson;
+    private final JsonAdaptedLesson lesson;
+    private final JsonAdaptedLessonSeries lessonSeries;
+    private final long tutorEaseGeneration;
+    private final long lessonScheduleGeneration;
+
+    /**
+     * Constructs a {@code JsonAdaptedModelMutation} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedModelMutation(@JsonProperty("type") String type,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("editedPerson") JsonAdaptedPerson editedPerson,
+                                    @JsonProperty("lesson") JsonAdaptedLesson lesson,
+                                    @JsonProperty("lessonSeries") JsonAdaptedLessonSeries lessonSeries,
+                                    @JsonProperty("tutorEaseGeneration") long tutorEaseGeneration,
+                                    @JsonProperty("lessonScheduleGeneration") long lessonScheduleGeneration) {
+        this.type = type;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.lesson = lesson;
+        this.lessonSeries = lessonSeries;
+        this.tutorEaseGeneration = tutorEaseGeneration;
+        this.lessonScheduleGeneration = lessonScheduleGeneration;
+    }
+
+    /**
+     * Converts a given {@code ModelMutation} into this class for Jackson use.
+     */
+    public JsonAdaptedModelMutation(ModelMutation source) {
+        requireNonNull(source);
+        type = source.getType().name();
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+        editedPerson = source.getEditedPerson() == null ? null : new JsonAdaptedPerson(source.getEditedPerson());
+        lesson = source.getLesson() == null ? null : new JsonAdaptedLesson(source.getLesson());
+        lessonSeries = source.getLessonSeries() == null ? null : new JsonAdaptedLessonSeries(source.getLessonSeries());
+        tutorEaseGeneration = source.getTutorEaseGeneration();
+        lessonScheduleGeneration = source.getLessonScheduleGeneration();
+    }
+
+    /**
+     * Returns true if {@code tutorEase} and {@code lessonSchedule} already contain the change in this entry, in which
+     * case it does not need to be converted or applied.
+     */
+    public boolean isAppliedTo(ReadOnlyTutorEase tutorEase, ReadOnlyLessonSchedule lessonSchedule) {
+        return tutorEaseGeneration <= tutorEase.getGeneration()
+                && lessonScheduleGeneration <= lessonSchedule.getGeneration();
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted journal entry into the model's {@code ModelMutation} object.
+     * The student of a lesson is looked up in {@code tutorEase}, so entries must be converted in the order they were
+     * saved, each after the ones before it have been applied.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted journal entry.
+     */
+    public ModelMutation toModelType(ReadOnlyTutorEase tutorEase) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        final Type modelType;
+        try {
+            modelType = Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+
+        final Person modelPerson = person == null ? null : person.toModelType();
+        final Person modelEditedPerson = editedPerson == null ? null : editedPerson.toModelType();
+        final Lesson modelLesson = lesson == null ? null : lesson.toModelType(tutorEase);
+        final LessonSeries modelLessonSeries = lessonSeries == null ? null : lessonSeries.toModelType(tutorEase);
+
+        switch (modelType) {
+        case ADD_PERSON:
+        case DELETE_PERSON:
+        case DELETE_STUDENT_LESSONS:
+            requireField(modelPerson, "person");
+            break;
+        case SET_PERSON:
+        case LINK_GUARDIAN:
+        case UNLINK_GUARDIAN:
+            requireField(modelPerson, "person");
+            requireField(modelEditedPerson, "editedPerson");
+            break;
+        case ADD_LESSON:
+        case DELETE_LESSON:
+            requireField(modelLesson, "lesson");
+            break;
+        case ADD_LESSON_SERIES:
+        case DELETE_LESSON_SERIES:
+            requireField(modelLessonSeries, "lessonSeries");
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+
+        return new ModelMutation(modelType, modelPerson, modelEditedPerson, modelLesson, modelLessonSeries,
+                tutorEaseGeneration, lessonScheduleGeneration);
+    }
+
+    private static void requireField(Object field, String fieldName) throws IllegalValueException {
+        if (field == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+}
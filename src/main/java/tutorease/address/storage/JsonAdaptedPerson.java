@@ -1,6 +1,8 @@
 package tutorease.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -22,25 +24,32 @@ import tutorease.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * A student also keeps the IDs of its guardians, which is the only place the links between persons are saved.
  */
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
     private final String address;
     private final String role;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    private final List<Long> guardianIds = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * {@code id} may be null for data saved before persons had IDs, in which case a new ID is given on conversion.
+     * {@code guardianIds} may be null for data saved before students were linked to guardians.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-                             @JsonProperty("role") String role, @JsonProperty("tags") List<JsonAdaptedTag> tags) {
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("role") String role,
+            @JsonProperty("tags") List<JsonAdaptedTag> tags, @JsonProperty("guardianIds") List<Long> guardianIds) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -49,12 +58,39 @@ class JsonAdaptedPerson {
         if (tags != null) {
             this.tags.addAll(tags);
         }
+        if (guardianIds != null) {
+            this.guardianIds.addAll(guardianIds);
+        }
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no guardians.
+     */
+    public JsonAdaptedPerson(Long id, String name, String phone, String email, String address, String role,
+            List<JsonAdaptedTag> tags) {
+        this(id, name, phone, email, address, role, tags, null);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no ID.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, String role,
+            List<JsonAdaptedTag> tags) {
+        this(null, name, phone, email, address, role, tags);
     }
 
     /**
-     * Converts a given {@code Person} into this class for Jackson use.
+     * Converts a given {@code Person} into this class for Jackson use, without its guardians.
      */
     public JsonAdaptedPerson(Person source) {
+        this(source, Collections.emptySet());
+    }
+
+    /**
+     * Converts a given {@code Person} with the guardians in {@code guardianIds} into this class for Jackson use.
+     */
+    public JsonAdaptedPerson(Person source, Collection<Long> guardianIds) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -63,6 +99,21 @@ class JsonAdaptedPerson {
         tags.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
+        this.guardianIds.addAll(guardianIds);
+    }
+
+    /**
+     * Returns true if this person was saved with an ID, so that the ID is known before it is converted.
+     */
+    boolean hasId() {
+        return id != null;
+    }
+
+    /**
+     * Returns the IDs of the guardians of this person, which are checked when the address book is converted.
+     */
+    List<Long> getGuardianIds() {
+        return guardianIds;
     }
 
     /**
@@ -71,6 +122,10 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        if (id != null && id <= 0) {
+            throw new IllegalValueException(Person.MESSAGE_INVALID_ID);
+        }
+
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
@@ -116,9 +171,13 @@ class JsonAdaptedPerson {
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
         if (role.equals(Role.STUDENT)) {
-            return new Student(modelName, modelPhone, modelEmail, modelAddress, modelRole, modelTags);
+            return id == null
+                    ? new Student(modelName, modelPhone, modelEmail, modelAddress, modelRole, modelTags)
+                    : new Student(id, modelName, modelPhone, modelEmail, modelAddress, modelRole, modelTags);
         } else if (role.equals(Role.GUARDIAN)) {
-            return new Guardian(modelName, modelPhone, modelEmail, modelAddress, modelRole, modelTags);
+            return id == null
+                    ? new Guardian(modelName, modelPhone, modelEmail, modelAddress, modelRole, modelTags)
+                    : new Guardian(id, modelName, modelPhone, modelEmail, modelAddress, modelRole, modelTags);
         } else {
             throw new IllegalValueException(Role.MESSAGE_CONSTRAINTS);
         }
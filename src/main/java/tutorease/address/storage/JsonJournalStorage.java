@@ -0,0 +1,164 @@
+package tutorease.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import tutorease.address.commons.core.LogsCenter;
+import tutorease.address.commons.exceptions.DataLoadingException;
+import tutorease.address.commons.exceptions.IllegalValueException;
+import tutorease.address.commons.util.FileUtil;
+import tutorease.address.commons.util.JsonUtil;
+import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.ModelMutation;
+import tutorease.address.model.TutorEase;
+
+/**
+ * Accesses the journal of changes stored as a file on the hard disk, with one JSON object per line.
+ * Saving a change only appends its line to the file, so the cost of saving grows with the size of the change rather
+ * than with the size of the data.
+ */
+public class JsonJournalStorage implements JournalStorage {
+    /** Suffix added to the name of the journal file to name its backup file. */
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalStorage.class);
+
+    private final Path filePath;
+    private int size;
+
+    /**
+     * Constructs a {@code JsonJournalStorage} with the given file path.
+     *
+     * @param filePath Path to the journal file.
+     */
+    public JsonJournalStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public int getJournalSize() {
+        return size;
+    }
+
+    @Override
+    public void appendToJournal(List<ModelMutation> mutations) throws IOException {
+        requireNonNull(mutations);
+        if (mutations.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (ModelMutation mutation : mutations) {
+            lines.append(JsonUtil.toJsonLine(new JsonAdaptedModelMutation(mutation))).append('\n');
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.appendToFile(filePath, lines.toString());
+        size += mutations.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * An unreadable last line is taken to be a change that was only partly written when the app stopped, and is
+     * removed from the file so that later changes are not appended to it.
+     */
+    @Override
+    public int replayJournal(TutorEase tutorEase, LessonSchedule lessonSchedule) throws DataLoadingException {
+        requireAllNonNull(tutorEase, lessonSchedule);
+        size = 0;
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+        logger.info("Journal file " + filePath + " found.");
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        int appliedCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedModelMutation entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedModelMutation.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Removing partly written last entry of journal file " + filePath);
+                    removeLastLine(lines);
+                    break;
+                }
+                logger.warning("Error reading entry " + (i + 1) + " of journal file " + filePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+            size++;
+
+            if (entry.isAppliedTo(tutorEase, lessonSchedule)) {
+                continue;
+            }
+            try {
+                entry.toModelType(tutorEase).applyTo(tutorEase, lessonSchedule);
+            } catch (IllegalValueException | RuntimeException e) {
+                logger.warning("Could not apply entry " + (i + 1) + " of journal file " + filePath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+            appliedCount++;
+        }
+
+        logger.info("Applied " + appliedCount + " of " + size + " changes from journal file " + filePath);
+        return appliedCount;
+    }
+
+    private void removeLastLine(List<String> lines) throws DataLoadingException {
+        StringBuilder content = new StringBuilder();
+        for (String line : lines.subList(0, lines.size() - 1)) {
+            content.append(line).append('\n');
+        }
+        try {
+            FileUtil.writeToFile(filePath, content.toString());
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public Optional<Path> backUpJournal() throws IOException {
+        size = 0;
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Path backupFilePath = filePath.resolveSibling(filePath.getFileName() + BACKUP_FILE_SUFFIX);
+        FileUtil.appendToFile(backupFilePath, FileUtil.readFromFile(filePath));
+        Files.delete(filePath);
+        logger.warning("Moved the entries of journal file " + filePath + " to " + backupFilePath);
+        return Optional.of(backupFilePath);
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        Files.deleteIfExists(filePath);
+        size = 0;
+    }
+}
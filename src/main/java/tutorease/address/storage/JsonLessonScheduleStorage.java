@@ -4,10 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static tutorease.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import tutorease.address.commons.core.LogsCenter;
 import tutorease.address.commons.exceptions.DataLoadingException;
 import tutorease.address.commons.exceptions.IllegalValueException;
@@ -47,14 +50,16 @@ public class JsonLessonScheduleStorage implements LessonScheduleStorage {
             DataLoadingException {
         requireAllNonNull(filePath);
 
-        Optional<JsonSerializableLessonSchedule> jsonLessonSchedule = JsonUtil.readJsonFile(
-                filePath, JsonSerializableLessonSchedule.class);
-        if (!jsonLessonSchedule.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonLessonSchedule.get().toModelType(tutorEase));
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableLessonSchedule.read(parser, tutorEase));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -72,6 +77,6 @@ public class JsonLessonScheduleStorage implements LessonScheduleStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableLessonSchedule(lessonSchedule), filePath);
+        JsonUtil.saveJsonFile(filePath, generator -> JsonSerializableLessonSchedule.write(generator, lessonSchedule));
     }
 }
@@ -2,6 +2,7 @@ package tutorease.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -9,29 +10,56 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import tutorease.address.commons.exceptions.IllegalValueException;
+import tutorease.address.commons.util.JsonUtil;
 import tutorease.address.model.LessonSchedule;
 import tutorease.address.model.ReadOnlyLessonSchedule;
 import tutorease.address.model.ReadOnlyTutorEase;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.exceptions.OverlappingLessonException;
 
 /**
  * An Immutable LessonSchedule that is serializable to JSON format.
+ * Lesson series are saved as their rules, and the lessons listed for them are not saved.
  */
 @JsonRootName(value = "lessonschedule")
 public class JsonSerializableLessonSchedule {
     public static final String MESSAGE_DUPLICATE_LESSON = "Lessons list contains duplicate lesson(s).";
+    private static final String LESSONS_FIELD = "lessons";
+    private static final String LESSON_SERIES_FIELD = "lessonSeries";
+    private static final String GENERATION_FIELD = "generation";
+
     private final List<JsonAdaptedLesson> lessons = new ArrayList<>();
+    private final List<JsonAdaptedLessonSeries> lessonSeries = new ArrayList<>();
+    private long generation;
 
     /**
      * Constructs a {@code JsonSerializableLessonSchedule} with the given lessons.
      *
      * @param lessons List of lessons.
      */
+    public JsonSerializableLessonSchedule(List<JsonAdaptedLesson> lessons) {
+        this(lessons, null);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableLessonSchedule} with the given lessons and lesson series.
+     *
+     * @param lessons List of lessons.
+     * @param lessonSeries List of lesson series, or null for data saved before lessons could repeat.
+     */
     @JsonCreator
-    public JsonSerializableLessonSchedule(@JsonProperty("lessons") List<JsonAdaptedLesson> lessons) {
+    public JsonSerializableLessonSchedule(@JsonProperty("lessons") List<JsonAdaptedLesson> lessons,
+                                          @JsonProperty("lessonSeries") List<JsonAdaptedLessonSeries> lessonSeries) {
         this.lessons.addAll(lessons);
+        if (lessonSeries != null) {
+            this.lessonSeries.addAll(lessonSeries);
+        }
     }
 
     /**
@@ -40,26 +68,108 @@ public class JsonSerializableLessonSchedule {
      * @param source future changes to this will not affect the created {@code JsonSerializableLessonSchedule}.
      */
     public JsonSerializableLessonSchedule(ReadOnlyLessonSchedule source) {
-        this.lessons.addAll(source.getLessonList().stream().map(JsonAdaptedLesson::new).collect(Collectors.toList()));
+        this.lessons.addAll(source.getLessonList().stream().filter(lesson -> !lesson.isOccurrence())
+                .map(JsonAdaptedLesson::new).collect(Collectors.toList()));
+        this.lessonSeries.addAll(source.getLessonSeriesList().stream().map(JsonAdaptedLessonSeries::new)
+                .collect(Collectors.toList()));
+        this.generation = source.getGeneration();
     }
 
     /**
      * Converts this lesson schedule into the model's {@code LessonSchedule} object.
+     * All lessons are converted first and then loaded into the schedule together, so that they are sorted and checked
+     * for overlaps once instead of one lesson at a time.
      *
      * @param tutorEase The tutorEase to read from.
-     * @throws IllegalValueException If there are overlapping lessons.
+     * @throws IllegalValueException If there are overlapping lessons. The message lists every overlapping pair.
      */
     public LessonSchedule toModelType(ReadOnlyTutorEase tutorEase) throws IllegalValueException {
         requireNonNull(tutorEase);
-        LessonSchedule lessonSchedule = new LessonSchedule();
-
+        List<Lesson> modelLessons = new ArrayList<>(lessons.size());
         for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
-            Lesson lesson = jsonAdaptedLesson.toModelType(tutorEase);
-            if (lessonSchedule.hasLesson(lesson)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
+            modelLessons.add(jsonAdaptedLesson.toModelType(tutorEase));
+        }
+        List<LessonSeries> modelLessonSeries = new ArrayList<>(lessonSeries.size());
+        for (JsonAdaptedLessonSeries jsonAdaptedLessonSeries : lessonSeries) {
+            modelLessonSeries.add(jsonAdaptedLessonSeries.toModelType(tutorEase));
+        }
+
+        return toLessonSchedule(modelLessons, modelLessonSeries, generation);
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, one lesson at a time, so that
+     * the whole schedule is never held in its JSON form.
+     */
+    public static void write(JsonGenerator generator, ReadOnlyLessonSchedule source) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(LESSONS_FIELD);
+        for (Lesson lesson : source.getLessonList()) {
+            if (!lesson.isOccurrence()) {
+                generator.writeObject(new JsonAdaptedLesson(lesson));
+            }
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(LESSON_SERIES_FIELD);
+        for (LessonSeries series : source.getLessonSeriesList()) {
+            generator.writeObject(new JsonAdaptedLessonSeries(series));
+        }
+        generator.writeEndArray();
+        generator.writeNumberField(GENERATION_FIELD, source.getGeneration());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads a lesson schedule written in the format of this class from {@code parser} into the model's
+     * {@code LessonSchedule} object. Each lesson is converted as soon as it is read, so that only one lesson is held
+     * in its JSON form at a time. Unknown fields are skipped.
+     *
+     * @param tutorEase The tutorEase to read the students of the lessons from.
+     * @throws IOException if the JSON is malformed.
+     * @throws IllegalValueException If there are overlapping lessons or any other data constraints violated.
+     */
+    public static LessonSchedule read(JsonParser parser, ReadOnlyTutorEase tutorEase)
+            throws IOException, IllegalValueException {
+        requireNonNull(tutorEase);
+        List<Lesson> modelLessons = new ArrayList<>();
+        List<LessonSeries> modelLessonSeries = new ArrayList<>();
+        long generation = 0;
+
+        JsonUtil.requireNextToken(parser, JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (LESSONS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    modelLessons.add(parser.readValueAs(JsonAdaptedLesson.class).toModelType(tutorEase));
+                }
+            } else if (LESSON_SERIES_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    modelLessonSeries.add(parser.readValueAs(JsonAdaptedLessonSeries.class).toModelType(tutorEase));
+                }
+            } else if (GENERATION_FIELD.equals(fieldName)) {
+                generation = parser.getValueAsLong();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return toLessonSchedule(modelLessons, modelLessonSeries, generation);
+    }
+
+    private static LessonSchedule toLessonSchedule(List<Lesson> modelLessons, List<LessonSeries> modelLessonSeries,
+                                                   long generation) throws IllegalValueException {
+        LessonSchedule lessonSchedule = new LessonSchedule();
+        try {
+            lessonSchedule.setLessons(modelLessons);
+            // Each series is checked against the lessons and the series before it from its rule
+            for (LessonSeries series : modelLessonSeries) {
+                lessonSchedule.addLessonSeries(series);
             }
-            lessonSchedule.addLesson(lesson);
+        } catch (OverlappingLessonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON + " Overlapping lessons: "
+                    + String.join(", ", e.getOverlappingPairs()));
         }
+        lessonSchedule.setGeneration(generation);
         return lessonSchedule;
     }
 }
@@ -1,17 +1,28 @@
 package tutorease.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import tutorease.address.commons.exceptions.IllegalValueException;
+import tutorease.address.commons.util.JsonUtil;
 import tutorease.address.model.ReadOnlyTutorEase;
 import tutorease.address.model.TutorEase;
 import tutorease.address.model.person.Person;
+import tutorease.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * Serves as an Immutable TutorEase that is serializable to JSON format.
@@ -20,8 +31,15 @@ import tutorease.address.model.person.Person;
 class JsonSerializableTutorEase {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_PERSON_ID = "Persons list contains duplicate person ID(s).";
+    public static final String MESSAGE_INVALID_GUARDIAN_LINK = "Persons list contains a link that is not from a "
+            + "student to a guardian in the list.";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String GENERATION_FIELD = "generation";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private long generation;
 
     /**
      * Constructs a {@code JsonSerializableTutorEase} with the given persons.
@@ -37,7 +55,10 @@ class JsonSerializableTutorEase {
      * @param source future changes to this will not affect the created {@code JsonSerializableTutorEase}.
      */
     public JsonSerializableTutorEase(ReadOnlyTutorEase source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        persons.addAll(source.getPersonList().stream()
+                .map(person -> new JsonAdaptedPerson(person, source.getGuardianIds(person.getId())))
+                .collect(Collectors.toList()));
+        generation = source.getGeneration();
     }
 
     /**
@@ -46,14 +67,129 @@ class JsonSerializableTutorEase {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public TutorEase toModelType() throws IllegalValueException {
-        TutorEase addressBook = new TutorEase();
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        Set<Long> ids = new HashSet<>();
+        Map<Long, List<Long>> guardianIdsByStudentId = new HashMap<>();
+        Map<Integer, JsonAdaptedPerson> personsWithoutId = new LinkedHashMap<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            addPerson(jsonAdaptedPerson, modelPersons, ids, guardianIdsByStudentId, personsWithoutId);
+        }
+        addPersonsWithoutId(personsWithoutId, modelPersons, ids, guardianIdsByStudentId);
+        return toTutorEase(modelPersons, guardianIdsByStudentId, generation);
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, one person at a time, so that
+     * the whole address book is never held in its JSON form.
+     */
+    public static void write(JsonGenerator generator, ReadOnlyTutorEase source) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person, source.getGuardianIds(person.getId())));
+        }
+        generator.writeEndArray();
+        generator.writeNumberField(GENERATION_FIELD, source.getGeneration());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads an address book written in the format of this class from {@code parser} into the model's
+     * {@code TutorEase} object. Each person is converted as soon as it is read, so that only one person is held in
+     * its JSON form at a time, except for persons saved without an ID. Unknown fields are skipped.
+     *
+     * @throws IOException if the JSON is malformed.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static TutorEase read(JsonParser parser) throws IOException, IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>();
+        Set<Long> ids = new HashSet<>();
+        Map<Long, List<Long>> guardianIdsByStudentId = new HashMap<>();
+        Map<Integer, JsonAdaptedPerson> personsWithoutId = new LinkedHashMap<>();
+        long generation = 0;
+
+        JsonUtil.requireNextToken(parser, JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (PERSONS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    addPerson(parser.readValueAs(JsonAdaptedPerson.class), modelPersons, ids, guardianIdsByStudentId,
+                            personsWithoutId);
+                }
+            } else if (GENERATION_FIELD.equals(fieldName)) {
+                generation = parser.getValueAsLong();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        addPersonsWithoutId(personsWithoutId, modelPersons, ids, guardianIdsByStudentId);
+        return toTutorEase(modelPersons, guardianIdsByStudentId, generation);
+    }
+
+    /**
+     * Converts {@code jsonAdaptedPerson} and adds it to {@code modelPersons}. A person saved without an ID only
+     * has its place kept in {@code modelPersons} and is put in {@code personsWithoutId} by that place, as it must
+     * not be given an ID before every ID in the file is known.
+     */
+    private static void addPerson(JsonAdaptedPerson jsonAdaptedPerson, List<Person> modelPersons, Set<Long> ids,
+            Map<Long, List<Long>> guardianIdsByStudentId, Map<Integer, JsonAdaptedPerson> personsWithoutId)
+            throws IllegalValueException {
+        if (!jsonAdaptedPerson.hasId()) {
+            personsWithoutId.put(modelPersons.size(), jsonAdaptedPerson);
+            modelPersons.add(null);
+            return;
+        }
+        modelPersons.add(toModelPerson(jsonAdaptedPerson, ids, guardianIdsByStudentId));
+    }
+
+    /**
+     * Converts the persons in {@code personsWithoutId} into their places in {@code modelPersons}. Converting a
+     * person with an ID reserves that ID, so the new IDs given here cannot clash with any ID in the file.
+     */
+    private static void addPersonsWithoutId(Map<Integer, JsonAdaptedPerson> personsWithoutId,
+            List<Person> modelPersons, Set<Long> ids, Map<Long, List<Long>> guardianIdsByStudentId)
+            throws IllegalValueException {
+        for (Map.Entry<Integer, JsonAdaptedPerson> entry : personsWithoutId.entrySet()) {
+            modelPersons.set(entry.getKey(), toModelPerson(entry.getValue(), ids, guardianIdsByStudentId));
+        }
+    }
+
+    private static Person toModelPerson(JsonAdaptedPerson jsonAdaptedPerson, Set<Long> ids,
+            Map<Long, List<Long>> guardianIdsByStudentId) throws IllegalValueException {
+        Person person = jsonAdaptedPerson.toModelType();
+        if (!ids.add(person.getId())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON_ID);
+        }
+        if (!jsonAdaptedPerson.getGuardianIds().isEmpty()) {
+            guardianIdsByStudentId.put(person.getId(), jsonAdaptedPerson.getGuardianIds());
+        }
+        return person;
+    }
+
+    /**
+     * Returns an address book with {@code modelPersons}, with each student linked to the guardians in
+     * {@code guardianIdsByStudentId}. The links can only be checked once every person has been read.
+     */
+    private static TutorEase toTutorEase(List<Person> modelPersons, Map<Long, List<Long>> guardianIdsByStudentId,
+            long generation) throws IllegalValueException {
+        TutorEase addressBook = new TutorEase();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        for (Map.Entry<Long, List<Long>> entry : guardianIdsByStudentId.entrySet()) {
+            Person student = addressBook.getPersonById(entry.getKey());
+            for (long guardianId : entry.getValue()) {
+                Person guardian = addressBook.getPersonById(guardianId);
+                if (!student.isStudent() || guardian == null || !guardian.isGuardian()) {
+                    throw new IllegalValueException(MESSAGE_INVALID_GUARDIAN_LINK);
+                }
+                addressBook.linkGuardian(student, guardian);
             }
-            addressBook.addPerson(person);
         }
+        addressBook.setGeneration(generation);
         return addressBook;
     }
 
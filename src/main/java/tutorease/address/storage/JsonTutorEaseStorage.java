@@ -3,10 +3,13 @@ package tutorease.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonParser;
+
 import tutorease.address.commons.core.LogsCenter;
 import tutorease.address.commons.exceptions.DataLoadingException;
 import tutorease.address.commons.exceptions.IllegalValueException;
@@ -45,14 +48,16 @@ public class JsonTutorEaseStorage implements TutorEaseStorage {
     public Optional<ReadOnlyTutorEase> readTutorEase(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTutorEase> jsonTutorEase = JsonUtil.readJsonFile(
-                filePath, JsonSerializableTutorEase.class);
-        if (!jsonTutorEase.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
 
-        try {
-            return Optional.of(jsonTutorEase.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableTutorEase.read(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,7 +79,7 @@ public class JsonTutorEaseStorage implements TutorEaseStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTutorEase(addressBook), filePath);
+        JsonUtil.saveJsonFile(filePath, generator -> JsonSerializableTutorEase.write(generator, addressBook));
     }
 
 }
@@ -0,0 +1,53 @@
+package tutorease.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import tutorease.address.model.ReadOnlyLessonSchedule;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonSeries;
+
+/**
+ * An unchanging copy of the data of a lesson schedule that is saved to its data file.
+ * Only the lessons, the lesson series and the generation are copied, without sorting, checking or counting the
+ * lessons again, so the copy can be taken cheaply on the thread that changes the schedule and written on another
+ * thread.
+ */
+class LessonScheduleSnapshot implements ReadOnlyLessonSchedule {
+    private final List<Lesson> lessons;
+    private final List<LessonSeries> lessonSeries;
+    private final long generation;
+
+    /**
+     * Copies the data of {@code source}.
+     */
+    LessonScheduleSnapshot(ReadOnlyLessonSchedule source) {
+        requireNonNull(source);
+        lessons = List.copyOf(source.getLessonList());
+        lessonSeries = List.copyOf(source.getLessonSeriesList());
+        generation = source.getGeneration();
+    }
+
+    @Override
+    public ObservableList<Lesson> getLessonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(lessons));
+    }
+
+    @Override
+    public List<LessonSeries> getLessonSeriesList() {
+        return lessonSeries;
+    }
+
+    @Override
+    public Lesson getLesson(int index) {
+        return lessons.get(index);
+    }
+
+    @Override
+    public long getGeneration() {
+        return generation;
+    }
+}
@@ -2,12 +2,17 @@ package tutorease.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import tutorease.address.commons.exceptions.DataLoadingException;
+import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.ModelMutation;
 import tutorease.address.model.ReadOnlyLessonSchedule;
 import tutorease.address.model.ReadOnlyTutorEase;
 import tutorease.address.model.ReadOnlyUserPrefs;
+import tutorease.address.model.TutorEase;
 import tutorease.address.model.UserPrefs;
 
 /**
@@ -38,4 +43,57 @@ public interface Storage extends TutorEaseStorage, UserPrefsStorage, LessonSched
 
     @Override
     void saveLessonSchedule(ReadOnlyLessonSchedule lessonSchedule) throws IOException;
+
+    /**
+     * Saves the changes in {@code mutations}, which have already been made to {@code tutorEase} and
+     * {@code lessonSchedule}.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void saveChanges(List<ModelMutation> mutations, ReadOnlyTutorEase tutorEase,
+                     ReadOnlyLessonSchedule lessonSchedule) throws IOException;
+
+    /**
+     * Applies the saved changes that are not yet contained in {@code tutorEase} and {@code lessonSchedule}, which
+     * should have just been read from the data files.
+     *
+     * If they could not be applied, the saved changes are moved to a backup file before this returns, so that later
+     * saves do not discard them.
+     *
+     * @return The number of changes applied.
+     * @throws DataLoadingException if the saved changes could not be read or applied.
+     */
+    int replayJournal(TutorEase tutorEase, LessonSchedule lessonSchedule) throws DataLoadingException;
+
+    /**
+     * Moves the saved changes to a backup file without applying them, so that later saves do not discard them.
+     * Used instead of {@link #replayJournal(TutorEase, LessonSchedule)} when the data files could not be read.
+     *
+     * @throws IOException if there was any problem moving the file.
+     */
+    void backUpJournal() throws IOException;
+
+    /**
+     * Returns the backup file that the saved changes were moved to without being applied, if they were moved.
+     */
+    Optional<Path> getJournalBackupFilePath();
+
+    /**
+     * Saves {@code tutorEase} and {@code lessonSchedule} to the data files and discards the saved changes they
+     * contain, so that they do not need to be applied again. Does nothing if there are no such changes.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void compactJournal(ReadOnlyTutorEase tutorEase, ReadOnlyLessonSchedule lessonSchedule) throws IOException;
+
+    /**
+     * Sets the handler that is told about saves that failed after the call that asked for them had returned, such as
+     * saves run in the background. It may be called from any thread.
+     */
+    void setSaveErrorHandler(Consumer<IOException> saveErrorHandler);
+
+    /**
+     * Waits until all data handed to this storage has been written to the disk.
+     */
+    void flush();
 }
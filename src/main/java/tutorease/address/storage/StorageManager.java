@@ -1,26 +1,57 @@
 package tutorease.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import tutorease.address.commons.core.LogsCenter;
 import tutorease.address.commons.exceptions.DataLoadingException;
+import tutorease.address.commons.util.FileUtil;
+import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.ModelMutation;
 import tutorease.address.model.ReadOnlyLessonSchedule;
 import tutorease.address.model.ReadOnlyTutorEase;
 import tutorease.address.model.ReadOnlyUserPrefs;
+import tutorease.address.model.TutorEase;
 import tutorease.address.model.UserPrefs;
 
 /**
  * Manages storage of TutorEase data in local storage.
+ * If a {@code JournalStorage} is given, changes are appended to the journal and the data files are only rewritten
+ * once the journal grows past {@link #JOURNAL_COMPACTION_THRESHOLD} entries. Otherwise the data files are rewritten
+ * on every save.
+ * Either way, a data file is only rewritten if the generation of its data has changed since it was last saved.
+ * Saves run on the calling thread unless {@link #enableBackgroundSaving()} has been called.
  */
 public class StorageManager implements Storage {
 
+    /** Number of journal entries after which the data files are rewritten and the journal is emptied. */
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 500;
+
+    private static final long NOT_SAVED = -1;
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private final TutorEaseStorage tutorEaseStorage;
     private final UserPrefsStorage userPrefsStorage;
     private final LessonScheduleStorage lessonScheduleStorage;
+    private final JournalStorage journalStorage;
+    private final List<ModelMutation> pendingMutations = new ArrayList<>();
+    private BackgroundWriter backgroundWriter;
+    private Consumer<IOException> saveErrorHandler = e -> { };
+    private volatile boolean isJournalInSync;
+    // False until the journal has been replayed or moved to its backup file, as it may hold changes missing from the
+    // data files until then
+    private volatile boolean isJournalReplayed;
+    private volatile Path journalBackupFilePath;
+    private volatile boolean hasFailedWrite;
+    private int journalSize;
+    private long savedTutorEaseGeneration = NOT_SAVED;
+    private long savedLessonScheduleGeneration = NOT_SAVED;
 
     /**
      * Creates a {@code StorageManager} with the given {@code TutorEaseStorage}, {@code UserPrefsStorage} and
@@ -32,9 +63,27 @@ public class StorageManager implements Storage {
      */
     public StorageManager(TutorEaseStorage tutorEaseStorage, UserPrefsStorage userPrefsStorage,
                           LessonScheduleStorage lessonScheduleStorage) {
+        this(tutorEaseStorage, userPrefsStorage, lessonScheduleStorage, null);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves changes to the given {@code JournalStorage}.
+     * Until the journal has been replayed or compacted, the first save rewrites the data files and empties the
+     * journal, as the journal may not match the data that was loaded. A journal that was never replayed is moved to
+     * its backup file instead of being emptied, so that its changes are not lost.
+     *
+     * @param tutorEaseStorage the storage for TutorEase data.
+     * @param userPrefsStorage the storage for user preferences data.
+     * @param lessonScheduleStorage the storage for lesson schedule data.
+     * @param journalStorage the storage for changes made since the data files were saved, or null to rewrite the data
+     *     files on every save.
+     */
+    public StorageManager(TutorEaseStorage tutorEaseStorage, UserPrefsStorage userPrefsStorage,
+                          LessonScheduleStorage lessonScheduleStorage, JournalStorage journalStorage) {
         this.tutorEaseStorage = tutorEaseStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.lessonScheduleStorage = lessonScheduleStorage;
+        this.journalStorage = journalStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -113,4 +162,230 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         lessonScheduleStorage.saveLessonSchedule(lessonSchedule, filePath);
     }
+
+    // ================ Journal methods ==============================
+
+    @Override
+    public void saveChanges(List<ModelMutation> mutations, ReadOnlyTutorEase tutorEase,
+                            ReadOnlyLessonSchedule lessonSchedule) throws IOException {
+        if (journalStorage == null) {
+            writeDataFiles(tutorEase, lessonSchedule, false);
+            return;
+        }
+
+        if (!isJournalInSync || mutations.stream().anyMatch(ModelMutation::isReset)
+                || journalSize + mutations.size() >= JOURNAL_COMPACTION_THRESHOLD) {
+            writeDataFiles(tutorEase, lessonSchedule, true);
+            return;
+        }
+
+        appendToJournal(mutations);
+    }
+
+    @Override
+    public int replayJournal(TutorEase tutorEase, LessonSchedule lessonSchedule) throws DataLoadingException {
+        if (journalStorage == null) {
+            return 0;
+        }
+
+        logger.fine("Attempting to replay journal file: " + journalStorage.getJournalFilePath());
+        int appliedCount;
+        try {
+            appliedCount = journalStorage.replayJournal(tutorEase, lessonSchedule);
+        } catch (DataLoadingException e) {
+            try {
+                backUpJournal();
+            } catch (IOException ioe) {
+                // The journal is moved again before the data files are next rewritten
+                logger.warning("Could not move journal file to its backup file: " + ioe);
+            }
+            throw e;
+        }
+        journalSize = journalStorage.getJournalSize();
+        isJournalInSync = true;
+        isJournalReplayed = true;
+        return appliedCount;
+    }
+
+    @Override
+    public void backUpJournal() throws IOException {
+        if (journalStorage == null) {
+            return;
+        }
+
+        journalStorage.backUpJournal().ifPresent(backupFilePath -> journalBackupFilePath = backupFilePath);
+        journalSize = 0;
+        isJournalReplayed = true;
+    }
+
+    @Override
+    public Optional<Path> getJournalBackupFilePath() {
+        return Optional.ofNullable(journalBackupFilePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The data files are also rewritten if the last write to the journal or the data files failed, since the changes
+     * it was saving may only be in memory. Saves still running in the background are waited for first, so that their
+     * failures are known.
+     */
+    @Override
+    public void compactJournal(ReadOnlyTutorEase tutorEase, ReadOnlyLessonSchedule lessonSchedule)
+            throws IOException {
+        flush();
+        if (hasFailedWrite) {
+            writeDataFiles(tutorEase, lessonSchedule, journalStorage != null);
+            return;
+        }
+        if (journalStorage == null || !isJournalInSync || journalSize == 0) {
+            // Nothing has been saved to the journal since the data files were last written, or the journal was not
+            // replayed, in which case it may not match the data in memory
+            return;
+        }
+        writeDataFiles(tutorEase, lessonSchedule, true);
+    }
+
+    // ================ Background saving methods ==============================
+
+    /**
+     * Makes later saves of TutorEase data run on a background thread, so that they return without waiting for the
+     * disk. Saves that pile up while the disk is busy are combined into fewer writes.
+     * Errors from background saves are passed to the handler set by {@link #setSaveErrorHandler(Consumer)}.
+     */
+    public void enableBackgroundSaving() {
+        if (backgroundWriter == null) {
+            backgroundWriter = new BackgroundWriter();
+            backgroundWriter.setErrorHandler(saveErrorHandler);
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        requireNonNull(saveErrorHandler);
+        this.saveErrorHandler = saveErrorHandler;
+        if (backgroundWriter != null) {
+            backgroundWriter.setErrorHandler(saveErrorHandler);
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (backgroundWriter != null) {
+            backgroundWriter.flush();
+        }
+    }
+
+    /**
+     * Rewrites the data files that have changed, and empties the journal if {@code clearsJournal} is true.
+     * When saving in the background, snapshots of the data are written so that later commands can keep changing it.
+     * The snapshots only copy the lists of persons, lessons and series, so that taking them does not rebuild the
+     * indexes of the model on the calling thread.
+     */
+    private void writeDataFiles(ReadOnlyTutorEase tutorEase, ReadOnlyLessonSchedule lessonSchedule,
+                                boolean clearsJournal) throws IOException {
+        if (clearsJournal) {
+            isJournalInSync = true;
+            journalSize = 0;
+        }
+
+        if (backgroundWriter == null) {
+            runDataFilesWrite(tutorEase, lessonSchedule, clearsJournal);
+            return;
+        }
+
+        ReadOnlyTutorEase tutorEaseCopy = new TutorEaseSnapshot(tutorEase);
+        ReadOnlyLessonSchedule lessonScheduleCopy = new LessonScheduleSnapshot(lessonSchedule);
+        synchronized (pendingMutations) {
+            // The snapshots already contain these changes
+            pendingMutations.clear();
+        }
+        backgroundWriter.submitReplacingPending(() ->
+                runDataFilesWrite(tutorEaseCopy, lessonScheduleCopy, clearsJournal));
+    }
+
+    private void appendToJournal(List<ModelMutation> mutations) throws IOException {
+        journalSize += mutations.size();
+        if (backgroundWriter == null) {
+            runJournalAppend(mutations);
+            return;
+        }
+
+        synchronized (pendingMutations) {
+            boolean hasPendingAppend = !pendingMutations.isEmpty();
+            pendingMutations.addAll(mutations);
+            if (hasPendingAppend) {
+                // The append that is already waiting will write these changes as well
+                return;
+            }
+        }
+        backgroundWriter.submit(() -> {
+            List<ModelMutation> mutationsToAppend;
+            synchronized (pendingMutations) {
+                mutationsToAppend = new ArrayList<>(pendingMutations);
+                pendingMutations.clear();
+            }
+            runJournalAppend(mutationsToAppend);
+        });
+    }
+
+    /**
+     * Rewrites the data files and empties the journal if {@code clearsJournal} is true.
+     * The generations saved in the data files let changes that are already in them be skipped if the journal could not
+     * be emptied.
+     */
+    private void runDataFilesWrite(ReadOnlyTutorEase tutorEase, ReadOnlyLessonSchedule lessonSchedule,
+                                   boolean clearsJournal) throws IOException {
+        try {
+            if (clearsJournal && !isJournalReplayed) {
+                // The journal may hold changes that are not in the data in memory
+                backUpJournal();
+            }
+            saveChangedDataFiles(tutorEase, lessonSchedule);
+            if (clearsJournal) {
+                journalStorage.clearJournal();
+            }
+            hasFailedWrite = false;
+        } catch (IOException e) {
+            // The journal may no longer hold every change missing from the data files, so the next save rewrites them
+            isJournalInSync = false;
+            hasFailedWrite = true;
+            throw e;
+        }
+    }
+
+    private void runJournalAppend(List<ModelMutation> mutations) throws IOException {
+        if (mutations.isEmpty()) {
+            return;
+        }
+
+        logger.fine("Attempting to append " + mutations.size() + " changes to journal file: "
+                + journalStorage.getJournalFilePath());
+        try {
+            journalStorage.appendToJournal(mutations);
+        } catch (IOException e) {
+            // The journal is missing these changes, so the next save has to rewrite the data files instead
+            isJournalInSync = false;
+            hasFailedWrite = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Rewrites each data file whose data has a different generation from when the file was last saved, or which does
+     * not exist.
+     * The address book is written before the lesson schedule, since lessons refer to persons by ID.
+     */
+    private void saveChangedDataFiles(ReadOnlyTutorEase tutorEase, ReadOnlyLessonSchedule lessonSchedule)
+            throws IOException {
+        if (tutorEase.getGeneration() != savedTutorEaseGeneration
+                || !FileUtil.isFileExists(getTutorEaseFilePath())) {
+            saveTutorEase(tutorEase);
+            savedTutorEaseGeneration = tutorEase.getGeneration();
+        }
+        if (lessonSchedule.getGeneration() != savedLessonScheduleGeneration
+                || !FileUtil.isFileExists(getLessonScheduleFilePath())) {
+            saveLessonSchedule(lessonSchedule);
+            savedLessonScheduleGeneration = lessonSchedule.getGeneration();
+        }
+    }
 }
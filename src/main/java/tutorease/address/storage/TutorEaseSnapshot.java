@@ -0,0 +1,77 @@
+package tutorease.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import tutorease.address.model.ReadOnlyTutorEase;
+import tutorease.address.model.person.Person;
+
+/**
+ * An unchanging copy of the data of an address book that is saved to its data file.
+ * Only the persons, their guardian links and the generation are copied, without building any of the indexes of
+ * {@code TutorEase}, so the copy can be taken cheaply on the thread that changes the address book and written on
+ * another thread. Lookups by name or ID check every person, as the copy is only meant to be written.
+ */
+class TutorEaseSnapshot implements ReadOnlyTutorEase {
+    private final List<Person> persons;
+    private final Map<Long, Set<Long>> guardianIdsByStudentId = new HashMap<>();
+    private final long generation;
+
+    /**
+     * Copies the data of {@code source}.
+     */
+    TutorEaseSnapshot(ReadOnlyTutorEase source) {
+        requireNonNull(source);
+        persons = List.copyOf(source.getPersonList());
+        for (Person person : persons) {
+            Set<Long> guardianIds = source.getGuardianIds(person.getId());
+            if (!guardianIds.isEmpty()) {
+                guardianIdsByStudentId.put(person.getId(), Set.copyOf(guardianIds));
+            }
+        }
+        generation = source.getGeneration();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    @Override
+    public Person getPerson(String name) {
+        requireNonNull(name);
+        for (Person person : persons) {
+            if (person.getName().fullName.equals(name)) {
+                return person;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Person getPersonById(long id) {
+        for (Person person : persons) {
+            if (person.getId() == id) {
+                return person;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Set<Long> getGuardianIds(long studentId) {
+        return guardianIdsByStudentId.getOrDefault(studentId, Collections.emptySet());
+    }
+
+    @Override
+    public long getGeneration() {
+        return generation;
+    }
+}
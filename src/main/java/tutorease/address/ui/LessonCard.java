@@ -5,6 +5,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.person.Person;
 
 /**
  * A UI component that displays information of a {@code Lesson}.
@@ -33,15 +34,17 @@ public class LessonCard extends UiPart<Region> {
      *
      * @param lesson Lesson to display.
      * @param displayedIndex Index to display.
+     * @param student The student of the lesson, looked up by the ID kept in the lesson.
      */
-    public LessonCard(Lesson lesson, int displayedIndex) {
+    public LessonCard(Lesson lesson, int displayedIndex, Person student) {
         super(FXML);
+        assert student != null && student.getId() == lesson.getStudentId() : "student must be the lesson's student";
 
         id.setText(displayedIndex + ". ");
         startDateTime.setText(lesson.getStartDateTimeString());
         endDateTime.setText(lesson.getEndDateTimeString());
-        student.setText(lesson.getStudentName());
-        address.setText(lesson.getAddress());
+        this.student.setText(student.getName().fullName);
+        address.setText(student.getAddressString());
         fee.setText(lesson.getAmountPerHour());
     }
 }
@@ -1,8 +1,10 @@
 package tutorease.address.ui;
 
+import java.util.function.LongFunction;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
@@ -10,6 +12,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import tutorease.address.commons.core.LogsCenter;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.person.Person;
 
 /**
  * Panel containing the list of lessons.
@@ -18,20 +21,29 @@ public class LessonListPanel extends UiPart<Region> {
     private static final String FXML = "LessonListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(LessonListPanel.class);
 
+    private final LongFunction<Person> studentLookup;
+
     @FXML
     private ListView<Lesson> lessonListView;
 
     /**
      * Creates a {@code LessonListPanel} with the given {@code ObservableList}.
+     * Lessons keep the ID of their student, so the details of each student are looked up with {@code studentLookup},
+     * and the shown lessons are redrawn when {@code personList} changes, such as when a student is edited.
      *
      * @param lessonList The list of lessons.
+     * @param personList The list of all persons, which the students of the lessons are in.
+     * @param studentLookup Returns the person with a given ID.
      */
-    public LessonListPanel(ObservableList<Lesson> lessonList) {
+    public LessonListPanel(ObservableList<Lesson> lessonList, ObservableList<Person> personList,
+                           LongFunction<Person> studentLookup) {
         super(FXML);
 
         logger.log(Level.INFO, "Creating LessonListPanel with lessonList: " + lessonList);
+        this.studentLookup = studentLookup;
         lessonListView.setItems(lessonList);
         lessonListView.setCellFactory(listView -> new LessonListViewCell());
+        personList.addListener((ListChangeListener<Person>) change -> lessonListView.refresh());
         logger.log(Level.INFO, "Created LessonListPanel with lessonList");
     }
 
@@ -48,7 +60,8 @@ public class LessonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new LessonCard(lesson, getIndex() + 1).getRoot());
+                setGraphic(new LessonCard(lesson, getIndex() + 1, studentLookup.apply(lesson.getStudentId()))
+                        .getRoot());
             }
         }
     }
@@ -2,6 +2,7 @@ package tutorease.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -111,6 +112,8 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
+        logic.getLoadWarning().ifPresent(resultDisplay::setFeedbackToUser);
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getTutorEaseFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
@@ -118,7 +121,8 @@ public class MainWindow extends UiPart<Stage> {
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
 
-        lessonListPanel = new LessonListPanel(logic.getFilteredLessonList());
+        lessonListPanel = new LessonListPanel(logic.getFilteredLessonList(), logic.getTutorEase().getPersonList(),
+                logic::getPersonById);
         lessonListPanelPlaceholder.getChildren().add(lessonListPanel.getRoot());
     }
 
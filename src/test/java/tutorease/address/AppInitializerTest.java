@@ -0,0 +1,75 @@
+package tutorease.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BENSON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.Model;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.TutorEase;
+import tutorease.address.model.UserPrefs;
+import tutorease.address.storage.JsonJournalStorage;
+import tutorease.address.storage.JsonLessonScheduleStorage;
+import tutorease.address.storage.JsonTutorEaseStorage;
+import tutorease.address.storage.JsonUserPrefsStorage;
+import tutorease.address.storage.StorageManager;
+
+public class AppInitializerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonJournalStorage journalStorage;
+    private StorageManager storage;
+    private UserPrefs userPrefs;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        userPrefs = new UserPrefs();
+        journalStorage = new JsonJournalStorage(testFolder.resolve(AppInitializer.JOURNAL_FILE_NAME));
+        storage = new StorageManager(new JsonTutorEaseStorage(testFolder.resolve("tutorease.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")),
+                new JsonLessonScheduleStorage(testFolder.resolve("lessonschedule.json")), journalStorage);
+
+        // the data files are saved empty, and the journal holds the persons added since
+        storage.saveTutorEase(new TutorEase());
+        storage.saveLessonSchedule(new LessonSchedule());
+        storage.replayJournal(new TutorEase(), new LessonSchedule());
+        ModelManager savedModel = new ModelManager();
+        savedModel.addPerson(ALICE);
+        savedModel.addPerson(BENSON);
+        storage.saveChanges(savedModel.takeMutations(), savedModel.getTutorEase(), savedModel.getLessonSchedule());
+    }
+
+    @Test
+    public void initModelManager_lessonScheduleMissing_journalReplayed() throws Exception {
+        Files.delete(storage.getLessonScheduleFilePath());
+
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        assertTrue(model.hasPerson(ALICE));
+        assertTrue(model.hasPerson(BENSON));
+    }
+
+    @Test
+    public void initModelManager_invalidMiddleEntry_journalMovedToBackupFile() throws Exception {
+        List<String> entries = Files.readAllLines(journalStorage.getJournalFilePath());
+        List<String> corruptedEntries = List.of(entries.get(0), "not json", entries.get(1));
+        Files.write(journalStorage.getJournalFilePath(), corruptedEntries);
+
+        Model model = AppInitializer.initModelManager(storage, userPrefs);
+        assertFalse(model.hasPerson(ALICE));
+        assertFalse(Files.exists(journalStorage.getJournalFilePath()));
+        assertEquals(corruptedEntries, Files.readAllLines(storage.getJournalBackupFilePath().get()));
+    }
+}
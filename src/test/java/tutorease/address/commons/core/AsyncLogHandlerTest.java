@@ -0,0 +1,221 @@
+package tutorease.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new AsyncLogHandler(List.of(), 0, OverflowPolicy.DROP));
+    }
+
+    @Test
+    public void publish_manyThreads_allRecordsPublished() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16, OverflowPolicy.BLOCK);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String threadName = "thread" + i;
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < 500; j++) {
+                    handler.publish(new LogRecord(Level.INFO, threadName + " " + j));
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        handler.flush();
+
+        assertEquals(2000, target.getMessages().size());
+        // records of each thread keep their order
+        List<String> firstThreadMessages = new ArrayList<>();
+        for (String message : target.getMessages()) {
+            if (message.startsWith("thread0 ")) {
+                firstThreadMessages.add(message);
+            }
+        }
+        for (int j = 0; j < 500; j++) {
+            assertEquals("thread0 " + j, firstThreadMessages.get(j));
+        }
+        assertEquals(0, handler.getDroppedCount());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFullWithDropPolicy_recordsDroppedAndReported() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, OverflowPolicy.DROP);
+        target.block();
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        target.awaitBlocked();
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertEquals(8, handler.getDroppedCount());
+
+        target.unblock();
+        handler.flush();
+        // the drops are reported as soon as the record that was being published when they happened is done
+        assertEquals(List.of("first", "Dropped 8 log records as the buffer was full", "message 0", "message 1"),
+                target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFullWithDropPolicy_warningsNotDropped() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, OverflowPolicy.DROP);
+        target.block();
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        target.awaitBlocked();
+        handler.publish(new LogRecord(Level.INFO, "message 0"));
+        handler.publish(new LogRecord(Level.INFO, "message 1"));
+        Thread unblocker = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            target.unblock();
+        });
+        unblocker.start();
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        handler.publish(new LogRecord(Level.WARNING, "warning"));
+        handler.publish(new LogRecord(Level.SEVERE, "severe"));
+        handler.flush();
+
+        assertEquals(List.of("first", "Dropped 1 log records as the buffer was full", "message 0", "message 1",
+                "warning", "severe"), target.getMessages());
+        unblocker.join();
+        handler.close();
+    }
+
+    @Test
+    public void publish_parametersChangedAfterCall_messageFormattedAtCall() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 8, OverflowPolicy.BLOCK);
+        target.block();
+        List<String> lessons = new ArrayList<>(List.of("lesson 1"));
+        LogRecord record = new LogRecord(Level.FINE, "Updated lessons: {0}");
+        record.setParameters(new Object[] {lessons});
+
+        handler.publish(record);
+        lessons.add("lesson 2");
+        target.unblock();
+        handler.flush();
+
+        assertEquals(List.of("Updated lessons: [lesson 1]"), target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFullWithBlockPolicy_noRecordsLost() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, OverflowPolicy.BLOCK);
+        target.block();
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        target.awaitBlocked();
+        Thread unblocker = new Thread(() -> {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            target.unblock();
+        });
+        unblocker.start();
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(11, target.getMessages().size());
+        assertEquals(0, handler.getDroppedCount());
+        unblocker.join();
+        handler.close();
+    }
+
+    @Test
+    public void close_pendingRecords_publishedAndTargetsClosed() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 8, OverflowPolicy.DROP);
+        handler.publish(new LogRecord(Level.INFO, "message"));
+        handler.close();
+
+        assertEquals(List.of("message"), target.getMessages());
+        assertTrue(target.isClosed);
+
+        // records logged after closing are ignored
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        assertEquals(List.of("message"), target.getMessages());
+    }
+
+    /**
+     * A handler that keeps the messages of the records it is given, and can be made to wait while publishing.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile CountDownLatch unblocked = new CountDownLatch(0);
+        private volatile boolean isClosed;
+
+        void block() {
+            unblocked = new CountDownLatch(1);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            blocked.await();
+        }
+
+        void unblock() {
+            unblocked.countDown();
+        }
+
+        List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+            blocked.countDown();
+            try {
+                unblocked.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
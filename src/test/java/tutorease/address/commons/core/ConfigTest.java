@@ -12,7 +12,10 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", saveInBackground=" + config.isSaveInBackground()
+                + ", logInBackground=" + config.isLogInBackground()
+                + ", logOverflowPolicy=" + config.getLogOverflowPolicy() + "}";
         assertEquals(expected, config.toString());
     }
 
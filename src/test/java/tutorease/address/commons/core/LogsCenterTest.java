@@ -0,0 +1,87 @@
+package tutorease.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.UniqueLessonList;
+import tutorease.address.testutil.LessonBuilder;
+import tutorease.address.testutil.StudentBuilder;
+
+public class LogsCenterTest {
+
+    private final Logger logger = LogsCenter.getLogger(LogsCenterTest.class);
+    private final Logger baseLogger = Logger.getLogger("tutorease");
+    private final List<LogRecord> records = new ArrayList<>();
+    private final Handler recordingHandler = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            if (isLoggable(record)) {
+                records.add(record);
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    @BeforeEach
+    public void setUp() {
+        recordingHandler.setLevel(Level.ALL);
+        baseLogger.addHandler(recordingHandler);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        baseLogger.removeHandler(recordingHandler);
+        logger.setLevel(null);
+    }
+
+    @Test
+    public void modelChanges_fineLevel_sourceIsCallingClass() throws Exception {
+        Logger lessonLogger = LogsCenter.getLogger(UniqueLessonList.class);
+        lessonLogger.setLevel(Level.FINE);
+        try {
+            UniqueLessonList lessons = new UniqueLessonList();
+            lessons.add(new LessonBuilder().withName(ALICE).build());
+        } finally {
+            lessonLogger.setLevel(null);
+        }
+
+        assertFalse(records.isEmpty());
+        for (LogRecord record : records) {
+            assertEquals(UniqueLessonList.class.getName(), record.getSourceClassName());
+            assertEquals("add", record.getSourceMethodName());
+        }
+    }
+
+    @Test
+    public void modelChanges_defaultLevel_nothingLogged() throws Exception {
+        UniqueLessonList lessons = new UniqueLessonList();
+        Lesson lesson = new LessonBuilder().withName(ALICE).build();
+        lessons.add(lesson);
+        assertTrue(lessons.contains(lesson));
+        assertTrue(ALICE.equals(new StudentBuilder(ALICE).build()));
+        lessons.remove(lesson);
+
+        assertTrue(records.isEmpty());
+    }
+}
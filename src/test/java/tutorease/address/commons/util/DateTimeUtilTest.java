@@ -0,0 +1,64 @@
+package tutorease.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorease.address.commons.util.DateTimeUtil.INVALID_DATETIME_FORMAT_MESSAGE;
+import static tutorease.address.commons.util.DateTimeUtil.INVALID_DAY_MESSAGE;
+import static tutorease.address.commons.util.DateTimeUtil.INVALID_YEAR_MESSAGE;
+import static tutorease.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.logic.parser.exceptions.ParseException;
+
+public class DateTimeUtilTest {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(DateTimeUtil.DATETIME_FORMAT);
+
+    @Test
+    public void checkValidDateTime_invalidString_throwsParseException() {
+        assertThrows(ParseException.class, String.format(INVALID_DATETIME_FORMAT_MESSAGE, "1-06-2024 14:30"), () ->
+                DateTimeUtil.checkValidDateTime("1-06-2024 14:30"));
+        assertThrows(ParseException.class, String.format(INVALID_DAY_MESSAGE, 30, 29), () ->
+                DateTimeUtil.checkValidDateTime("30-02-2024 14:30"));
+        assertThrows(ParseException.class, String.format(INVALID_YEAR_MESSAGE, 1999), () ->
+                DateTimeUtil.checkValidDateTime("31-12-1999 14:30"));
+    }
+
+    @Test
+    public void checkValidDateTime_localDateTime() throws Exception {
+        DateTimeUtil.checkValidDateTime(LocalDateTime.of(2000, 1, 1, 0, 0));
+        DateTimeUtil.checkValidDateTime(LocalDateTime.of(2100, 12, 31, 23, 59));
+        assertThrows(ParseException.class, String.format(INVALID_YEAR_MESSAGE, 2101), () ->
+                DateTimeUtil.checkValidDateTime(LocalDateTime.of(2101, 1, 1, 0, 0)));
+        assertThrows(ParseException.class, String.format(INVALID_YEAR_MESSAGE, 1999), () ->
+                DateTimeUtil.checkValidDateTime(LocalDateTime.of(1999, 12, 31, 23, 59)));
+    }
+
+    @Test
+    public void parseDateTime_validString_sameAsFormatter() throws Exception {
+        for (String dateTime : new String[] {"01-01-2000 00:00", "29-02-2024 09:05", "31-12-2100 23:59"}) {
+            assertEquals(LocalDateTime.parse(dateTime, FORMATTER), DateTimeUtil.parseDateTime(dateTime));
+        }
+    }
+
+    @Test
+    public void parseDateTime_invalidString_throwsParseException() {
+        for (String dateTime : new String[] {"", "15-06-2024", "15-06-2024T14:30", "15-06-2024\t14:30",
+            "15/06/2024 14:30", "15-06-2024 1430 ", "31-04-2024 14:30", "15-13-2024 14:30", "15-06-2024 24:00"}) {
+            assertThrows(ParseException.class, INVALID_DATETIME_FORMAT_MESSAGE, () ->
+                    DateTimeUtil.parseDateTime(dateTime));
+        }
+    }
+
+    @Test
+    public void dateTimeToString_sameAsFormatter() {
+        LocalDateTime[] dateTimes = {LocalDateTime.of(2024, 6, 15, 14, 30), LocalDateTime.of(2000, 1, 1, 0, 0),
+            LocalDateTime.of(7, 3, 4, 5, 6, 59), LocalDateTime.of(9999, 12, 31, 23, 59),
+            LocalDateTime.of(10000, 1, 1, 0, 0), LocalDateTime.of(-1, 1, 1, 0, 0)};
+        for (LocalDateTime dateTime : dateTimes) {
+            assertEquals(dateTime.format(FORMATTER), DateTimeUtil.dateTimeToString(dateTime));
+        }
+    }
+}
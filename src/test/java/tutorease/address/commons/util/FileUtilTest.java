@@ -1,13 +1,23 @@
 package tutorease.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorease.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,43 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutTempFileLeft() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content");
+        FileUtil.writeToFile(file, "new content");
+
+        assertEquals("new content", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void writeToFile_writerFails_fileUnchangedWithoutTempFileLeft() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content");
+
+        assertThrows(IOException.class, "dummy IO exception", () -> FileUtil.writeToFile(file, out -> {
+            out.write(new byte[] {'n', 'e', 'w'});
+            throw new IOException("dummy IO exception");
+        }));
+        assertThrows(IllegalStateException.class, () -> FileUtil.writeToFile(file, out -> {
+            throw new IllegalStateException();
+        }));
+
+        assertEquals("old content", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void appendToFile_existingFile_contentAdded() throws Exception {
+        Path file = testFolder.resolve("data.journal");
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
 }
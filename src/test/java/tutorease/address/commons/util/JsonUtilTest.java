@@ -1,12 +1,17 @@
 package tutorease.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorease.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import tutorease.address.testutil.SerializableTestClass;
 import tutorease.address.testutil.TestUtil;
 
@@ -39,6 +44,28 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonFile_jsonWriter_sameAsSerializedObject() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.saveJsonFile(SERIALIZATION_FILE, generator -> generator.writeObject(serializableTestClass));
+
+        assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
+    }
+
+    @Test
+    public void createParser_savedJsonFile_readsValue() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
+
+        try (JsonParser parser = JsonUtil.createParser(SERIALIZATION_FILE)) {
+            JsonUtil.requireNextToken(parser, JsonToken.START_OBJECT);
+            SerializableTestClass serializableTestClass = parser.readValueAs(SerializableTestClass.class);
+            assertEquals(serializableTestClass.getName(), SerializableTestClass.getNameTestValue());
+            assertThrows(JsonParseException.class, () -> JsonUtil.requireNextToken(parser, JsonToken.START_OBJECT));
+        }
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
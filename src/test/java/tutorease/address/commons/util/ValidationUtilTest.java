@@ -0,0 +1,47 @@
+package tutorease.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void isAlphanumeric_char_sameAsRegex() {
+        for (char c = 0; c < 0x300; c++) {
+            assertEquals(String.valueOf(c).matches("\\p{Alnum}"), ValidationUtil.isAlphanumeric(c));
+            assertEquals(String.valueOf(c).matches("\\d"), ValidationUtil.isDigit(c));
+            assertEquals(String.valueOf(c).matches("\\s"), ValidationUtil.isWhitespace(c));
+        }
+    }
+
+    @Test
+    public void isAlphanumeric_string() {
+        assertFalse(ValidationUtil.isAlphanumeric(""));
+        assertFalse(ValidationUtil.isAlphanumeric("ab c"));
+        assertFalse(ValidationUtil.isAlphanumeric("caf\u00e9"));
+        assertTrue(ValidationUtil.isAlphanumeric("a"));
+        assertTrue(ValidationUtil.isAlphanumeric("Tag123"));
+    }
+
+    @Test
+    public void isDigits() {
+        assertFalse(ValidationUtil.isDigits("12", 3));
+        assertFalse(ValidationUtil.isDigits("12a", 3));
+        assertFalse(ValidationUtil.isDigits("\u0661\u0662\u0663", 3)); // digits outside ASCII
+        assertTrue(ValidationUtil.isDigits("", 0));
+        assertTrue(ValidationUtil.isDigits("123", 3));
+
+        assertTrue(ValidationUtil.isDigits("ab12cd", 2, 4));
+        assertFalse(ValidationUtil.isDigits("ab12cd", 1, 4));
+    }
+
+    @Test
+    public void parseDigits() {
+        assertEquals(0, ValidationUtil.parseDigits("abc", 1, 1));
+        assertEquals(2024, ValidationUtil.parseDigits("15-06-2024", 6, 10));
+        assertEquals(6, ValidationUtil.parseDigits("15-06-2024", 3, 5));
+    }
+}
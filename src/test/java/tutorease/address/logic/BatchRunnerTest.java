@@ -0,0 +1,174 @@
+package tutorease.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorease.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static tutorease.address.logic.commands.CommandTestUtil.ADDRESS_DESC_BOB;
+import static tutorease.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static tutorease.address.logic.commands.CommandTestUtil.EMAIL_DESC_BOB;
+import static tutorease.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static tutorease.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
+import static tutorease.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static tutorease.address.logic.commands.CommandTestUtil.PHONE_DESC_BOB;
+import static tutorease.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
+import static tutorease.address.logic.commands.CommandTestUtil.ROLE_DESC_BOB;
+import static tutorease.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorease.address.logic.commands.AddContactCommand;
+import tutorease.address.logic.commands.ContactCommand;
+import tutorease.address.logic.commands.ExitCommand;
+import tutorease.address.logic.commands.ListContactCommand;
+import tutorease.address.model.Model;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.ModelMutation;
+import tutorease.address.model.ReadOnlyLessonSchedule;
+import tutorease.address.model.ReadOnlyTutorEase;
+import tutorease.address.storage.JsonLessonScheduleStorage;
+import tutorease.address.storage.JsonTutorEaseStorage;
+import tutorease.address.storage.JsonUserPrefsStorage;
+import tutorease.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+    private static final String ADD_AMY = ContactCommand.COMMAND_WORD + " " + AddContactCommand.COMMAND_WORD
+            + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + ROLE_DESC_AMY;
+    private static final String ADD_BOB = ContactCommand.COMMAND_WORD + " " + AddContactCommand.COMMAND_WORD
+            + NAME_DESC_BOB + PHONE_DESC_BOB + EMAIL_DESC_BOB + ADDRESS_DESC_BOB + ROLE_DESC_BOB;
+    private static final String LIST = ContactCommand.COMMAND_WORD + " " + ListContactCommand.COMMAND_WORD;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream errorBytes = new ByteArrayOutputStream();
+    private final PrintStream errorOutput = new PrintStream(errorBytes, true, StandardCharsets.UTF_8);
+    private CountingStorageManager storage;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CountingStorageManager(temporaryFolder);
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(logic, -1, false));
+    }
+
+    @Test
+    public void run_validScript_changesSavedOnce() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(logic, 0, false);
+        batchRunner.run(script("# contacts to import", ADD_AMY, "", LIST, ADD_BOB), errorOutput);
+
+        assertEquals(3, batchRunner.getExecutedCount());
+        assertEquals(0, batchRunner.getFailedCount());
+        assertEquals(2, model.getTutorEase().getPersonList().size());
+        assertEquals(1, storage.saveCount);
+        assertEquals(0, logic.getUnsavedChangeCount());
+        assertEquals("", errorBytes.toString(StandardCharsets.UTF_8));
+
+        // commands run after the script are saved straight away again
+        logic.execute(ContactCommand.COMMAND_WORD + " delete 1");
+        assertEquals(2, storage.saveCount);
+    }
+
+    @Test
+    public void run_checkpointInterval_changesSavedAtCheckpoints() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(logic, 2, false);
+        batchRunner.run(script(ADD_AMY, LIST, ADD_BOB), errorOutput);
+
+        // once after the second command and once at the end
+        assertEquals(2, storage.saveCount);
+        assertEquals(2, model.getTutorEase().getPersonList().size());
+    }
+
+    @Test
+    public void run_failingCommand_errorReportedAndScriptContinued() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(logic, 0, false);
+        batchRunner.run(script(ADD_AMY, ADD_AMY, ADD_BOB), errorOutput);
+
+        assertEquals(3, batchRunner.getExecutedCount());
+        assertEquals(1, batchRunner.getFailedCount());
+        assertEquals(2, model.getTutorEase().getPersonList().size());
+        assertEquals(String.format(BatchRunner.MESSAGE_COMMAND_FAILED, 2, AddContactCommand.MESSAGE_DUPLICATE_PERSON)
+                + System.lineSeparator(), errorBytes.toString(StandardCharsets.UTF_8));
+        assertEquals(String.format(BatchRunner.MESSAGE_SUMMARY, 3, 2, 1), batchRunner.getSummary());
+    }
+
+    @Test
+    public void run_failingCommandWithStopOnError_scriptStopped() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(logic, 0, true);
+        batchRunner.run(script(ADD_AMY, "unknown command", ADD_BOB), errorOutput);
+
+        assertEquals(2, batchRunner.getExecutedCount());
+        assertEquals(1, batchRunner.getFailedCount());
+        assertEquals(1, model.getTutorEase().getPersonList().size());
+        assertEquals(1, storage.saveCount);
+    }
+
+    @Test
+    public void run_exitCommand_scriptStopped() throws Exception {
+        BatchRunner batchRunner = new BatchRunner(logic, 0, false);
+        batchRunner.run(script(ADD_AMY, ExitCommand.COMMAND_WORD, ADD_BOB), errorOutput);
+
+        assertEquals(2, batchRunner.getExecutedCount());
+        assertEquals(1, model.getTutorEase().getPersonList().size());
+    }
+
+    @Test
+    public void run_scriptUnreadable_changesSavedAndIoExceptionThrown() {
+        BatchRunner batchRunner = new BatchRunner(logic, 0, false);
+        BufferedReader failingScript = new BufferedReader(new StringReader(ADD_AMY + "\n")) {
+            private boolean isFirstLineRead;
+
+            @Override
+            public String readLine() throws IOException {
+                if (isFirstLineRead) {
+                    throw new IOException("dummy IO exception");
+                }
+                isFirstLineRead = true;
+                return super.readLine();
+            }
+        };
+
+        assertThrows(IOException.class, () -> batchRunner.run(failingScript, errorOutput));
+        assertEquals(1, storage.saveCount);
+        assertEquals(0, logic.getUnsavedChangeCount());
+    }
+
+    private static BufferedReader script(String... lines) {
+        return new BufferedReader(new StringReader(String.join("\n", lines)));
+    }
+
+    /**
+     * A {@code StorageManager} that counts the number of times changes are saved.
+     */
+    private static class CountingStorageManager extends StorageManager {
+        private int saveCount;
+
+        CountingStorageManager(Path folder) {
+            super(new JsonTutorEaseStorage(folder.resolve("tutorease.json")),
+                    new JsonUserPrefsStorage(folder.resolve("userPrefs.json")),
+                    new JsonLessonScheduleStorage(folder.resolve("lessonschedule.json")));
+        }
+
+        @Override
+        public void saveChanges(List<ModelMutation> mutations, ReadOnlyTutorEase tutorEase,
+                                ReadOnlyLessonSchedule lessonSchedule) throws IOException {
+            saveCount++;
+            super.saveChanges(mutations, tutorEase, lessonSchedule);
+        }
+    }
+}
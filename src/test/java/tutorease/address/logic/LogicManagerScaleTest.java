@@ -0,0 +1,152 @@
+package tutorease.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorease.address.model.Model;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.ReadOnlyLessonSchedule;
+import tutorease.address.model.ReadOnlyTutorEase;
+import tutorease.address.model.UserPrefs;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.storage.JsonJournalStorage;
+import tutorease.address.storage.JsonLessonScheduleStorage;
+import tutorease.address.storage.JsonTutorEaseStorage;
+import tutorease.address.storage.JsonUserPrefsStorage;
+import tutorease.address.storage.StorageManager;
+import tutorease.address.testutil.SyntheticDataGenerator;
+
+/**
+ * Loads large generated data through {@code StorageManager} and runs a trace of commands on it through
+ * {@code LogicManager}, checking that loading, each command and the memory used by the loaded data stay within
+ * budget. Tests tagged {@code scale} only run with {@code gradlew scaleTest}.
+ */
+public class LogicManagerScaleTest {
+    private static final int CONTACT_COUNT = 5_000;
+    private static final int LESSONS_PER_STUDENT = 5;
+    private static final int DAY_SPAN = 3_650;
+    private static final int TAG_COUNT = 50;
+
+    private static final Duration LOAD_BUDGET = Duration.ofSeconds(10);
+    private static final Duration COMMAND_BUDGET = Duration.ofSeconds(1);
+    private static final long HEAP_BUDGET_BYTES = 256L * 1024 * 1024;
+
+    // Lessons of generated data start at 08:00 at the earliest, so the first day's 07:00 slot is free
+    private static final List<String> COMMAND_TRACE = List.of(
+            "contact list",
+            "lesson list",
+            "contact find Alex",
+            "lesson find Alex",
+            "contact add n/Scale Newcomer p/91234567 e/newcomer@example.com a/1 Scale Road r/Student t/new",
+            "contact list",
+            "lesson add sid/" + (CONTACT_COUNT + 1) + " f/40 d/06-01-2025 07:00 h/1",
+            "contact edit 2 p/99999999",
+            "lesson delete 1",
+            "contact delete 3",
+            "lesson list",
+            "contact list");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path tutorEaseFile;
+    private Path lessonScheduleFile;
+
+    @BeforeEach
+    public void setUp() {
+        tutorEaseFile = temporaryFolder.resolve("tutorease.json");
+        lessonScheduleFile = temporaryFolder.resolve("lessonschedule.json");
+    }
+
+    @Test
+    public void generator_sameSettings_sameValidData() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator().withContactCount(200)
+                .withLessonsPerStudent(20).withDaySpan(500).withTagCount(5);
+        generator.writeTo(tutorEaseFile, lessonScheduleFile);
+        String tutorEaseJson = Files.readString(tutorEaseFile);
+        String lessonScheduleJson = Files.readString(lessonScheduleFile);
+
+        generator.writeTo(tutorEaseFile, lessonScheduleFile);
+        assertEquals(tutorEaseJson, Files.readString(tutorEaseFile));
+        assertEquals(lessonScheduleJson, Files.readString(lessonScheduleFile));
+
+        // the data can be loaded, which also checks that no lessons overlap
+        StorageManager storage = createStorage();
+        ReadOnlyTutorEase tutorEase = storage.readTutorEase().get();
+        ReadOnlyLessonSchedule lessonSchedule = storage.readLessonSchedule(tutorEase).get();
+        assertEquals(200, tutorEase.getPersonList().size());
+        assertEquals(generator.getLessonCount(), lessonSchedule.getLessonList().size());
+        for (Lesson lesson : lessonSchedule.getLessonList()) {
+            assertTrue(tutorEase.getPersonById(lesson.getStudentId()).isStudent());
+        }
+    }
+
+    @Test
+    public void generator_tooManyLessonsForDaySpan_throwsIllegalArgumentException() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator().withContactCount(10)
+                .withLessonsPerStudent(8).withDaySpan(1);
+        assertThrows(IllegalArgumentException.class, () -> generator.writeTo(tutorEaseFile, lessonScheduleFile));
+    }
+
+    @Test
+    @Tag("scale")
+    public void execute_commandTraceOnLargeData_withinBudgets() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator().withContactCount(CONTACT_COUNT)
+                .withLessonsPerStudent(LESSONS_PER_STUDENT).withDaySpan(DAY_SPAN).withTagCount(TAG_COUNT);
+        generator.writeTo(tutorEaseFile, lessonScheduleFile);
+        StorageManager storage = createStorage();
+
+        long heapBeforeLoading = getUsedHeapAfterGc();
+        long loadStart = System.nanoTime();
+        ReadOnlyTutorEase tutorEase = storage.readTutorEase().get();
+        ReadOnlyLessonSchedule lessonSchedule = storage.readLessonSchedule(tutorEase).get();
+        Model model = new ModelManager(tutorEase, new UserPrefs(), lessonSchedule);
+        assertWithinBudget("Loading", System.nanoTime() - loadStart, LOAD_BUDGET);
+        assertEquals(CONTACT_COUNT, model.getTutorEase().getPersonList().size());
+        assertEquals(generator.getLessonCount(), model.getLessonSchedule().getLessonList().size());
+
+        long loadedHeap = getUsedHeapAfterGc() - heapBeforeLoading;
+        assertTrue(loadedHeap <= HEAP_BUDGET_BYTES, "Loaded data uses " + loadedHeap / (1024 * 1024)
+                + " MB of heap, over the budget of " + HEAP_BUDGET_BYTES / (1024 * 1024) + " MB");
+
+        Logic logic = new LogicManager(model, storage);
+        for (String command : COMMAND_TRACE) {
+            long commandStart = System.nanoTime();
+            logic.execute(command);
+            assertWithinBudget(command, System.nanoTime() - commandStart, COMMAND_BUDGET);
+        }
+        assertFalse(model.getTutorEase().getPersonList().isEmpty());
+    }
+
+    private StorageManager createStorage() {
+        return new StorageManager(new JsonTutorEaseStorage(tutorEaseFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonLessonScheduleStorage(lessonScheduleFile),
+                new JsonJournalStorage(temporaryFolder.resolve("tutorease.journal")));
+    }
+
+    private static void assertWithinBudget(String action, long elapsedNanos, Duration budget) {
+        assertTrue(elapsedNanos <= budget.toNanos(), action + " took " + Duration.ofNanos(elapsedNanos).toMillis()
+                + " ms, over the budget of " + budget.toMillis() + " ms");
+    }
+
+    private static long getUsedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
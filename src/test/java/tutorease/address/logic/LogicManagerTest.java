@@ -25,6 +25,7 @@ import javafx.collections.ObservableList;
 import tutorease.address.logic.commands.AddContactCommand;
 import tutorease.address.logic.commands.CommandResult;
 import tutorease.address.logic.commands.ContactCommand;
+import tutorease.address.logic.commands.ListContactCommand;
 import tutorease.address.logic.commands.exceptions.CommandException;
 import tutorease.address.logic.parser.exceptions.ParseException;
 import tutorease.address.model.Model;
@@ -79,6 +80,13 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_nothingSaved() throws Exception {
+        logic = new LogicManager(model, getStorageThrowing(DUMMY_IO_EXCEPTION));
+        String listContactCommand = ContactCommand.COMMAND_WORD + " " + ListContactCommand.COMMAND_WORD;
+        assertCommandSuccess(listContactCommand, ListContactCommand.MESSAGE_NO_CONTACTS_FOUND, new ModelManager());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -138,12 +146,9 @@ public class LogicManagerTest {
     }
 
     /**
-     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
-     *
-     * @param e the exception to be thrown by the Storage component
-     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     * Returns a {@code StorageManager} whose {@code TutorEaseStorage} throws {@code e} when saving.
      */
-    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+    private StorageManager getStorageThrowing(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
         // Inject LogicManager with an TutorEaseStorage that throws the IOException e when saving
@@ -159,9 +164,17 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
         JsonLessonScheduleStorage lessonStorage = new JsonLessonScheduleStorage(
                 temporaryFolder.resolve("lessonschedule.json"));
-        StorageManager storage = new StorageManager(tutorEaseStorage, userPrefsStorage, lessonStorage);
+        return new StorageManager(tutorEaseStorage, userPrefsStorage, lessonStorage);
+    }
 
-        logic = new LogicManager(model, storage);
+    /**
+     * Tests the Logic component's handling of an {@code IOException} thrown by the Storage component.
+     *
+     * @param e the exception to be thrown by the Storage component
+     * @param expectedMessage the message expected inside exception thrown by the Logic component
+     */
+    private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        logic = new LogicManager(model, getStorageThrowing(e));
 
         // Triggers the saveTutorEase method by executing an add command
         String addContactCommand = ContactCommand.COMMAND_WORD + " " + AddContactCommand.COMMAND_WORD
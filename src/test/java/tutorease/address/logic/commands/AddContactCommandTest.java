@@ -8,9 +8,14 @@ import static tutorease.address.testutil.Assert.assertThrows;
 import static tutorease.address.testutil.TypicalStudents.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -19,13 +24,21 @@ import tutorease.address.commons.core.GuiSettings;
 import tutorease.address.logic.Messages;
 import tutorease.address.logic.commands.exceptions.CommandException;
 import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.LessonStatistics;
 import tutorease.address.model.Model;
+import tutorease.address.model.ModelMutation;
 import tutorease.address.model.ReadOnlyLessonSchedule;
 import tutorease.address.model.ReadOnlyTutorEase;
 import tutorease.address.model.ReadOnlyUserPrefs;
 import tutorease.address.model.TutorEase;
+import tutorease.address.model.lesson.FreeSlot;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.WorkingHours;
 import tutorease.address.model.person.Person;
+import tutorease.address.model.person.PersonSearchPredicate;
+import tutorease.address.model.tag.TagFilter;
 import tutorease.address.testutil.StudentBuilder;
 
 public class AddContactCommandTest {
@@ -198,6 +211,11 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListToSearch(Supplier<Set<Person>> search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public LessonSchedule getLessonSchedule() {
             throw new AssertionError("This method should not be called.");
@@ -218,6 +236,51 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateLessonDateRange(LessonDateRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LessonStatistics getLessonStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersons(PersonSearchPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersons(TagFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPersonById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isLinked(Person student, Person guardian) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void linkGuardian(Person student, Person guardian) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unlinkGuardian(Person student, Person guardian) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getLinkedPersons(Collection<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addLesson(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
@@ -233,6 +296,27 @@ public class AddContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<FreeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, int minMinutes,
+                                            WorkingHours workingHours, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Lesson getLesson(int index) {
             throw new AssertionError("This method should not be called.");
@@ -257,6 +341,11 @@ public class AddContactCommandTest {
         public void deleteStudentLesson(Person student) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<ModelMutation> takeMutations() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public boolean filteredLessonListIsEmpty() {
             throw new AssertionError("This method should not be called.");
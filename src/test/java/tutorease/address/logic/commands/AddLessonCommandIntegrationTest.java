@@ -8,6 +8,7 @@ import static tutorease.address.testutil.TypicalStudents.getTypicalTutorEase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import tutorease.address.logic.Messages;
 import tutorease.address.logic.parser.exceptions.ParseException;
 import tutorease.address.model.Model;
 import tutorease.address.model.ModelManager;
@@ -47,7 +48,7 @@ public class AddLessonCommandIntegrationTest {
 
         assertCommandSuccess(new AddLessonCommand(studentId, validLesson.getFee(), validLesson.getStartDateTime(),
                         validLesson.getEndDateTime()), model,
-                String.format(AddLessonCommand.MESSAGE_SUCCESS, validLesson),
+                String.format(AddLessonCommand.MESSAGE_SUCCESS, Messages.format(validLesson, validPerson)),
                 expectedModel);
     }
     @Test
@@ -7,8 +7,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorease.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,14 +23,22 @@ import tutorease.address.logic.Messages;
 import tutorease.address.logic.commands.exceptions.CommandException;
 import tutorease.address.logic.parser.exceptions.ParseException;
 import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.LessonStatistics;
 import tutorease.address.model.Model;
+import tutorease.address.model.ModelMutation;
 import tutorease.address.model.ReadOnlyLessonSchedule;
 import tutorease.address.model.ReadOnlyTutorEase;
 import tutorease.address.model.ReadOnlyUserPrefs;
 import tutorease.address.model.TutorEase;
+import tutorease.address.model.lesson.FreeSlot;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.WorkingHours;
 import tutorease.address.model.lesson.StudentId;
 import tutorease.address.model.person.Person;
+import tutorease.address.model.person.PersonSearchPredicate;
+import tutorease.address.model.tag.TagFilter;
 import tutorease.address.testutil.GuardianBuilder;
 import tutorease.address.testutil.LessonBuilder;
 import tutorease.address.testutil.StudentBuilder;
@@ -60,8 +73,9 @@ public class AddLessonCommandTest {
     @Test
     public void execute_studentAcceptedByModel_addSuccessful() throws Exception {
         ModelStubAcceptingLessonAdded modelStub = new ModelStubAcceptingLessonAdded();
-        modelStub.addPerson(new StudentBuilder().build());
-        Lesson validLesson = new LessonBuilder().build();
+        Person student = new StudentBuilder().build();
+        modelStub.addPerson(student);
+        Lesson validLesson = new LessonBuilder().withName(student).build();
         StudentId studentId = new StudentId("1");
 
         AddLessonCommand addLessonCommand = new AddLessonCommand(studentId, validLesson.getFee(),
@@ -69,15 +83,16 @@ public class AddLessonCommandTest {
 
         CommandResult commandResult = addLessonCommand.execute(modelStub);
 
-        assertEquals(String.format(AddLessonCommand.MESSAGE_SUCCESS, validLesson),
+        assertEquals(String.format(AddLessonCommand.MESSAGE_SUCCESS, Messages.format(validLesson, student)),
                 commandResult.getFeedbackToUser());
         assertEquals(validLesson, modelStub.lessonsAdded.get(0));
     }
     @Test
     public void execute_lessonAcceptedByModel_addSuccessful() throws Exception {
         ModelStubAcceptingLessonAdded modelStub = new ModelStubAcceptingLessonAdded();
-        modelStub.addPerson(new StudentBuilder().build());
-        Lesson validLesson = new LessonBuilder().build();
+        Person student = new StudentBuilder().build();
+        modelStub.addPerson(student);
+        Lesson validLesson = new LessonBuilder().withName(student).build();
         StudentId studentId = new StudentId("1");
 
         AddLessonCommand addLessonCommand = new AddLessonCommand(studentId, validLesson.getFee(),
@@ -85,7 +100,7 @@ public class AddLessonCommandTest {
 
         CommandResult commandResult = addLessonCommand.execute(modelStub);
 
-        assertEquals(String.format(AddLessonCommand.MESSAGE_SUCCESS, validLesson),
+        assertEquals(String.format(AddLessonCommand.MESSAGE_SUCCESS, Messages.format(validLesson, student)),
                 commandResult.getFeedbackToUser());
         assertEquals(validLesson, modelStub.lessonsAdded.get(0));
     }
@@ -265,6 +280,11 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListToSearch(Supplier<Set<Person>> search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public LessonSchedule getLessonSchedule() {
             throw new AssertionError("This method should not be called.");
@@ -280,6 +300,51 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateLessonDateRange(LessonDateRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LessonStatistics getLessonStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersons(PersonSearchPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersons(TagFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPersonById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isLinked(Person student, Person guardian) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void linkGuardian(Person student, Person guardian) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unlinkGuardian(Person student, Person guardian) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getLinkedPersons(Collection<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addLesson(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
@@ -295,6 +360,27 @@ public class AddLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<FreeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, int minMinutes,
+                                            WorkingHours workingHours, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Lesson getLesson(int index) {
             throw new AssertionError("This method should not be called.");
@@ -319,6 +405,11 @@ public class AddLessonCommandTest {
         public void deleteStudentLesson(Person student) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<ModelMutation> takeMutations() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public boolean filteredLessonListIsEmpty() {
             throw new AssertionError("This method should not be called.");
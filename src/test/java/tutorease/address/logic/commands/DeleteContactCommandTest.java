@@ -7,9 +7,13 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -20,12 +24,20 @@ import tutorease.address.commons.core.GuiSettings;
 import tutorease.address.commons.core.index.Index;
 import tutorease.address.logic.commands.exceptions.CommandException;
 import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.LessonStatistics;
 import tutorease.address.model.Model;
+import tutorease.address.model.ModelMutation;
 import tutorease.address.model.ReadOnlyLessonSchedule;
 import tutorease.address.model.ReadOnlyTutorEase;
 import tutorease.address.model.ReadOnlyUserPrefs;
+import tutorease.address.model.lesson.FreeSlot;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.WorkingHours;
 import tutorease.address.model.person.Person;
+import tutorease.address.model.person.PersonSearchPredicate;
+import tutorease.address.model.tag.TagFilter;
 import tutorease.address.testutil.StudentBuilder;
 
 @Nested
@@ -194,6 +206,11 @@ class DeleteContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListToSearch(Supplier<Set<Person>> search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public LessonSchedule getLessonSchedule() {
             throw new AssertionError("This method should not be called.");
@@ -209,6 +226,51 @@ class DeleteContactCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateLessonDateRange(LessonDateRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LessonStatistics getLessonStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersons(PersonSearchPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersons(TagFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPersonById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isLinked(Person student, Person guardian) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void linkGuardian(Person student, Person guardian) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unlinkGuardian(Person student, Person guardian) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getLinkedPersons(Collection<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addLesson(Lesson lesson) {
             requireNonNull(lesson);
@@ -227,6 +289,27 @@ class DeleteContactCommandTest {
             lessonsAdded.remove(lesson);
         }
 
+        @Override
+        public void addLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<FreeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, int minMinutes,
+                                            WorkingHours workingHours, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Lesson getLesson(int index) {
             return lessonsAdded.get(index);
@@ -252,13 +335,18 @@ class DeleteContactCommandTest {
             int currentIndex = 0;
             while (currentIndex < this.getLessonScheduleSize()) {
                 Lesson lesson = this.getLesson(currentIndex);
-                if (student.equals(lesson.getStudent())) {
+                if (student.getId() == lesson.getStudentId()) {
                     this.deleteLesson(lesson);
                 } else {
                     currentIndex++;
                 }
             }
         }
+
+        @Override
+        public List<ModelMutation> takeMutations() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public boolean filteredLessonListIsEmpty() {
             throw new AssertionError("This method should not be called.");
@@ -8,7 +8,8 @@ import static tutorease.address.testutil.TypicalLessons.GEOGRAPHY_LESSON;
 import static tutorease.address.testutil.TypicalLessons.HISTORY_LESSON;
 import static tutorease.address.testutil.TypicalLessons.MATH_LESSON;
 import static tutorease.address.testutil.TypicalLessons.SCIENCE_LESSON;
-import static tutorease.address.testutil.TypicalStudents.getTypicalTutorEase;
+import static tutorease.address.testutil.TypicalLessons.getTypicalTutorEaseWithLessonStudents;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
 
 import java.util.Arrays;
 import java.util.List;
@@ -17,6 +18,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import tutorease.address.commons.core.index.Index;
+import tutorease.address.logic.Messages;
 import tutorease.address.logic.parser.exceptions.ParseException;
 import tutorease.address.model.LessonSchedule;
 import tutorease.address.model.Model;
@@ -42,7 +44,7 @@ public class DeleteLessonCommandIntegrationTest {
 
     @BeforeEach
     public void setUp() {
-        model = new ModelManager(getTypicalTutorEase(), new UserPrefs(), new LessonSchedule());
+        model = new ModelManager(getTypicalTutorEaseWithLessonStudents(), new UserPrefs(), new LessonSchedule());
         validPerson = model.getTutorEase().getPersonList().get(0);
     }
 
@@ -58,11 +60,11 @@ public class DeleteLessonCommandIntegrationTest {
 
         assertCommandSuccess(new AddLessonCommand(studentId, validLesson.getFee(),
                         validLesson.getStartDateTime(), validLesson.getEndDateTime()), model,
-                String.format(AddLessonCommand.MESSAGE_SUCCESS, validLesson),
+                String.format(AddLessonCommand.MESSAGE_SUCCESS, Messages.format(validLesson, validPerson)),
                 expectedModel);
 
         assertCommandSuccess(new DeleteLessonCommand(Index.fromOneBased(1)), model,
-                String.format(DeleteLessonCommand.MESSAGE_SUCCESS, validLesson),
+                String.format(DeleteLessonCommand.MESSAGE_SUCCESS, Messages.format(validLesson, validPerson)),
                 expectedModel);
     }
 
@@ -78,7 +80,7 @@ public class DeleteLessonCommandIntegrationTest {
 
         assertCommandSuccess(new AddLessonCommand(studentId, validLesson.getFee(),
                         validLesson.getStartDateTime(), validLesson.getEndDateTime()), model,
-                String.format(AddLessonCommand.MESSAGE_SUCCESS, validLesson),
+                String.format(AddLessonCommand.MESSAGE_SUCCESS, Messages.format(validLesson, validPerson)),
                 expectedModel);
 
         assertCommandFailure(new DeleteLessonCommand(Index.fromOneBased(10)), model,
@@ -101,7 +103,9 @@ public class DeleteLessonCommandIntegrationTest {
 
         // Only find lessons for Alice
         List<String> keywords = Arrays.asList("Alice");
-        expectedModel.updateFilteredLessonList(new LessonContainsNamesPredicate(keywords));
+        LessonContainsNamesPredicate predicate = new LessonContainsNamesPredicate(keywords);
+        expectedModel.updateFilteredLessonList(lesson ->
+                predicate.test(expectedModel.getPersonById(lesson.getStudentId())));
         assertEquals(expectedModel.getFilteredLessonList().size(), 4);
         List<Lesson> expectedRemainingLessons = Arrays.asList(
                 MATH_LESSON,
@@ -118,7 +122,7 @@ public class DeleteLessonCommandIntegrationTest {
         // Deleting lesson at index 4 should be Alice's History Lesson instead of Alice's Geography Lesson,
         // which was the lesson at index 4 before finding
         assertCommandSuccess(new DeleteLessonCommand(Index.fromOneBased(4)), expectedModel,
-                String.format(DeleteLessonCommand.MESSAGE_SUCCESS, HISTORY_LESSON),
+                String.format(DeleteLessonCommand.MESSAGE_SUCCESS, Messages.format(HISTORY_LESSON, ALICE)),
                 expectedModel);
     }
 }
@@ -5,10 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorease.address.testutil.Assert.assertThrows;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -17,16 +24,29 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import tutorease.address.commons.core.GuiSettings;
 import tutorease.address.commons.core.index.Index;
+import tutorease.address.logic.Messages;
 import tutorease.address.logic.commands.exceptions.CommandException;
 import tutorease.address.logic.parser.exceptions.ParseException;
 import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.LessonStatistics;
 import tutorease.address.model.Model;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.ModelMutation;
 import tutorease.address.model.ReadOnlyLessonSchedule;
 import tutorease.address.model.ReadOnlyTutorEase;
 import tutorease.address.model.ReadOnlyUserPrefs;
 import tutorease.address.model.TutorEase;
+import tutorease.address.model.lesson.EndDateTime;
+import tutorease.address.model.lesson.Fee;
+import tutorease.address.model.lesson.FreeSlot;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.WorkingHours;
+import tutorease.address.model.lesson.StartDateTime;
 import tutorease.address.model.person.Person;
+import tutorease.address.model.person.PersonSearchPredicate;
+import tutorease.address.model.tag.TagFilter;
 import tutorease.address.testutil.LessonBuilder;
 
 public class DeleteLessonCommandTest {
@@ -35,9 +55,21 @@ public class DeleteLessonCommandTest {
     }
 
     private class ModelStubAcceptingLessonDeleted extends ModelStub {
+        final ArrayList<Person> personsAdded = new ArrayList<>();
         final ArrayList<Lesson> lessonsAdded = new ArrayList<>();
         final ObservableList<Lesson> lessons = FXCollections.observableArrayList();
 
+        @Override
+        public void addPerson(Person person) {
+            requireNonNull(person);
+            personsAdded.add(person);
+        }
+
+        @Override
+        public Person getPersonById(long id) {
+            return personsAdded.stream().filter(person -> person.getId() == id).findFirst().orElse(null);
+        }
+
         @Override
         public boolean hasLessons(Lesson lesson) {
             requireNonNull(lesson);
@@ -125,19 +157,36 @@ public class DeleteLessonCommandTest {
     @Test
     public void execute_validIndex_success() throws CommandException, ParseException {
         ModelStubAcceptingLessonDeleted modelStub = new ModelStubAcceptingLessonDeleted();
-        LessonBuilder lessonBuilder = new LessonBuilder();
+        LessonBuilder lessonBuilder = new LessonBuilder().withName(ALICE);
         Lesson lesson = lessonBuilder.build();
         Index index = Index.fromZeroBased(0);
         DeleteLessonCommand deleteLessonCommand = new DeleteLessonCommand(index);
 
+        modelStub.addPerson(ALICE);
         modelStub.addLesson(lesson);
         assertTrue(modelStub.hasLessons(lesson));
         CommandResult result = deleteLessonCommand.execute(modelStub);
 
-        assertEquals(String.format(DeleteLessonCommand.MESSAGE_SUCCESS, lesson), result.getFeedbackToUser());
+        assertEquals(String.format(DeleteLessonCommand.MESSAGE_SUCCESS, Messages.format(lesson, ALICE)),
+                result.getFeedbackToUser());
         assertFalse(modelStub.hasLessons(lesson));
     }
 
+    @Test
+    public void execute_lessonOfSeries_throwsCommandException() throws ParseException {
+        Model model = new ModelManager();
+        LocalDateTime start = LocalDate.now().plusDays(1).atTime(12, 0);
+        LessonSeries series = new LessonSeries(new LessonBuilder().build().getStudentId(), new Fee("10"),
+                StartDateTime.createFromDateTime(start), EndDateTime.createFromDateTime(start.plusHours(1)), 1,
+                start.toLocalDate().plusWeeks(4));
+        model.addLessonSeries(series);
+        DeleteLessonCommand deleteLessonCommand = new DeleteLessonCommand(Index.fromOneBased(2));
+
+        assertThrows(CommandException.class, DeleteLessonCommand.MESSAGE_RECURRING_LESSON, () ->
+                deleteLessonCommand.execute(model));
+        assertTrue(model.hasLessonSeries(series));
+    }
+
     @Test
     public void execute_invalidIndex_throwsCommandException() throws ParseException {
         ModelStubAcceptingLessonDeleted modelStub = new ModelStubAcceptingLessonDeleted();
@@ -238,6 +287,11 @@ public class DeleteLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListToSearch(Supplier<Set<Person>> search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public LessonSchedule getLessonSchedule() {
             throw new AssertionError("This method should not be called.");
@@ -258,6 +312,51 @@ public class DeleteLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateLessonDateRange(LessonDateRange range) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public LessonStatistics getLessonStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersons(PersonSearchPredicate predicate) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> findPersons(TagFilter filter) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Person getPersonById(long id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isLinked(Person student, Person guardian) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void linkGuardian(Person student, Person guardian) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void unlinkGuardian(Person student, Person guardian) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Set<Person> getLinkedPersons(Collection<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void addLesson(Lesson lesson) {
             throw new AssertionError("This method should not be called.");
@@ -273,6 +372,27 @@ public class DeleteLessonCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deleteLessonSeries(LessonSeries series) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<FreeSlot> findFreeSlots(LocalDateTime from, LocalDateTime to, int minMinutes,
+                                            WorkingHours workingHours, int limit) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public Lesson getLesson(int index) {
             throw new AssertionError("This method should not be called.");
@@ -297,6 +417,11 @@ public class DeleteLessonCommandTest {
         public void deleteStudentLesson(Person student) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public List<ModelMutation> takeMutations() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public boolean filteredLessonListIsEmpty() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,87 @@
+package tutorease.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.testutil.Assert.assertThrows;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.logic.Messages;
+import tutorease.address.logic.commands.exceptions.CommandException;
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.Model;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.lesson.EndDateTime;
+import tutorease.address.model.lesson.Fee;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.StartDateTime;
+import tutorease.address.testutil.LessonBuilder;
+
+public class DeleteLessonSeriesCommandTest {
+
+    private Model model;
+    private LessonSeries series;
+
+    @BeforeEach
+    public void setUp() throws ParseException {
+        model = new ModelManager();
+        model.addPerson(ALICE);
+        LocalDateTime start = LocalDate.now().plusDays(1).atTime(12, 0);
+        series = new LessonSeries(ALICE.getId(), new Fee("10"), StartDateTime.createFromDateTime(start),
+                EndDateTime.createFromDateTime(start.plusHours(1)), 1, start.toLocalDate().plusWeeks(4));
+        model.addLessonSeries(series);
+    }
+
+    @Test
+    public void constructor_nullIndex_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DeleteLessonSeriesCommand(null));
+    }
+
+    @Test
+    public void execute_lessonOfSeries_deletesSeries() throws CommandException {
+        DeleteLessonSeriesCommand command = new DeleteLessonSeriesCommand(Index.fromOneBased(2));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(DeleteLessonSeriesCommand.MESSAGE_SUCCESS, Messages.format(series, ALICE)),
+                result.getFeedbackToUser());
+        assertFalse(model.hasLessonSeries(series));
+        assertEquals(0, model.getFilteredLessonListSize());
+    }
+
+    @Test
+    public void execute_lessonNotOfSeries_throwsCommandException() throws ParseException {
+        model.addLesson(new LessonBuilder().withName(ALICE).withStartDateTime("01-01-2024 12:00")
+                .withEndDateTime("01-01-2024 13:00").build());
+        DeleteLessonSeriesCommand command = new DeleteLessonSeriesCommand(Index.fromOneBased(1));
+
+        assertThrows(CommandException.class, DeleteLessonSeriesCommand.MESSAGE_NOT_RECURRING_LESSON, () ->
+                command.execute(model));
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        DeleteLessonSeriesCommand command = new DeleteLessonSeriesCommand(Index.fromOneBased(10));
+
+        assertThrows(CommandException.class, DeleteLessonCommand.MESSAGE_INVALID_INDEX, () -> command.execute(model));
+        assertTrue(model.hasLessonSeries(series));
+    }
+
+    @Test
+    public void equals() {
+        DeleteLessonSeriesCommand command = new DeleteLessonSeriesCommand(Index.fromOneBased(1));
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new DeleteLessonSeriesCommand(Index.fromOneBased(1))));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new Object()));
+        assertFalse(command.equals(new DeleteLessonSeriesCommand(Index.fromOneBased(2))));
+    }
+}
@@ -210,7 +210,7 @@ public class EditContactCommandTest {
         tempModel.addLesson(lesson);
         tempModel.setPerson(person, editedPerson);
 
-        assertEquals(tempModel.getLesson(0).getStudent(), editedPerson);
+        assertEquals(editedPerson, tempModel.getPersonById(tempModel.getLesson(0).getStudentId()));
     }
 
     @Test
@@ -0,0 +1,77 @@
+package tutorease.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static tutorease.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorease.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorease.address.testutil.TypicalGuardians.ALEX;
+import static tutorease.address.testutil.TypicalGuardians.BRADLEY;
+import static tutorease.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static tutorease.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static tutorease.address.testutil.TypicalLessons.getTypicalLessons;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BENSON;
+import static tutorease.address.testutil.TypicalStudents.getTypicalTutorEase;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.logic.Messages;
+import tutorease.address.model.Model;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.UserPrefs;
+import tutorease.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FamilyContactCommand}.
+ */
+public class FamilyContactCommandTest {
+    private Model model = new ModelManager(getTypicalTutorEase(), new UserPrefs(), getTypicalLessons());
+    private Model expectedModel = new ModelManager(getTypicalTutorEase(), new UserPrefs(), getTypicalLessons());
+
+    @BeforeEach
+    public void setUp() {
+        for (Model m : new Model[] {model, expectedModel}) {
+            m.linkGuardian(ALICE, ALEX);
+            m.linkGuardian(ALICE, BRADLEY);
+            m.linkGuardian(BENSON, ALEX);
+        }
+    }
+
+    @Test
+    public void execute_student_listsStudentAndGuardians() {
+        Set<Person> family = Set.of(ALICE, ALEX, BRADLEY);
+        expectedModel.updateFilteredPersonList(family::contains);
+        assertCommandSuccess(new FamilyContactCommand(INDEX_FIRST_PERSON), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), expectedModel);
+    }
+
+    @Test
+    public void execute_guardian_listsGuardianAndChildren() {
+        Set<Person> family = Set.of(ALEX, ALICE, BENSON);
+        expectedModel.updateFilteredPersonList(family::contains);
+        assertCommandSuccess(new FamilyContactCommand(Index.fromOneBased(8)), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), expectedModel);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new FamilyContactCommand(outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        FamilyContactCommand command = new FamilyContactCommand(INDEX_FIRST_PERSON);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FamilyContactCommand(INDEX_FIRST_PERSON)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new FamilyContactCommand(INDEX_SECOND_PERSON)));
+    }
+}
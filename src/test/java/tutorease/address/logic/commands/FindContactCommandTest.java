@@ -6,20 +6,36 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorease.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static tutorease.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static tutorease.address.testutil.TypicalLessons.getTypicalLessons;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BENSON;
 import static tutorease.address.testutil.TypicalStudents.CARL;
+import static tutorease.address.testutil.TypicalStudents.DANIEL;
 import static tutorease.address.testutil.TypicalStudents.ELLE;
 import static tutorease.address.testutil.TypicalStudents.FIONA;
+import static tutorease.address.testutil.TypicalStudents.GEORGE;
+import static tutorease.address.testutil.TypicalStudents.HOON;
+import static tutorease.address.testutil.TypicalStudents.IDA;
 import static tutorease.address.testutil.TypicalStudents.getTypicalTutorEase;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import tutorease.address.model.Model;
 import tutorease.address.model.ModelManager;
+import tutorease.address.model.TutorEase;
 import tutorease.address.model.UserPrefs;
 import tutorease.address.model.person.NameContainsKeywordsPredicate;
+import tutorease.address.model.person.Person;
+import tutorease.address.model.person.PersonSearchPredicate;
+import tutorease.address.model.person.SearchTerm;
+import tutorease.address.model.person.SearchTerm.Field;
+import tutorease.address.model.tag.Tag;
+import tutorease.address.model.tag.TagFilter;
+import tutorease.address.testutil.StudentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -75,11 +91,74 @@ public class FindContactCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_personsAddedAfterFind_shownIfFound() {
+        new FindContactCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+        Person hoonKurz = new StudentBuilder(HOON).withName("Hoon Kurz").build();
+        TutorEase tutorEase = new TutorEase(model.getTutorEase());
+        tutorEase.addPerson(hoonKurz);
+        tutorEase.addPerson(IDA);
+
+        model.setTutorEase(tutorEase);
+
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA, hoonKurz), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedAfterFind_shownIfFound() {
+        new FindContactCommand(preparePredicate("Kurz Elle Kunz")).execute(model);
+        Person georgeKurz = new StudentBuilder(GEORGE).withName("George Kurz").build();
+
+        model.setPerson(GEORGE, georgeKurz);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA, georgeKurz), model.getFilteredPersonList());
+
+        model.setPerson(ELLE, new StudentBuilder(ELLE).withName("Elsa Meyer").build());
+        assertEquals(Arrays.asList(CARL, FIONA, georgeKurz), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_prefixAndFuzzyKeywords_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        NameContainsKeywordsPredicate predicate = preparePredicate("kur* Elel~ kunz~");
+        FindContactCommand command = new FindContactCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fieldTerms_multiplePersonsFound() {
+        PersonSearchPredicate predicate = new PersonSearchPredicate(List.of(
+                SearchTerm.of(Field.TAG, "friends"), SearchTerm.of(Field.ADDRESS, "wall")));
+        FindContactCommand command = new FindContactCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        int expectedCount = expectedModel.getFilteredPersonList().size();
+        assertCommandSuccess(command, model, String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedCount),
+                expectedModel);
+        assertTrue(model.getFilteredPersonList().containsAll(List.of(ALICE, BENSON, CARL, DANIEL)));
+    }
+
+    @Test
+    public void execute_tagFilter_taggedPersonsFound() {
+        TagFilter tagFilter = new TagFilter(List.of(Set.of(new Tag("FRIENDS"))));
+        FindContactCommand command = new FindContactCommand(new PersonSearchPredicate(List.of()), tagFilter);
+        expectedModel.updateFilteredPersonList(tagFilter);
+        assertCommandSuccess(command, model, String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), expectedModel);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+
+        // keywords and tags must both match
+        command = new FindContactCommand(new PersonSearchPredicate(List.of(SearchTerm.of(Field.NAME, "meier"))),
+                tagFilter);
+        expectedModel.updateFilteredPersonList(person -> person.equals(BENSON) || person.equals(DANIEL));
+        assertCommandSuccess(command, model, String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2), expectedModel);
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindContactCommand findCommand = new FindContactCommand(predicate);
-        String expected = FindContactCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindContactCommand.class.getCanonicalName() + "{predicate=" + predicate + ", tagFilter="
+                + TagFilter.NONE + "}";
         assertEquals(expected, findCommand.toString());
     }
 
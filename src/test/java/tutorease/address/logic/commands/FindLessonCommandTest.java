@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorease.address.logic.Messages.MESSAGE_LESSONS_LISTED_OVERVIEW;
 import static tutorease.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorease.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorease.address.testutil.TypicalGuardians.ALEX;
 import static tutorease.address.testutil.TypicalLessons.ART_LESSON;
 import static tutorease.address.testutil.TypicalLessons.ENGLISH_LESSON;
 import static tutorease.address.testutil.TypicalLessons.GEOGRAPHY_LESSON;
@@ -13,27 +15,38 @@ import static tutorease.address.testutil.TypicalLessons.MATH_LESSON;
 import static tutorease.address.testutil.TypicalLessons.MUSIC_LESSON;
 import static tutorease.address.testutil.TypicalLessons.SCIENCE_LESSON;
 import static tutorease.address.testutil.TypicalLessons.getTypicalLessons;
-import static tutorease.address.testutil.TypicalStudents.getTypicalTutorEase;
+import static tutorease.address.testutil.TypicalLessons.getTypicalTutorEaseWithLessonStudents;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import tutorease.address.commons.core.index.Index;
 import tutorease.address.logic.Messages;
 import tutorease.address.model.Model;
 import tutorease.address.model.ModelManager;
 import tutorease.address.model.UserPrefs;
 import tutorease.address.model.lesson.Lesson;
 import tutorease.address.model.lesson.LessonContainsNamesPredicate;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.person.Person;
+import tutorease.address.model.tag.Tag;
+import tutorease.address.model.tag.TagFilter;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindLessonCommand}.
  */
 public class FindLessonCommandTest {
-    private Model model = new ModelManager(getTypicalTutorEase(), new UserPrefs(), getTypicalLessons());
-    private Model expectedModel = new ModelManager(getTypicalTutorEase(), new UserPrefs(), getTypicalLessons());
+    private Model model =
+            new ModelManager(getTypicalTutorEaseWithLessonStudents(), new UserPrefs(), getTypicalLessons());
+    private Model expectedModel =
+            new ModelManager(getTypicalTutorEaseWithLessonStudents(), new UserPrefs(), getTypicalLessons());
 
     @Test
     public void equals() {
@@ -60,6 +73,9 @@ public class FindLessonCommandTest {
 
         // different lesson -> returns false
         assertFalse(findLessonFirstCommand.equals(findLessonSecondCommand));
+
+        // different range -> returns false
+        assertFalse(findLessonFirstCommand.equals(new FindLessonCommand(firstPredicate, prepareRange(20, 21))));
     }
 
     @Test
@@ -67,7 +83,7 @@ public class FindLessonCommandTest {
         String expectedMessage = String.format(Messages.MESSAGE_NO_LESSONS_FOUND);
         LessonContainsNamesPredicate predicate = preparePredicate("test");
         FindLessonCommand command = new FindLessonCommand(predicate);
-        expectedModel.updateFilteredLessonList(predicate);
+        expectedModel.updateFilteredLessonList(lessonsOf(predicate));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredLessonList());
     }
@@ -77,7 +93,7 @@ public class FindLessonCommandTest {
         String expectedMessage = String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 7);
         LessonContainsNamesPredicate predicate = preparePredicate("Alice Bob");
         FindLessonCommand command = new FindLessonCommand(predicate);
-        expectedModel.updateFilteredLessonList(predicate);
+        expectedModel.updateFilteredLessonList(lessonsOf(predicate));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         List<Lesson> expectedLessons = Arrays.asList(
                 MATH_LESSON,
@@ -96,7 +112,7 @@ public class FindLessonCommandTest {
         String expectedMessage = String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 7);
         LessonContainsNamesPredicate predicate = preparePredicate("aLiCe bOb");
         FindLessonCommand command = new FindLessonCommand(predicate);
-        expectedModel.updateFilteredLessonList(predicate);
+        expectedModel.updateFilteredLessonList(lessonsOf(predicate));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         List<Lesson> expectedLessons = Arrays.asList(
                 MATH_LESSON,
@@ -115,7 +131,7 @@ public class FindLessonCommandTest {
         String expectedMessage = String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 4);
         LessonContainsNamesPredicate predicate = preparePredicate("Alice");
         FindLessonCommand command = new FindLessonCommand(predicate);
-        expectedModel.updateFilteredLessonList(predicate);
+        expectedModel.updateFilteredLessonList(lessonsOf(predicate));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         List<Lesson> expectedLessons = Arrays.asList(
                 MATH_LESSON,
@@ -131,20 +147,105 @@ public class FindLessonCommandTest {
         String expectedMessage = String.format(Messages.MESSAGE_NO_LESSONS_FOUND);
         LessonContainsNamesPredicate predicate = preparePredicate("Al");
         FindLessonCommand command = new FindLessonCommand(predicate);
-        expectedModel.updateFilteredLessonList(predicate);
+        expectedModel.updateFilteredLessonList(lessonsOf(predicate));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredLessonList());
+    }
+
+    @Test
+    public void execute_dateRangeOnly_lessonsInRangeFound() {
+        String expectedMessage = String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 4);
+        LessonDateRange range = prepareRange(20, 22);
+        FindLessonCommand command = new FindLessonCommand(Model.PREDICATE_SHOW_ALL_PERSONS, range);
+        expectedModel.updateLessonDateRange(range);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(MATH_LESSON, SCIENCE_LESSON, ENGLISH_LESSON, HISTORY_LESSON),
+                model.getFilteredLessonList());
+    }
+
+    @Test
+    public void execute_keywordAndDateRange_matchingLessonsInRangeFound() {
+        String expectedMessage = String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 3);
+        LessonContainsNamesPredicate predicate = preparePredicate("Alice");
+        LessonDateRange range = prepareRange(20, 22);
+        FindLessonCommand command = new FindLessonCommand(predicate, range);
+        expectedModel.updateLessonDateRange(range);
+        expectedModel.updateFilteredLessonList(lessonsOf(predicate));
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(MATH_LESSON, SCIENCE_LESSON, HISTORY_LESSON), model.getFilteredLessonList());
+    }
+
+    @Test
+    public void execute_dateRangeWithoutLessons_noLessonsFound() {
+        LessonDateRange range = prepareRange(1, 2);
+        FindLessonCommand command = new FindLessonCommand(Model.PREDICATE_SHOW_ALL_PERSONS, range);
+        expectedModel.updateLessonDateRange(range);
+        assertCommandSuccess(command, model, FindLessonCommand.MESSAGE_NO_LESSONS_IN_RANGE, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredLessonList());
     }
 
+    @Test
+    public void execute_listAfterDateRange_allLessonsShown() throws Exception {
+        new FindLessonCommand(Model.PREDICATE_SHOW_ALL_PERSONS, prepareRange(20, 21)).execute(model);
+        new ListLessonCommand().execute(model);
+        assertEquals(7, model.getFilteredLessonList().size());
+    }
+
+    @Test
+    public void execute_tagFilter_lessonsOfTaggedStudentsFound() {
+        TagFilter tagFilter = new TagFilter(List.of(Set.of(new Tag("friends"))));
+        FindLessonCommand command = new FindLessonCommand(Model.PREDICATE_SHOW_ALL_PERSONS, LessonDateRange.ALL,
+                tagFilter);
+        expectedModel.updateFilteredLessonList(lesson -> lesson.getStudentId() == ALICE.getId());
+        assertCommandSuccess(command, model, String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 4), expectedModel);
+
+        // every group must be met
+        TagFilter noMatchFilter = new TagFilter(List.of(Set.of(new Tag("friends")), Set.of(new Tag("owesMoney"))));
+        command = new FindLessonCommand(Model.PREDICATE_SHOW_ALL_PERSONS, LessonDateRange.ALL, noMatchFilter);
+        expectedModel.updateFilteredLessonList(lesson -> false);
+        assertCommandSuccess(command, model, Messages.MESSAGE_NO_LESSONS_FOUND, expectedModel);
+    }
+
+    @Test
+    public void execute_guardian_lessonsOfChildrenFound() {
+        model.linkGuardian(ALICE, ALEX);
+        expectedModel.linkGuardian(ALICE, ALEX);
+        FindLessonCommand command = new FindLessonCommand(Model.PREDICATE_SHOW_ALL_PERSONS, LessonDateRange.ALL,
+                TagFilter.NONE, Index.fromOneBased(8));
+        expectedModel.updateFilteredLessonList(lesson -> lesson.getStudentId() == ALICE.getId());
+        assertCommandSuccess(command, model, String.format(MESSAGE_LESSONS_LISTED_OVERVIEW, 4), expectedModel);
+
+        // the first contact is a student, not a guardian
+        command = new FindLessonCommand(Model.PREDICATE_SHOW_ALL_PERSONS, LessonDateRange.ALL, TagFilter.NONE,
+                Index.fromOneBased(1));
+        assertCommandFailure(command, model, LinkContactCommand.MESSAGE_NOT_GUARDIAN);
+    }
+
     @Test
     public void toStringMethod() {
         LessonContainsNamesPredicate predicate = new LessonContainsNamesPredicate(Arrays.asList(
                 "keyword"));
         FindLessonCommand findLessonCommand = new FindLessonCommand(predicate);
-        String expected = FindLessonCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindLessonCommand.class.getCanonicalName() + "{predicate=" + predicate + ", range="
+                + LessonDateRange.ALL + ", tagFilter=" + TagFilter.NONE + ", guardianIndex=null}";
         assertEquals(expected, findLessonCommand.toString());
     }
 
+    /**
+     * Returns the range of lessons starting from the {@code startDay} to before the {@code endDay} of October 2024.
+     */
+    private LessonDateRange prepareRange(int startDay, int endDay) {
+        return LessonDateRange.between(LocalDateTime.of(2024, 10, startDay, 0, 0),
+                LocalDateTime.of(2024, 10, endDay, 0, 0));
+    }
+
+    /**
+     * Returns a predicate passing the lessons of the students in {@code expectedModel} that pass {@code predicate}.
+     */
+    private Predicate<Lesson> lessonsOf(Predicate<Person> predicate) {
+        return lesson -> predicate.test(expectedModel.getPersonById(lesson.getStudentId()));
+    }
+
     /**
      * Parses {@code userInput} into a {@code LessonContainsNamesPredicate}.
      */
@@ -0,0 +1,54 @@
+package tutorease.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.Model;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.lesson.WorkingHours;
+import tutorease.address.testutil.LessonBuilder;
+
+public class FreeLessonCommandTest {
+    private static final LocalDate DATE = LocalDate.of(2024, 1, 1);
+
+    @Test
+    public void execute_lessonsInRange_listsFreeSlots() throws ParseException {
+        Model model = new ModelManager();
+        model.addLesson(new LessonBuilder().withStartDateTime("01-01-2024 10:00")
+                .withEndDateTime("01-01-2024 12:00").build());
+        FreeLessonCommand command = new FreeLessonCommand(DATE, DATE, 60, new WorkingHours("09:00-18:00"), 5);
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(FreeLessonCommand.MESSAGE_SUCCESS, 2)
+                + "\n1. 01-01-2024 09:00 to 01-01-2024 10:00"
+                + "\n2. 01-01-2024 12:00 to 01-01-2024 18:00", result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noFreeSlots_showsMessage() throws ParseException {
+        Model model = new ModelManager();
+        model.addLesson(new LessonBuilder().withStartDateTime("01-01-2024 09:00")
+                .withEndDateTime("01-01-2024 17:30").build());
+        FreeLessonCommand command = new FreeLessonCommand(DATE, DATE, 60, new WorkingHours("09:00-18:00"), 5);
+
+        assertEquals(FreeLessonCommand.MESSAGE_NO_FREE_SLOTS, command.execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        FreeLessonCommand command = new FreeLessonCommand(DATE, DATE, 60, WorkingHours.ALL_DAY, 5);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FreeLessonCommand(DATE, DATE, 60, WorkingHours.ALL_DAY, 5)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new FreeLessonCommand(DATE, DATE, 90, WorkingHours.ALL_DAY, 5)));
+        assertFalse(command.equals(new FreeLessonCommand(DATE, DATE, 60, WorkingHours.ALL_DAY, 6)));
+    }
+}
@@ -0,0 +1,78 @@
+package tutorease.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static tutorease.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorease.address.testutil.TypicalGuardians.ALEX;
+import static tutorease.address.testutil.TypicalGuardians.BRADLEY;
+import static tutorease.address.testutil.TypicalLessons.getTypicalLessons;
+import static tutorease.address.testutil.TypicalLessons.getTypicalTutorEaseWithLessonStudents;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BENSON;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.model.Model;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.UserPrefs;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code GuardiansContactCommand}.
+ */
+public class GuardiansContactCommandTest {
+    private Model model =
+            new ModelManager(getTypicalTutorEaseWithLessonStudents(), new UserPrefs(), getTypicalLessons());
+    private Model expectedModel =
+            new ModelManager(getTypicalTutorEaseWithLessonStudents(), new UserPrefs(), getTypicalLessons());
+
+    @BeforeEach
+    public void setUp() {
+        // only ALICE has lessons among the typical students
+        for (Model m : new Model[] {model, expectedModel}) {
+            m.linkGuardian(ALICE, ALEX);
+            m.linkGuardian(BENSON, BRADLEY);
+        }
+    }
+
+    @Test
+    public void execute_allLessons_listsGuardiansOfStudentsWithLessons() {
+        Set<Person> guardians = Set.of(ALEX);
+        expectedModel.updateFilteredPersonList(guardians::contains);
+        assertCommandSuccess(new GuardiansContactCommand(LessonDateRange.ALL), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1), expectedModel);
+    }
+
+    @Test
+    public void execute_rangeWithoutLessons_noGuardiansFound() {
+        LessonDateRange range = prepareRange(1, 2);
+        expectedModel.updateLessonDateRange(range);
+        expectedModel.updateFilteredPersonList(person -> false);
+        assertCommandSuccess(new GuardiansContactCommand(range), model,
+                GuardiansContactCommand.MESSAGE_NO_GUARDIANS_FOUND, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        GuardiansContactCommand command = new GuardiansContactCommand(LessonDateRange.ALL);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new GuardiansContactCommand(LessonDateRange.ALL)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new GuardiansContactCommand(prepareRange(20, 21))));
+    }
+
+    /**
+     * Returns the range of lessons starting from the {@code startDay} to before the {@code endDay} of October 2024.
+     */
+    private LessonDateRange prepareRange(int startDay, int endDay) {
+        return LessonDateRange.between(LocalDateTime.of(2024, 10, startDay, 0, 0),
+                LocalDateTime.of(2024, 10, endDay, 0, 0));
+    }
+}
@@ -0,0 +1,83 @@
+package tutorease.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorease.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorease.address.testutil.TypicalGuardians.ALEX;
+import static tutorease.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static tutorease.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static tutorease.address.testutil.TypicalLessons.getTypicalLessons;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.getTypicalTutorEase;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.logic.Messages;
+import tutorease.address.model.Model;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code LinkContactCommand}.
+ */
+public class LinkContactCommandTest {
+    private static final Index INDEX_FIRST_GUARDIAN = Index.fromOneBased(8);
+
+    private Model model = new ModelManager(getTypicalTutorEase(), new UserPrefs(), getTypicalLessons());
+    private Model expectedModel = new ModelManager(getTypicalTutorEase(), new UserPrefs(), getTypicalLessons());
+
+    @Test
+    public void execute_studentAndGuardian_linked() {
+        LinkContactCommand command = new LinkContactCommand(INDEX_FIRST_PERSON, INDEX_FIRST_GUARDIAN);
+        expectedModel.linkGuardian(ALICE, ALEX);
+
+        assertCommandSuccess(command, model,
+                String.format(LinkContactCommand.MESSAGE_SUCCESS, ALICE.getName(), ALEX.getName()), expectedModel);
+        assertTrue(model.isLinked(ALICE, ALEX));
+    }
+
+    @Test
+    public void execute_alreadyLinked_throwsCommandException() {
+        model.linkGuardian(ALICE, ALEX);
+        assertCommandFailure(new LinkContactCommand(INDEX_FIRST_PERSON, INDEX_FIRST_GUARDIAN), model,
+                LinkContactCommand.MESSAGE_ALREADY_LINKED);
+    }
+
+    @Test
+    public void execute_wrongRoles_throwsCommandException() {
+        assertCommandFailure(new LinkContactCommand(INDEX_FIRST_GUARDIAN, INDEX_FIRST_GUARDIAN), model,
+                LinkContactCommand.MESSAGE_NOT_STUDENT);
+        assertCommandFailure(new LinkContactCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), model,
+                LinkContactCommand.MESSAGE_NOT_GUARDIAN);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new LinkContactCommand(INDEX_FIRST_PERSON, outOfBoundIndex), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        LinkContactCommand command = new LinkContactCommand(INDEX_FIRST_PERSON, INDEX_FIRST_GUARDIAN);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new LinkContactCommand(INDEX_FIRST_PERSON, INDEX_FIRST_GUARDIAN)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new UnlinkContactCommand(INDEX_FIRST_PERSON, INDEX_FIRST_GUARDIAN)));
+        assertFalse(command.equals(new LinkContactCommand(INDEX_SECOND_PERSON, INDEX_FIRST_GUARDIAN)));
+        assertFalse(command.equals(new LinkContactCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        LinkContactCommand command = new LinkContactCommand(INDEX_FIRST_PERSON, INDEX_FIRST_GUARDIAN);
+        String expected = LinkContactCommand.class.getCanonicalName() + "{studentIndex=" + INDEX_FIRST_PERSON
+                + ", guardianIndex=" + INDEX_FIRST_GUARDIAN + "}";
+        assertEquals(expected, command.toString());
+    }
+}
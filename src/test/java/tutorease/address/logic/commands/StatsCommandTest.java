@@ -0,0 +1,85 @@
+package tutorease.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorease.address.testutil.TypicalLessons.getTypicalLessons;
+import static tutorease.address.testutil.TypicalStudents.getTypicalTutorEase;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.logic.Messages;
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.Model;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.UserPrefs;
+import tutorease.address.model.lesson.StudentId;
+import tutorease.address.model.tag.Tag;
+import tutorease.address.testutil.EditPersonDescriptorBuilder;
+
+public class StatsCommandTest {
+    private static final YearMonth OCTOBER_2024 = YearMonth.of(2024, 10);
+
+    private Model model = new ModelManager(getTypicalTutorEase(), new UserPrefs(), getTypicalLessons());
+
+    @Test
+    public void execute_monthStudentAndTag_showsTotals() throws Exception {
+        StatsCommand command = new StatsCommand(Optional.of(OCTOBER_2024), Optional.of(new StudentId("1")),
+                Optional.of(new Tag("friends")));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(StatsCommand.MESSAGE_SUCCESS, "7 lesson(s), 5 hour(s), $50.00")
+                + String.format(StatsCommand.MESSAGE_MONTH, "October 2024", "7 lesson(s), 5 hour(s), $50.00")
+                + String.format(StatsCommand.MESSAGE_STUDENT, "Alice Pauline", "4 lesson(s), 3 hour(s), $30.00")
+                + String.format(StatsCommand.MESSAGE_TAG, "friends", "4 lesson(s), 3 hour(s), $30.00"),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_tagOfEditedStudent_totalsFollowTags() throws Exception {
+        new EditContactCommand(Index.fromOneBased(1), new EditPersonDescriptorBuilder().withTags("tuition").build())
+                .execute(model);
+        StatsCommand command = new StatsCommand(Optional.empty(), Optional.empty(), Optional.of(new Tag("tuition")));
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(StatsCommand.MESSAGE_SUCCESS, "7 lesson(s), 5 hour(s), $50.00")
+                + String.format(StatsCommand.MESSAGE_TAG, "tuition", "4 lesson(s), 3 hour(s), $30.00"),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_noOptions_showsCurrentMonth() throws Exception {
+        CommandResult result = new StatsCommand().execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(
+                String.format(StatsCommand.MESSAGE_SUCCESS, "7 lesson(s), 5 hour(s), $50.00")));
+        assertEquals(3, result.getFeedbackToUser().split("\n").length);
+    }
+
+    @Test
+    public void execute_invalidStudentId_throwsCommandException() throws ParseException {
+        StatsCommand command = new StatsCommand(Optional.empty(), Optional.of(new StudentId("100")),
+                Optional.empty());
+
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand command = new StatsCommand(Optional.of(OCTOBER_2024), Optional.empty(), Optional.empty());
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new StatsCommand(Optional.of(OCTOBER_2024), Optional.empty(), Optional.empty())));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new StatsCommand()));
+        assertFalse(command.equals(new StatsCommand(Optional.of(OCTOBER_2024), Optional.empty(),
+                Optional.of(new Tag("friends")))));
+    }
+}
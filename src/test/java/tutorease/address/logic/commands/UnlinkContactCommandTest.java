@@ -0,0 +1,55 @@
+package tutorease.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static tutorease.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static tutorease.address.testutil.TypicalGuardians.ALEX;
+import static tutorease.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static tutorease.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static tutorease.address.testutil.TypicalLessons.getTypicalLessons;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.getTypicalTutorEase;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.commons.core.index.Index;
+import tutorease.address.model.Model;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code UnlinkContactCommand}.
+ */
+public class UnlinkContactCommandTest {
+    private static final Index INDEX_FIRST_GUARDIAN = Index.fromOneBased(8);
+
+    private Model model = new ModelManager(getTypicalTutorEase(), new UserPrefs(), getTypicalLessons());
+    private Model expectedModel = new ModelManager(getTypicalTutorEase(), new UserPrefs(), getTypicalLessons());
+
+    @Test
+    public void execute_linkedStudentAndGuardian_unlinked() {
+        model.linkGuardian(ALICE, ALEX);
+        UnlinkContactCommand command = new UnlinkContactCommand(INDEX_FIRST_PERSON, INDEX_FIRST_GUARDIAN);
+
+        assertCommandSuccess(command, model,
+                String.format(UnlinkContactCommand.MESSAGE_SUCCESS, ALICE.getName(), ALEX.getName()), expectedModel);
+        assertFalse(model.isLinked(ALICE, ALEX));
+    }
+
+    @Test
+    public void execute_notLinked_throwsCommandException() {
+        assertCommandFailure(new UnlinkContactCommand(INDEX_FIRST_PERSON, INDEX_FIRST_GUARDIAN), model,
+                UnlinkContactCommand.MESSAGE_NOT_LINKED);
+    }
+
+    @Test
+    public void equals() {
+        UnlinkContactCommand command = new UnlinkContactCommand(INDEX_FIRST_PERSON, INDEX_FIRST_GUARDIAN);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new UnlinkContactCommand(INDEX_FIRST_PERSON, INDEX_FIRST_GUARDIAN)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new UnlinkContactCommand(INDEX_SECOND_PERSON, INDEX_FIRST_GUARDIAN)));
+    }
+}
@@ -0,0 +1,74 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.commands.CommandTestUtil.DURATION_DESC;
+import static tutorease.address.logic.commands.CommandTestUtil.FEE_DESC;
+import static tutorease.address.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static tutorease.address.logic.commands.CommandTestUtil.START_DATE_TIME_DESC;
+import static tutorease.address.logic.commands.CommandTestUtil.STUDENT_ID_DESC;
+import static tutorease.address.logic.commands.CommandTestUtil.VALID_STUDENT_ID;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_PERIOD_WEEKS;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_UNTIL_DATE;
+import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.logic.Messages;
+import tutorease.address.logic.commands.AddLessonSeriesCommand;
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.StudentId;
+import tutorease.address.testutil.LessonBuilder;
+
+public class AddLessonSeriesCommandParserTest {
+    private static final String PERIOD_WEEKS_DESC = " " + PREFIX_PERIOD_WEEKS + "2";
+    private static final String UNTIL_DATE_DESC = " " + PREFIX_UNTIL_DATE + "31-03-2024";
+    private static final String VALID_FIRST_LESSON = STUDENT_ID_DESC + FEE_DESC + START_DATE_TIME_DESC
+            + DURATION_DESC;
+
+    private AddLessonSeriesCommandParser parser = new AddLessonSeriesCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() throws ParseException {
+        Lesson firstLesson = new LessonBuilder().build();
+        AddLessonSeriesCommand expectedCommand = new AddLessonSeriesCommand(new StudentId(VALID_STUDENT_ID),
+                firstLesson.getFee(), firstLesson.getStartDateTime(), firstLesson.getEndDateTime(), 2,
+                LocalDate.of(2024, 3, 31));
+
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + VALID_FIRST_LESSON + PERIOD_WEEKS_DESC + UNTIL_DATE_DESC,
+                expectedCommand);
+    }
+
+    @Test
+    public void parse_missingFields_failure() {
+        assertParseFailure(parser, VALID_FIRST_LESSON + UNTIL_DATE_DESC,
+                String.format(Messages.MISSING_PREFIX, PREFIX_PERIOD_WEEKS, AddLessonSeriesCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, VALID_FIRST_LESSON + PERIOD_WEEKS_DESC,
+                String.format(Messages.MISSING_PREFIX, PREFIX_UNTIL_DATE, AddLessonSeriesCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_repeatedValue_failure() {
+        assertParseFailure(parser, VALID_FIRST_LESSON + PERIOD_WEEKS_DESC + PERIOD_WEEKS_DESC + UNTIL_DATE_DESC,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_PERIOD_WEEKS));
+    }
+
+    @Test
+    public void parse_invalidPeriodWeeks_failure() {
+        assertParseFailure(parser, VALID_FIRST_LESSON + " " + PREFIX_PERIOD_WEEKS + "0" + UNTIL_DATE_DESC,
+                LessonSeries.PERIOD_MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, VALID_FIRST_LESSON + " " + PREFIX_PERIOD_WEEKS + "53" + UNTIL_DATE_DESC,
+                LessonSeries.PERIOD_MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, VALID_FIRST_LESSON + " " + PREFIX_PERIOD_WEEKS + "a" + UNTIL_DATE_DESC,
+                LessonSeries.PERIOD_MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_untilDateBeforeStart_failure() {
+        assertParseFailure(parser, VALID_FIRST_LESSON + PERIOD_WEEKS_DESC + " " + PREFIX_UNTIL_DATE + "31-12-2023",
+                LessonSeries.UNTIL_DATE_MESSAGE_CONSTRAINTS);
+    }
+}
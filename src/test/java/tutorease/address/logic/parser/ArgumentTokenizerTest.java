@@ -148,6 +148,37 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_sameTokenizerReused_noStaleValues() {
+        ArgumentTokenizer tokenizer = new ArgumentTokenizer(pSlash, dashT, hatQ);
+        ArgumentMultimap argMultimap = tokenizer.tokenizeArguments("preamble p/first -t tag");
+        assertArgumentPresent(argMultimap, pSlash, "first");
+        assertArgumentPresent(argMultimap, dashT, "tag");
+
+        argMultimap = tokenizer.tokenizeArguments("other p/second");
+        assertPreamblePresent(argMultimap, "other");
+        assertArgumentPresent(argMultimap, pSlash, "second");
+        assertArgumentAbsent(argMultimap, dashT);
+    }
+
+    @Test
+    public void tokenize_prefixInDifferentCase_recognized() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("preamble P/upper ^q lower", pSlash, hatQ);
+        assertArgumentPresent(argMultimap, pSlash, "upper");
+        assertArgumentPresent(argMultimap, hatQ, "lower");
+    }
+
+    @Test
+    public void tokenize_prefixesSharingStart_longestMatched() {
+        Prefix s = new Prefix("s/");
+        Prefix sid = new Prefix("sid/");
+        Prefix si = new Prefix("si");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" sid/1 s/2 sit", s, sid, si);
+        assertArgumentPresent(argMultimap, sid, "1");
+        assertArgumentPresent(argMultimap, s, "2");
+        assertArgumentPresent(argMultimap, si, "t");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -12,8 +12,12 @@ import org.junit.jupiter.api.Test;
 import tutorease.address.logic.commands.Command;
 import tutorease.address.logic.commands.DeleteContactCommand;
 import tutorease.address.logic.commands.EditContactCommand;
+import tutorease.address.logic.commands.FamilyContactCommand;
+import tutorease.address.logic.commands.GuardiansContactCommand;
 import tutorease.address.logic.commands.HelpCommand;
+import tutorease.address.logic.commands.LinkContactCommand;
 import tutorease.address.logic.commands.ListContactCommand;
+import tutorease.address.logic.commands.UnlinkContactCommand;
 import tutorease.address.logic.parser.exceptions.ParseException;
 import tutorease.address.model.person.Person;
 import tutorease.address.testutil.EditPersonDescriptorBuilder;
@@ -39,6 +43,14 @@ public class ContactCommandParserTest {
         assertTrue(result instanceof ListContactCommand);
     }
 
+    @Test
+    public void parse_validLinkCommands_success() throws Exception {
+        assertTrue(parser.parse("link sid/1 gid/2") instanceof LinkContactCommand);
+        assertTrue(parser.parse("unlink sid/1 gid/2") instanceof UnlinkContactCommand);
+        assertEquals(new FamilyContactCommand(INDEX_FIRST_PERSON), parser.parse("family 1"));
+        assertTrue(parser.parse("guardians when/week") instanceof GuardiansContactCommand);
+    }
+
     @Test
     public void parse_invalidCommandFormat_throwsParseException() {
         String invalidCommand = "unknownCommand";
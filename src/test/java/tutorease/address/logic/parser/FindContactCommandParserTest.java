@@ -5,11 +5,18 @@ import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseFa
 import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import tutorease.address.logic.commands.FindContactCommand;
 import tutorease.address.model.person.NameContainsKeywordsPredicate;
+import tutorease.address.model.person.PersonSearchPredicate;
+import tutorease.address.model.person.SearchTerm;
+import tutorease.address.model.person.SearchTerm.Field;
+import tutorease.address.model.tag.Tag;
+import tutorease.address.model.tag.TagFilter;
 
 public class FindContactCommandParserTest {
 
@@ -32,4 +39,29 @@ public class FindContactCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fieldPrefixes_returnsFindCommand() {
+        FindContactCommand expectedFindCommand = new FindContactCommand(new PersonSearchPredicate(List.of(
+                SearchTerm.of(Field.NAME, "al*"), SearchTerm.of(Field.NAME, "Bob"),
+                SearchTerm.of(Field.EMAIL, "example"), SearchTerm.of(Field.ADDRESS, "jurong"),
+                SearchTerm.of(Field.ADDRESS, "west"))),
+                new TagFilter(List.of(Set.of(new Tag("friends"), new Tag("family")), Set.of(new Tag("owesMoney")))));
+        assertParseSuccess(parser, "al* n/Bob e/example a/jurong west t/friends family t/owesMoney",
+                expectedFindCommand);
+
+        // prefix first
+        assertParseSuccess(parser, "t/friends", new FindContactCommand(new PersonSearchPredicate(List.of()),
+                new TagFilter(List.of(Set.of(new Tag("friends"))))));
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, "t/friends~", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_emptyPrefixValues_throwsParseException() {
+        assertParseFailure(parser, "n/ t/ ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                FindContactCommand.MESSAGE_USAGE));
+    }
 }
@@ -1,15 +1,27 @@
 package tutorease.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import tutorease.address.commons.core.index.Index;
 import tutorease.address.logic.commands.FindLessonCommand;
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.Model;
 import tutorease.address.model.lesson.LessonContainsNamesPredicate;
+import tutorease.address.model.lesson.LessonDateRange;
+import tutorease.address.model.tag.Tag;
+import tutorease.address.model.tag.TagFilter;
 
 public class FindLessonCommandParserTest {
 
@@ -43,4 +55,74 @@ public class FindLessonCommandParserTest {
         assertParseSuccess(parser, "1 2", expectedFindLessonCommandNumeric);
     }
 
+    @Test
+    public void parse_dateRange_returnsFindLessonCommand() throws Exception {
+        LessonDateRange range = LessonDateRange.between(LocalDateTime.of(2024, 10, 20, 0, 0),
+                LocalDateTime.of(2024, 10, 22, 0, 0));
+
+        // keywords with start and end dates
+        assertParseSuccess(parser, "Alice d/20-10-2024 u/21-10-2024", new FindLessonCommand(
+                new LessonContainsNamesPredicate(Arrays.asList("Alice")), range));
+
+        // dates only
+        assertParseSuccess(parser, " d/20-10-2024 u/21-10-2024",
+                new FindLessonCommand(Model.PREDICATE_SHOW_ALL_PERSONS, range));
+
+        // start date only -> lessons on that date
+        assertParseSuccess(parser, "d/20-10-2024", new FindLessonCommand(Model.PREDICATE_SHOW_ALL_PERSONS,
+                LessonDateRange.between(LocalDateTime.of(2024, 10, 20, 0, 0), LocalDateTime.of(2024, 10, 21, 0, 0))));
+    }
+
+    @Test
+    public void parse_tags_returnsFindLessonCommand() {
+        TagFilter tagFilter = new TagFilter(List.of(Set.of(new Tag("math"), new Tag("physics")),
+                Set.of(new Tag("sec3"))));
+
+        // tags only
+        assertParseSuccess(parser, "t/math physics t/sec3",
+                new FindLessonCommand(Model.PREDICATE_SHOW_ALL_PERSONS, LessonDateRange.ALL, tagFilter));
+
+        // keywords and tags
+        assertParseSuccess(parser, "Alice t/math physics t/sec3", new FindLessonCommand(
+                new LessonContainsNamesPredicate(Arrays.asList("Alice")), LessonDateRange.ALL, tagFilter));
+
+        assertParseFailure(parser, "t/#math", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_guardian_returnsFindLessonCommand() {
+        // guardian only
+        assertParseSuccess(parser, "gid/2", new FindLessonCommand(Model.PREDICATE_SHOW_ALL_PERSONS,
+                LessonDateRange.ALL, TagFilter.NONE, Index.fromOneBased(2)));
+
+        // keywords and guardian
+        assertParseSuccess(parser, "Alice gid/2", new FindLessonCommand(
+                new LessonContainsNamesPredicate(Arrays.asList("Alice")), LessonDateRange.ALL, TagFilter.NONE,
+                Index.fromOneBased(2)));
+
+        assertParseFailure(parser, "gid/0", ParserUtil.MESSAGE_INVALID_INDEX);
+    }
+
+    @Test
+    public void parse_invalidDateRange_throwsParseException() {
+        assertParseFailure(parser, "Alice u/21-10-2024", FindLessonCommandParser.MESSAGE_END_WITHOUT_START);
+        assertParseFailure(parser, "Alice d/21-10-2024 u/20-10-2024",
+                FindLessonCommandParser.MESSAGE_END_BEFORE_START);
+        assertParseFailure(parser, "when/today d/21-10-2024", FindLessonCommandParser.MESSAGE_WHEN_WITH_DATES);
+        assertParseFailure(parser, "when/tomorrow", FindLessonCommandParser.MESSAGE_INVALID_WHEN);
+    }
+
+    @Test
+    public void parseWhen_validValues_returnsRange() throws Exception {
+        // Wednesday
+        LocalDate today = LocalDate.of(2024, 10, 23);
+
+        assertEquals(LessonDateRange.between(LocalDateTime.of(2024, 10, 23, 0, 0),
+                LocalDateTime.of(2024, 10, 24, 0, 0)), FindLessonCommandParser.parseWhen("today", today));
+        assertEquals(LessonDateRange.between(LocalDateTime.of(2024, 10, 21, 0, 0),
+                LocalDateTime.of(2024, 10, 28, 0, 0)), FindLessonCommandParser.parseWhen(" WEEK ", today));
+        LessonDateRange upcoming = FindLessonCommandParser.parseWhen("upcoming", today);
+        assertEquals(Integer.MAX_VALUE, upcoming.getEndMinute());
+        assertThrows(ParseException.class, () -> FindLessonCommandParser.parseWhen("month", today));
+    }
 }
@@ -0,0 +1,75 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_START_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_UNTIL_DATE;
+import static tutorease.address.logic.parser.CliSyntax.PREFIX_WORKING_HOURS;
+import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.logic.Messages;
+import tutorease.address.logic.commands.FreeLessonCommand;
+import tutorease.address.model.lesson.EndDateTime;
+import tutorease.address.model.lesson.WorkingHours;
+
+public class FreeLessonCommandParserTest {
+    private static final String START_DATE_DESC = " " + PREFIX_START_DATE + "06-01-2025";
+    private static final String END_DATE_DESC = " " + PREFIX_UNTIL_DATE + "10-01-2025";
+    private static final String DURATION_DESC = " " + PREFIX_DURATION + "1.5";
+    private static final String WORKING_HOURS_DESC = " " + PREFIX_WORKING_HOURS + "09:00-18:00";
+    private static final String COUNT_DESC = " " + PREFIX_COUNT + "3";
+
+    private FreeLessonCommandParser parser = new FreeLessonCommandParser();
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, START_DATE_DESC + END_DATE_DESC + DURATION_DESC + WORKING_HOURS_DESC + COUNT_DESC,
+                new FreeLessonCommand(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 10), 90,
+                        new WorkingHours("09:00-18:00"), 3));
+    }
+
+    @Test
+    public void parse_optionalFieldsMissing_success() {
+        assertParseSuccess(parser, START_DATE_DESC + END_DATE_DESC + DURATION_DESC,
+                new FreeLessonCommand(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 10), 90, WorkingHours.ALL_DAY,
+                        FreeLessonCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_missingFields_failure() {
+        assertParseFailure(parser, END_DATE_DESC + DURATION_DESC,
+                String.format(Messages.MISSING_PREFIX, PREFIX_START_DATE, FreeLessonCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, START_DATE_DESC + END_DATE_DESC,
+                String.format(Messages.MISSING_PREFIX, PREFIX_DURATION, FreeLessonCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        // end date before start date
+        assertParseFailure(parser, START_DATE_DESC + " " + PREFIX_UNTIL_DATE + "05-01-2025" + DURATION_DESC,
+                FreeLessonCommandParser.MESSAGE_END_BEFORE_START);
+        // invalid duration
+        assertParseFailure(parser, START_DATE_DESC + END_DATE_DESC + " " + PREFIX_DURATION + "0.2",
+                EndDateTime.HOURS_MESSAGE_CONSTRAINTS);
+        // invalid working hours
+        assertParseFailure(parser, START_DATE_DESC + END_DATE_DESC + DURATION_DESC + " " + PREFIX_WORKING_HOURS
+                + "18:00-09:00", WorkingHours.MESSAGE_CONSTRAINTS);
+        // duration longer than working hours
+        assertParseFailure(parser, START_DATE_DESC + END_DATE_DESC + DURATION_DESC + " " + PREFIX_WORKING_HOURS
+                + "09:00-10:00", FreeLessonCommandParser.MESSAGE_DURATION_LONGER_THAN_WORKING_HOURS);
+        // invalid count
+        assertParseFailure(parser, START_DATE_DESC + END_DATE_DESC + DURATION_DESC + " " + PREFIX_COUNT + "0",
+                ParserUtil.MESSAGE_INVALID_COUNT);
+    }
+
+    @Test
+    public void parse_repeatedValue_failure() {
+        assertParseFailure(parser, START_DATE_DESC + START_DATE_DESC + END_DATE_DESC + DURATION_DESC,
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_START_DATE));
+    }
+}
@@ -0,0 +1,37 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.logic.commands.GuardiansContactCommand;
+import tutorease.address.model.lesson.LessonDateRange;
+
+public class GuardiansContactCommandParserTest {
+
+    private final GuardiansContactCommandParser parser = new GuardiansContactCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsCommandForAllLessons() {
+        assertParseSuccess(parser, "", new GuardiansContactCommand(LessonDateRange.ALL));
+    }
+
+    @Test
+    public void parse_dateRange_returnsGuardiansContactCommand() {
+        LessonDateRange range = LessonDateRange.between(LocalDateTime.of(2024, 10, 20, 0, 0),
+                LocalDateTime.of(2024, 10, 22, 0, 0));
+        assertParseSuccess(parser, " d/20-10-2024 u/21-10-2024", new GuardiansContactCommand(range));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " alice", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                GuardiansContactCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " u/21-10-2024", FindLessonCommandParser.MESSAGE_END_WITHOUT_START);
+        assertParseFailure(parser, " when/tomorrow", FindLessonCommandParser.MESSAGE_INVALID_WHEN);
+    }
+}
@@ -8,8 +8,10 @@ import static tutorease.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
 import org.junit.jupiter.api.Test;
 
+import tutorease.address.logic.commands.AddLessonSeriesCommand;
 import tutorease.address.logic.commands.Command;
 import tutorease.address.logic.commands.DeleteLessonCommand;
+import tutorease.address.logic.commands.DeleteLessonSeriesCommand;
 import tutorease.address.logic.commands.FindLessonCommand;
 import tutorease.address.logic.commands.HelpCommand;
 import tutorease.address.logic.commands.ListLessonCommand;
@@ -26,6 +28,20 @@ public class LessonCommandParserTest {
         assertTrue(result instanceof DeleteLessonCommand);
     }
 
+    @Test
+    public void parse_validDeleteRepeatCommand_success() throws Exception {
+        String validDeleteRepeatCommand = "deleterepeat 1";
+        Command result = parser.parse(validDeleteRepeatCommand);
+        assertTrue(result instanceof DeleteLessonSeriesCommand);
+    }
+
+    @Test
+    public void parse_validRepeatCommand_success() throws Exception {
+        String validRepeatCommand = "repeat sid/1 f/10 d/01-01-2024 12:00 h/1 w/1 u/31-03-2024";
+        Command result = parser.parse(validRepeatCommand);
+        assertTrue(result instanceof AddLessonSeriesCommand);
+    }
+
     @Test
     public void parse_validListCommand_success() throws Exception {
         String validListCommand = "list";
@@ -0,0 +1,43 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static tutorease.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static tutorease.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.logic.Messages;
+import tutorease.address.logic.commands.LinkContactCommand;
+
+public class LinkContactCommandParserTest {
+
+    private final LinkContactCommandParser parser = new LinkContactCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsLinkContactCommand() {
+        LinkContactCommand expectedCommand = new LinkContactCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON);
+        assertParseSuccess(parser, " sid/1 gid/2", expectedCommand);
+
+        // any order
+        assertParseSuccess(parser, "gid/2 sid/1", expectedCommand);
+    }
+
+    @Test
+    public void parse_missingOrExtraArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, LinkContactCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " sid/1", expectedMessage);
+        assertParseFailure(parser, " gid/2", expectedMessage);
+        assertParseFailure(parser, " 1 sid/1 gid/2", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " sid/a gid/2", ParserUtil.MESSAGE_INVALID_INDEX);
+        assertParseFailure(parser, " sid/1 gid/0", ParserUtil.MESSAGE_INVALID_INDEX);
+        assertParseFailure(parser, " sid/1 sid/3 gid/2",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_STUDENT_ID));
+    }
+}
@@ -9,6 +9,7 @@ import static tutorease.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,7 @@ import tutorease.address.model.person.Name;
 import tutorease.address.model.person.Phone;
 import tutorease.address.model.person.Role;
 import tutorease.address.model.tag.Tag;
+import tutorease.address.model.tag.TagFilter;
 
 public class ParserUtilTest {
 
@@ -197,6 +199,21 @@ public class ParserUtilTest {
         assertEquals(expectedTagSet, actualTagSet);
     }
 
+    @Test
+    public void parseTagFilter_values_returnsGroupPerValue() throws Exception {
+        TagFilter expectedFilter = new TagFilter(List.of(Set.of(new Tag(VALID_TAG_1), new Tag(VALID_TAG_2)),
+                Set.of(new Tag(VALID_TAG_1))));
+        assertEquals(expectedFilter, ParserUtil.parseTagFilter(Arrays.asList(
+                VALID_TAG_1 + "  " + VALID_TAG_2, "", " " + VALID_TAG_1 + " ")));
+        assertTrue(ParserUtil.parseTagFilter(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    public void parseTagFilter_invalidTag_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseTagFilter(
+                Arrays.asList(VALID_TAG_1 + " " + INVALID_TAG)));
+    }
+
     @Test
     public void parseRole_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseRole(null));
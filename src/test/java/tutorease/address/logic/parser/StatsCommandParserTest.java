@@ -0,0 +1,46 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.logic.Messages;
+import tutorease.address.logic.commands.StatsCommand;
+import tutorease.address.model.lesson.StudentId;
+import tutorease.address.model.tag.Tag;
+
+public class StatsCommandParserTest {
+    private final StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_noArgs_success() {
+        assertParseSuccess(parser, "", new StatsCommand());
+        assertParseSuccess(parser, "   ", new StatsCommand());
+    }
+
+    @Test
+    public void parse_allOptions_success() throws Exception {
+        assertParseSuccess(parser, " m/10-2024 sid/2 t/friends", new StatsCommand(Optional.of(YearMonth.of(2024, 10)),
+                Optional.of(new StudentId("2")), Optional.of(new Tag("friends"))));
+        assertParseSuccess(parser, " t/friends", new StatsCommand(Optional.empty(), Optional.empty(),
+                Optional.of(new Tag("friends"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        assertParseFailure(parser, " everything", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                StatsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " m/2024-10", ParserUtil.MESSAGE_INVALID_MONTH);
+        assertParseFailure(parser, " m/13-2024", ParserUtil.MESSAGE_INVALID_MONTH);
+        assertParseFailure(parser, " m/10-1999", ParserUtil.MESSAGE_INVALID_MONTH);
+        assertParseFailure(parser, " sid/0", StudentId.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " t/not a tag", Tag.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " m/10-2024 m/11-2024",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_MONTH));
+    }
+}
@@ -30,6 +30,7 @@ import tutorease.address.logic.commands.HelpCommand;
 import tutorease.address.logic.commands.LessonCommand;
 import tutorease.address.logic.commands.ListContactCommand;
 import tutorease.address.logic.commands.ListLessonCommand;
+import tutorease.address.logic.commands.StatsCommand;
 import tutorease.address.logic.parser.exceptions.ParseException;
 import tutorease.address.model.lesson.LessonContainsNamesPredicate;
 import tutorease.address.model.person.NameContainsKeywordsPredicate;
@@ -68,6 +69,11 @@ public class TutorEaseParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertEquals(new StatsCommand(), parser.parseCommand(StatsCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
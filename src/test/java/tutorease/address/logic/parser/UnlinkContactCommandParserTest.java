@@ -0,0 +1,28 @@
+package tutorease.address.logic.parser;
+
+import static tutorease.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static tutorease.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static tutorease.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static tutorease.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.logic.commands.UnlinkContactCommand;
+
+public class UnlinkContactCommandParserTest {
+
+    private final UnlinkContactCommandParser parser = new UnlinkContactCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsUnlinkContactCommand() {
+        assertParseSuccess(parser, " sid/1 gid/2", new UnlinkContactCommand(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON));
+    }
+
+    @Test
+    public void parse_missingArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnlinkContactCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " sid/1", expectedMessage);
+        assertParseFailure(parser, " sid/1 gid/2 extra", ParserUtil.MESSAGE_INVALID_INDEX);
+    }
+}
@@ -0,0 +1,81 @@
+package tutorease.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class GuardianLinksTest {
+
+    private final GuardianLinks guardianLinks = new GuardianLinks();
+
+    @Test
+    public void link_newAndExistingLinks_returnsWhetherChanged() {
+        assertTrue(guardianLinks.link(1, 10));
+        assertFalse(guardianLinks.link(1, 10));
+        assertTrue(guardianLinks.isLinked(1, 10));
+        assertFalse(guardianLinks.isLinked(10, 1));
+    }
+
+    @Test
+    public void getLinkedIds_bothDirections_returnsLinkedIds() {
+        guardianLinks.link(1, 10);
+        guardianLinks.link(1, 11);
+        guardianLinks.link(2, 10);
+
+        assertEquals(Set.of(10L, 11L), guardianLinks.getGuardianIds(1));
+        assertEquals(Set.of(10L, 11L), guardianLinks.getLinkedIds(1));
+        assertEquals(Set.of(1L, 2L), guardianLinks.getLinkedIds(10));
+        assertEquals(Set.of(), guardianLinks.getGuardianIds(10));
+        assertEquals(Set.of(), guardianLinks.getLinkedIds(3));
+    }
+
+    @Test
+    public void unlink_existingAndMissingLinks_removesBothDirections() {
+        guardianLinks.link(1, 10);
+        guardianLinks.link(2, 10);
+
+        assertTrue(guardianLinks.unlink(1, 10));
+        assertFalse(guardianLinks.unlink(1, 10));
+        assertEquals(Set.of(), guardianLinks.getLinkedIds(1));
+        assertEquals(Set.of(2L), guardianLinks.getLinkedIds(10));
+
+        // a links object with every link removed is the same as an empty one
+        guardianLinks.unlink(2, 10);
+        assertEquals(new GuardianLinks(), guardianLinks);
+    }
+
+    @Test
+    public void removeAll_studentOrGuardian_removesEveryLinkOfPerson() {
+        guardianLinks.link(1, 10);
+        guardianLinks.link(1, 11);
+        guardianLinks.link(2, 10);
+
+        guardianLinks.removeAll(10);
+        assertEquals(Set.of(11L), guardianLinks.getGuardianIds(1));
+        assertEquals(Set.of(), guardianLinks.getGuardianIds(2));
+
+        guardianLinks.removeAll(1);
+        assertEquals(Set.of(), guardianLinks.getLinkedIds(11));
+        assertEquals(new GuardianLinks(), guardianLinks);
+    }
+
+    @Test
+    public void equals() {
+        GuardianLinks other = new GuardianLinks();
+        guardianLinks.link(1, 10);
+        assertNotEquals(other, guardianLinks);
+
+        other.link(1, 10);
+        assertEquals(other, guardianLinks);
+        assertEquals(other.hashCode(), guardianLinks.hashCode());
+
+        other.clear();
+        assertNotEquals(other, guardianLinks);
+        assertFalse(guardianLinks.equals(null));
+    }
+}
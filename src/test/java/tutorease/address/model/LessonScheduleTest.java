@@ -3,10 +3,15 @@ package tutorease.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorease.address.testutil.Assert.assertThrows;
 import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BOB;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -16,12 +21,24 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tutorease.address.commons.util.DateTimeUtil;
 import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.lesson.DateTime;
+import tutorease.address.model.lesson.EndDateTime;
+import tutorease.address.model.lesson.Fee;
+import tutorease.address.model.lesson.FreeSlot;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.StartDateTime;
+import tutorease.address.model.lesson.WorkingHours;
 import tutorease.address.model.lesson.exceptions.LessonIndexOutOfRange;
 import tutorease.address.model.lesson.exceptions.LessonNotInList;
 import tutorease.address.model.lesson.exceptions.OverlappingLessonException;
+import tutorease.address.model.person.Person;
+import tutorease.address.model.person.Phone;
+import tutorease.address.model.person.Student;
 import tutorease.address.testutil.LessonBuilder;
+import tutorease.address.testutil.StudentBuilder;
 
 public class LessonScheduleTest {
     private final LessonSchedule lessonSchedule = new LessonSchedule();
@@ -98,6 +115,205 @@ public class LessonScheduleTest {
         assertFalse(lessonSchedule.hasLesson(lesson));
     }
 
+    @Test
+    public void deleteLesson_lessonOfSeries_throwsIllegalArgumentException() throws ParseException {
+        lessonSchedule.setOccurrenceWindow(LocalDateTime.of(2024, 1, 8, 0, 0), LocalDateTime.of(2024, 1, 29, 0, 0));
+        LessonSeries series = createWeeklySeries(ALICE, "01-01-2024 12:00", "01-01-2024 13:00");
+        lessonSchedule.addLessonSeries(series);
+        Lesson occurrence = lessonSchedule.getLessonList().get(0);
+
+        assertThrows(IllegalArgumentException.class, () -> lessonSchedule.deleteLesson(occurrence));
+        assertTrue(lessonSchedule.hasLesson(occurrence));
+        assertTrue(lessonSchedule.hasLessonSeries(series));
+    }
+
+    @Test
+    public void deleteStudentLessons_studentWithLessons_removesOnlyTheirLessons() throws ParseException {
+        Lesson aliceLesson = new LessonBuilder().withName(ALICE).withStartDateTime("01-01-2024 10:00")
+                .withEndDateTime("01-01-2024 11:00").build();
+        Lesson bobLesson = new LessonBuilder().withName(BOB).withStartDateTime("01-01-2024 11:00")
+                .withEndDateTime("01-01-2024 12:00").build();
+        Lesson otherAliceLesson = new LessonBuilder().withName(ALICE).withStartDateTime("02-01-2024 10:00")
+                .withEndDateTime("02-01-2024 11:00").build();
+        lessonSchedule.setLessons(Arrays.asList(aliceLesson, bobLesson, otherAliceLesson));
+
+        lessonSchedule.deleteStudentLessons(ALICE);
+
+        assertEquals(List.of(bobLesson), lessonSchedule.getLessonList());
+    }
+
+    @Test
+    public void deleteStudentLessons_studentWithoutLessons_doesNothing() throws ParseException {
+        Lesson bobLesson = new LessonBuilder().withName(BOB).build();
+        lessonSchedule.addLesson(bobLesson);
+
+        lessonSchedule.deleteStudentLessons(ALICE);
+
+        assertEquals(List.of(bobLesson), lessonSchedule.getLessonList());
+    }
+
+    @Test
+    public void updatePersonInLessons_sameId_lessonsUnchanged() throws ParseException {
+        Lesson aliceLesson = new LessonBuilder().withName(ALICE).withStartDateTime("01-01-2024 10:00")
+                .withEndDateTime("01-01-2024 11:00").build();
+        lessonSchedule.addLesson(aliceLesson);
+        long generation = lessonSchedule.getGeneration();
+        Person editedAlice = new Student(ALICE.getId(), ALICE.getName(), new Phone("99999999"), ALICE.getEmail(),
+                ALICE.getAddress(), ALICE.getRole(), ALICE.getTags());
+
+        lessonSchedule.updatePersonInLessons(ALICE, editedAlice);
+
+        assertSame(aliceLesson, lessonSchedule.getLessonList().get(0));
+        assertEquals(generation, lessonSchedule.getGeneration());
+    }
+
+    @Test
+    public void updatePersonInLessons_otherId_movesOnlyTheirLessons() throws ParseException {
+        Lesson aliceLesson = new LessonBuilder().withName(ALICE).withStartDateTime("01-01-2024 10:00")
+                .withEndDateTime("01-01-2024 11:00").build();
+        Lesson bobLesson = new LessonBuilder().withName(BOB).withStartDateTime("01-01-2024 11:00")
+                .withEndDateTime("01-01-2024 12:00").build();
+        lessonSchedule.addLesson(aliceLesson);
+        lessonSchedule.addLesson(bobLesson);
+        Person editedAlice = new StudentBuilder(ALICE).withPhone("99999999").build();
+
+        lessonSchedule.updatePersonInLessons(ALICE, editedAlice);
+
+        Lesson editedAliceLesson = new LessonBuilder().withName(editedAlice).withStartDateTime("01-01-2024 10:00")
+                .withEndDateTime("01-01-2024 11:00").build();
+        assertEquals(List.of(editedAliceLesson, bobLesson), lessonSchedule.getLessonList());
+
+        // lessons of the edited student can still be deleted through the index
+        lessonSchedule.deleteStudentLessons(editedAlice);
+        assertEquals(List.of(bobLesson), lessonSchedule.getLessonList());
+    }
+
+    @Test
+    public void addLessonSeries_listsLessonsInWindowOnly() throws ParseException {
+        lessonSchedule.setOccurrenceWindow(LocalDateTime.of(2024, 1, 8, 0, 0), LocalDateTime.of(2024, 1, 29, 0, 0));
+        LessonSeries series = createWeeklySeries(ALICE, "01-01-2024 12:00", "01-01-2024 13:00");
+
+        lessonSchedule.addLessonSeries(series);
+
+        assertEquals(series.getOccurrences(LocalDateTime.of(2024, 1, 8, 0, 0), LocalDateTime.of(2024, 1, 29, 0, 0)),
+                lessonSchedule.getLessonList());
+        assertEquals(3, lessonSchedule.getSize());
+        assertEquals(List.of(series), lessonSchedule.getLessonSeriesList());
+    }
+
+    @Test
+    public void addLessonSeries_overlappingLessonOutsideWindow_throwsOverlappingLessonException()
+            throws ParseException {
+        lessonSchedule.setOccurrenceWindow(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 8, 0, 0));
+        Lesson lesson = new LessonBuilder().withName(BOB).withStartDateTime("05-02-2024 12:30")
+                .withEndDateTime("05-02-2024 13:30").build();
+        lessonSchedule.addLesson(lesson);
+        LessonSeries series = createWeeklySeries(ALICE, "01-01-2024 12:00", "01-01-2024 13:00");
+
+        assertTrue(lessonSchedule.hasLessonSeries(series));
+        OverlappingLessonException exception = assertThrows(OverlappingLessonException.class, () ->
+                lessonSchedule.addLessonSeries(series));
+        assertEquals(List.of(OverlappingLessonException.describePair(lesson, series)),
+                exception.getOverlappingPairs());
+    }
+
+    @Test
+    public void addLesson_overlapsSeriesOutsideWindow_throwsOverlappingLessonException() throws ParseException {
+        lessonSchedule.setOccurrenceWindow(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 8, 0, 0));
+        LessonSeries series = createWeeklySeries(ALICE, "01-01-2024 12:00", "01-01-2024 13:00");
+        lessonSchedule.addLessonSeries(series);
+        Lesson lesson = new LessonBuilder().withName(BOB).withStartDateTime("05-02-2024 12:30")
+                .withEndDateTime("05-02-2024 13:30").build();
+
+        assertTrue(lessonSchedule.hasLesson(lesson));
+        OverlappingLessonException exception = assertThrows(OverlappingLessonException.class, () ->
+                lessonSchedule.addLesson(lesson));
+        assertEquals(List.of(OverlappingLessonException.describePair(series, lesson)),
+                exception.getOverlappingPairs());
+    }
+
+    @Test
+    public void setOccurrenceWindow_keepsSingleLessons() throws ParseException {
+        lessonSchedule.setOccurrenceWindow(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 1, 8, 0, 0));
+        Lesson lesson = new LessonBuilder().withName(BOB).withStartDateTime("02-01-2024 12:00")
+                .withEndDateTime("02-01-2024 13:00").build();
+        LessonSeries series = createWeeklySeries(ALICE, "01-01-2024 12:00", "01-01-2024 13:00");
+        lessonSchedule.addLesson(lesson);
+        lessonSchedule.addLessonSeries(series);
+
+        lessonSchedule.setOccurrenceWindow(LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 2, 8, 0, 0));
+
+        List<Lesson> expectedLessons = new ArrayList<>(List.of(lesson));
+        expectedLessons.addAll(series.getOccurrences(LocalDateTime.of(2024, 2, 1, 0, 0),
+                LocalDateTime.of(2024, 2, 8, 0, 0)));
+        assertEquals(expectedLessons, lessonSchedule.getLessonList());
+    }
+
+    @Test
+    public void deleteLessonSeries_removesListedLessons() throws ParseException {
+        lessonSchedule.setOccurrenceWindow(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0));
+        LessonSeries series = createWeeklySeries(ALICE, "01-01-2024 12:00", "01-01-2024 13:00");
+        lessonSchedule.addLessonSeries(series);
+
+        lessonSchedule.deleteLessonSeries(series);
+
+        assertEquals(Collections.emptyList(), lessonSchedule.getLessonList());
+        assertEquals(Collections.emptyList(), lessonSchedule.getLessonSeriesList());
+        assertThrows(LessonNotInList.class, () -> lessonSchedule.deleteLessonSeries(series));
+    }
+
+    @Test
+    public void deleteStudentLessons_studentWithLessonSeries_removesSeries() throws ParseException {
+        lessonSchedule.setOccurrenceWindow(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0));
+        lessonSchedule.addLessonSeries(createWeeklySeries(ALICE, "01-01-2024 12:00", "01-01-2024 13:00"));
+        LessonSeries bobSeries = createWeeklySeries(BOB, "01-01-2024 14:00", "01-01-2024 15:00");
+        lessonSchedule.addLessonSeries(bobSeries);
+
+        lessonSchedule.deleteStudentLessons(ALICE);
+
+        assertEquals(List.of(bobSeries), lessonSchedule.getLessonSeriesList());
+        assertEquals(bobSeries.getOccurrences(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0)),
+                lessonSchedule.getLessonList());
+    }
+
+    @Test
+    public void findFreeSlots_lessonsAndSeries_returnsGapsInOrder() throws ParseException {
+        // Lessons on 01-01-2024 from 10:00 to 11:00 and on 02-01-2024 from 12:00 to 13:00
+        lessonSchedule.addLesson(new LessonBuilder().withName(BOB).withStartDateTime("01-01-2024 10:00")
+                .withEndDateTime("01-01-2024 11:00").build());
+        lessonSchedule.addLesson(new LessonBuilder().withName(BOB).withStartDateTime("02-01-2024 12:00")
+                .withEndDateTime("02-01-2024 13:00").build());
+        // A weekly series on Mondays from 12:00 to 13:00, whose lessons are not listed
+        lessonSchedule.setOccurrenceWindow(LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 2, 0, 0));
+        lessonSchedule.addLessonSeries(createWeeklySeries(ALICE, "01-01-2024 12:00", "01-01-2024 13:00"));
+
+        List<FreeSlot> freeSlots = lessonSchedule.findFreeSlots(LocalDateTime.of(2024, 1, 1, 9, 0),
+                LocalDateTime.of(2024, 1, 3, 0, 0), 60, new WorkingHours("09:00-18:00"), 10);
+
+        assertEquals(List.of(createFreeSlot("01-01-2024 09:00", "01-01-2024 10:00"),
+                createFreeSlot("01-01-2024 11:00", "01-01-2024 12:00"),
+                createFreeSlot("01-01-2024 13:00", "01-01-2024 18:00"),
+                createFreeSlot("02-01-2024 09:00", "02-01-2024 12:00"),
+                createFreeSlot("02-01-2024 13:00", "02-01-2024 18:00")), freeSlots);
+    }
+
+    @Test
+    public void findFreeSlots_minimumLengthAndLimit() throws ParseException {
+        lessonSchedule.addLesson(new LessonBuilder().withName(BOB).withStartDateTime("01-01-2024 10:00")
+                .withEndDateTime("01-01-2024 11:00").build());
+        lessonSchedule.addLesson(new LessonBuilder().withName(BOB).withStartDateTime("01-01-2024 11:30")
+                .withEndDateTime("01-01-2024 12:00").build());
+
+        // The half hour between the lessons is too short
+        assertEquals(List.of(createFreeSlot("01-01-2024 09:00", "01-01-2024 10:00")),
+                lessonSchedule.findFreeSlots(LocalDateTime.of(2024, 1, 1, 9, 0), LocalDateTime.of(2024, 1, 2, 0, 0),
+                        60, WorkingHours.ALL_DAY, 1));
+        // Without working hours, the free time after the last lesson runs to the end of the period
+        assertEquals(List.of(createFreeSlot("01-01-2024 12:00", "03-01-2024 00:00")),
+                lessonSchedule.findFreeSlots(LocalDateTime.of(2024, 1, 1, 10, 30), LocalDateTime.of(2024, 1, 3, 0, 0),
+                        60, WorkingHours.ALL_DAY, 10));
+    }
+
     @Test
     public void getLesson_invalidIndex_throwsIndexOutOfBoundsException() {
         assertThrows(LessonIndexOutOfRange.class, () -> lessonSchedule.getLesson(0));
@@ -140,6 +356,17 @@ public class LessonScheduleTest {
         assertNotEquals(lessonSchedule, new LessonSchedule());
     }
 
+    private static LessonSeries createWeeklySeries(Person student, String start, String end)
+            throws ParseException {
+        return new LessonSeries(student.getId(), new Fee("10"), StartDateTime.createStartDateTime(start),
+                EndDateTime.createEndDateTime(end), 1, LocalDate.of(2024, 3, 31));
+    }
+
+    private static FreeSlot createFreeSlot(String start, String end) throws ParseException {
+        return new FreeSlot(DateTime.toEpochMinute(DateTimeUtil.parseDateTime(start)),
+                DateTime.toEpochMinute(DateTimeUtil.parseDateTime(end)));
+    }
+
     private static class LessonScheduleStub extends LessonSchedule {
         private final ObservableList<Lesson> lessons = FXCollections.observableArrayList();
 
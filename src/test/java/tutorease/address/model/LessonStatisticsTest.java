@@ -0,0 +1,124 @@
+package tutorease.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorease.address.testutil.TypicalLessons.MUSIC_LESSON;
+import static tutorease.address.testutil.TypicalLessons.SCIENCE_LESSON;
+import static tutorease.address.testutil.TypicalLessons.getTypicalLessons;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BOB;
+import static tutorease.address.testutil.TypicalStudents.CARL;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.lesson.EndDateTime;
+import tutorease.address.model.lesson.Fee;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.StartDateTime;
+import tutorease.address.model.person.Person;
+import tutorease.address.testutil.LessonBuilder;
+import tutorease.address.testutil.StudentBuilder;
+
+public class LessonStatisticsTest {
+    private static final YearMonth OCTOBER_2024 = YearMonth.of(2024, 10);
+
+    @Test
+    public void getTotals_emptySchedule_noLessons() {
+        LessonStatistics statistics = new LessonSchedule().getStatistics();
+
+        assertEquals(LessonTotals.NONE, statistics.getTotals());
+        assertEquals(LessonTotals.NONE, statistics.getTotals(OCTOBER_2024));
+        assertEquals(LessonTotals.NONE, statistics.getTotals(ALICE));
+        assertEquals(LessonTotals.NONE, statistics.getTotals(List.of(ALICE, BOB)));
+    }
+
+    @Test
+    public void getTotals_typicalLessons_totalsPerMonthAndStudent() {
+        LessonStatistics statistics = new LessonSchedule(getTypicalLessons()).getStatistics();
+
+        assertEquals(new LessonTotals(7, 300, 3000), statistics.getTotals());
+        assertEquals(new LessonTotals(7, 300, 3000), statistics.getTotals(OCTOBER_2024));
+        assertEquals(LessonTotals.NONE, statistics.getTotals(YearMonth.of(2024, 11)));
+        assertEquals(new LessonTotals(4, 180, 1800), statistics.getTotals(ALICE));
+        assertEquals(new LessonTotals(3, 120, 1200), statistics.getTotals(BOB));
+        assertEquals(new LessonTotals(7, 300, 3000), statistics.getTotals(List.of(ALICE, BOB)));
+        assertEquals(new LessonTotals(4, 180, 1800), statistics.getTotals(List.of(ALICE, CARL)));
+    }
+
+    @Test
+    public void addAndDeleteLesson_totalsUpdated() throws ParseException {
+        LessonSchedule lessonSchedule = new LessonSchedule(getTypicalLessons());
+        lessonSchedule.deleteLesson(SCIENCE_LESSON);
+        lessonSchedule.deleteLesson(MUSIC_LESSON);
+
+        assertEquals(new LessonTotals(5, 180, 1800), lessonSchedule.getStatistics().getTotals());
+        assertEquals(new LessonTotals(3, 120, 1200), lessonSchedule.getStatistics().getTotals(ALICE));
+
+        lessonSchedule.addLesson(new LessonBuilder().withName(ALICE).withFee("25")
+                .withStartDateTime("01-11-2024 10:00").withEndDateTime("01-11-2024 11:30").build());
+
+        assertEquals(new LessonTotals(1, 90, 2250), lessonSchedule.getStatistics().getTotals(YearMonth.of(2024, 11)));
+        assertEquals(new LessonTotals(4, 210, 3450), lessonSchedule.getStatistics().getTotals(ALICE));
+    }
+
+    @Test
+    public void addAndDeleteLessonSeries_everyLessonCounted() throws ParseException {
+        LessonSchedule lessonSchedule = new LessonSchedule();
+        LessonSeries series = new LessonSeries(ALICE.getId(), new Fee("10"),
+                StartDateTime.createStartDateTime("01-01-2024 12:00"),
+                EndDateTime.createEndDateTime("01-01-2024 13:00"), 1, LocalDate.of(2024, 3, 31));
+
+        lessonSchedule.addLessonSeries(series);
+
+        assertEquals(new LessonTotals(13, 780, 7800), lessonSchedule.getStatistics().getTotals());
+        assertEquals(new LessonTotals(5, 300, 3000), lessonSchedule.getStatistics().getTotals(YearMonth.of(2024, 1)));
+        assertEquals(new LessonTotals(4, 240, 2400), lessonSchedule.getStatistics().getTotals(YearMonth.of(2024, 2)));
+        assertEquals(new LessonTotals(13, 780, 7800), lessonSchedule.getStatistics().getTotals(ALICE));
+
+        lessonSchedule.deleteLessonSeries(series);
+
+        assertEquals(LessonTotals.NONE, lessonSchedule.getStatistics().getTotals());
+        assertEquals(new LessonTotals(0, 0, 0), lessonSchedule.getStatistics().getTotals(YearMonth.of(2024, 1)));
+    }
+
+    @Test
+    public void updatePersonInLessons_otherId_totalsMoved() {
+        LessonSchedule lessonSchedule = new LessonSchedule(getTypicalLessons());
+        Person otherAlice = new StudentBuilder(ALICE).withTags("tuition").build();
+
+        lessonSchedule.updatePersonInLessons(ALICE, otherAlice);
+
+        LessonStatistics statistics = lessonSchedule.getStatistics();
+        assertEquals(LessonTotals.NONE, statistics.getTotals(ALICE));
+        assertEquals(new LessonTotals(4, 180, 1800), statistics.getTotals(otherAlice));
+        assertEquals(new LessonTotals(7, 300, 3000), statistics.getTotals());
+    }
+
+    @Test
+    public void setLessonsAndDeleteStudentLessons_totalsRebuilt() {
+        LessonSchedule lessonSchedule = new LessonSchedule();
+        lessonSchedule.setLessons(getTypicalLessons().getLessonList());
+
+        assertEquals(new LessonTotals(7, 300, 3000), lessonSchedule.getStatistics().getTotals());
+
+        lessonSchedule.deleteStudentLessons(ALICE);
+
+        assertEquals(new LessonTotals(3, 120, 1200), lessonSchedule.getStatistics().getTotals());
+        assertEquals(LessonTotals.NONE, lessonSchedule.getStatistics().getTotals(ALICE));
+
+        lessonSchedule.setLessons(List.of());
+
+        assertEquals(LessonTotals.NONE, lessonSchedule.getStatistics().getTotals(BOB));
+    }
+
+    @Test
+    public void lessonTotals_toString() {
+        assertEquals("3 lesson(s), 1.5 hour(s), $22.50", new LessonTotals(3, 90, 1350).toString());
+        assertEquals("1 lesson(s), 0.33 hour(s), $3.33", new LessonTotals(1, 20, 200).toString());
+        assertEquals("0 lesson(s), 0 hour(s), $0.00", LessonTotals.NONE.toString());
+    }
+}
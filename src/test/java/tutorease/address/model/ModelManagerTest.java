@@ -2,6 +2,8 @@ package tutorease.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorease.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static tutorease.address.testutil.Assert.assertThrows;
@@ -11,6 +13,7 @@ import static tutorease.address.testutil.TypicalStudents.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -93,6 +96,26 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void takeMutations_changesMade_returnsChangesInOrder() {
+        modelManager.addPerson(ALICE);
+        modelManager.deletePerson(ALICE);
+
+        List<ModelMutation> mutations = modelManager.takeMutations();
+        assertEquals(2, mutations.size());
+        assertEquals(new ModelMutation(ModelMutation.Type.ADD_PERSON, ALICE, null, null, 1, 0), mutations.get(0));
+        assertEquals(new ModelMutation(ModelMutation.Type.DELETE_PERSON, ALICE, null, null, 2, 0), mutations.get(1));
+
+        // changes are only returned once
+        assertTrue(modelManager.takeMutations().isEmpty());
+    }
+
+    @Test
+    public void applyTo_reset_throwsIllegalStateException() {
+        ModelMutation reset = new ModelMutation(ModelMutation.Type.RESET_TUTOR_EASE, null, null, null, 1, 0);
+        assertThrows(IllegalStateException.class, () -> reset.applyTo(new TutorEase(), new LessonSchedule()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -167,12 +190,32 @@ public class ModelManagerTest {
         assertFalse(modelManager.equals(new ModelManager(tutorEase, differentUserPrefs, lessonSchedule)));
     }
 
+    @Test
+    public void getPersonById() {
+        modelManager.addPerson(ALICE);
+
+        assertSame(ALICE, modelManager.getPersonById(ALICE.getId()));
+        assertNull(modelManager.getPersonById(BENSON.getId()));
+    }
+
+    @Test
+    public void setPerson_equivalentPersonWithOtherId_updatesLessons() throws ParseException {
+        modelManager.addPerson(ALICE);
+        modelManager.addLesson(new LessonBuilder().withName(ALICE).build());
+        Person editedAlice = new StudentBuilder(ALICE).withPhone("12345678").build();
+
+        modelManager.setPerson(new StudentBuilder(ALICE).build(), editedAlice);
+
+        assertEquals(editedAlice.getId(), modelManager.getLesson(0).getStudentId());
+        assertEquals(1, modelManager.getLessonStatistics().getTotals(editedAlice).getLessonCount());
+    }
+
     @Test
     public void deleteStudentLesson_oneStudent_success() throws ParseException {
         LessonSchedule lessonSchedule = new LessonSchedule(modelManager.getLessonSchedule());
-        LessonBuilder lessonBuilder = new LessonBuilder();
+        LessonBuilder lessonBuilder = new LessonBuilder().withName(ALICE);
         Lesson lesson = lessonBuilder.build();
-        Person student = lesson.getStudent();
+        Person student = ALICE;
         lessonSchedule.addLesson(lesson);
         assertTrue(lessonSchedule.hasLesson(lesson));
         modelManager.deleteStudentLesson(student);
@@ -183,9 +226,9 @@ public class ModelManagerTest {
     @Test
     public void deleteStudentLesson_noStudent_success() throws ParseException {
         LessonSchedule lessonSchedule = new LessonSchedule(modelManager.getLessonSchedule());
-        LessonBuilder lessonBuilder = new LessonBuilder();
+        LessonBuilder lessonBuilder = new LessonBuilder().withName(ALICE);
         Lesson lesson = lessonBuilder.build();
-        Person student = lesson.getStudent();
+        Person student = ALICE;
         assertEquals(0, lessonSchedule.getSize());
         modelManager.deleteStudentLesson(student);
         assertEquals(0, lessonSchedule.getSize());
@@ -208,7 +251,7 @@ public class ModelManagerTest {
                 .withStartDateTime("02-02-2024 " + "12:00")
                 .withEndDateTime("02-02-2024 " + "13:00");
         Lesson lessonBob = lessonBuilderBob.build();
-        assertEquals(bob, lessonBob.getStudent());
+        assertEquals(bob.getId(), lessonBob.getStudentId());
 
         // Add both Alice's and Bob's lesson
         modelManager.addLesson(lessonAlice);
@@ -0,0 +1,111 @@
+package tutorease.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BENSON;
+import static tutorease.address.testutil.TypicalStudents.CARL;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.model.person.Person;
+import tutorease.address.model.tag.Tag;
+import tutorease.address.model.tag.TagFilter;
+import tutorease.address.testutil.StudentBuilder;
+
+public class TagIndexTest {
+
+    private final TagIndex tagIndex = new TagIndex();
+
+    @Test
+    public void find_groups_returnsPersonsMeetingEveryGroup() {
+        tagIndex.add(ALICE);
+        tagIndex.add(BENSON);
+        tagIndex.add(CARL);
+
+        assertEquals(Set.of(ALICE, BENSON), tagIndex.find(filter(Set.of("FRIENDS"))));
+        assertEquals(Set.of(BENSON), tagIndex.find(filter(Set.of("friends"), Set.of("owesMoney"))));
+        assertEquals(Set.of(ALICE, BENSON), tagIndex.find(filter(Set.of("owesMoney", "friends"))));
+        assertEquals(Set.of(), tagIndex.find(filter(Set.of("friends"), Set.of("unknown"))));
+        assertEquals(Set.of(ALICE, BENSON, CARL), tagIndex.find(TagFilter.NONE));
+    }
+
+    @Test
+    public void find_turkishDefaultLocale_ignoresCase() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            Person person = new StudentBuilder().withTags("ITALIAN").build();
+            tagIndex.add(person);
+            assertEquals(Set.of(person), tagIndex.find(filter(Set.of("italian"))));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void find_manyPersons_matchesFilterTest() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            StudentBuilder builder = new StudentBuilder().withName("Student " + i);
+            if (i % 2 == 0) {
+                builder.withTags("even");
+            } else if (i % 3 == 0) {
+                builder.withTags("three");
+            }
+            Person person = i % 6 == 0 ? builder.withTags("even", "three").build() : builder.build();
+            persons.add(person);
+            tagIndex.add(person);
+        }
+
+        // removed ordinals are reused by the persons added after them
+        for (int i = 0; i < 200; i += 5) {
+            tagIndex.remove(persons.get(i));
+        }
+        List<Person> current = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            if (i % 5 != 0) {
+                current.add(persons.get(i));
+            }
+        }
+        for (int i = 0; i < 30; i++) {
+            Person person = new StudentBuilder().withName("New " + i).withTags("three").build();
+            current.add(person);
+            tagIndex.add(person);
+        }
+
+        for (TagFilter filter : List.of(filter(Set.of("even")), filter(Set.of("three")),
+                filter(Set.of("even"), Set.of("three")), filter(Set.of("even", "three")))) {
+            Set<Person> expected = new HashSet<>(current.stream().filter(filter).toList());
+            assertEquals(expected, tagIndex.find(filter));
+        }
+    }
+
+    @Test
+    public void remove_lastPersonWithTag_dropsTag() {
+        tagIndex.add(ALICE);
+        tagIndex.remove(ALICE);
+        assertEquals(Set.of(), tagIndex.find(filter(Set.of("friends"))));
+        assertEquals(Set.of(), tagIndex.find(TagFilter.NONE));
+
+        tagIndex.add(BENSON);
+        tagIndex.clear();
+        assertEquals(Set.of(), tagIndex.find(filter(Set.of("friends"))));
+    }
+
+    @SafeVarargs
+    private static TagFilter filter(Set<String>... groups) {
+        List<Set<Tag>> tagGroups = new ArrayList<>();
+        for (Set<String> group : groups) {
+            Set<Tag> tags = new HashSet<>();
+            group.forEach(tagName -> tags.add(new Tag(tagName)));
+            tagGroups.add(tags);
+        }
+        return new TagFilter(tagGroups);
+    }
+}
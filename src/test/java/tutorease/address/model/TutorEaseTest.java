@@ -2,14 +2,19 @@ package tutorease.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorease.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static tutorease.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static tutorease.address.logic.commands.CommandTestUtil.VALID_PHONE_AMY;
 import static tutorease.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tutorease.address.testutil.Assert.assertThrows;
+import static tutorease.address.testutil.TypicalGuardians.ALEX;
+import static tutorease.address.testutil.TypicalGuardians.BRADLEY;
 import static tutorease.address.testutil.TypicalStudents.ALICE;
 import static tutorease.address.testutil.TypicalStudents.AMY;
+import static tutorease.address.testutil.TypicalStudents.BENSON;
 import static tutorease.address.testutil.TypicalStudents.BOB;
 import static tutorease.address.testutil.TypicalStudents.getTypicalTutorEase;
 
@@ -17,13 +22,19 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import tutorease.address.model.person.Guardian;
 import tutorease.address.model.person.Person;
+import tutorease.address.model.person.Role;
+import tutorease.address.model.person.Student;
 import tutorease.address.model.person.exceptions.DuplicatePersonException;
+import tutorease.address.model.tag.Tag;
+import tutorease.address.model.tag.TagFilter;
 import tutorease.address.testutil.StudentBuilder;
 
 public class TutorEaseTest {
@@ -58,6 +69,88 @@ public class TutorEaseTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void findPersons_tagFilter_followsChanges() {
+        TagFilter friends = new TagFilter(List.of(Set.of(new Tag("friends"))));
+        addressBook.addPerson(ALICE);
+        assertEquals(Set.of(ALICE), addressBook.findPersons(friends));
+
+        Person editedAlice = new StudentBuilder(ALICE).withTags(VALID_TAG_HUSBAND).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(), addressBook.findPersons(friends));
+        assertEquals(Set.of(editedAlice),
+                addressBook.findPersons(new TagFilter(List.of(Set.of(new Tag(VALID_TAG_HUSBAND))))));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(Set.of(), addressBook.findPersons(TagFilter.NONE));
+    }
+
+    @Test
+    public void linkGuardian_studentAndGuardian_linksBothWays() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(ALEX);
+        addressBook.addPerson(BRADLEY);
+        addressBook.linkGuardian(ALICE, ALEX);
+        addressBook.linkGuardian(BENSON, ALEX);
+        addressBook.linkGuardian(ALICE, BRADLEY);
+
+        assertTrue(addressBook.isLinked(ALICE, ALEX));
+        assertEquals(Set.of(ALEX.getId(), BRADLEY.getId()), addressBook.getGuardianIds(ALICE.getId()));
+        assertEquals(Set.of(ALEX, BRADLEY), addressBook.getLinkedPersons(List.of(ALICE)));
+        assertEquals(Set.of(ALICE, BENSON), addressBook.getLinkedPersons(List.of(ALEX)));
+        assertEquals(Set.of(ALICE, BENSON), addressBook.getLinkedPersons(List.of(ALEX, BRADLEY)));
+
+        addressBook.unlinkGuardian(ALICE, ALEX);
+        assertFalse(addressBook.isLinked(ALICE, ALEX));
+        assertEquals(Set.of(BENSON), addressBook.getLinkedPersons(List.of(ALEX)));
+    }
+
+    @Test
+    public void linkGuardian_wrongRoles_throwsIllegalArgumentException() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(ALEX);
+        assertThrows(IllegalArgumentException.class, () -> addressBook.linkGuardian(ALEX, ALICE));
+    }
+
+    @Test
+    public void linkGuardian_personChanges_followsChanges() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(ALEX);
+        addressBook.linkGuardian(ALICE, ALEX);
+
+        // an edit that keeps the role keeps the links
+        Person editedAlice = new Student(ALICE.getId(), ALICE.getName(),
+                ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(), ALICE.getRole(), Collections.emptySet());
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(ALEX), addressBook.getLinkedPersons(List.of(editedAlice)));
+
+        // a student that becomes a guardian loses its links
+        Person guardianAlice = new Guardian(ALICE.getId(), ALICE.getName(),
+                ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(), new Role("Guardian"), Collections.emptySet());
+        addressBook.setPerson(editedAlice, guardianAlice);
+        assertEquals(Set.of(), addressBook.getLinkedPersons(List.of(ALEX)));
+
+        addressBook.addPerson(BENSON);
+        addressBook.linkGuardian(BENSON, ALEX);
+        addressBook.removePerson(ALEX);
+        assertEquals(Set.of(), addressBook.getGuardianIds(BENSON.getId()));
+    }
+
+    @Test
+    public void equals_differentLinks_returnsFalse() {
+        TutorEase otherAddressBook = new TutorEase();
+        for (Person person : List.of(ALICE, ALEX)) {
+            addressBook.addPerson(person);
+            otherAddressBook.addPerson(person);
+        }
+        addressBook.linkGuardian(ALICE, ALEX);
+        assertFalse(addressBook.equals(otherAddressBook));
+
+        otherAddressBook.resetData(addressBook);
+        assertTrue(addressBook.equals(otherAddressBook));
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -111,6 +204,45 @@ public class TutorEaseTest {
     }
 
 
+    @Test
+    public void getPersonById_afterAddEditAndRemove_returnsCurrentPerson() {
+        addressBook.addPerson(ALICE);
+        assertEquals(ALICE, addressBook.getPersonById(ALICE.getId()));
+
+        Person editedAlice = new Student(ALICE.getId(), ALICE.getName(),
+                ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(), ALICE.getRole(), Collections.emptySet());
+        addressBook.setPerson(ALICE, editedAlice);
+        assertSame(editedAlice, addressBook.getPersonById(ALICE.getId()));
+
+        addressBook.removePerson(editedAlice);
+        assertNull(addressBook.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void removePerson_equivalentPersonWithOtherId_removesStoredPerson() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(ALEX);
+        addressBook.linkGuardian(ALICE, ALEX);
+
+        addressBook.removePerson(new StudentBuilder(ALICE).build());
+
+        assertNull(addressBook.getPersonById(ALICE.getId()));
+        assertEquals(Set.of(), addressBook.findPersons(new TagFilter(List.of(Set.of(new Tag("friends"))))));
+        assertEquals(Set.of(), addressBook.getLinkedPersons(List.of(ALEX)));
+    }
+
+    @Test
+    public void setPerson_equivalentPersonWithOtherId_replacesStoredPerson() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new StudentBuilder(ALICE).withPhone(VALID_PHONE_AMY).build();
+
+        addressBook.setPerson(new StudentBuilder(ALICE).build(), editedAlice);
+
+        assertNull(addressBook.getPersonById(ALICE.getId()));
+        assertSame(editedAlice, addressBook.getPersonById(editedAlice.getId()));
+        assertEquals(Set.of(editedAlice), addressBook.findPersons(new TagFilter(List.of(Set.of(new Tag("friends"))))));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -141,6 +273,21 @@ public class TutorEaseTest {
         public Person getPerson(String name) {
             return null;
         }
+
+        @Override
+        public Person getPersonById(long id) {
+            return null;
+        }
+
+        @Override
+        public Set<Long> getGuardianIds(long studentId) {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public long getGeneration() {
+            return 0;
+        }
     }
 
 }
@@ -1,12 +1,32 @@
 package tutorease.address.model.lesson;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static tutorease.address.testutil.Assert.assertThrows;
 
+import java.time.LocalDateTime;
+
 import org.junit.jupiter.api.Test;
 
+import tutorease.address.logic.parser.exceptions.ParseException;
+
 public class DateTimeTest {
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new DateTime(null));
     }
+
+    @Test
+    public void getEpochMinute() throws ParseException {
+        // 19723 days from 01-01-1970 to 01-01-2024
+        assertEquals(19723 * 24 * 60, new DateTime(LocalDateTime.of(2024, 1, 1, 0, 0)).getEpochMinute());
+        assertEquals(19723 * 24 * 60 + 13 * 60 + 30,
+                new DateTime(LocalDateTime.of(2024, 1, 1, 13, 30)).getEpochMinute());
+    }
+
+    @Test
+    public void getDateTime() throws ParseException {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 1, 13, 30);
+        assertEquals(dateTime, new DateTime(dateTime).getDateTime());
+        assertEquals(dateTime, new DateTime(dateTime.plusSeconds(59)).getDateTime());
+    }
 }
@@ -3,8 +3,8 @@ package tutorease.address.model.lesson;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static tutorease.address.testutil.TypicalLessons.ENGLISH_LESSON;
-import static tutorease.address.testutil.TypicalLessons.MATH_LESSON;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -40,38 +40,38 @@ public class LessonContainsNamesPredicateTest {
     }
 
     @Test
-    public void test_lessonContainsKeywords_returnsTrue() {
+    public void test_studentNameContainsKeywords_returnsTrue() {
         // One keyword
         LessonContainsNamesPredicate predicate =
                 new LessonContainsNamesPredicate(Collections.singletonList("Alice"));
-        assertTrue(predicate.test(MATH_LESSON));
+        assertTrue(predicate.test(ALICE));
 
         // Multiple keywords
         predicate = new LessonContainsNamesPredicate(Arrays.asList("Alice", "Bob"));
-        assertTrue(predicate.test(MATH_LESSON));
-        assertTrue(predicate.test(ENGLISH_LESSON));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BOB));
 
         // Only one matching keyword
         predicate = new LessonContainsNamesPredicate(Arrays.asList("Alice", "Carol"));
-        assertTrue(predicate.test(MATH_LESSON));
-        assertFalse(predicate.test(ENGLISH_LESSON));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BOB));
 
         // Mixed-case keywords
         predicate = new LessonContainsNamesPredicate(Arrays.asList("aLIce", "bOB"));
-        assertTrue(predicate.test(MATH_LESSON));
-        assertTrue(predicate.test(ENGLISH_LESSON));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BOB));
     }
 
     @Test
     public void test_nameDoesNotContainKeywords_returnsFalse() {
         // Zero keywords
         LessonContainsNamesPredicate predicate = new LessonContainsNamesPredicate(Collections.emptyList());
-        assertFalse(predicate.test(MATH_LESSON));
+        assertFalse(predicate.test(ALICE));
 
         // Non-matching keyword
         predicate = new LessonContainsNamesPredicate(Arrays.asList("Carol"));
-        assertFalse(predicate.test(MATH_LESSON));
-        assertFalse(predicate.test(ENGLISH_LESSON));
+        assertFalse(predicate.test(ALICE));
+        assertFalse(predicate.test(BOB));
     }
 
     @Test
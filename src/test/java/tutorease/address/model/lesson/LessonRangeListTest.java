@@ -0,0 +1,113 @@
+package tutorease.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.testutil.TypicalLessons.ART_LESSON;
+import static tutorease.address.testutil.TypicalLessons.ENGLISH_LESSON;
+import static tutorease.address.testutil.TypicalLessons.GEOGRAPHY_LESSON;
+import static tutorease.address.testutil.TypicalLessons.HISTORY_LESSON;
+import static tutorease.address.testutil.TypicalLessons.MATH_LESSON;
+import static tutorease.address.testutil.TypicalLessons.MUSIC_LESSON;
+import static tutorease.address.testutil.TypicalLessons.SCIENCE_LESSON;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LessonRangeListTest {
+    private final UniqueLessonList uniqueLessonList = new UniqueLessonList();
+    private LessonRangeList lessonRangeList;
+
+    @BeforeEach
+    public void setUp() {
+        uniqueLessonList.setLessons(Arrays.asList(GEOGRAPHY_LESSON, MATH_LESSON, SCIENCE_LESSON, ENGLISH_LESSON,
+                HISTORY_LESSON));
+        lessonRangeList = new LessonRangeList(uniqueLessonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setRange_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> lessonRangeList.setRange(null));
+    }
+
+    @Test
+    public void constructor_allLessonsShown() {
+        assertEquals(LessonDateRange.ALL, lessonRangeList.getRange());
+        assertEquals(Arrays.asList(GEOGRAPHY_LESSON, MATH_LESSON, SCIENCE_LESSON, ENGLISH_LESSON, HISTORY_LESSON),
+                lessonRangeList);
+    }
+
+    @Test
+    public void setRange_boundedRange_onlyLessonsInRangeShown() {
+        lessonRangeList.setRange(createRange(20, 21));
+        assertEquals(Arrays.asList(MATH_LESSON, SCIENCE_LESSON), lessonRangeList);
+        assertEquals(1, lessonRangeList.getSourceIndex(0));
+        assertEquals(0, lessonRangeList.getViewIndex(1));
+        assertEquals(-1, lessonRangeList.getViewIndex(0));
+
+        // no lessons in range
+        lessonRangeList.setRange(createRange(1, 2));
+        assertEquals(Collections.emptyList(), lessonRangeList);
+
+        // back to all lessons
+        lessonRangeList.setRange(LessonDateRange.ALL);
+        assertEquals(5, lessonRangeList.size());
+    }
+
+    @Test
+    public void setRange_openEndedRange_lessonsFromStartShown() {
+        lessonRangeList.setRange(LessonDateRange.from(LocalDateTime.of(2024, 10, 21, 9, 0)));
+        assertEquals(Arrays.asList(ENGLISH_LESSON, HISTORY_LESSON), lessonRangeList);
+    }
+
+    @Test
+    public void sourceChanged_boundedRange_rangeUpdated() {
+        lessonRangeList.setRange(createRange(20, 23));
+        uniqueLessonList.add(ART_LESSON);
+        assertEquals(Arrays.asList(MATH_LESSON, SCIENCE_LESSON, ENGLISH_LESSON, HISTORY_LESSON, ART_LESSON),
+                lessonRangeList);
+
+        // lesson outside the range
+        uniqueLessonList.add(MUSIC_LESSON);
+        assertEquals(5, lessonRangeList.size());
+
+        uniqueLessonList.remove(MATH_LESSON);
+        assertEquals(Arrays.asList(SCIENCE_LESSON, ENGLISH_LESSON, HISTORY_LESSON, ART_LESSON), lessonRangeList);
+    }
+
+    @Test
+    public void sourceChanged_allLessons_allLessonsShown() {
+        uniqueLessonList.add(ART_LESSON);
+        assertEquals(6, lessonRangeList.size());
+        assertEquals(ART_LESSON, lessonRangeList.get(5));
+    }
+
+    @Test
+    public void getSourceIndex_outOfRange_throwsIndexOutOfBoundsException() {
+        lessonRangeList.setRange(createRange(20, 21));
+        assertThrows(IndexOutOfBoundsException.class, () -> lessonRangeList.getSourceIndex(2));
+    }
+
+    @Test
+    public void lessonDateRange_contains() {
+        LessonDateRange range = createRange(20, 21);
+        assertTrue(range.contains(DateTime.toEpochMinute(LocalDateTime.of(2024, 10, 20, 0, 0))));
+        assertFalse(range.contains(DateTime.toEpochMinute(LocalDateTime.of(2024, 10, 21, 0, 0))));
+        assertTrue(LessonDateRange.ALL.contains(0));
+        assertThrows(IllegalArgumentException.class, () -> LessonDateRange.between(
+                LocalDateTime.of(2024, 10, 21, 0, 0), LocalDateTime.of(2024, 10, 20, 0, 0)));
+    }
+
+    /**
+     * Returns the range of lessons starting from the {@code startDay} to before the {@code endDay} of October 2024.
+     */
+    private static LessonDateRange createRange(int startDay, int endDay) {
+        return LessonDateRange.between(LocalDateTime.of(2024, 10, startDay, 0, 0),
+                LocalDateTime.of(2024, 10, endDay, 0, 0));
+    }
+}
@@ -0,0 +1,135 @@
+package tutorease.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.testutil.Assert.assertThrows;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.testutil.LessonBuilder;
+
+public class LessonSeriesTest {
+    private static final LocalDate UNTIL_DATE = LocalDate.of(2024, 3, 31);
+
+    // every Monday from 01-01-2024 12:00 to 13:00 until 31-03-2024
+    private final LessonSeries weeklySeries = createSeries("01-01-2024 12:00", "01-01-2024 13:00", 1, UNTIL_DATE);
+
+    public LessonSeriesTest() throws ParseException {
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LessonSeries(ALICE.getId(), null, null, null, 1, null));
+    }
+
+    @Test
+    public void constructor_invalidPeriodWeeks_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createSeries("01-01-2024 12:00", "01-01-2024 13:00", 0,
+                UNTIL_DATE));
+        assertThrows(IllegalArgumentException.class, () -> createSeries("01-01-2024 12:00", "01-01-2024 13:00",
+                LessonSeries.MAX_PERIOD_WEEKS + 1, UNTIL_DATE));
+    }
+
+    @Test
+    public void constructor_untilDateBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createSeries("01-01-2024 12:00", "01-01-2024 13:00", 1,
+                LocalDate.of(2023, 12, 31)));
+    }
+
+    @Test
+    public void getOccurrenceCount() throws ParseException {
+        assertEquals(13, weeklySeries.getOccurrenceCount());
+        assertEquals(1, createSeries("01-01-2024 12:00", "01-01-2024 13:00", 2, LocalDate.of(2024, 1, 14))
+                .getOccurrenceCount());
+        assertEquals(2, createSeries("01-01-2024 12:00", "01-01-2024 13:00", 2, LocalDate.of(2024, 1, 15))
+                .getOccurrenceCount());
+    }
+
+    @Test
+    public void isOverlapping_lesson() throws ParseException {
+        // overlaps a later lesson of the series
+        assertTrue(weeklySeries.isOverlapping(createLesson("05-02-2024 12:30", "05-02-2024 13:30")));
+        // different day of the week
+        assertFalse(weeklySeries.isOverlapping(createLesson("06-02-2024 12:00", "06-02-2024 13:00")));
+        // touching a lesson of the series
+        assertFalse(weeklySeries.isOverlapping(createLesson("05-02-2024 13:00", "05-02-2024 14:00")));
+        // before the first and after the last lesson of the series
+        assertFalse(weeklySeries.isOverlapping(createLesson("25-12-2023 12:00", "25-12-2023 13:00")));
+        assertFalse(weeklySeries.isOverlapping(createLesson("01-04-2024 12:00", "01-04-2024 13:00")));
+    }
+
+    @Test
+    public void isOverlapping_series() throws ParseException {
+        // every Tuesday can never overlap, whatever the dates
+        LessonSeries tuesdaySeries = createSeries("02-01-2024 12:00", "02-01-2024 13:00", 1, UNTIL_DATE);
+        assertFalse(weeklySeries.isOverlapping(tuesdaySeries));
+
+        // every two weeks from a later Monday
+        LessonSeries fortnightlySeries = createSeries("15-01-2024 12:30", "15-01-2024 13:30", 2, UNTIL_DATE);
+        assertTrue(weeklySeries.isOverlapping(fortnightlySeries));
+        assertTrue(fortnightlySeries.isOverlapping(weeklySeries));
+
+        // on Mondays, but only after the weekly series ends
+        LessonSeries laterSeries = createSeries("01-04-2024 12:00", "01-04-2024 13:00", 3,
+                LocalDate.of(2024, 6, 30));
+        assertFalse(weeklySeries.isOverlapping(laterSeries));
+        assertFalse(laterSeries.isOverlapping(weeklySeries));
+
+        // on Mondays right after the weekly series' lessons
+        LessonSeries touchingSeries = createSeries("08-01-2024 13:00", "08-01-2024 14:00", 3, UNTIL_DATE);
+        assertFalse(weeklySeries.isOverlapping(touchingSeries));
+    }
+
+    @Test
+    public void getOccurrences() throws ParseException {
+        List<Lesson> occurrences = weeklySeries.getOccurrences(LocalDateTime.of(2024, 1, 8, 0, 0),
+                LocalDateTime.of(2024, 1, 22, 12, 0));
+
+        assertEquals(List.of(createOccurrence("08-01-2024 12:00", "08-01-2024 13:00"),
+                createOccurrence("15-01-2024 12:00", "15-01-2024 13:00")), occurrences);
+        assertTrue(occurrences.get(0).isOccurrence());
+    }
+
+    @Test
+    public void getOccurrences_outsideSeries_returnsEmptyList() {
+        assertEquals(List.of(), weeklySeries.getOccurrences(LocalDateTime.of(2024, 4, 1, 0, 0),
+                LocalDateTime.of(2024, 5, 1, 0, 0)));
+    }
+
+    @Test
+    public void equals() throws ParseException {
+        LessonSeries weeklySeriesCopy = createSeries("01-01-2024 12:00", "01-01-2024 13:00", 1, UNTIL_DATE);
+        assertEquals(weeklySeries, weeklySeriesCopy);
+        assertEquals(weeklySeries, weeklySeries);
+        assertNotEquals(weeklySeries, null);
+        assertNotEquals(weeklySeries, createSeries("01-01-2024 12:00", "01-01-2024 13:00", 2, UNTIL_DATE));
+
+        // a lesson of a series is not the same as a lesson on its own
+        Lesson lesson = createLesson("01-01-2024 12:00", "01-01-2024 13:00");
+        assertNotEquals(lesson, weeklySeries.getOccurrences(LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(2024, 1, 2, 0, 0)).get(0));
+    }
+
+    private static LessonSeries createSeries(String start, String end, int periodWeeks, LocalDate untilDate)
+            throws ParseException {
+        return new LessonSeries(ALICE.getId(), new Fee("10"), StartDateTime.createStartDateTime(start),
+                EndDateTime.createEndDateTime(end), periodWeeks, untilDate);
+    }
+
+    private static Lesson createLesson(String start, String end) throws ParseException {
+        return new LessonBuilder().withName(ALICE).withStartDateTime(start).withEndDateTime(end).build();
+    }
+
+    private Lesson createOccurrence(String start, String end) throws ParseException {
+        return new LessonOccurrence(weeklySeries, StartDateTime.createStartDateTime(start),
+                EndDateTime.createEndDateTime(end));
+    }
+}
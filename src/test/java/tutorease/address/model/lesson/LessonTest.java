@@ -13,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import tutorease.address.commons.util.DateTimeUtil;
 import tutorease.address.logic.parser.exceptions.ParseException;
 import tutorease.address.model.person.Person;
+import tutorease.address.testutil.LessonBuilder;
+import tutorease.address.testutil.StudentBuilder;
 
 public class LessonTest {
     private final Person person = getTypicalStudents().get(0);
@@ -23,16 +25,16 @@ public class LessonTest {
     private final EndDateTime endDateTimeOverlap = EndDateTime.createEndDateTime(startDateTime, "2");
     private final StartDateTime startDateTimeNoOverlap = StartDateTime.createStartDateTime(
             DateTimeUtil.dateTimeToString(startDateTime.getDateTime().plusDays(1)));
-    private final Lesson lesson = new Lesson(person, fee, startDateTime, endDateTime);
-    private final Lesson lessonOverlap = new Lesson(person, fee, startDateTimeOverlap, endDateTimeOverlap);
-    private final Lesson lessonNoOverlap = new Lesson(person, fee, startDateTimeNoOverlap, endDateTimeOverlap);
+    private final Lesson lesson = new Lesson(person.getId(), fee, startDateTime, endDateTime);
+    private final Lesson lessonOverlap = new Lesson(person.getId(), fee, startDateTimeOverlap, endDateTimeOverlap);
+    private final Lesson lessonNoOverlap = new Lesson(person.getId(), fee, startDateTimeNoOverlap, endDateTimeOverlap);
 
     public LessonTest() throws ParseException {
     }
 
     @Test
     public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Lesson(null, null, null, null));
+        assertThrows(NullPointerException.class, () -> new Lesson(person.getId(), null, null, null));
     }
 
     @Test
@@ -40,10 +42,35 @@ public class LessonTest {
         assertTrue(lesson.isOverlapping(lessonOverlap));
         assertFalse(lesson.isOverlapping(lessonNoOverlap));
     }
+
+    @Test
+    public void isOverlapping_containedLesson_returnsTrueBothWays() throws ParseException {
+        Lesson outerLesson = new LessonBuilder().withStartDateTime("01-01-2024 11:00")
+                .withEndDateTime("01-01-2024 14:00").build();
+        assertTrue(outerLesson.isOverlapping(lesson));
+        assertTrue(lesson.isOverlapping(outerLesson));
+    }
+
+    @Test
+    public void isOverlapping_touchingLessons_returnsFalse() throws ParseException {
+        Lesson nextLesson = new LessonBuilder().withStartDateTime("01-01-2024 13:00")
+                .withEndDateTime("01-01-2024 14:00").build();
+        assertFalse(lesson.isOverlapping(nextLesson));
+        assertFalse(nextLesson.isOverlapping(lesson));
+    }
+
+    @Test
+    public void isOverlapping_minutes() {
+        assertTrue(Lesson.isOverlapping(0, 60, 30, 90));
+        assertFalse(Lesson.isOverlapping(0, 60, 60, 120));
+        // a zero-length lesson overlaps a lesson that starts or ends at the same time
+        assertTrue(Lesson.isOverlapping(60, 60, 0, 60));
+        assertTrue(Lesson.isOverlapping(60, 60, 60, 120));
+    }
     @Test
     public void equals() {
         // same values -> returns true
-        Lesson lessonCopy = new Lesson(person, fee, startDateTime, endDateTime);
+        Lesson lessonCopy = new Lesson(person.getId(), fee, startDateTime, endDateTime);
         assertTrue(lesson.equals(lessonCopy));
 
         // same object -> returns true
@@ -57,10 +84,14 @@ public class LessonTest {
 
         // different lesson -> returns false
         assertFalse(lesson.equals(lessonOverlap));
+
+        // different student with the same details -> returns false
+        Person samePerson = new StudentBuilder(person).build();
+        assertFalse(lesson.equals(new Lesson(samePerson.getId(), fee, startDateTime, endDateTime)));
     }
     @Test
-    public void getStudent() {
-        assertTrue(lesson.getStudent().equals(person));
+    public void getStudentId() {
+        assertEquals(person.getId(), lesson.getStudentId());
     }
     @Test
     public void getFee() {
@@ -83,17 +114,9 @@ public class LessonTest {
         assertEquals(DateTimeUtil.dateTimeToString(endDateTime.getDateTime()), lesson.getEndDateTimeString());
     }
     @Test
-    public void getStudentName() {
-        assertEquals(person.getName().toString(), lesson.getStudentName());
-    }
-    @Test
-    public void getAddress() {
-        assertEquals(person.getAddress().toString(), lesson.getAddress());
-    }
-    @Test
     public void toStringTest() {
-        assertEquals("Student: "
-                + person.getName().toString()
+        assertEquals("Student ID: "
+                + person.getId()
                 + "; Fee: "
                 + fee
                 + "; Start: "
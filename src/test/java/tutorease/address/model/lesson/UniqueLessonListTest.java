@@ -60,6 +60,109 @@ public class UniqueLessonListTest {
         assertThrows(OverlappingLessonException.class, () -> uniqueLessonList.add(lesson));
     }
 
+    @Test
+    public void add_lessonContainingExistingLesson_throwsOverlappingLessonException() throws ParseException {
+        Lesson outerLesson = new LessonBuilder().withStartDateTime("01-01-2024 11:00")
+                .withEndDateTime("01-01-2024 14:00").build();
+        OverlappingLessonException exception = assertThrows(OverlappingLessonException.class, () ->
+                uniqueLessonList.add(outerLesson));
+        assertEquals(List.of(OverlappingLessonException.describePair(lesson, outerLesson)),
+                exception.getOverlappingPairs());
+    }
+
+    @Test
+    public void add_lessonsOutOfOrder_keepsListSorted() throws ParseException {
+        Lesson laterLesson = new LessonBuilder().withStartDateTime("02-01-2024 12:00")
+                .withEndDateTime("02-01-2024 13:00").build();
+        Lesson earlierLesson = new LessonBuilder().withStartDateTime("31-12-2023 12:00")
+                .withEndDateTime("31-12-2023 13:00").build();
+        Lesson touchingLesson = new LessonBuilder().withStartDateTime("01-01-2024 13:00")
+                .withEndDateTime("01-01-2024 14:00").build();
+
+        uniqueLessonList.add(laterLesson);
+        uniqueLessonList.add(earlierLesson);
+        uniqueLessonList.add(touchingLesson);
+
+        assertEquals(List.of(earlierLesson, lesson, touchingLesson, laterLesson),
+                uniqueLessonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_lessonsInList_removesThem() throws ParseException {
+        Lesson laterLesson = new LessonBuilder().withStartDateTime("02-01-2024 12:00")
+                .withEndDateTime("02-01-2024 13:00").build();
+        Lesson earlierLesson = new LessonBuilder().withStartDateTime("31-12-2023 12:00")
+                .withEndDateTime("31-12-2023 13:00").build();
+        uniqueLessonList.add(laterLesson);
+        uniqueLessonList.add(earlierLesson);
+
+        uniqueLessonList.removeAll(List.of(laterLesson, earlierLesson));
+
+        assertEquals(List.of(lesson), uniqueLessonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_lessonsInList_remainingLessonsStillChecked() throws ParseException {
+        Lesson laterLesson = new LessonBuilder().withStartDateTime("02-01-2024 12:00")
+                .withEndDateTime("02-01-2024 13:00").build();
+        Lesson earlierLesson = new LessonBuilder().withStartDateTime("31-12-2023 12:00")
+                .withEndDateTime("31-12-2023 13:00").build();
+        uniqueLessonList.add(laterLesson);
+        uniqueLessonList.add(earlierLesson);
+
+        uniqueLessonList.removeAll(List.of(lesson));
+
+        assertFalse(uniqueLessonList.contains(lesson));
+        assertTrue(uniqueLessonList.contains(laterLesson));
+        assertTrue(uniqueLessonList.contains(earlierLesson));
+        uniqueLessonList.add(lesson);
+        assertEquals(List.of(earlierLesson, lesson, laterLesson), uniqueLessonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void removeAll_lessonNotInList_throwsLessonNotInList() throws ParseException {
+        Lesson laterLesson = new LessonBuilder().withStartDateTime("02-01-2024 12:00")
+                .withEndDateTime("02-01-2024 13:00").build();
+        assertThrows(LessonNotInList.class, () -> uniqueLessonList.removeAll(List.of(lesson, laterLesson)));
+        assertEquals(List.of(lesson), uniqueLessonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setLesson_lessonNotInList_throwsLessonNotInList() throws ParseException {
+        Lesson laterLesson = new LessonBuilder().withStartDateTime("02-01-2024 12:00")
+                .withEndDateTime("02-01-2024 13:00").build();
+        assertThrows(LessonNotInList.class, () -> uniqueLessonList.setLesson(laterLesson, laterLesson));
+    }
+
+    @Test
+    public void setLessons_unsortedList_storesLessonsSorted() throws ParseException {
+        Lesson laterLesson = new LessonBuilder().withStartDateTime("02-01-2024 12:00")
+                .withEndDateTime("02-01-2024 13:00").build();
+        Lesson earlierLesson = new LessonBuilder().withStartDateTime("31-12-2023 12:00")
+                .withEndDateTime("31-12-2023 13:00").build();
+
+        uniqueLessonList.setLessons(List.of(laterLesson, lesson, earlierLesson));
+
+        assertEquals(List.of(earlierLesson, lesson, laterLesson), uniqueLessonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setLessons_severalOverlappingLessons_reportsEveryOverlappingPair() throws ParseException {
+        Lesson longLesson = new LessonBuilder().withStartDateTime("01-01-2024 10:00")
+                .withEndDateTime("01-01-2024 16:00").build();
+        Lesson laterOverlappingLesson = new LessonBuilder().withStartDateTime("01-01-2024 15:00")
+                .withEndDateTime("01-01-2024 17:00").build();
+        Lesson touchingLesson = new LessonBuilder().withStartDateTime("01-01-2024 17:00")
+                .withEndDateTime("01-01-2024 18:00").build();
+
+        OverlappingLessonException exception = assertThrows(OverlappingLessonException.class, () ->
+                uniqueLessonList.setLessons(List.of(touchingLesson, laterOverlappingLesson, lesson, longLesson)));
+
+        // longLesson overlaps both lesson and laterOverlappingLesson, touchingLesson overlaps nothing
+        assertEquals(2, exception.getOverlappingPairs().size());
+        assertEquals(List.of(lesson), uniqueLessonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniqueLessonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueLessonList.setLessons((UniqueLessonList) null));
@@ -77,6 +180,7 @@ public class UniqueLessonListTest {
     @Test
     public void lessonsAreUnique() {
         assertFalse(uniqueLessonList.lessonsAreUnique(List.of(lesson, lesson)));
+        assertTrue(uniqueLessonList.lessonsAreUnique(List.of(lesson)));
 
     }
 
@@ -149,6 +253,21 @@ public class UniqueLessonListTest {
         assertEquals(originalData, uniqueLessonList);
     }
 
+    @Test
+    public void findFirstEndingAfter() throws ParseException {
+        Lesson laterLesson = new LessonBuilder().withStartDateTime("01-01-2024 14:00")
+                .withEndDateTime("01-01-2024 15:00").build();
+        uniqueLessonList.add(laterLesson);
+        int lessonStartMinute = lesson.getStartDateTime().getEpochMinute();
+
+        assertEquals(0, uniqueLessonList.findFirstEndingAfter(lessonStartMinute - 60));
+        assertEquals(0, uniqueLessonList.findFirstEndingAfter(lessonStartMinute + 30));
+        assertEquals(1, uniqueLessonList.findFirstEndingAfter(lessonStartMinute + 60));
+        assertEquals(2, uniqueLessonList.findFirstEndingAfter(lessonStartMinute + 180));
+        assertEquals(laterLesson.getStartDateTime().getEpochMinute(), uniqueLessonList.getStartMinute(1));
+        assertEquals(laterLesson.getEndDateTime().getEpochMinute(), uniqueLessonList.getEndMinute(1));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,59 @@
+package tutorease.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class WorkingHoursTest {
+
+    @Test
+    public void constructor_invalidWorkingHours_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new WorkingHours("18:00-09:00"));
+    }
+
+    @Test
+    public void isValidWorkingHours() {
+        // invalid working hours
+        assertFalse(WorkingHours.isValidWorkingHours("")); // empty string
+        assertFalse(WorkingHours.isValidWorkingHours("9:00-18:00")); // missing digit
+        assertFalse(WorkingHours.isValidWorkingHours("09:00 18:00")); // no dash
+        assertFalse(WorkingHours.isValidWorkingHours("09:60-18:00")); // invalid minute
+        assertFalse(WorkingHours.isValidWorkingHours("24:00-24:00")); // starts at midnight of the next day
+        assertFalse(WorkingHours.isValidWorkingHours("09:00-24:30")); // ends after midnight
+        assertFalse(WorkingHours.isValidWorkingHours("09:00-09:00")); // empty
+        assertFalse(WorkingHours.isValidWorkingHours("18:00-09:00")); // end before start
+
+        // valid working hours
+        assertTrue(WorkingHours.isValidWorkingHours("09:00-18:00"));
+        assertTrue(WorkingHours.isValidWorkingHours("00:00-24:00"));
+        assertTrue(WorkingHours.isValidWorkingHours("23:59-24:00"));
+    }
+
+    @Test
+    public void getters() {
+        WorkingHours workingHours = new WorkingHours(" 09:30-18:00 ");
+        assertEquals(9 * 60 + 30, workingHours.getStartMinute());
+        assertEquals(18 * 60, workingHours.getEndMinute());
+        assertEquals(8 * 60 + 30, workingHours.getLengthMinutes());
+        assertFalse(workingHours.isAllDay());
+        assertTrue(new WorkingHours("00:00-24:00").isAllDay());
+    }
+
+    @Test
+    public void equals() {
+        WorkingHours workingHours = new WorkingHours("09:00-18:00");
+        assertEquals(workingHours, new WorkingHours("09:00-18:00"));
+        assertEquals(WorkingHours.ALL_DAY, new WorkingHours("00:00-24:00"));
+        assertNotEquals(workingHours, null);
+        assertNotEquals(workingHours, new WorkingHours("09:00-17:00"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("09:05-24:00", new WorkingHours("09:05-24:00").toString());
+    }
+}
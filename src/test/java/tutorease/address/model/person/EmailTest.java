@@ -1,9 +1,12 @@
 package tutorease.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorease.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class EmailTest {
@@ -85,4 +88,15 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email")));
     }
+
+    @Test
+    public void hashCode_turkishDefaultLocale_returnsSameHashCode() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            assertEquals(new Email("ISAAC@example.com").hashCode(), new Email("isaac@example.com").hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
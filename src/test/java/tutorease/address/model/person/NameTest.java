@@ -1,9 +1,12 @@
 package tutorease.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorease.address.testutil.Assert.assertThrows;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -57,4 +60,20 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void hashCode_namesDifferingInCase_returnsSameHashCode() {
+        assertEquals(new Name("Valid Name").hashCode(), new Name("valid name").hashCode());
+    }
+
+    @Test
+    public void hashCode_turkishDefaultLocale_returnsSameHashCode() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            assertEquals(new Name("ISAAC").hashCode(), new Name("isaac").hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
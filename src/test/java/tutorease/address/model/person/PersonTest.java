@@ -2,12 +2,15 @@ package tutorease.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorease.address.testutil.TypicalStudents.ALICE;
 import static tutorease.address.testutil.TypicalStudents.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import tutorease.address.testutil.StudentBuilder;
+
 public class PersonTest {
     @Test
     public void isSamePerson_sameName_returnsTrue() {
@@ -48,5 +51,28 @@ public class PersonTest {
     public void hashCode_identicalPersons_sameHashCode() {
         assertEquals(ALICE.hashCode(), ALICE.hashCode());
     }
-}
 
+    @Test
+    public void getId_differentPersons_returnsDifferentIds() {
+        assertNotEquals(ALICE.getId(), BOB.getId());
+    }
+
+    @Test
+    public void constructor_withId_keepsIdWithoutAffectingEquality() {
+        Person aliceWithSameId = new Student(ALICE.getId(), ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getAddress(), ALICE.getRole(), ALICE.getTags());
+        assertEquals(ALICE.getId(), aliceWithSameId.getId());
+        assertEquals(ALICE, aliceWithSameId);
+
+        Person aliceWithNewId = new StudentBuilder(ALICE).build();
+        assertNotEquals(ALICE.getId(), aliceWithNewId.getId());
+        assertEquals(ALICE, aliceWithNewId);
+    }
+
+    @Test
+    public void constructor_withLargeId_laterIdsAreLarger() {
+        Person loadedPerson = new Student(1_000_000L, ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(),
+                ALICE.getAddress(), ALICE.getRole(), ALICE.getTags());
+        assertTrue(new StudentBuilder().build().getId() > loadedPerson.getId());
+    }
+}
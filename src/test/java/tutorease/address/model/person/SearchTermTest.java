@@ -0,0 +1,100 @@
+package tutorease.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.testutil.Assert.assertThrows;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import tutorease.address.model.person.SearchTerm.Field;
+import tutorease.address.model.person.SearchTerm.MatchType;
+
+public class SearchTermTest {
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SearchTerm.of(null, "alice"));
+        assertThrows(NullPointerException.class, () -> SearchTerm.of(Field.NAME, null));
+    }
+
+    @Test
+    public void of_marker_setsMatchType() {
+        assertEquals(MatchType.EXACT, SearchTerm.of(Field.NAME, "Alice").getMatchType());
+        assertEquals(MatchType.PREFIX, SearchTerm.of(Field.NAME, "al*").getMatchType());
+        assertEquals(MatchType.FUZZY, SearchTerm.of(Field.NAME, "alcie~").getMatchType());
+        assertEquals(Arrays.asList("alice", "example", "com"),
+                SearchTerm.of(Field.EMAIL, "Alice@Example.com").getTokens());
+    }
+
+    @Test
+    public void matches_exact() {
+        assertTrue(SearchTerm.of(Field.NAME, "PAULINE").matches(ALICE));
+        assertFalse(SearchTerm.of(Field.NAME, "Paul").matches(ALICE));
+
+        // every token of the word must match
+        assertTrue(SearchTerm.of(Field.EMAIL, "alice@example.com").matches(ALICE));
+        assertFalse(SearchTerm.of(Field.NAME, "alice@example.com").matches(ALICE));
+
+        // no letters or digits
+        assertFalse(SearchTerm.of(Field.NAME, "@").matches(ALICE));
+    }
+
+    @Test
+    public void matches_prefix() {
+        assertTrue(SearchTerm.of(Field.NAME, "al*").matches(ALICE));
+        assertTrue(SearchTerm.of(Field.ADDRESS, "jur*").matches(ALICE));
+        assertFalse(SearchTerm.of(Field.NAME, "be*").matches(ALICE));
+    }
+
+    @Test
+    public void matches_fuzzy() {
+        assertTrue(SearchTerm.of(Field.NAME, "alcie~").matches(ALICE));
+        assertTrue(SearchTerm.of(Field.NAME, "paulnie~").matches(ALICE));
+        assertFalse(SearchTerm.of(Field.NAME, "bob~").matches(ALICE));
+
+        // short tokens must match exactly
+        assertFalse(SearchTerm.of(Field.NAME, "al~").matches(ALICE));
+    }
+
+    @Test
+    public void matches_tag() {
+        assertTrue(SearchTerm.of(Field.TAG, "owesmoney").matches(BENSON));
+        assertFalse(SearchTerm.of(Field.TAG, "owesmoney").matches(ALICE));
+        assertFalse(SearchTerm.of(Field.NAME, "friends").matches(ALICE));
+    }
+
+    @Test
+    public void isWithinEdits() {
+        assertTrue(SearchTerm.isWithinEdits("kitten", "kitten", 0));
+        assertTrue(SearchTerm.isWithinEdits("kitten", "sitten", 1));
+        assertTrue(SearchTerm.isWithinEdits("kitten", "sittin", 2));
+        assertFalse(SearchTerm.isWithinEdits("kitten", "sitting", 2));
+        assertTrue(SearchTerm.isWithinEdits("meier", "meyer", 1));
+        assertFalse(SearchTerm.isWithinEdits("meier", "mueller", 1));
+    }
+
+    @Test
+    public void tokenize() {
+        assertEquals(Arrays.asList("123", "jurong", "west", "ave", "6", "08", "111"),
+                SearchTerm.tokenize("123, Jurong West Ave 6, #08-111"));
+        assertEquals(Collections.emptyList(), SearchTerm.tokenize(" ,#- "));
+    }
+
+    @Test
+    public void equals() {
+        SearchTerm term = SearchTerm.of(Field.NAME, "al*");
+
+        assertTrue(term.equals(term));
+        assertTrue(term.equals(SearchTerm.of(Field.NAME, "AL*")));
+        assertFalse(term.equals(null));
+        assertFalse(term.equals(1));
+        assertFalse(term.equals(SearchTerm.of(Field.EMAIL, "al*")));
+        assertFalse(term.equals(SearchTerm.of(Field.NAME, "al")));
+    }
+}
@@ -2,19 +2,26 @@ package tutorease.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static tutorease.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static tutorease.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static tutorease.address.testutil.Assert.assertThrows;
 import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BENSON;
 import static tutorease.address.testutil.TypicalStudents.BOB;
+import static tutorease.address.testutil.TypicalStudents.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import tutorease.address.model.person.SearchTerm.Field;
 import tutorease.address.model.person.exceptions.DuplicatePersonException;
 import tutorease.address.model.person.exceptions.PersonNotFoundException;
 import tutorease.address.testutil.StudentBuilder;
@@ -162,6 +169,115 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void contains_personWithNameInDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceInLowerCase = new StudentBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        assertTrue(uniquePersonList.contains(aliceInLowerCase));
+    }
+
+    @Test
+    public void containsAndHasSameEmail_turkishDefaultLocale_ignoreCase() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            uniquePersonList.add(new StudentBuilder().withName("ISAAC").withEmail("ISAAC@example.com").build());
+            Person isaacInLowerCase = new StudentBuilder().withName("isaac").withEmail("isaac@example.com").build();
+            assertTrue(uniquePersonList.contains(isaacInLowerCase));
+            assertTrue(uniquePersonList.hasSameEmail(isaacInLowerCase));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    public void getStoredPerson_equivalentPerson_returnsStoredPerson() {
+        uniquePersonList.add(ALICE);
+        Person aliceWithOtherId = new StudentBuilder(ALICE).build();
+        assertSame(ALICE, uniquePersonList.getStoredPerson(aliceWithOtherId));
+    }
+
+    @Test
+    public void getStoredPerson_personNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getStoredPerson(BOB));
+        Person editedAlice = new StudentBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.getStoredPerson(editedAlice));
+    }
+
+    @Test
+    public void getPerson_exactName_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getPerson(ALICE.getName().fullName));
+    }
+
+    @Test
+    public void getPerson_nameInDifferentCase_returnsNull() {
+        uniquePersonList.add(ALICE);
+        assertNull(uniquePersonList.getPerson(ALICE.getName().fullName.toLowerCase()));
+    }
+
+    @Test
+    public void hasSamePhoneAndEmail_afterEditAndRemove_staysConsistent() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.hasSamePhone(ALICE));
+        assertTrue(uniquePersonList.hasSameEmail(ALICE));
+
+        Person editedAlice = new StudentBuilder(ALICE).withPhone("12345678").withEmail("EDITED@example.com").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertFalse(uniquePersonList.hasSamePhone(ALICE));
+        assertFalse(uniquePersonList.hasSameEmail(ALICE));
+        assertTrue(uniquePersonList.hasSamePhone(editedAlice));
+        assertTrue(uniquePersonList.hasSameEmail(new StudentBuilder(BOB).withEmail("edited@EXAMPLE.com").build()));
+
+        uniquePersonList.remove(editedAlice);
+        assertFalse(uniquePersonList.hasSamePhone(editedAlice));
+        assertFalse(uniquePersonList.hasSameEmail(editedAlice));
+    }
+
+    @Test
+    public void hasSamePhone_afterSetPersons_usesNewPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.hasSamePhone(ALICE));
+        assertTrue(uniquePersonList.hasSamePhone(BOB));
+    }
+
+    @Test
+    public void findPersons_matchingTerms_returnsMatchingPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+
+        assertEquals(Set.of(ALICE), uniquePersonList.findPersons(search(Field.NAME, "pauline")));
+        assertEquals(Set.of(ALICE), uniquePersonList.findPersons(search(Field.NAME, "al*")));
+        assertEquals(Set.of(BENSON), uniquePersonList.findPersons(search(Field.NAME, "bensn~")));
+        assertEquals(Set.of(ALICE, BENSON, CARL), uniquePersonList.findPersons(search(Field.EMAIL, "example")));
+        assertEquals(Set.of(CARL), uniquePersonList.findPersons(search(Field.ADDRESS, "wall street")));
+        assertEquals(Set.of(ALICE, BENSON), uniquePersonList.findPersons(search(Field.TAG, "friends")));
+
+        // any term matches
+        assertEquals(Set.of(ALICE, CARL), uniquePersonList.findPersons(search(Field.NAME, "alice kurz")));
+
+        // every token of a word matches
+        assertEquals(Set.of(ALICE), uniquePersonList.findPersons(search(Field.EMAIL, "alice@example.com")));
+        assertEquals(Set.of(), uniquePersonList.findPersons(search(Field.NAME, "alice@example.com")));
+    }
+
+    @Test
+    public void findPersons_afterModification_usesCurrentPersons() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new StudentBuilder(ALICE).withName("Alicia Pauline").withTags().build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(), uniquePersonList.findPersons(search(Field.NAME, "alice")));
+        assertEquals(Set.of(editedAlice), uniquePersonList.findPersons(search(Field.NAME, "alicia")));
+        assertEquals(Set.of(), uniquePersonList.findPersons(search(Field.TAG, "friends")));
+
+        uniquePersonList.remove(editedAlice);
+        assertEquals(Set.of(), uniquePersonList.findPersons(search(Field.NAME, "al*")));
+
+        uniquePersonList.setPersons(Collections.singletonList(BENSON));
+        assertEquals(Set.of(BENSON), uniquePersonList.findPersons(search(Field.NAME, "meier")));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +288,9 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    private static PersonSearchPredicate search(Field field, String words) {
+        return new PersonSearchPredicate(Arrays.stream(words.split(" "))
+                .map(word -> SearchTerm.of(field, word)).toList());
+    }
 }
@@ -0,0 +1,43 @@
+package tutorease.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BENSON;
+import static tutorease.address.testutil.TypicalStudents.CARL;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagFilterTest {
+
+    @Test
+    public void test_groups_everyGroupMet() {
+        TagFilter friendsOrFamily = new TagFilter(List.of(Set.of(new Tag("Friends"), new Tag("family"))));
+        assertTrue(friendsOrFamily.test(ALICE));
+        assertTrue(friendsOrFamily.test(BENSON));
+        assertFalse(friendsOrFamily.test(CARL));
+
+        TagFilter friendsAndOwesMoney = new TagFilter(List.of(Set.of(new Tag("friends")),
+                Set.of(new Tag("owesMoney"))));
+        assertFalse(friendsAndOwesMoney.test(ALICE));
+        assertTrue(friendsAndOwesMoney.test(BENSON));
+
+        // no groups
+        assertTrue(TagFilter.NONE.test(CARL));
+    }
+
+    @Test
+    public void equals() {
+        TagFilter filter = new TagFilter(List.of(Set.of(new Tag("friends"))));
+
+        assertTrue(filter.equals(filter));
+        assertTrue(filter.equals(new TagFilter(List.of(Set.of(new Tag("friends"))))));
+        assertFalse(filter.equals(null));
+        assertFalse(filter.equals(1));
+        assertFalse(filter.equals(TagFilter.NONE));
+        assertFalse(filter.equals(new TagFilter(List.of(Set.of(new Tag("friends")), Set.of(new Tag("family"))))));
+    }
+}
@@ -24,7 +24,7 @@ public class JsonAdaptedLessonTest {
     private static final String INVALID_END_DATE_TIME = "00-00-00 25:60";
     private final ReadOnlyTutorEase tutorEase = getTypicalTutorEase();
     private final Lesson validLesson = new LessonBuilder().withName(tutorEase.getPersonList().get(0)).build();
-    private final String validStudent = validLesson.getStudent().getName().fullName;
+    private final String validStudent = tutorEase.getPersonList().get(0).getName().fullName;
     private final String validFee = validLesson.getFeeString();
     private final String validStartDateTime = validLesson.getStartDateTimeString();
     private final String validEndDateTime = validLesson.getEndDateTimeString();
@@ -48,6 +48,22 @@ public class JsonAdaptedLessonTest {
         assertThrows(IllegalValueException.class, expectedMessage, () -> lesson.toModelType(tutorEase));
     }
 
+    @Test
+    public void toModelType_studentId_resolvesStudentById() throws Exception {
+        // the ID takes precedence over the name, which may be outdated
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson(INVALID_STUDENT, validLesson.getStudentId(), validFee,
+                validStartDateTime, validEndDateTime);
+        assertEquals(validLesson, lesson.toModelType(tutorEase));
+    }
+
+    @Test
+    public void toModelType_unknownStudentId_throwsIllegalValueException() {
+        JsonAdaptedLesson lesson = new JsonAdaptedLesson(validStudent, Long.MAX_VALUE, validFee,
+                validStartDateTime, validEndDateTime);
+        assertThrows(IllegalValueException.class, StudentId.INVALID_MESSAGE_CONSTRAINTS, ()
+            -> lesson.toModelType(tutorEase));
+    }
+
     @Test
     public void toModelType_nullStudent_throwsIllegalValueException() {
         JsonAdaptedLesson lesson = new JsonAdaptedLesson(null, validFee, validStartDateTime, validEndDateTime);
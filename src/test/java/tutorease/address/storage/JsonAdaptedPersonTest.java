@@ -16,6 +16,7 @@ import tutorease.address.commons.exceptions.IllegalValueException;
 import tutorease.address.model.person.Address;
 import tutorease.address.model.person.Email;
 import tutorease.address.model.person.Name;
+import tutorease.address.model.person.Person;
 import tutorease.address.model.person.Phone;
 import tutorease.address.model.person.Role;
 
@@ -48,6 +49,19 @@ public class JsonAdaptedPersonTest {
         assertEquals(ALEX, person.toModelType());
     }
 
+    @Test
+    public void toModelType_validPersonDetails_keepsId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
+        assertEquals(BENSON.getId(), person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        JsonAdaptedPerson person =
+                new JsonAdaptedPerson(0L, VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_ROLE, VALID_TAGS);
+        assertThrows(IllegalValueException.class, Person.MESSAGE_INVALID_ID, person::toModelType);
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
@@ -0,0 +1,176 @@
+package tutorease.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.testutil.Assert.assertThrows;
+import static tutorease.address.testutil.TypicalGuardians.ALEX;
+import static tutorease.address.testutil.TypicalGuardians.BRADLEY;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BENSON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import tutorease.address.commons.exceptions.DataLoadingException;
+import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.TutorEase;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.person.Person;
+import tutorease.address.testutil.LessonBuilder;
+import tutorease.address.testutil.StudentBuilder;
+
+public class JsonJournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonJournalStorage journalStorage;
+    private ModelManager model;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        journalStorage = new JsonJournalStorage(testFolder.resolve("tutorease.journal"));
+
+        model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        Lesson aliceLesson = new LessonBuilder().withName(ALICE)
+                .withStartDateTime("20-10-2024 10:00").withEndDateTime("20-10-2024 11:00").build();
+        Lesson bensonLesson = new LessonBuilder().withName(BENSON)
+                .withStartDateTime("20-10-2024 12:00").withEndDateTime("20-10-2024 13:00").build();
+        model.addLesson(aliceLesson);
+        model.addLesson(bensonLesson);
+        Person editedAlice = new StudentBuilder(ALICE).withPhone("99999999").build();
+        model.setPerson(ALICE, editedAlice);
+        model.deleteLesson(bensonLesson);
+        model.deletePerson(BENSON);
+        model.deleteStudentLesson(BENSON);
+    }
+
+    @Test
+    public void replayJournal_missingFile_nothingApplied() throws Exception {
+        TutorEase tutorEase = new TutorEase();
+        LessonSchedule lessonSchedule = new LessonSchedule();
+        assertEquals(0, journalStorage.replayJournal(tutorEase, lessonSchedule));
+        assertEquals(new TutorEase(), tutorEase);
+        assertEquals(0, journalStorage.getJournalSize());
+    }
+
+    @Test
+    public void replayJournal_savedChanges_rebuildsModel() throws Exception {
+        journalStorage.appendToJournal(model.takeMutations());
+        assertEquals(8, journalStorage.getJournalSize());
+
+        TutorEase tutorEase = new TutorEase();
+        LessonSchedule lessonSchedule = new LessonSchedule();
+        JsonJournalStorage reopenedStorage = new JsonJournalStorage(journalStorage.getJournalFilePath());
+        // deleting BENSON's lessons changed nothing, as BENSON's only lesson was already deleted
+        assertEquals(7, reopenedStorage.replayJournal(tutorEase, lessonSchedule));
+
+        assertEquals(model.getTutorEase(), tutorEase);
+        assertEquals(model.getLessonSchedule(), lessonSchedule);
+        assertEquals(model.getTutorEase().getGeneration(), tutorEase.getGeneration());
+        assertEquals(model.getLessonSchedule().getGeneration(), lessonSchedule.getGeneration());
+        assertEquals(8, reopenedStorage.getJournalSize());
+    }
+
+    @Test
+    public void replayJournal_guardianLinks_rebuildsLinks() throws Exception {
+        ModelManager linkedModel = new ModelManager();
+        linkedModel.addPerson(ALICE);
+        linkedModel.addPerson(ALEX);
+        linkedModel.addPerson(BRADLEY);
+        linkedModel.linkGuardian(ALICE, ALEX);
+        linkedModel.linkGuardian(ALICE, BRADLEY);
+        linkedModel.unlinkGuardian(ALICE, BRADLEY);
+        journalStorage.appendToJournal(linkedModel.takeMutations());
+
+        TutorEase tutorEase = new TutorEase();
+        assertEquals(6, journalStorage.replayJournal(tutorEase, new LessonSchedule()));
+        assertEquals(linkedModel.getTutorEase(), tutorEase);
+        assertTrue(tutorEase.isLinked(ALICE, ALEX));
+        assertFalse(tutorEase.isLinked(ALICE, BRADLEY));
+    }
+
+    @Test
+    public void replayJournal_changesAlreadyInData_skipped() throws Exception {
+        journalStorage.appendToJournal(model.takeMutations());
+
+        TutorEase tutorEase = new TutorEase(model.getTutorEase());
+        LessonSchedule lessonSchedule = new LessonSchedule(model.getLessonSchedule());
+        assertEquals(0, journalStorage.replayJournal(tutorEase, lessonSchedule));
+        assertEquals(model.getTutorEase(), tutorEase);
+        assertEquals(model.getLessonSchedule(), lessonSchedule);
+    }
+
+    @Test
+    public void replayJournal_partlyWrittenLastEntry_entryRemoved() throws Exception {
+        journalStorage.appendToJournal(model.takeMutations());
+        Files.write(journalStorage.getJournalFilePath(), "{\"type\":\"ADD_PE".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        TutorEase tutorEase = new TutorEase();
+        LessonSchedule lessonSchedule = new LessonSchedule();
+        assertEquals(7, journalStorage.replayJournal(tutorEase, lessonSchedule));
+        assertEquals(model.getTutorEase(), tutorEase);
+        assertEquals(8, Files.readAllLines(journalStorage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void replayJournal_invalidEntry_throwsDataLoadingException() throws Exception {
+        Files.write(journalStorage.getJournalFilePath(), "not json\n".getBytes(StandardCharsets.UTF_8));
+        journalStorage.appendToJournal(model.takeMutations());
+
+        assertThrows(DataLoadingException.class, () ->
+                journalStorage.replayJournal(new TutorEase(), new LessonSchedule()));
+    }
+
+    @Test
+    public void replayJournal_entryCannotBeApplied_throwsDataLoadingException() throws Exception {
+        journalStorage.appendToJournal(model.takeMutations());
+
+        // ALICE is already in the address book, so adding her again fails
+        TutorEase tutorEase = new TutorEase();
+        tutorEase.addPerson(ALICE);
+        tutorEase.setGeneration(0);
+        assertThrows(DataLoadingException.class, () ->
+                journalStorage.replayJournal(tutorEase, new LessonSchedule()));
+    }
+
+    @Test
+    public void clearJournal_savedChanges_fileDeleted() throws Exception {
+        journalStorage.appendToJournal(model.takeMutations());
+        assertTrue(Files.exists(journalStorage.getJournalFilePath()));
+
+        journalStorage.clearJournal();
+        assertFalse(Files.exists(journalStorage.getJournalFilePath()));
+        assertEquals(0, journalStorage.getJournalSize());
+    }
+
+    @Test
+    public void backUpJournal_savedChanges_entriesAddedToBackupFile() throws Exception {
+        Path backupFilePath = testFolder.resolve("tutorease.journal" + JsonJournalStorage.BACKUP_FILE_SUFFIX);
+        Files.write(backupFilePath, "older entry\n".getBytes(StandardCharsets.UTF_8));
+        journalStorage.appendToJournal(model.takeMutations());
+        String entries = Files.readString(journalStorage.getJournalFilePath());
+
+        assertEquals(Optional.of(backupFilePath), journalStorage.backUpJournal());
+        assertFalse(Files.exists(journalStorage.getJournalFilePath()));
+        assertEquals(0, journalStorage.getJournalSize());
+        assertEquals("older entry\n" + entries, Files.readString(backupFilePath));
+    }
+
+    @Test
+    public void backUpJournal_missingFile_nothingMoved() throws Exception {
+        assertEquals(Optional.empty(), journalStorage.backUpJournal());
+    }
+}
@@ -7,15 +7,24 @@ import static tutorease.address.testutil.TypicalStudents.getTypicalTutorEase;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import tutorease.address.commons.exceptions.DataLoadingException;
+import tutorease.address.commons.exceptions.IllegalValueException;
 import tutorease.address.model.LessonSchedule;
 import tutorease.address.model.ReadOnlyLessonSchedule;
 import tutorease.address.model.ReadOnlyTutorEase;
+import tutorease.address.model.lesson.EndDateTime;
+import tutorease.address.model.lesson.Fee;
 import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.LessonSeries;
+import tutorease.address.model.lesson.StartDateTime;
+import tutorease.address.model.lesson.exceptions.OverlappingLessonException;
 import tutorease.address.model.person.Person;
 import tutorease.address.testutil.LessonBuilder;
 
@@ -91,6 +100,40 @@ public class JsonLessonScheduleStorageTest {
         assertEquals(original, readBack);
     }
 
+    @Test
+    public void readAndSaveLessonSchedule_lessonSeries_onlySeriesSaved() throws Exception {
+        Path filePath = testFolder.resolve("TempLessonSchedule.json");
+        LessonSchedule original = new LessonSchedule();
+        original.setOccurrenceWindow(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0));
+        LessonSeries series = new LessonSeries(validPerson.getId(), new Fee("10"),
+                StartDateTime.createStartDateTime("01-01-2024 12:00"),
+                EndDateTime.createEndDateTime("01-01-2024 13:00"), 1, LocalDate.of(2024, 3, 31));
+        original.addLessonSeries(series);
+        JsonLessonScheduleStorage jsonLessonScheduleStorage = new JsonLessonScheduleStorage(filePath);
+
+        jsonLessonScheduleStorage.saveLessonSchedule(original, filePath);
+        ReadOnlyLessonSchedule readBack = jsonLessonScheduleStorage.readLessonSchedule(readOnlyTutorEase).get();
+
+        // the lessons of the series are listed again from the series, for the default window which is after them
+        assertEquals(List.of(series), readBack.getLessonSeriesList());
+        assertEquals(List.of(), readBack.getLessonList());
+    }
+
+    @Test
+    public void toModelType_seriesOverlappingLesson_reportsOverlappingPair() throws Exception {
+        Lesson lesson = new LessonBuilder().withName(validPerson).withStartDateTime("08-01-2024 12:30")
+                .withEndDateTime("08-01-2024 13:30").build();
+        LessonSeries series = new LessonSeries(validPerson.getId(), new Fee("10"),
+                StartDateTime.createStartDateTime("01-01-2024 12:00"),
+                EndDateTime.createEndDateTime("01-01-2024 13:00"), 1, LocalDate.of(2024, 3, 31));
+        JsonSerializableLessonSchedule data = new JsonSerializableLessonSchedule(
+                List.of(new JsonAdaptedLesson(lesson)), List.of(new JsonAdaptedLessonSeries(series)));
+
+        assertThrows(IllegalValueException.class, JsonSerializableLessonSchedule.MESSAGE_DUPLICATE_LESSON
+                + " Overlapping lessons: " + OverlappingLessonException.describePair(lesson, series), () ->
+                data.toModelType(readOnlyTutorEase));
+    }
+
     private java.util.Optional<ReadOnlyLessonSchedule> readLessonSchedule(String filePath) throws Exception {
         return new JsonLessonScheduleStorage(Paths.get(filePath))
                 .readLessonSchedule(addToTestDataPathIfNotNull(filePath), readOnlyTutorEase);
@@ -1,16 +1,30 @@
 package tutorease.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static tutorease.address.testutil.Assert.assertThrows;
+import static tutorease.address.testutil.TypicalGuardians.ALEX;
+import static tutorease.address.testutil.TypicalGuardians.BRADLEY;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BENSON;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.core.JsonParser;
 
 import tutorease.address.commons.exceptions.IllegalValueException;
+import tutorease.address.commons.util.FileUtil;
 import tutorease.address.commons.util.JsonUtil;
 import tutorease.address.model.TutorEase;
+import tutorease.address.model.person.Person;
+import tutorease.address.testutil.StudentBuilder;
 import tutorease.address.testutil.TypicalStudents;
 
 public class JsonSerializableTutorEaseTest {
@@ -19,6 +33,12 @@ public class JsonSerializableTutorEaseTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsTutorEase.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonTutorEase.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonTutorEase.json");
+    private static final Path DUPLICATE_PERSON_ID_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonIdTutorEase.json");
+    private static final Path INVALID_GUARDIAN_LINK_FILE = TEST_DATA_FOLDER.resolve(
+            "invalidGuardianLinkTutorEase.json");
+
+    @TempDir
+    public Path testFolder;
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +64,116 @@ public class JsonSerializableTutorEaseTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_duplicatePersonIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableTutorEase dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_ID_FILE,
+                JsonSerializableTutorEase.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableTutorEase.MESSAGE_DUPLICATE_PERSON_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalStudents.getTypicalTutorEase(), read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersonIds_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableTutorEase.MESSAGE_DUPLICATE_PERSON_ID, () ->
+                read(DUPLICATE_PERSON_ID_FILE));
+    }
+
+    @Test
+    public void read_personWithoutIdBeforeExplicitId_idsDoNotClash() throws Exception {
+        Path filePath = testFolder.resolve("mixedIds.json");
+        long explicitId = writeMixedIdsFile(filePath);
+        assertMixedIdsLoaded(read(filePath), explicitId);
+
+        explicitId = writeMixedIdsFile(filePath);
+        assertMixedIdsLoaded(JsonUtil.readJsonFile(filePath, JsonSerializableTutorEase.class).get()
+                .toModelType(), explicitId);
+    }
+
+    @Test
+    public void read_writtenTutorEase_sameAsToModelType() throws Exception {
+        Path filePath = testFolder.resolve("tutorEase.json");
+        TutorEase original = TypicalStudents.getTypicalTutorEase();
+        original.setGeneration(42);
+        JsonUtil.saveJsonFile(filePath, generator -> JsonSerializableTutorEase.write(generator, original));
+
+        TutorEase streamed = read(filePath);
+        TutorEase mapped = JsonUtil.readJsonFile(filePath, JsonSerializableTutorEase.class).get().toModelType();
+        assertEquals(original, streamed);
+        assertEquals(mapped, streamed);
+        assertEquals(42, streamed.getGeneration());
+    }
+
+    @Test
+    public void read_writtenGuardianLinks_linksRestored() throws Exception {
+        Path filePath = testFolder.resolve("tutorEase.json");
+        TutorEase original = TypicalStudents.getTypicalTutorEase();
+        original.linkGuardian(ALICE, ALEX);
+        original.linkGuardian(ALICE, BRADLEY);
+        original.linkGuardian(BENSON, ALEX);
+        JsonUtil.saveJsonFile(filePath, generator -> JsonSerializableTutorEase.write(generator, original));
+
+        TutorEase streamed = read(filePath);
+        assertEquals(original, streamed);
+        assertEquals(Set.of(ALICE, BENSON), streamed.getLinkedPersons(List.of(ALEX)));
+        assertEquals(original, new JsonSerializableTutorEase(original).toModelType());
+    }
+
+    @Test
+    public void read_linkToNonGuardian_throwsIllegalValueException() throws Exception {
+        assertThrows(IllegalValueException.class, JsonSerializableTutorEase.MESSAGE_INVALID_GUARDIAN_LINK, () ->
+                read(INVALID_GUARDIAN_LINK_FILE));
+        JsonSerializableTutorEase dataFromFile = JsonUtil.readJsonFile(INVALID_GUARDIAN_LINK_FILE,
+                JsonSerializableTutorEase.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableTutorEase.MESSAGE_INVALID_GUARDIAN_LINK,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void read_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("unknownFields.json");
+        FileUtil.writeToFile(filePath, "{ \"owner\" : { \"persons\" : [ ] }, \"tags\" : [ 1, [ 2 ] ], "
+                + FileUtil.readFromFile(TYPICAL_PERSONS_FILE).trim().substring(1));
+        assertEquals(TypicalStudents.getTypicalTutorEase(), read(filePath));
+    }
+
+    /**
+     * Writes a file in which a person without an ID comes before a person whose ID is the one the first person would
+     * be given if it were converted first, and returns that ID.
+     */
+    private long writeMixedIdsFile(Path filePath) throws IOException {
+        long explicitId = new StudentBuilder().build().getId() + 1;
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ "
+                + "{ \"name\" : \"Alice Pauline\", \"phone\" : \"94351253\", \"email\" : \"alice@example.com\", "
+                + "\"address\" : \"123, Jurong West Ave 6, #08-111\", \"role\" : \"Student\" }, "
+                + "{ \"id\" : " + explicitId + ", \"name\" : \"Benson Meier\", \"phone\" : \"98765432\", "
+                + "\"email\" : \"johnd@example.com\", \"address\" : \"311, Clementi Ave 2, #02-25\", "
+                + "\"role\" : \"Student\" } ] }");
+        return explicitId;
+    }
+
+    private void assertMixedIdsLoaded(TutorEase tutorEase, long explicitId) {
+        List<Person> persons = tutorEase.getPersonList();
+        assertEquals(2, persons.size());
+        assertEquals("Alice Pauline", persons.get(0).getName().fullName);
+        assertNotEquals(explicitId, persons.get(0).getId());
+        assertEquals("Benson Meier", persons.get(1).getName().fullName);
+        assertEquals(explicitId, persons.get(1).getId());
+    }
+
+    private TutorEase read(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return JsonSerializableTutorEase.read(parser);
+        }
+    }
+
 }
@@ -1,21 +1,37 @@
 package tutorease.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static tutorease.address.testutil.Assert.assertThrows;
+import static tutorease.address.testutil.TypicalGuardians.ALEX;
+import static tutorease.address.testutil.TypicalStudents.ALICE;
+import static tutorease.address.testutil.TypicalStudents.BENSON;
+import static tutorease.address.testutil.TypicalStudents.CARL;
 import static tutorease.address.testutil.TypicalStudents.getTypicalTutorEase;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import tutorease.address.commons.core.GuiSettings;
+import tutorease.address.commons.exceptions.DataLoadingException;
 import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.ModelManager;
+import tutorease.address.model.ModelMutation;
 import tutorease.address.model.ReadOnlyLessonSchedule;
 import tutorease.address.model.ReadOnlyTutorEase;
 import tutorease.address.model.TutorEase;
 import tutorease.address.model.UserPrefs;
+import tutorease.address.testutil.LessonBuilder;
 
 public class StorageManagerTest {
 
@@ -23,6 +39,8 @@ public class StorageManagerTest {
     public Path testFolder;
 
     private StorageManager storageManager;
+    private StorageManager journalStorageManager;
+    private JsonJournalStorage journalStorage;
 
     @BeforeEach
     public void setUp() {
@@ -30,6 +48,9 @@ public class StorageManagerTest {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
         JsonLessonScheduleStorage lessonScheduleStorage = new JsonLessonScheduleStorage(getTempFilePath("ls"));
         storageManager = new StorageManager(addressBookStorage, userPrefsStorage, lessonScheduleStorage);
+        journalStorage = new JsonJournalStorage(getTempFilePath("journal"));
+        journalStorageManager = new StorageManager(addressBookStorage, userPrefsStorage, lessonScheduleStorage,
+                journalStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -90,4 +111,203 @@ public class StorageManagerTest {
         ReadOnlyLessonSchedule retrieved = storageManager.readLessonSchedule(getTypicalTutorEase()).get();
         assertEquals(original, retrieved);
     }
+
+    @Test
+    public void saveChanges_noJournal_dataFilesSaved() throws Exception {
+        ModelManager model = new ModelManager();
+        model.addPerson(ALICE);
+        storageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        assertEquals(model.getTutorEase(), new TutorEase(storageManager.readTutorEase().get()));
+        assertFalse(Files.exists(journalStorage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveChanges_unchangedData_filesNotRewritten() throws Exception {
+        ModelManager model = new ModelManager();
+        model.addPerson(ALICE);
+        storageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        long tutorEaseModifiedTime = Files.getLastModifiedTime(storageManager.getTutorEaseFilePath()).toMillis();
+
+        // only the lesson schedule has changed
+        Files.setLastModifiedTime(storageManager.getTutorEaseFilePath(), FileTime.fromMillis(0));
+        Files.delete(storageManager.getLessonScheduleFilePath());
+        model.setLessonSchedule(new LessonSchedule());
+        storageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        assertEquals(0, Files.getLastModifiedTime(storageManager.getTutorEaseFilePath()).toMillis());
+        assertTrue(Files.exists(storageManager.getLessonScheduleFilePath()));
+        assertTrue(tutorEaseModifiedTime > 0);
+    }
+
+    @Test
+    public void saveChanges_journalInSync_changesAppendedToJournal() throws Exception {
+        ModelManager model = new ModelManager();
+        // the first save writes the data files, as they do not exist yet
+        journalStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        assertTrue(Files.exists(journalStorageManager.getTutorEaseFilePath()));
+
+        model.addPerson(ALICE);
+        journalStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        assertEquals(1, journalStorage.getJournalSize());
+        assertEquals(new TutorEase(), new TutorEase(journalStorageManager.readTutorEase().get()));
+
+        // reading the data files and replaying the journal gives back the model
+        TutorEase tutorEase = new TutorEase(journalStorageManager.readTutorEase().get());
+        LessonSchedule lessonSchedule = new LessonSchedule(journalStorageManager.readLessonSchedule(tutorEase).get());
+        assertEquals(1, journalStorageManager.replayJournal(tutorEase, lessonSchedule));
+        assertEquals(model.getTutorEase(), tutorEase);
+    }
+
+    @Test
+    public void saveChanges_reset_dataFilesSavedAndJournalCleared() throws Exception {
+        ModelManager model = new ModelManager();
+        journalStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        model.addPerson(ALICE);
+        journalStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+
+        model.addPerson(BENSON);
+        model.setLessonSchedule(new LessonSchedule());
+        journalStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        assertEquals(0, journalStorage.getJournalSize());
+        assertFalse(Files.exists(journalStorage.getJournalFilePath()));
+        assertEquals(model.getTutorEase(), new TutorEase(journalStorageManager.readTutorEase().get()));
+    }
+
+    @Test
+    public void replayJournal_invalidMiddleEntry_changesKeptInBackupFile() throws Exception {
+        ModelManager model = new ModelManager();
+        journalStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        model.addPerson(ALICE);
+        model.addPerson(BENSON);
+        journalStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        List<String> entries = Files.readAllLines(journalStorage.getJournalFilePath());
+        List<String> corruptedEntries = List.of(entries.get(0), "not json", entries.get(1));
+        Files.write(journalStorage.getJournalFilePath(), corruptedEntries);
+
+        TutorEase tutorEase = new TutorEase(journalStorageManager.readTutorEase().get());
+        LessonSchedule lessonSchedule = new LessonSchedule(journalStorageManager.readLessonSchedule(tutorEase).get());
+        assertThrows(DataLoadingException.class, () -> journalStorageManager.replayJournal(tutorEase, lessonSchedule));
+        Path backupFilePath = journalStorageManager.getJournalBackupFilePath().get();
+        assertEquals(corruptedEntries, Files.readAllLines(backupFilePath));
+
+        // saving the data that was loaded keeps the changes of the journal
+        ModelManager loadedModel = new ModelManager(tutorEase, new UserPrefs(), lessonSchedule);
+        loadedModel.addPerson(CARL);
+        journalStorageManager.saveChanges(loadedModel.takeMutations(), loadedModel.getTutorEase(),
+                loadedModel.getLessonSchedule());
+        assertEquals(corruptedEntries, Files.readAllLines(backupFilePath));
+    }
+
+    @Test
+    public void saveChanges_journalNotReplayed_journalMovedToBackupFile() throws Exception {
+        ModelManager model = new ModelManager();
+        model.addPerson(ALICE);
+        journalStorage.appendToJournal(model.takeMutations());
+        List<String> entries = Files.readAllLines(journalStorage.getJournalFilePath());
+
+        model.addPerson(BENSON);
+        journalStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        assertFalse(Files.exists(journalStorage.getJournalFilePath()));
+        assertEquals(entries, Files.readAllLines(journalStorageManager.getJournalBackupFilePath().get()));
+    }
+
+    @Test
+    public void compactJournal_changesInJournal_dataFilesSavedAndJournalCleared() throws Exception {
+        ModelManager model = new ModelManager();
+        journalStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        model.addPerson(ALICE);
+        journalStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+
+        journalStorageManager.compactJournal(model.getTutorEase(), model.getLessonSchedule());
+        assertEquals(0, journalStorage.getJournalSize());
+        ReadOnlyTutorEase retrieved = journalStorageManager.readTutorEase().get();
+        assertEquals(model.getTutorEase(), new TutorEase(retrieved));
+        assertEquals(model.getTutorEase().getGeneration(), retrieved.getGeneration());
+    }
+
+    @Test
+    public void compactJournal_journalAppendFailed_dataFilesSaved() throws Exception {
+        IOException error = new IOException("dummy IO exception");
+        JsonJournalStorage failingJournalStorage = new JsonJournalStorage(getTempFilePath("journal")) {
+            @Override
+            public void appendToJournal(List<ModelMutation> mutations) throws IOException {
+                throw error;
+            }
+        };
+        StorageManager failingStorageManager = new StorageManager(new JsonTutorEaseStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonLessonScheduleStorage(getTempFilePath("ls")), failingJournalStorage);
+        ModelManager model = new ModelManager();
+        failingStorageManager.replayJournal(new TutorEase(), new LessonSchedule());
+        model.addPerson(ALICE);
+        assertThrows(IOException.class, () -> failingStorageManager.saveChanges(model.takeMutations(),
+                model.getTutorEase(), model.getLessonSchedule()));
+
+        // no later change is saved, so the change that failed to be appended is only written on exit
+        failingStorageManager.compactJournal(model.getTutorEase(), model.getLessonSchedule());
+        assertEquals(model.getTutorEase(), new TutorEase(failingStorageManager.readTutorEase().get()));
+    }
+
+    @Test
+    public void saveChanges_backgroundSaving_dataFilesSavedAfterFlush() throws Exception {
+        journalStorageManager.enableBackgroundSaving();
+        ModelManager model = new ModelManager();
+        model.addPerson(ALICE);
+        journalStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        model.addPerson(BENSON);
+        journalStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+
+        journalStorageManager.flush();
+        TutorEase tutorEase = new TutorEase(journalStorageManager.readTutorEase().get());
+        LessonSchedule lessonSchedule = new LessonSchedule(journalStorageManager.readLessonSchedule(tutorEase).get());
+        journalStorageManager.replayJournal(tutorEase, lessonSchedule);
+        assertEquals(model.getTutorEase(), tutorEase);
+    }
+
+    @Test
+    public void saveChanges_backgroundSavingThenChanges_savedDataWritten() throws Exception {
+        storageManager.enableBackgroundSaving();
+        ModelManager model = new ModelManager();
+        model.addPerson(ALICE);
+        model.addPerson(ALEX);
+        model.linkGuardian(ALICE, ALEX);
+        model.addLesson(new LessonBuilder().withName(ALICE).withStartDateTime("20-10-2024 10:00")
+                .withEndDateTime("20-10-2024 11:00").build());
+        TutorEase savedTutorEase = new TutorEase(model.getTutorEase());
+        LessonSchedule savedLessonSchedule = new LessonSchedule(model.getLessonSchedule());
+        storageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+
+        // changes made before the background write runs are not in the saved data
+        model.unlinkGuardian(ALICE, ALEX);
+        model.addPerson(BENSON);
+        storageManager.flush();
+
+        TutorEase tutorEase = new TutorEase(storageManager.readTutorEase().get());
+        assertEquals(savedTutorEase, tutorEase);
+        assertEquals(savedTutorEase.getGeneration(), tutorEase.getGeneration());
+        assertEquals(savedLessonSchedule, new LessonSchedule(storageManager.readLessonSchedule(tutorEase).get()));
+    }
+
+    @Test
+    public void saveChanges_backgroundSavingFails_errorPassedToHandler() throws Exception {
+        IOException error = new IOException("dummy IO exception");
+        JsonTutorEaseStorage failingStorage = new JsonTutorEaseStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveTutorEase(ReadOnlyTutorEase tutorEase, Path filePath) throws IOException {
+                throw error;
+            }
+        };
+        StorageManager backgroundStorageManager = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonLessonScheduleStorage(getTempFilePath("ls")));
+        List<IOException> errors = new ArrayList<>();
+        backgroundStorageManager.setSaveErrorHandler(errors::add);
+        backgroundStorageManager.enableBackgroundSaving();
+
+        ModelManager model = new ModelManager();
+        model.addPerson(ALICE);
+        // does not throw, as the save runs in the background
+        backgroundStorageManager.saveChanges(model.takeMutations(), model.getTutorEase(), model.getLessonSchedule());
+        backgroundStorageManager.flush();
+        assertEquals(List.of(error), errors);
+    }
 }
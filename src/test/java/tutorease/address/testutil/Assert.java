@@ -14,9 +14,11 @@ public class Assert {
      * with our custom {@link #assertThrows(Class, String, Executable)} method.
      * To standardize API calls in this project, users should use this method instead of
      * {@link Assertions#assertThrows(Class, Executable)}.
+     *
+     * @return the thrown exception, so that its details can be checked.
      */
-    public static void assertThrows(Class<? extends Throwable> expectedType, Executable executable) {
-        Assertions.assertThrows(expectedType, executable);
+    public static <T extends Throwable> T assertThrows(Class<T> expectedType, Executable executable) {
+        return Assertions.assertThrows(expectedType, executable);
     }
 
     /**
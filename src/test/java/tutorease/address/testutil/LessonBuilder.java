@@ -18,6 +18,9 @@ import tutorease.address.model.person.Person;
 public class LessonBuilder {
     public static final String STUDENT = "Amy Bee";
 
+    // Lessons are equal only if their students have the same ID, so every default lesson has the same student
+    private static final Person DEFAULT_STUDENT = new StudentBuilder().withName(STUDENT).build();
+
     private Person student;
     private Fee fee;
     private StartDateTime startDateTime;
@@ -29,7 +32,7 @@ public class LessonBuilder {
      * @throws ParseException if the default details are invalid.
      */
     public LessonBuilder() throws ParseException {
-        student = new StudentBuilder().withName(STUDENT).build();
+        student = DEFAULT_STUDENT;
         fee = new Fee(VALID_FEE);
         startDateTime = StartDateTime.createStartDateTime(VALID_START_DATE);
         endDateTime = EndDateTime.createEndDateTime(VALID_END_DATE);
@@ -77,7 +80,7 @@ public class LessonBuilder {
      * Builds the Lesson object.
      */
     public Lesson build() {
-        return new Lesson(student, fee, startDateTime, endDateTime);
+        return new Lesson(student.getId(), fee, startDateTime, endDateTime);
     }
 
     /**
@@ -0,0 +1,210 @@
+package tutorease.address.testutil;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import tutorease.address.commons.util.DateTimeUtil;
+import tutorease.address.logic.parser.exceptions.ParseException;
+import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.ReadOnlyTutorEase;
+import tutorease.address.model.TutorEase;
+import tutorease.address.model.lesson.EndDateTime;
+import tutorease.address.model.lesson.Fee;
+import tutorease.address.model.lesson.Lesson;
+import tutorease.address.model.lesson.StartDateTime;
+import tutorease.address.model.person.Address;
+import tutorease.address.model.person.Email;
+import tutorease.address.model.person.Guardian;
+import tutorease.address.model.person.Name;
+import tutorease.address.model.person.Person;
+import tutorease.address.model.person.Phone;
+import tutorease.address.model.person.Role;
+import tutorease.address.model.person.Student;
+import tutorease.address.model.tag.Tag;
+import tutorease.address.storage.JsonLessonScheduleStorage;
+import tutorease.address.storage.JsonTutorEaseStorage;
+
+/**
+ * A utility class to generate large, valid address books and lesson schedules for scale tests.
+ * The same settings always generate the same data. Every fifth contact is a guardian, and lessons are only given to
+ * students. Lessons start on the even hours from 08:00 to 20:00 and last one or two hours, so no two lessons overlap.
+ */
+public class SyntheticDataGenerator {
+    public static final LocalDateTime FIRST_DAY = LocalDateTime.of(2025, 1, 6, 0, 0);
+    public static final int FIRST_LESSON_HOUR = 8;
+    public static final int SLOT_HOURS = 2;
+    public static final int SLOTS_PER_DAY = 7;
+    public static final int GUARDIAN_INTERVAL = 5;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling",
+        "Priya", "Marcus", "Siti", "Kenji", "Olivia", "Rahul", "Hui Min", "Daniel", "Aisha"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Nair", "Wong", "Goh", "Chen", "Kumar", "Ng", "Lee", "Rahman"};
+
+    private int contactCount = 100;
+    private int lessonsPerStudent = 5;
+    private int daySpan = 365;
+    private int tagCount = 10;
+    private long seed = 42;
+
+    /**
+     * Sets the number of contacts, students and guardians together.
+     */
+    public SyntheticDataGenerator withContactCount(int contactCount) {
+        this.contactCount = contactCount;
+        return this;
+    }
+
+    /**
+     * Sets the number of lessons given to each student.
+     */
+    public SyntheticDataGenerator withLessonsPerStudent(int lessonsPerStudent) {
+        this.lessonsPerStudent = lessonsPerStudent;
+        return this;
+    }
+
+    /**
+     * Sets the number of days, starting from {@code FIRST_DAY}, that lessons are spread over.
+     */
+    public SyntheticDataGenerator withDaySpan(int daySpan) {
+        this.daySpan = daySpan;
+        return this;
+    }
+
+    /**
+     * Sets the number of different tags. Each contact has up to two of them.
+     */
+    public SyntheticDataGenerator withTagCount(int tagCount) {
+        this.tagCount = tagCount;
+        return this;
+    }
+
+    /**
+     * Sets the seed that the random choices are made from.
+     */
+    public SyntheticDataGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Returns the number of students among the contacts.
+     */
+    public int getStudentCount() {
+        return contactCount - (contactCount + GUARDIAN_INTERVAL - 1) / GUARDIAN_INTERVAL;
+    }
+
+    /**
+     * Returns the number of lessons in the generated lesson schedule.
+     */
+    public int getLessonCount() {
+        return getStudentCount() * lessonsPerStudent;
+    }
+
+    /**
+     * Generates the address book. Contacts have the IDs 1 to {@code contactCount}.
+     */
+    public TutorEase generateTutorEase() {
+        Random random = new Random(seed);
+        TutorEase tutorEase = new TutorEase();
+        List<Person> persons = new ArrayList<>(contactCount);
+        for (int i = 0; i < contactCount; i++) {
+            persons.add(createPerson(i, random));
+        }
+        tutorEase.setPersons(persons);
+        return tutorEase;
+    }
+
+    private Person createPerson(int index, Random random) {
+        Name name = new Name(FIRST_NAMES[index % FIRST_NAMES.length] + " "
+                + LAST_NAMES[(index / FIRST_NAMES.length) % LAST_NAMES.length] + " " + (index + 1));
+        Phone phone = new Phone(String.valueOf(80000000 + index));
+        Email email = new Email("contact" + (index + 1) + "@example.com");
+        Address address = new Address("Blk " + (index % 900 + 100) + " Example Street " + (index % 97 + 1));
+        Set<Tag> tags = new HashSet<>();
+        if (tagCount > 0) {
+            int count = random.nextInt(3);
+            for (int i = 0; i < count; i++) {
+                tags.add(new Tag("tag" + random.nextInt(tagCount)));
+            }
+        }
+
+        long id = index + 1;
+        if (index % GUARDIAN_INTERVAL == 0) {
+            return new Guardian(id, name, phone, email, address, new Role(Role.GUARDIAN), tags);
+        }
+        return new Student(id, name, phone, email, address, new Role(Role.STUDENT), tags);
+    }
+
+    /**
+     * Generates the lesson schedule for the students in {@code tutorEase}, which should be generated by
+     * {@link #generateTutorEase()} with the same settings.
+     *
+     * @throws IllegalArgumentException if the lessons do not fit in {@code daySpan} days.
+     */
+    public LessonSchedule generateLessonSchedule(ReadOnlyTutorEase tutorEase) {
+        int slotCount = daySpan * SLOTS_PER_DAY;
+        int lessonCount = getLessonCount();
+        if (lessonCount > slotCount) {
+            throw new IllegalArgumentException(lessonCount + " lessons do not fit in " + daySpan + " days");
+        }
+
+        Random random = new Random(seed + 1);
+        // The first lessonCount slots of a partly shuffled array are distinct slots picked at random
+        int[] slots = new int[slotCount];
+        for (int i = 0; i < slotCount; i++) {
+            slots[i] = i;
+        }
+        for (int i = 0; i < lessonCount; i++) {
+            int j = i + random.nextInt(slotCount - i);
+            int slot = slots[j];
+            slots[j] = slots[i];
+            slots[i] = slot;
+        }
+
+        List<Person> students = new ArrayList<>();
+        for (Person person : tutorEase.getPersonList()) {
+            if (person.isStudent()) {
+                students.add(person);
+            }
+        }
+        List<Lesson> lessons = new ArrayList<>(lessonCount);
+        for (int i = 0; i < lessonCount; i++) {
+            Person student = students.get(i / lessonsPerStudent);
+            lessons.add(createLesson(student, slots[i], random));
+        }
+
+        LessonSchedule lessonSchedule = new LessonSchedule();
+        lessonSchedule.setLessons(lessons);
+        return lessonSchedule;
+    }
+
+    private Lesson createLesson(Person student, int slot, Random random) {
+        LocalDateTime start = FIRST_DAY.plusDays(slot / SLOTS_PER_DAY)
+                .plusHours(FIRST_LESSON_HOUR + (long) SLOT_HOURS * (slot % SLOTS_PER_DAY));
+        LocalDateTime end = start.plusHours(1 + random.nextInt(SLOT_HOURS));
+        try {
+            return new Lesson(student.getId(), new Fee(String.valueOf(20 + 5 * random.nextInt(13))),
+                    StartDateTime.createStartDateTime(DateTimeUtil.dateTimeToString(start)),
+                    EndDateTime.createEndDateTime(DateTimeUtil.dateTimeToString(end)));
+        } catch (ParseException e) {
+            throw new AssertionError("Generated lesson is invalid", e);
+        }
+    }
+
+    /**
+     * Generates the address book and lesson schedule and saves them to the given files, in the same format as the
+     * app's {@code tutorease.json} and {@code lessonschedule.json}.
+     */
+    public void writeTo(Path tutorEaseFile, Path lessonScheduleFile) throws IOException {
+        TutorEase tutorEase = generateTutorEase();
+        new JsonTutorEaseStorage(tutorEaseFile).saveTutorEase(tutorEase);
+        new JsonLessonScheduleStorage(lessonScheduleFile).saveLessonSchedule(generateLessonSchedule(tutorEase));
+    }
+}
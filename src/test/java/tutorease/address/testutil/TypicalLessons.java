@@ -9,6 +9,7 @@ import java.util.List;
 
 import tutorease.address.logic.parser.exceptions.ParseException;
 import tutorease.address.model.LessonSchedule;
+import tutorease.address.model.TutorEase;
 import tutorease.address.model.lesson.Lesson;
 
 /**
@@ -84,6 +85,16 @@ public class TypicalLessons {
         return ls;
     }
 
+    /**
+     * Returns a {@code TutorEase} with all the typical persons and the students of the typical lessons, which lessons
+     * must be loaded with as they refer to their students by ID.
+     */
+    public static TutorEase getTypicalTutorEaseWithLessonStudents() {
+        TutorEase ab = TypicalStudents.getTypicalTutorEase();
+        ab.addPerson(BOB);
+        return ab;
+    }
+
     public static List<Lesson> getTypicalLessonsList() {
         return new ArrayList<>(Arrays.asList(
                 MATH_LESSON,